@@ -0,0 +1,154 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.benchmarks;
+
+import static com.yahoo.elide.core.dictionary.EntityDictionary.NO_VERSION;
+
+import com.yahoo.elide.benchmarks.models.Sales;
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.core.filter.predicates.FilterPredicate;
+import com.yahoo.elide.core.type.ClassType;
+import com.yahoo.elide.core.type.Type;
+import com.yahoo.elide.core.utils.DefaultClassScanner;
+import com.yahoo.elide.datastores.aggregation.DefaultQueryValidator;
+import com.yahoo.elide.datastores.aggregation.metadata.MetaDataStore;
+import com.yahoo.elide.datastores.aggregation.query.DefaultQueryPlanMerger;
+import com.yahoo.elide.datastores.aggregation.query.Query;
+import com.yahoo.elide.datastores.aggregation.query.QueryResult;
+import com.yahoo.elide.datastores.aggregation.queryengines.sql.ConnectionDetails;
+import com.yahoo.elide.datastores.aggregation.queryengines.sql.SQLQueryEngine;
+import com.yahoo.elide.datastores.aggregation.queryengines.sql.dialects.SQLDialectFactory;
+import com.yahoo.elide.datastores.aggregation.queryengines.sql.metadata.SQLTable;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.Getter;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * An {@link SQLQueryEngine} over an H2 table of sales seeded with a reproducible set of rows.
+ */
+public class AnalyticsFixture implements AutoCloseable {
+    public static final String[] REGIONS = {"north", "south", "east", "west"};
+
+    private final HikariDataSource dataSource;
+    @Getter private final MetaDataStore metaDataStore;
+    @Getter private final SQLQueryEngine engine;
+    @Getter private final EntityDictionary dictionary;
+    @Getter private final SQLTable table;
+
+    /**
+     * Creates and seeds the sales table.
+     * @param rows The number of rows.
+     * @param products The number of distinct products.
+     */
+    public AnalyticsFixture(int rows, int products) {
+        this(rows, products, SQLQueryEngine.DEFAULT_TEMPLATE_CACHE_SIZE);
+    }
+
+    /**
+     * Creates and seeds the sales table.
+     * @param rows The number of rows.
+     * @param products The number of distinct products.
+     * @param templateCacheSize The number of query shapes whose SQL the engine caches.  Zero disables the cache.
+     */
+    public AnalyticsFixture(int rows, int products, int templateCacheSize) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:benchmarks;DB_CLOSE_DELAY=-1;NON_KEYWORDS=VALUE,USER;DATABASE_TO_UPPER=FALSE");
+        dataSource = new HikariDataSource(config);
+        seed(rows, products);
+
+        Set<Type<?>> models = Set.of(ClassType.of(Sales.class));
+        metaDataStore = new MetaDataStore(new DefaultClassScanner(), models, false);
+
+        dictionary = EntityDictionary.builder().build();
+        dictionary.bindEntity(Sales.class);
+        metaDataStore.populateEntityDictionary(dictionary);
+
+        engine = new SQLQueryEngine(metaDataStore,
+                name -> new ConnectionDetails(dataSource, SQLDialectFactory.getDefaultDialect()), new HashSet<>(),
+                new DefaultQueryPlanMerger(metaDataStore),
+                new DefaultQueryValidator(metaDataStore.getMetadataDictionary()), null, templateCacheSize);
+        table = (SQLTable) metaDataStore.getTable("sales", NO_VERSION);
+    }
+
+    /**
+     * Revenue and units sold by region and product for a subset of the regions.
+     * @return The query.
+     */
+    public Query salesByProduct() {
+        return Query.builder()
+                .source(table)
+                .metricProjection(table.getMetricProjection("revenue"))
+                .metricProjection(table.getMetricProjection("units"))
+                .dimensionProjection(table.getDimensionProjection("region"))
+                .dimensionProjection(table.getDimensionProjection("product"))
+                .dimensionProjection(table.getDimensionProjection("orderYear"))
+                .whereFilter(new FilterPredicate(new Path(Sales.class, dictionary, "region"), Operator.IN,
+                        List.of("north", "south", "east")))
+                .build();
+    }
+
+    /**
+     * Runs a query and keeps its rows in memory.
+     * @param query The query.
+     * @return The result.
+     */
+    public QueryResult execute(Query query) {
+        try (SQLQueryEngine.Transaction transaction = engine.beginTransaction()) {
+            QueryResult result = engine.executeQuery(query, transaction);
+            List<Object> rows = new ArrayList<>();
+            result.getData().forEach(rows::add);
+            return QueryResult.builder().data(rows).pageTotals(result.getPageTotals()).build();
+        }
+    }
+
+    @Override
+    public void close() {
+        dataSource.close();
+    }
+
+    private void seed(int rows, int products) {
+        Random random = new Random(ElideFixture.SEED);
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP TABLE IF EXISTS benchmark_sales");
+                statement.execute("CREATE TABLE benchmark_sales (id VARCHAR(16) PRIMARY KEY, region VARCHAR(16), "
+                        + "product VARCHAR(32), order_year BIGINT, revenue DOUBLE, units BIGINT)");
+            }
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO benchmark_sales VALUES (?, ?, ?, ?, ?, ?)")) {
+                for (int id = 1; id <= rows; id++) {
+                    insert.setString(1, String.valueOf(id));
+                    insert.setString(2, REGIONS[random.nextInt(REGIONS.length)]);
+                    insert.setString(3, "product " + random.nextInt(products));
+                    insert.setLong(4, 2000 + random.nextInt(25));
+                    insert.setDouble(5, random.nextInt(100000) / 100.0);
+                    insert.setLong(6, 1 + random.nextInt(20));
+                    insert.addBatch();
+                    if (id % 1000 == 0) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+        } catch (SQLException e) {
+            dataSource.close();
+            throw new IllegalStateException(e);
+        }
+    }
+}
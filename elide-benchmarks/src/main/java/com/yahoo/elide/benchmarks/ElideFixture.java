@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.benchmarks;
+
+import static com.yahoo.elide.core.dictionary.EntityDictionary.NO_VERSION;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.ElideResponse;
+import com.yahoo.elide.ElideSettings;
+import com.yahoo.elide.benchmarks.models.Author;
+import com.yahoo.elide.benchmarks.models.BenchmarkChecks;
+import com.yahoo.elide.benchmarks.models.Book;
+import com.yahoo.elide.core.datastore.inmemory.HashMapDataStore;
+import com.yahoo.elide.core.datastore.inmemory.MultiVersionHashMapDataStore;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.request.route.Route;
+import com.yahoo.elide.core.security.User;
+import com.yahoo.elide.graphql.GraphQLSettings.GraphQLSettingsBuilder;
+import com.yahoo.elide.graphql.QueryRunner;
+import com.yahoo.elide.jsonapi.JsonApi;
+import com.yahoo.elide.jsonapi.JsonApiSettings.JsonApiSettingsBuilder;
+
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * An Elide instance over an in-memory store seeded with a reproducible set of books and authors.
+ * <p>
+ * The same size always produces the same data: there is one author per ten books and the attributes of each
+ * book are drawn from a random generator with a fixed seed.
+ */
+public class ElideFixture {
+    public static final long SEED = 42L;
+    public static final String[] GENRES = {"fiction", "poetry", "history", "science", "travel"};
+    public static final User READER = new User(() -> "reader");
+
+    private static final String BOOK = """
+            {"data":{"type":"book","id":"%d","attributes":{"title":"Book %d","genre":"%s","year":%d,"price":%.2f,\
+            "inPrint":true},"relationships":{"author":{"data":{"type":"author","id":"%d"}}}}}""";
+    private static final String AUTHOR = """
+            {"data":{"type":"author","id":"%d","attributes":{"name":"Author %d"}}}""";
+
+    @Getter private final Elide elide;
+    @Getter private final JsonApi jsonApi;
+    @Getter private final QueryRunner queryRunner;
+    @Getter private final EntityDictionary dictionary;
+    @Getter private final int size;
+
+    /**
+     * Builds Elide over a store and seeds it.
+     * @param store The store to seed.
+     * @param size The number of books.
+     */
+    public ElideFixture(HashMapDataStore store, int size) {
+        this.size = size;
+        this.dictionary = EntityDictionary.builder().checks(BenchmarkChecks.MAPPINGS).build();
+
+        ElideSettings settings = ElideSettings.builder()
+                .dataStore(store)
+                .entityDictionary(dictionary)
+                .settings(JsonApiSettingsBuilder.withDefaults(dictionary),
+                        GraphQLSettingsBuilder.withDefaults(dictionary))
+                .build();
+
+        this.elide = new Elide(settings);
+        this.elide.doScans();
+        this.jsonApi = new JsonApi(elide);
+        this.queryRunner = new QueryRunner(elide, NO_VERSION);
+
+        seed();
+    }
+
+    /**
+     * Builds Elide over the locking or the multi-version store.
+     * @param multiVersion Whether to use the multi-version store.
+     * @param size The number of books.
+     * @return The seeded fixture.
+     */
+    public static ElideFixture create(boolean multiVersion, int size) {
+        List<Class<?>> models = List.of(Book.class, Author.class);
+        return new ElideFixture(multiVersion ? new MultiVersionHashMapDataStore(models) : new HashMapDataStore(models),
+                size);
+    }
+
+    /**
+     * The number of seeded authors.
+     * @return The number of authors.
+     */
+    public int getAuthors() {
+        return Math.max(1, size / 10);
+    }
+
+    /**
+     * Builds a JSON:API route.
+     * @param path The path.
+     * @param parameters The query parameters.
+     * @return The route.
+     */
+    public Route route(String path, Map<String, List<String>> parameters) {
+        return Route.builder()
+                .baseUrl("")
+                .path(path)
+                .apiVersion(NO_VERSION)
+                .parameters(parameters)
+                .build();
+    }
+
+    private void seed() {
+        for (int id = 1; id <= getAuthors(); id++) {
+            created(jsonApi.post(route("/author", Collections.emptyMap()), String.format(AUTHOR, id, id), READER,
+                    UUID.randomUUID()));
+        }
+
+        Random random = new Random(SEED);
+        for (int id = 1; id <= size; id++) {
+            String genre = GENRES[random.nextInt(GENRES.length)];
+            int year = 1950 + random.nextInt(75);
+            double price = random.nextInt(10000) / 100.0;
+            String body = String.format(Locale.ROOT, BOOK, id, id, genre, year, price, (id % getAuthors()) + 1);
+            created(jsonApi.post(route("/book", Collections.emptyMap()), body, READER, UUID.randomUUID()));
+        }
+    }
+
+    private static void created(ElideResponse<String> response) {
+        if (response.getStatus() != 201) {
+            throw new IllegalStateException("Unable to seed benchmark data: " + response.getBody());
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.benchmarks;
+
+import com.yahoo.elide.benchmarks.models.Author;
+import com.yahoo.elide.benchmarks.models.BenchmarkChecks;
+import com.yahoo.elide.benchmarks.models.Book;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Attribute and relationship access through {@link EntityDictionary#getValue} and {@link EntityDictionary#setValue}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EntityDictionaryBenchmark {
+    private EntityDictionary dictionary;
+    private Book book;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        dictionary = EntityDictionary.builder().checks(BenchmarkChecks.MAPPINGS).build();
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Author.class);
+
+        Author author = new Author();
+        author.setId(1);
+        author.setName("Author 1");
+
+        book = new Book();
+        book.setId(1);
+        book.setTitle("Book 1");
+        book.setGenre("fiction");
+        book.setYear(1999);
+        book.setPrice(12.5);
+        book.setAuthor(author);
+        author.getBooks().add(book);
+    }
+
+    @Benchmark
+    public Object getAttribute() {
+        return dictionary.getValue(book, "title", null);
+    }
+
+    @Benchmark
+    public Object getPrimitiveAttribute() {
+        return dictionary.getValue(book, "year", null);
+    }
+
+    @Benchmark
+    public Object getRelationship() {
+        return dictionary.getValue(book, "author", null);
+    }
+
+    @Benchmark
+    public Book setAttribute() {
+        dictionary.setValue(book, "title", "Book 1");
+        return book;
+    }
+
+    @Benchmark
+    public Book setCoercedAttribute() {
+        dictionary.setValue(book, "price", "12.5");
+        return book;
+    }
+}
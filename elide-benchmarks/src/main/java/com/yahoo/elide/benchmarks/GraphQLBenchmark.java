@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.benchmarks;
+
+import com.yahoo.elide.ElideResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GraphQL queries through the {@link com.yahoo.elide.graphql.QueryRunner}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GraphQLBenchmark {
+    private static final String PAGE = """
+            query($filter: String) {
+              book(filter: $filter, sort: "-price", first: "20") {
+                edges { node { id title genre price } }
+                pageInfo { hasNextPage }
+              }
+            }""";
+
+    private static final String PAGE_WITH_AUTHOR = """
+            query($filter: String) {
+              book(filter: $filter, first: "20") {
+                edges { node { id title author { edges { node { id name } } } } }
+              }
+            }""";
+
+    private static final String BY_ID = """
+            query($id: String) {
+              book(ids: [$id]) { edges { node { id title year inPrint } } }
+            }""";
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private ElideFixture fixture;
+    private String page;
+    private String pageWithAuthor;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() throws JsonProcessingException {
+        fixture = ElideFixture.create(false, size);
+        page = document(PAGE, Map.of("filter", "genre==fiction"));
+        pageWithAuthor = document(PAGE_WITH_AUTHOR, Map.of("filter", "genre==fiction"));
+    }
+
+    @Benchmark
+    public ElideResponse<String> queryPage() {
+        return fixture.getQueryRunner().run("", page, ElideFixture.READER);
+    }
+
+    @Benchmark
+    public ElideResponse<String> queryPageWithAuthor() {
+        return fixture.getQueryRunner().run("", pageWithAuthor, ElideFixture.READER);
+    }
+
+    @Benchmark
+    public ElideResponse<String> queryById() throws JsonProcessingException {
+        next = next % size + 1;
+        return fixture.getQueryRunner().run("", document(BY_ID, Map.of("id", String.valueOf(next))),
+                ElideFixture.READER);
+    }
+
+    private String document(String query, Map<String, Object> variables) throws JsonProcessingException {
+        return fixture.getElide().getObjectMapper().writeValueAsString(Map.of(
+                "query", query,
+                "variables", variables));
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.benchmarks;
+
+import com.yahoo.elide.ElideResponse;
+import com.yahoo.elide.core.request.route.Route;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrent JSON:API readers and a writer over the locking
+ * {@link com.yahoo.elide.core.datastore.inmemory.HashMapDataStore} and the
+ * {@link com.yahoo.elide.core.datastore.inmemory.MultiVersionHashMapDataStore}.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HashMapDataStoreConcurrencyBenchmark {
+    private static final String PATCH = """
+            {"data":{"type":"book","id":"%d","attributes":{"title":"Revised %d"}}}""";
+
+    @Param({"locking", "multiVersion"})
+    public String store;
+
+    @Param({"1000"})
+    public int size;
+
+    private ElideFixture fixture;
+    private Route page;
+    private final AtomicInteger next = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        fixture = ElideFixture.create("multiVersion".equals(store), size);
+        page = fixture.route("/book", Map.of(
+                "filter[book]", List.of("genre==fiction"),
+                "page[size]", List.of("20")));
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(3)
+    public ElideResponse<String> read() {
+        return fixture.getJsonApi().get(page, ElideFixture.READER, null);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(1)
+    public ElideResponse<String> write() {
+        int id = Math.floorMod(next.getAndIncrement(), size) + 1;
+        Route route = fixture.route("/book/" + id, Collections.emptyMap());
+        return fixture.getJsonApi().patch(route, String.format(PATCH, id, id), ElideFixture.READER, null);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.benchmarks;
+
+import com.yahoo.elide.ElideResponse;
+import com.yahoo.elide.core.request.route.Route;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON:API reads and updates over the {@link com.yahoo.elide.core.datastore.inmemory.HashMapDataStore}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonApiBenchmark {
+    private static final String PATCH = """
+            {"data":{"type":"book","id":"%d","attributes":{"title":"Revised %d"}}}""";
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private ElideFixture fixture;
+    private Route page;
+    private Route pageWithInclude;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        fixture = ElideFixture.create(false, size);
+        page = fixture.route("/book", Map.of(
+                "filter[book]", List.of("genre==fiction"),
+                "sort", List.of("-price"),
+                "page[size]", List.of("20")));
+        pageWithInclude = fixture.route("/book", Map.of(
+                "filter[book]", List.of("genre==fiction"),
+                "include", List.of("author"),
+                "page[size]", List.of("20")));
+    }
+
+    @Benchmark
+    public ElideResponse<String> getPage() {
+        return fixture.getJsonApi().get(page, ElideFixture.READER, null);
+    }
+
+    @Benchmark
+    public ElideResponse<String> getPageWithInclude() {
+        return fixture.getJsonApi().get(pageWithInclude, ElideFixture.READER, null);
+    }
+
+    @Benchmark
+    public ElideResponse<String> getById() {
+        Route route = fixture.route("/book/" + nextId(), Collections.emptyMap());
+        return fixture.getJsonApi().get(route, ElideFixture.READER, null);
+    }
+
+    @Benchmark
+    public ElideResponse<String> patch() {
+        int id = nextId();
+        Route route = fixture.route("/book/" + id, Collections.emptyMap());
+        return fixture.getJsonApi().patch(route, String.format(PATCH, id, id), ElideFixture.READER, null);
+    }
+
+    private int nextId() {
+        next = next % size + 1;
+        return next;
+    }
+}
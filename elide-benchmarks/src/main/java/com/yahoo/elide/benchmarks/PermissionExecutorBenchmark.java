@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.benchmarks;
+
+import static com.yahoo.elide.core.dictionary.EntityDictionary.NO_VERSION;
+
+import com.yahoo.elide.ElideSettings;
+import com.yahoo.elide.annotation.ReadPermission;
+import com.yahoo.elide.annotation.UpdatePermission;
+import com.yahoo.elide.benchmarks.models.Author;
+import com.yahoo.elide.benchmarks.models.BenchmarkChecks;
+import com.yahoo.elide.benchmarks.models.Book;
+import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.request.route.Route;
+import com.yahoo.elide.core.security.executors.ActivePermissionExecutor;
+import com.yahoo.elide.core.security.permissions.ExpressionResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Permission checks of the {@link ActivePermissionExecutor} over every resource of a request.
+ * <p>
+ * Each invocation uses a new executor so that it pays for the expression and user check caches once, as a
+ * request does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PermissionExecutorBenchmark {
+    @Param({"100", "1000"})
+    public int size;
+
+    private RequestScope requestScope;
+    private List<PersistentResource<Book>> resources;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        EntityDictionary dictionary = EntityDictionary.builder().checks(BenchmarkChecks.MAPPINGS).build();
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Author.class);
+
+        requestScope = RequestScope.builder()
+                .route(Route.builder().apiVersion(NO_VERSION).build())
+                .user(ElideFixture.READER)
+                .requestId(UUID.randomUUID())
+                .elideSettings(ElideSettings.builder().entityDictionary(dictionary).build())
+                .build();
+
+        resources = new ArrayList<>(size);
+        for (int id = 1; id <= size; id++) {
+            Book book = new Book();
+            book.setId(id);
+            book.setInPrint(true);
+            resources.add(new PersistentResource<>(book, String.valueOf(id), requestScope));
+        }
+    }
+
+    @Benchmark
+    public int checkRead() {
+        return check(ReadPermission.class);
+    }
+
+    @Benchmark
+    public int checkUpdate() {
+        return check(UpdatePermission.class);
+    }
+
+    private int check(Class<? extends Annotation> permission) {
+        ActivePermissionExecutor executor = new ActivePermissionExecutor(requestScope);
+        int passed = 0;
+        for (PersistentResource<Book> resource : resources) {
+            if (executor.checkPermission(permission, resource) == ExpressionResult.PASS) {
+                passed++;
+            }
+        }
+        return passed;
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.benchmarks;
+
+import com.yahoo.elide.datastores.aggregation.cache.ColumnarQueryResultCodec;
+import com.yahoo.elide.datastores.aggregation.query.Query;
+import com.yahoo.elide.datastores.aggregation.query.QueryResult;
+import org.apache.commons.lang3.SerializationUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding of cached analytic query results by the {@link ColumnarQueryResultCodec}, with Java
+ * serialization of the same result as the baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryResultCodecBenchmark {
+    /**
+     * The number of distinct products, which bounds the number of result rows.
+     */
+    @Param({"100", "5000"})
+    public int products;
+
+    @Param({"false", "true"})
+    public boolean compress;
+
+    private ColumnarQueryResultCodec codec;
+    private Query query;
+    private QueryResult result;
+    private byte[] encoded;
+    private byte[] serialized;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        try (AnalyticsFixture fixture = new AnalyticsFixture(100000, products)) {
+            codec = new ColumnarQueryResultCodec(fixture.getMetaDataStore().getMetadataDictionary(), compress);
+            query = fixture.salesByProduct();
+            result = fixture.execute(query);
+        }
+        encoded = codec.encode(query, result);
+        serialized = SerializationUtils.serialize(result);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return codec.encode(query, result);
+    }
+
+    @Benchmark
+    public QueryResult decode() {
+        return codec.decode(encoded);
+    }
+
+    @Benchmark
+    public byte[] javaSerialize() {
+        return SerializationUtils.serialize(result);
+    }
+
+    @Benchmark
+    public QueryResult javaDeserialize() {
+        return SerializationUtils.deserialize(serialized);
+    }
+}
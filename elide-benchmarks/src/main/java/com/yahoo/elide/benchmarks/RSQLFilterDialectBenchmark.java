@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.benchmarks;
+
+import com.yahoo.elide.benchmarks.models.Author;
+import com.yahoo.elide.benchmarks.models.BenchmarkChecks;
+import com.yahoo.elide.benchmarks.models.Book;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.filter.dialect.ParseException;
+import com.yahoo.elide.core.filter.dialect.RSQLFilterDialect;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.type.ClassType;
+import com.yahoo.elide.core.type.Type;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing RSQL filters into filter expressions with the {@link RSQLFilterDialect}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RSQLFilterDialectBenchmark {
+    private static final Type<?> BOOK = ClassType.of(Book.class);
+
+    @Param({
+            "genre==fiction",
+            "genre=in=(fiction,poetry);year>=1990;price<50",
+            "title==*Book*,author.name=ini='author 1*'",
+            "(genre==fiction;year=between=(1960,1980)),(genre==history;inPrint==true);author.name=isnull=false"
+    })
+    public String filter;
+
+    private RSQLFilterDialect dialect;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        EntityDictionary dictionary = EntityDictionary.builder().checks(BenchmarkChecks.MAPPINGS).build();
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Author.class);
+        dialect = RSQLFilterDialect.builder().dictionary(dictionary).build();
+    }
+
+    @Benchmark
+    public FilterExpression parse() throws ParseException {
+        return dialect.parseFilterExpression(filter, BOOK, true);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.benchmarks;
+
+import com.yahoo.elide.datastores.aggregation.query.Query;
+import com.yahoo.elide.datastores.aggregation.query.QueryResult;
+import com.yahoo.elide.datastores.aggregation.queryengines.sql.SQLQueryEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Translation of analytic queries to SQL by the {@link SQLQueryEngine} and their execution against H2.
+ * <p>
+ * With a template cache size of zero every query is translated.  Otherwise repeated queries reuse the SQL
+ * cached for their shape, so {@code toSql} measures the cache lookup rather than the translation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SQLQueryEngineBenchmark {
+    @Param({"1000", "100000"})
+    public int rows;
+
+    @Param({"0", "1024"})
+    public int templateCacheSize;
+
+    private AnalyticsFixture fixture;
+    private Query query;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        fixture = new AnalyticsFixture(rows, 50, templateCacheSize);
+        query = fixture.salesByProduct();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public List<String> toSql() {
+        return fixture.getEngine().explain(query);
+    }
+
+    @Benchmark
+    public QueryResult execute() {
+        return fixture.execute(query);
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.benchmarks.models;
+
+import com.yahoo.elide.annotation.Include;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.OneToMany;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Author model used by the benchmarks.
+ */
+@Entity
+@Include(name = "author")
+@Getter
+@Setter
+public class Author {
+    @Id
+    private long id;
+
+    private String name;
+
+    @OneToMany(mappedBy = "author")
+    private Set<Book> books = new LinkedHashSet<>();
+}
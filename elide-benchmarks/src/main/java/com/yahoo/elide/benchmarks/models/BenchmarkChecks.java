@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.benchmarks.models;
+
+import com.yahoo.elide.core.security.ChangeSpec;
+import com.yahoo.elide.core.security.RequestScope;
+import com.yahoo.elide.core.security.User;
+import com.yahoo.elide.core.security.checks.Check;
+import com.yahoo.elide.core.security.checks.OperationCheck;
+import com.yahoo.elide.core.security.checks.UserCheck;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Security checks used by the benchmark models.
+ */
+public class BenchmarkChecks {
+    public static final String IS_READER = "Benchmark.IsReader";
+    public static final String IN_PRINT = "Benchmark.InPrint";
+
+    public static final Map<String, Class<? extends Check>> MAPPINGS = Map.of(
+            IS_READER, IsReader.class,
+            IN_PRINT, InPrint.class
+    );
+
+    /**
+     * Passes for any authenticated user.
+     */
+    public static class IsReader extends UserCheck {
+        @Override
+        public boolean ok(User user) {
+            return user != null && user.getPrincipal() != null;
+        }
+    }
+
+    /**
+     * Passes for books that are still in print.
+     */
+    public static class InPrint extends OperationCheck<Book> {
+        @Override
+        public boolean ok(Book book, RequestScope requestScope, Optional<ChangeSpec> changeSpec) {
+            return book.isInPrint();
+        }
+    }
+}
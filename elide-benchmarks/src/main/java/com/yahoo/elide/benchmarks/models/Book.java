@@ -0,0 +1,43 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.benchmarks.models;
+
+import com.yahoo.elide.annotation.Include;
+import com.yahoo.elide.annotation.ReadPermission;
+import com.yahoo.elide.annotation.UpdatePermission;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Book model used by the benchmarks.
+ */
+@Entity
+@Include(name = "book")
+@ReadPermission(expression = BenchmarkChecks.IS_READER)
+@UpdatePermission(expression = BenchmarkChecks.IS_READER + " AND " + BenchmarkChecks.IN_PRINT)
+@Getter
+@Setter
+public class Book {
+    @Id
+    private long id;
+
+    private String title;
+
+    private String genre;
+
+    private int year;
+
+    private double price;
+
+    private boolean inPrint;
+
+    @ManyToOne
+    private Author author;
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.benchmarks.models;
+
+import com.yahoo.elide.annotation.Include;
+import com.yahoo.elide.datastores.aggregation.annotation.DimensionFormula;
+import com.yahoo.elide.datastores.aggregation.annotation.MetricFormula;
+import com.yahoo.elide.datastores.aggregation.queryengines.sql.annotation.FromTable;
+
+import jakarta.persistence.Id;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+/**
+ * Analytic model used by the aggregation benchmarks.
+ */
+@Include(name = "sales")
+@FromTable(name = "benchmark_sales")
+@Getter
+@Setter
+public class Sales implements Serializable {
+    @Id
+    private String id;
+
+    @MetricFormula("SUM({{$revenue}})")
+    private Double revenue;
+
+    @MetricFormula("SUM({{$units}})")
+    private Long units;
+
+    private String region;
+
+    private String product;
+
+    @DimensionFormula("{{$order_year}}")
+    private Long orderYear;
+}
@@ -5,47 +5,50 @@
  */
 package com.yahoo.elide.core;
 
+import com.yahoo.elide.core.type.Type;
+
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
  * Cache to store object entity.
+ * <p>
+ * Entities are kept by type and then by id so that a lookup does not build a key.  The maps are only allocated
+ * once an entity is added, so requests that never create an entity (such as reads) pay nothing for the cache.
  */
 public class ObjectEntityCache {
-    private final Map<String, Object> resourceCache;
-    private final Map<Object, String> uuidReverseMap;
-
-    /**
-     * Constructor.
-     */
-    public ObjectEntityCache() {
-        resourceCache = new LinkedHashMap<>();
-        uuidReverseMap = new IdentityHashMap<>();
-    }
+    private Map<Type<?>, Map<String, Object>> resourceCache = Collections.emptyMap();
+    private Map<Object, String> uuidReverseMap = Collections.emptyMap();
 
     /**
      * Add a resource to cache.
      *
-     * @param type the type
+     * @param type the bound type
      * @param id the id
      * @param entity the entity
      * @return the object
      */
-    public Object put(String type, String id, Object entity) {
+    public Object put(Type<?> type, String id, Object entity) {
+        if (resourceCache.isEmpty()) {
+            resourceCache = new HashMap<>();
+            uuidReverseMap = new IdentityHashMap<>();
+        }
         uuidReverseMap.put(entity, id);
-        return resourceCache.put(getCacheKey(type, id), entity);
+        return resourceCache.computeIfAbsent(type, key -> new HashMap<>()).put(id, entity);
     }
 
     /**
      * Retrieve object entity from cache.
      *
-     * @param type the type
+     * @param type the bound type
      * @param id the id
      * @return object
      */
-    public Object get(String type, String id) {
-        return resourceCache.get(getCacheKey(type, id));
+    public Object get(Type<?> type, String id) {
+        Map<String, Object> entities = resourceCache.get(type);
+        return entities == null ? null : entities.get(id);
     }
 
     /**
@@ -59,13 +62,11 @@ public class ObjectEntityCache {
     }
 
     /**
-     * Get key for resource cache.
+     * Whether any entity has been added to the cache.
      *
-     * @param type the type
-     * @param id the id
-     * @return key
+     * @return true if the cache is empty
      */
-    private static String getCacheKey(String type, String id) {
-        return type + "_" + id;
+    public boolean isEmpty() {
+        return resourceCache.isEmpty();
     }
 }
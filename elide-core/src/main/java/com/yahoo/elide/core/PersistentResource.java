@@ -1270,6 +1270,17 @@ public class PersistentResource<T> implements com.yahoo.elide.core.security.Pers
             return Flux.empty();
         }
 
+        checkPagination(relationship);
+
+        return getRelationUnchecked(relationship);
+    }
+
+    /**
+     * Verifies the relationship can be paginated if a page was requested.
+     *
+     * @param relationship The relationship to the entity
+     */
+    private void checkPagination(com.yahoo.elide.core.request.Relationship relationship) {
         Type<?> relationClass = dictionary.getParameterizedType(obj, relationship.getName());
 
         Optional<Pagination> pagination = Optional.ofNullable(relationship.getProjection().getPagination());
@@ -1284,8 +1295,6 @@ public class PersistentResource<T> implements com.yahoo.elide.core.security.Pers
             throw new BadRequestException(String.format("Cannot paginate %s",
                     dictionary.getJsonAliasFor(relationClass)));
         }
-
-        return getRelationUnchecked(relationship);
     }
 
     /**
@@ -1331,11 +1340,106 @@ public class PersistentResource<T> implements com.yahoo.elide.core.security.Pers
     private Flux<PersistentResource> getRelationUnchecked(
             com.yahoo.elide.core.request.Relationship relationship) {
         String relationName = relationship.getName();
+        RelationshipType type = getRelationshipType(relationName);
+        com.yahoo.elide.core.request.Relationship modifiedRelationship = withPermissionFilter(relationship);
+
+        if (type.isToMany()) {
+            DataStoreIterable val = transaction.getToManyRelation(transaction, obj, modifiedRelationship, requestScope);
+            return toManyResources(relationName, val);
+        }
+        Object val = transaction.getToOneRelation(transaction, obj, modifiedRelationship, requestScope);
+        return toOneResource(relationName, val);
+    }
+
+    /**
+     * Get the filtered relation of several resources at once.  Every resource is checked as
+     * {@link #getRelationCheckedFiltered} checks it, but the relationship of the resources which pass is fetched
+     * with one call to {@link DataStoreTransaction#getToManyRelations} or
+     * {@link DataStoreTransaction#getToOneRelations} per resource type.
+     *
+     * @param resources the resources which own the relationship
+     * @param relationship the relationship to fetch
+     * @return the relation of every resource in the same order as the resources.  A resource which fails its checks
+     * gets a relation which signals the error.
+     */
+    public static List<Flux<PersistentResource>> getRelationsCheckedFiltered(
+            List<PersistentResource> resources,
+            com.yahoo.elide.core.request.Relationship relationship) {
+        List<Flux<PersistentResource>> relations = new ArrayList<>(Collections.nCopies(resources.size(),
+                Flux.empty()));
+
+        Map<Type<?>, List<Integer>> fetchesByType = new LinkedHashMap<>();
+        for (int index = 0; index < resources.size(); index++) {
+            PersistentResource resource = resources.get(index);
+            try {
+                if (resource.checkRelation(relationship)) {
+                    resource.checkPagination(relationship);
+                    fetchesByType.computeIfAbsent(resource.getResourceType(), unused -> new ArrayList<>()).add(index);
+                }
+            } catch (RuntimeException e) {
+                relations.set(index, Flux.error(e));
+            }
+        }
+
+        fetchesByType.values().forEach(indexes -> {
+            List<PersistentResource> owners = indexes.stream().map(resources::get).collect(Collectors.toList());
+            try {
+                List<Flux<PersistentResource>> fetched = getRelationsUnchecked(owners, relationship);
+                for (int index = 0; index < indexes.size(); index++) {
+                    relations.set(indexes.get(index), filter(ReadPermission.class,
+                            Optional.ofNullable(relationship.getProjection().getFilterExpression()),
+                            relationship.getProjection().getRequestedFields(),
+                            fetched.get(index)));
+                }
+            } catch (RuntimeException e) {
+                indexes.forEach(index -> relations.set(index, Flux.error(e)));
+            }
+        });
+
+        return relations;
+    }
+
+    /**
+     * Retrieve unchecked sets of relations for resources of the same type.
+     */
+    private static List<Flux<PersistentResource>> getRelationsUnchecked(
+            List<PersistentResource> resources,
+            com.yahoo.elide.core.request.Relationship relationship) {
+        PersistentResource<?> first = resources.get(0);
+        String relationName = relationship.getName();
+        RelationshipType type = first.getRelationshipType(relationName);
+        DataStoreTransaction transaction = first.transaction;
+        RequestScope requestScope = first.requestScope;
+
+        //The relationship class and the permission filter only depend on the type - so they are shared.
+        com.yahoo.elide.core.request.Relationship modifiedRelationship = first.withPermissionFilter(relationship);
+        List<Object> entities = resources.stream().map(PersistentResource::getObject).collect(Collectors.toList());
+
+        List<Flux<PersistentResource>> relations = new ArrayList<>(resources.size());
+        if (type.isToMany()) {
+            Map<Object, DataStoreIterable<Object>> values = transaction.getToManyRelations(transaction, entities,
+                    modifiedRelationship, requestScope);
+            resources.forEach(resource -> relations.add(
+                    resource.toManyResources(relationName, values.get(resource.getObject()))));
+        } else {
+            Map<Object, Object> values = transaction.getToOneRelations(transaction, entities,
+                    modifiedRelationship, requestScope);
+            resources.forEach(resource -> relations.add(
+                    resource.toOneResource(relationName, values.get(resource.getObject()))));
+        }
+        return relations;
+    }
+
+    /**
+     * Merges the read permission filter of the relationship's type with the filter of the relationship.
+     */
+    private com.yahoo.elide.core.request.Relationship withPermissionFilter(
+            com.yahoo.elide.core.request.Relationship relationship) {
+        String relationName = relationship.getName();
         FilterExpression filterExpression = relationship.getProjection().getFilterExpression();
         Pagination pagination = relationship.getProjection().getPagination();
         Sorting sorting = relationship.getProjection().getSorting();
 
-        RelationshipType type = getRelationshipType(relationName);
         final Type<?> relationClass = dictionary.getParameterizedType(obj, relationName);
         if (relationClass == null) {
             throw new InvalidAttributeException(relationName, this.getTypeName());
@@ -1354,34 +1458,27 @@ public class PersistentResource<T> implements com.yahoo.elide.core.security.Pers
             computedFilters = permissionFilter;
         }
 
-        com.yahoo.elide.core.request.Relationship modifiedRelationship = relationship.copyOf()
+        return relationship.copyOf()
                 .projection(relationship.getProjection().copyOf()
                         .filterExpression(computedFilters.orElse(null))
                         .sorting(sorting)
                         .pagination(pagination)
                         .build()
                 ).build();
+    }
 
-        Flux<PersistentResource> resources;
-
-        if (type.isToMany()) {
-            DataStoreIterable val = transaction.getToManyRelation(transaction, obj, modifiedRelationship, requestScope);
-
-            if (val == null) {
-                return Flux.empty();
-            }
-            resources = Flux.fromIterable(
-                    new PersistentResourceSet(this, relationName, val, requestScope));
-        } else {
-            Object val = transaction.getToOneRelation(transaction, obj, modifiedRelationship, requestScope);
-            if (val == null) {
-                return Flux.empty();
-            }
-            resources = Flux.just(new PersistentResource(val, this, relationName,
-                    requestScope.getUUIDFor(val), requestScope));
+    private Flux<PersistentResource> toManyResources(String relationName, DataStoreIterable val) {
+        if (val == null) {
+            return Flux.empty();
         }
+        return Flux.fromIterable(new PersistentResourceSet(this, relationName, val, requestScope));
+    }
 
-        return resources;
+    private Flux<PersistentResource> toOneResource(String relationName, Object val) {
+        if (val == null) {
+            return Flux.empty();
+        }
+        return Flux.just(new PersistentResource(val, this, relationName, requestScope.getUUIDFor(val), requestScope));
     }
 
     /**
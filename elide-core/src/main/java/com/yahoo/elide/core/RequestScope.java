@@ -360,13 +360,17 @@ public class RequestScope implements com.yahoo.elide.core.security.RequestScope
     public Object getObjectById(Type<?> type, String id) {
         Type<?> boundType = dictionary.lookupBoundClass(type);
 
-        Object result = objectEntityCache.get(boundType.getName(), id);
+        //Only objects created by this request are cached.
+        if (objectEntityCache.isEmpty()) {
+            return null;
+        }
+
+        Object result = objectEntityCache.get(boundType, id);
 
         // Check inheritance too
         Iterator<Type<?>> it = dictionary.getSubclassingEntities(boundType).iterator();
         while (result == null && it.hasNext()) {
-            String newType = getInheritanceKey(it.next().getName(), boundType.getName());
-            result = objectEntityCache.get(newType, id);
+            result = objectEntityCache.get(it.next(), id);
         }
 
         return result;
@@ -375,16 +379,8 @@ public class RequestScope implements com.yahoo.elide.core.security.RequestScope
     public void setUUIDForObject(Type<?> type, String id, Object object) {
         Type<?> boundType = dictionary.lookupBoundClass(type);
 
-        objectEntityCache.put(boundType.getName(), id, object);
-
-        // Insert for all inherited entities as well
-        dictionary.getSuperClassEntities(type).stream()
-                .map(i -> getInheritanceKey(boundType.getName(), i.getName()))
-                .forEach(newType -> objectEntityCache.put(newType, id, object));
-    }
-
-    private String getInheritanceKey(String subClass, String superClass) {
-        return subClass + "!" + superClass;
+        // Entities are found through their inherited types by looking up their subclasses.
+        objectEntityCache.put(boundType, id, object);
     }
 
     @Override
@@ -22,7 +22,10 @@ import com.yahoo.elide.core.type.Type;
 
 import java.io.Closeable;
 import java.io.Serializable;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 /**
  * Wraps the Database Transaction type.
@@ -217,6 +220,54 @@ public interface DataStoreTransaction extends Closeable {
         return (R) PersistentResource.getValue(entity, relationship.getName(), scope);
     }
 
+    /**
+     * Retrieve a to-many relation from several objects of the same type at once.  Stores that can fetch the
+     * relationship of many parents with a single round trip should override this.  By default, the relationship
+     * is fetched one parent at a time.
+     *
+     * @param relationTx - The datastore that governs objects of the relationhip's type.
+     * @param entities - The objects which own the relationship.
+     * @param relationship - the relationship to fetch.  It is the same for every object.
+     * @param scope - contains request level metadata.
+     * @param <T> - The model type which owns the relationship.
+     * @param <R> - The model type of the relationship.
+     * @return the objects in the relation keyed by the object (by identity) which owns them.
+     */
+    default <T, R> Map<T, DataStoreIterable<R>> getToManyRelations(
+            DataStoreTransaction relationTx,
+            List<T> entities,
+            Relationship relationship,
+            RequestScope scope) {
+
+        Map<T, DataStoreIterable<R>> results = new IdentityHashMap<>();
+        entities.forEach(entity -> results.put(entity, getToManyRelation(relationTx, entity, relationship, scope)));
+        return results;
+    }
+
+    /**
+     * Retrieve a to-one relation from several objects of the same type at once.  Stores that can fetch the
+     * relationship of many parents with a single round trip should override this.  By default, the relationship
+     * is fetched one parent at a time.
+     *
+     * @param relationTx - The datastore that governs objects of the relationhip's type.
+     * @param entities - The objects which own the relationship.
+     * @param relationship - the relationship to fetch.  It is the same for every object.
+     * @param scope - contains request level metadata.
+     * @param <T> - The model type which owns the relationship.
+     * @param <R> - The model type of the relationship.
+     * @return the object in the relation keyed by the object (by identity) which owns it.
+     */
+    default <T, R> Map<T, R> getToOneRelations(
+            DataStoreTransaction relationTx,
+            List<T> entities,
+            Relationship relationship,
+            RequestScope scope) {
+
+        Map<T, R> results = new IdentityHashMap<>();
+        entities.forEach(entity -> results.put(entity, getToOneRelation(relationTx, entity, relationship, scope)));
+        return results;
+    }
+
     /**
      * Elide core will update the in memory representation of the objects to the requested state.
      * These functions allow a data store to optionally persist the relationship if needed.
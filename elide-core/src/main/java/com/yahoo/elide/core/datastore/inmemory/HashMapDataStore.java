@@ -38,8 +38,8 @@ public class HashMapDataStore implements DataStore, DataStoreTestHarness {
     protected final Map<Type<?>, Map<String, Object>> dataStore = Collections.synchronizedMap(new HashMap<>());
     @Getter protected EntityDictionary dictionary;
     @Getter private final ConcurrentHashMap<Type<?>, AtomicLong> typeIds = new ConcurrentHashMap<>();
-    private final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
-    private final ObjectCloner objectCloner;
+    protected final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+    protected final ObjectCloner objectCloner;
 
     public HashMapDataStore(ClassScanner scanner, Package beanPackage) {
         this(scanner, beanPackage, ObjectCloners::clone);
@@ -101,9 +101,9 @@ public class HashMapDataStore implements DataStore, DataStoreTestHarness {
     public String toString() {
         StringBuilder sb = new StringBuilder();
         sb.append("Data store contents ");
-        for (Map.Entry<Type<?>, Map<String, Object>> dse : dataStore.entrySet()) {
-            sb.append("\n Table ").append(dse.getKey()).append(" contents \n");
-            for (Map.Entry<String, Object> e : dse.getValue().entrySet()) {
+        for (Type<?> type : dataStore.keySet()) {
+            sb.append("\n Table ").append(type).append(" contents \n");
+            for (Map.Entry<String, Object> e : get(type).entrySet()) {
                 sb.append(" Id: ").append(e.getKey()).append(" Value: ").append(e.getValue());
             }
         }
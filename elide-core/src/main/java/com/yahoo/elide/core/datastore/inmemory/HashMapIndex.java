@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.inmemory;
+
+import com.yahoo.elide.core.filter.predicates.FilterPredicate;
+import com.yahoo.elide.core.type.Type;
+import com.yahoo.elide.core.utils.coerce.CoerceUtil;
+
+import lombok.Getter;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * A secondary index over a scalar attribute of the objects of one entity class in an {@link IndexedHashMapDataStore}.
+ * The index maps attribute values to the ids of the objects that hold them.
+ * <p>
+ * A hash index answers IN (equality) predicates.  A sorted index also answers LT, LE, GT, GE, BETWEEN and
+ * PREFIX predicates and requires comparable attribute values.
+ */
+public class HashMapIndex {
+
+    /**
+     * The kind of index.
+     */
+    public enum Kind {
+        HASH,
+        SORTED
+    }
+
+    @Getter private final String fieldName;
+    @Getter private final Kind kind;
+
+    private final Map<String, Object> valuesById = new HashMap<>();
+    private final Map<Object, Set<String>> idsByValue;
+    private final Set<String> nullIds = new LinkedHashSet<>();
+
+    public HashMapIndex(String fieldName, Kind kind) {
+        this.fieldName = fieldName;
+        this.kind = kind;
+        this.idsByValue = kind == Kind.SORTED ? new TreeMap<>() : new HashMap<>();
+    }
+
+    /**
+     * Indexes an object replacing any value previously indexed under the same id.
+     * @param id The id of the object.
+     * @param value The attribute value of the object.
+     */
+    public void put(String id, Object value) {
+        remove(id);
+        valuesById.put(id, value);
+        if (value == null) {
+            nullIds.add(id);
+        } else {
+            idsByValue.computeIfAbsent(value, key -> new LinkedHashSet<>()).add(id);
+        }
+    }
+
+    /**
+     * Removes an object from the index.
+     * @param id The id of the object.
+     */
+    public void remove(String id) {
+        if (!valuesById.containsKey(id)) {
+            return;
+        }
+        Object value = valuesById.remove(id);
+        if (value == null) {
+            nullIds.remove(id);
+            return;
+        }
+        Set<String> ids = idsByValue.get(value);
+        ids.remove(id);
+        if (ids.isEmpty()) {
+            idsByValue.remove(value);
+        }
+    }
+
+    /**
+     * Removes every object from the index.
+     */
+    public void clear() {
+        valuesById.clear();
+        idsByValue.clear();
+        nullIds.clear();
+    }
+
+    /**
+     * Returns the ids of the objects that match a predicate on the indexed attribute.
+     * @param predicate The predicate.
+     * @return The matching ids or null if the index cannot answer the predicate.
+     */
+    public Set<String> lookup(FilterPredicate predicate) {
+        List<Object> values;
+        try {
+            values = coerce(predicate.getValues(), predicate.getFieldType());
+        } catch (RuntimeException e) {
+            return null;
+        }
+
+        try {
+            switch (predicate.getOperator()) {
+            case IN:
+                Set<String> matches = new LinkedHashSet<>();
+                values.stream()
+                        .filter(value -> value != null)
+                        .forEach(value -> matches.addAll(idsByValue.getOrDefault(value, Set.of())));
+                return matches;
+            case ISNULL:
+                return new LinkedHashSet<>(nullIds);
+            default:
+                return kind == Kind.SORTED && !values.isEmpty() ? lookupRange(predicate, values) : null;
+            }
+        } catch (ClassCastException | IllegalArgumentException e) {
+            //Values that do not compare with the indexed values are left to the in memory filter.
+            return null;
+        }
+    }
+
+    private Set<String> lookupRange(FilterPredicate predicate, List<Object> values) {
+        NavigableMap<Object, Set<String>> sorted = (NavigableMap<Object, Set<String>>) idsByValue;
+        Object value = values.get(0);
+        if (value == null) {
+            return null;
+        }
+
+        switch (predicate.getOperator()) {
+        case LT:
+            return union(sorted.headMap(value, false).values());
+        case LE:
+            return union(sorted.headMap(value, true).values());
+        case GT:
+            return union(sorted.tailMap(value, false).values());
+        case GE:
+            return union(sorted.tailMap(value, true).values());
+        case BETWEEN:
+            return values.size() != 2 || values.get(1) == null ? null
+                    : union(sorted.subMap(value, true, values.get(1), true).values());
+        case PREFIX:
+            if (!(value instanceof String)) {
+                return null;
+            }
+            return union(sorted.subMap(value, true, value + String.valueOf(Character.MAX_VALUE), true).values());
+        default:
+            return null;
+        }
+    }
+
+    private static List<Object> coerce(List<Object> values, Type<?> fieldType) {
+        if (fieldType == null) {
+            return values;
+        }
+        return values.stream().map(value -> (Object) CoerceUtil.coerce(value, fieldType)).toList();
+    }
+
+    private static Set<String> union(Collection<Set<String>> ids) {
+        Set<String> matches = new LinkedHashSet<>();
+        ids.forEach(matches::addAll);
+        return matches;
+    }
+}
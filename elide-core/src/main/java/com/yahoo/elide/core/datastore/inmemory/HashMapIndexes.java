@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.inmemory;
+
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpressionVisitor;
+import com.yahoo.elide.core.filter.expression.NotFilterExpression;
+import com.yahoo.elide.core.filter.expression.OrFilterExpression;
+import com.yahoo.elide.core.filter.predicates.FilterPredicate;
+import com.yahoo.elide.core.type.Type;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The secondary indexes of an {@link IndexedHashMapDataStore} by entity class and attribute.
+ * <p>
+ * Indexes are maintained by the store transactions when they commit or roll back.  Objects modified directly
+ * through {@link IndexedHashMapDataStore#get(Type)} are not indexed.
+ */
+public class HashMapIndexes {
+    private final Map<Type<?>, Map<String, HashMapIndex>> indexes = new ConcurrentHashMap<>();
+
+    /**
+     * Declares an index and builds it from the existing objects.
+     * @param type The entity class.
+     * @param fieldName The indexed attribute.
+     * @param kind The kind of index.
+     * @param data The existing objects of the entity class by id.
+     * @param dictionary The dictionary used to read attributes.
+     */
+    public void create(Type<?> type, String fieldName, HashMapIndex.Kind kind, Map<String, Object> data,
+                       EntityDictionary dictionary) {
+        HashMapIndex index = new HashMapIndex(fieldName, kind);
+        if (data != null && !data.isEmpty()) {
+            if (dictionary == null) {
+                throw new IllegalStateException("Indexes over existing data require a populated dictionary");
+            }
+            data.forEach((id, object) -> index.put(id, dictionary.getValue(object, fieldName, null)));
+        }
+        indexes.computeIfAbsent(type, key -> new ConcurrentHashMap<>()).put(fieldName, index);
+    }
+
+    /**
+     * Indexes an object that was created or updated.
+     * @param type The entity class the object is stored under.
+     * @param id The id of the object.
+     * @param object The object.
+     * @param dictionary The dictionary used to read attributes.
+     */
+    public void put(Type<?> type, String id, Object object, EntityDictionary dictionary) {
+        indexes.getOrDefault(type, Collections.emptyMap()).values()
+                .forEach(index -> index.put(id, dictionary.getValue(object, index.getFieldName(), null)));
+    }
+
+    /**
+     * Removes a deleted object from the indexes.
+     * @param type The entity class the object is stored under.
+     * @param id The id of the object.
+     */
+    public void remove(Type<?> type, String id) {
+        indexes.getOrDefault(type, Collections.emptyMap()).values().forEach(index -> index.remove(id));
+    }
+
+    /**
+     * Rebuilds the indexes of an entity class after its objects were replaced.
+     * @param type The entity class.
+     * @param data The objects of the entity class by id.
+     * @param dictionary The dictionary used to read attributes.
+     */
+    public void rebuild(Type<?> type, Map<String, Object> data, EntityDictionary dictionary) {
+        for (HashMapIndex index : indexes.getOrDefault(type, Collections.emptyMap()).values()) {
+            index.clear();
+            data.forEach((id, object) -> index.put(id, dictionary.getValue(object, index.getFieldName(), null)));
+        }
+    }
+
+    /**
+     * Removes every object from the indexes.  The index declarations are kept.
+     */
+    public void clear() {
+        indexes.values().forEach(typeIndexes -> typeIndexes.values().forEach(HashMapIndex::clear));
+    }
+
+    /**
+     * Returns the ids of the objects that may match a filter.  Objects outside the returned ids do not match.
+     * The filter must still be applied to the returned objects.
+     * @param type The entity class.
+     * @param filterExpression The filter.
+     * @return The candidate ids or null if the indexes cannot narrow the filter.
+     */
+    public Set<String> lookup(Type<?> type, FilterExpression filterExpression) {
+        Map<String, HashMapIndex> typeIndexes = indexes.get(type);
+        if (typeIndexes == null || typeIndexes.isEmpty() || filterExpression == null) {
+            return null;
+        }
+        return filterExpression.accept(new LookupVisitor(typeIndexes));
+    }
+
+    /**
+     * Narrows a filter to candidate ids.  Returns null for any expression the indexes cannot answer.
+     */
+    private static class LookupVisitor implements FilterExpressionVisitor<Set<String>> {
+        private final Map<String, HashMapIndex> typeIndexes;
+
+        LookupVisitor(Map<String, HashMapIndex> typeIndexes) {
+            this.typeIndexes = typeIndexes;
+        }
+
+        @Override
+        public Set<String> visitPredicate(FilterPredicate filterPredicate) {
+            if (filterPredicate.getPath().getPathElements().size() != 1) {
+                return null;
+            }
+            HashMapIndex index = typeIndexes.get(filterPredicate.getField());
+            return index == null ? null : index.lookup(filterPredicate);
+        }
+
+        @Override
+        public Set<String> visitAndExpression(AndFilterExpression expression) {
+            Set<String> left = expression.getLeft().accept(this);
+            Set<String> right = expression.getRight().accept(this);
+            if (left == null || right == null) {
+                return left == null ? right : left;
+            }
+            Set<String> smaller = left.size() <= right.size() ? left : right;
+            Set<String> larger = smaller == left ? right : left;
+            Set<String> matches = new LinkedHashSet<>(smaller);
+            matches.retainAll(larger);
+            return matches;
+        }
+
+        @Override
+        public Set<String> visitOrExpression(OrFilterExpression expression) {
+            Set<String> left = expression.getLeft().accept(this);
+            if (left == null) {
+                return null;
+            }
+            Set<String> right = expression.getRight().accept(this);
+            if (right == null) {
+                return null;
+            }
+            Set<String> matches = new LinkedHashSet<>(left);
+            matches.addAll(right);
+            return matches;
+        }
+
+        @Override
+        public Set<String> visitNotExpression(NotFilterExpression expression) {
+            return null;
+        }
+    }
+}
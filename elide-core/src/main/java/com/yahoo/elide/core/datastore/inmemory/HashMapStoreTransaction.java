@@ -25,6 +25,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -40,17 +41,25 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
     private final Lock lock;
     private final boolean readOnly;
     private final ObjectCloner objectCloner;
+    private final HashMapIndexes indexes;
     private boolean committed = false;
 
     public HashMapStoreTransaction(ReadWriteLock readWriteLock, Map<Type<?>, Map<String, Object>> dataStore,
             EntityDictionary dictionary, Map<Type<?>, AtomicLong> typeIds, ObjectCloner objectCloner,
             boolean readOnly) {
+        this(readWriteLock, dataStore, dictionary, typeIds, objectCloner, new HashMapIndexes(), readOnly);
+    }
+
+    public HashMapStoreTransaction(ReadWriteLock readWriteLock, Map<Type<?>, Map<String, Object>> dataStore,
+            EntityDictionary dictionary, Map<Type<?>, AtomicLong> typeIds, ObjectCloner objectCloner,
+            HashMapIndexes indexes, boolean readOnly) {
         this.readOnly = readOnly;
         this.dataStore = dataStore;
         this.dictionary = dictionary;
         this.operations = new ArrayList<>();
         this.typeIds = typeIds;
         this.objectCloner = objectCloner;
+        this.indexes = indexes;
 
         if (readWriteLock != null) {
             this.lock = readOnly ? readWriteLock.readLock() : readWriteLock.writeLock();
@@ -98,11 +107,13 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
             Map<String, Object> data = dataStore.get(op.getType());
             if (op.getOpType() == Operation.OpType.DELETE) {
                 data.remove(id);
+                indexes.remove(op.getType(), id);
             } else {
                 if (op.getOpType() == Operation.OpType.CREATE && data.get(id) != null) {
                     throw new TransactionException(new IllegalStateException("Duplicate key"));
                 }
                 data.put(id, instance);
+                indexes.put(op.getType(), id, instance, dictionary);
             }
         });
         operations.clear();
@@ -157,6 +168,20 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
                                                           RequestScope scope) {
         Map<String, Object> data = dataStore.get(projection.getType());
         cacheForRollback(projection.getType(), data);
+
+        //Objects loaded by a writer may be modified before they are saved, so only readers trust the indexes.
+        //The indexes only narrow the candidates - the full filter is still applied in memory.
+        Set<String> ids = readOnly ? indexes.lookup(projection.getType(), projection.getFilterExpression()) : null;
+        if (ids != null) {
+            List<Object> candidates = new ArrayList<>(ids.size());
+            ids.forEach(id -> {
+                Object object = data.get(id);
+                if (object != null) {
+                    candidates.add(object);
+                }
+            });
+            return new DataStoreIterableBuilder<>((Iterable<Object>) candidates).allInMemory().build();
+        }
         return new DataStoreIterableBuilder<>(data.values()).allInMemory().build();
     }
 
@@ -218,6 +243,7 @@ public class HashMapStoreTransaction implements DataStoreTransaction {
     public void rollback() {
         // Rollback data
         dataStore.putAll(this.rollbackCache);
+        this.rollbackCache.forEach((type, data) -> indexes.rebuild(type, data, dictionary));
         this.rollbackCache.clear();
     }
 
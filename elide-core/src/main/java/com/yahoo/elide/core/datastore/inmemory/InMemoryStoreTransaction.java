@@ -21,20 +21,24 @@ import com.yahoo.elide.core.request.Pagination;
 import com.yahoo.elide.core.request.Relationship;
 import com.yahoo.elide.core.request.Sorting;
 import com.yahoo.elide.core.type.Type;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.tuple.Pair;
 
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
 import java.io.IOException;
 import java.io.Serializable;
-import java.nio.charset.StandardCharsets;
-import java.util.Base64;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
@@ -101,6 +105,39 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
         return fetchData(fetcher, relationship.getProjection(), filterInMemory, scope);
     }
 
+    @Override
+    public <T, R> Map<T, DataStoreIterable<R>> getToManyRelations(DataStoreTransaction relationTx,
+                                                                  List<T> entities,
+                                                                  Relationship relationship,
+                                                                  RequestScope scope) {
+        EntityProjection projection = relationship.getProjection();
+        boolean filterInMemory = scope.getNewPersistentResources().size() > 0;
+
+        //The split only depends on the projection - so it is shared by all the parents.
+        FetchPlan plan = planFetch(projection, filterInMemory, scope);
+
+        Map<T, DataStoreIterable<Object>> loaded = tx.getToManyRelations(relationTx, entities, relationship.copyOf()
+                .projection(projection.copyOf()
+                        .filterExpression(plan.getDataStoreFilter().orElse(null))
+                        .sorting(plan.getDataStoreSorting().orElse(null))
+                        .pagination(plan.getDataStorePagination().orElse(null))
+                        .build()
+                ).build(), scope);
+
+        Map<T, DataStoreIterable<R>> results = new IdentityHashMap<>();
+        entities.forEach(entity -> results.put(entity,
+                (DataStoreIterable) finishFetch(plan, loaded.get(entity), projection, scope)));
+        return results;
+    }
+
+    @Override
+    public <T, R> Map<T, R> getToOneRelations(DataStoreTransaction relationTx,
+                                              List<T> entities,
+                                              Relationship relationship,
+                                              RequestScope scope) {
+        return tx.getToOneRelations(relationTx, entities, relationship, scope);
+    }
+
     @Override
     public Object loadObject(EntityProjection projection,
                       Serializable id,
@@ -246,8 +283,19 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
             boolean filterInMemory,
             RequestScope scope
     ) {
-        Optional<FilterExpression> filterExpression = Optional.ofNullable(projection.getFilterExpression());
+        FetchPlan plan = planFetch(projection, filterInMemory, scope);
+
+        DataStoreIterable<Object> loadedRecords =
+                fetcher.fetch(plan.getDataStoreFilter(), plan.getDataStoreSorting(), plan.getDataStorePagination(),
+                        scope);
 
+        return finishFetch(plan, loadedRecords, projection, scope);
+    }
+
+    /**
+     * Splits the filtering, sorting and pagination of a projection between the wrapped store and memory.
+     */
+    private FetchPlan planFetch(EntityProjection projection, boolean filterInMemory, RequestScope scope) {
         Pair<Optional<FilterExpression>, Optional<FilterExpression>> expressionSplit = splitFilterExpression(
                 scope, projection, filterInMemory);
 
@@ -261,23 +309,35 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
         Optional<Pagination> dataStorePagination = inMemoryFilter.isPresent() || sortingInMemory
                 ? Optional.empty() : Optional.ofNullable(projection.getPagination());
 
-        DataStoreIterable<Object> loadedRecords =
-                fetcher.fetch(dataStoreFilter, dataStoreSorting, dataStorePagination, scope);
+        return new FetchPlan(dataStoreFilter, inMemoryFilter.isPresent(), dataStoreSorting, sortingInMemory,
+                dataStorePagination);
+    }
 
+    /**
+     * Applies the filtering, sorting and pagination the wrapped store did not perform.
+     */
+    private DataStoreIterable<Object> finishFetch(
+            FetchPlan plan,
+            DataStoreIterable<Object> loadedRecords,
+            EntityProjection projection,
+            RequestScope scope
+    ) {
         if (loadedRecords == null) {
             return new DataStoreIterableBuilder().build();
         }
 
-        if (inMemoryFilter.isPresent() || (loadedRecords.needsInMemoryFilter()
+        if (plan.isFilterInMemory() || (loadedRecords.needsInMemoryFilter()
                 && projection.getFilterExpression() != null)) {
-            loadedRecords = filterLoadedData(loadedRecords, filterExpression, scope);
+            loadedRecords = filterLoadedData(loadedRecords, Optional.ofNullable(projection.getFilterExpression()),
+                    scope);
         }
 
         return sortAndPaginateLoadedData(
                     loadedRecords,
-                    sortingInMemory,
+                    plan.isSortingInMemory(),
                     projection.getSorting(),
                     projection.getPagination(),
+                    projection.getType(),
                     scope);
     }
 
@@ -286,6 +346,7 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
             boolean sortingInMemory,
             Sorting sorting,
             Pagination pagination,
+            Type<?> type,
             RequestScope scope
     ) {
 
@@ -302,55 +363,62 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
             return loadedRecords;
         }
 
+        //Offset pagination without page totals only needs the records up to the end of the page.
+        int pageEnd = pagination != null && pagination.getDirection() == null && !pagination.returnPageTotals()
+                ? getPageEnd(pagination) : -1;
+
         //We need an in memory copy to sort or paginate.
-        List<Object> results = StreamSupport.stream(loadedRecords.spliterator(), false).collect(Collectors.toList());
+        List<Object> results;
+        KeysetCursors cursors;
+        if (sortRules.isEmpty()) {
+            results = pageEnd < 0 ? copyInMemory(loadedRecords) : copyInMemory(loadedRecords, pageEnd);
+            cursors = new KeysetCursors(type, results, scope);
+        } else {
+            List<Path> paths = new ArrayList<>(sortRules.keySet());
+            Sorting.SortOrder[] orders = paths.stream().map(sortRules::get).toArray(Sorting.SortOrder[]::new);
 
-        if (! sortRules.isEmpty()) {
-            results = sortInMemory(results, sortRules, scope);
+            List<SortableRecord> sorted = sortInMemory(loadedRecords, paths, orders, pageEnd, scope);
+            results = sorted.stream().map(SortableRecord::getEntity).collect(Collectors.toList());
+            cursors = new KeysetCursors(type, results,
+                    sorted.stream().map(SortableRecord::getKeys).collect(Collectors.toList()), paths, orders, scope);
         }
 
         if (pagination != null) {
-            results = paginateInMemory(results, pagination, scope);
+            results = paginateInMemory(results, pagination, cursors);
         }
 
         return new DataStoreIterableBuilder(results).build();
     }
 
-    private String getCursor(Object entity, RequestScope scope) {
-        return encodeCursor(getId(entity, scope));
-    }
-
-    private String getId(Object entity, RequestScope scope) {
-        return scope.getDictionary().getId(entity);
-    }
-
-    private Integer findIndexOfDecodedCursor(List<Object> records, String cursor, RequestScope scope) {
-        for (int x = 0; x < records.size(); x++) {
-            Object entity = records.get(x);
-            String entityId = getId(entity, scope);
-            if (Objects.equals(entityId, cursor)) {
-                return x;
-            }
+    /**
+     * Returns the number of records needed to serve an offset page.
+     * @param pagination The offset pagination.
+     * @return offset + limit or 0 if the page is empty.
+     */
+    private static int getPageEnd(Pagination pagination) {
+        if (pagination.getOffset() < 0 || pagination.getLimit() < 0) {
+            return 0;
         }
-        return null;
+        return (int) Math.min(Integer.MAX_VALUE, (long) pagination.getOffset() + pagination.getLimit());
     }
 
-    private String encodeCursor(String id) {
-        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.getBytes(StandardCharsets.UTF_8));
+    private static List<Object> copyInMemory(Iterable<Object> records) {
+        return StreamSupport.stream(records.spliterator(), false).collect(Collectors.toList());
     }
 
-    private String decodeCursor(String cursor) {
-        if (cursor == null || "".equals(cursor)) {
-            return null;
-        }
-        try {
-            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
-        } catch (RuntimeException e) {
-            return null;
+    /**
+     * Copies records until the limit is reached without pulling any more from the underlying iterator.
+     */
+    private static List<Object> copyInMemory(Iterable<Object> records, int limit) {
+        List<Object> results = new ArrayList<>();
+        Iterator<Object> iterator = records.iterator();
+        while (results.size() < limit && iterator.hasNext()) {
+            results.add(iterator.next());
         }
+        return results;
     }
 
-    private List<Object> paginateInMemory(List<Object> records, Pagination pagination, RequestScope scope) {
+    private List<Object> paginateInMemory(List<Object> records, Pagination pagination, KeysetCursors cursors) {
         if (pagination.returnPageTotals()) {
             pagination.setPageTotals((long) records.size());
         }
@@ -360,12 +428,12 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
             int endMax = records.size() - 1;
             switch (pagination.getDirection()) {
             case FORWARD:
-                String decodedCursor = decodeCursor(pagination.getCursor());
+                String cursor = pagination.getCursor();
                 // First
                 int start = 0;
-                if (decodedCursor != null) {
+                if (StringUtils.isNotEmpty(cursor)) {
                     // After
-                    Integer cursorIndex = findIndexOfDecodedCursor(records, decodedCursor, scope);
+                    Integer cursorIndex = cursors.indexOf(cursor);
                     if (cursorIndex == null) {
                         return Collections.emptyList();
                     }
@@ -384,17 +452,17 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
                     pagination.setEndCursor(null);
                     return Collections.emptyList();
                 } else {
-                    pagination.setStartCursor(getCursor(records.get(start), scope));
-                    pagination.setEndCursor(getCursor(records.get(end), scope));
+                    pagination.setStartCursor(cursors.getCursor(start));
+                    pagination.setEndCursor(cursors.getCursor(end));
                     return records.subList(start, end + 1);
                 }
             case BACKWARD:
                 // Last
-                String ldecodedCursor = decodeCursor(pagination.getCursor());
+                String lcursor = pagination.getCursor();
                 int lend = endMax;
-                if (ldecodedCursor != null) {
+                if (StringUtils.isNotEmpty(lcursor)) {
                     // Before
-                    Integer cursorIndex = findIndexOfDecodedCursor(records, ldecodedCursor, scope);
+                    Integer cursorIndex = cursors.indexOf(lcursor);
                     if (cursorIndex == null) {
                         return Collections.emptyList();
                     }
@@ -413,15 +481,13 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
                     pagination.setEndCursor(null);
                     return Collections.emptyList();
                 } else {
-                    pagination.setStartCursor(getCursor(records.get(lstart), scope));
-                    pagination.setEndCursor(getCursor(records.get(lend), scope));
+                    pagination.setStartCursor(cursors.getCursor(lstart));
+                    pagination.setEndCursor(cursors.getCursor(lend));
                     return records.subList(lstart, lend + 1);
                 }
             case BETWEEN:
-                String starting = decodeCursor(pagination.getAfter());
-                String ending = decodeCursor(pagination.getBefore());
-                Integer startingIndex = findIndexOfDecodedCursor(records, starting, scope);
-                Integer endingIndex = findIndexOfDecodedCursor(records, ending, scope);
+                Integer startingIndex = cursors.indexOf(pagination.getAfter());
+                Integer endingIndex = cursors.indexOf(pagination.getBefore());
                 if (startingIndex == null || endingIndex == null) {
                     pagination.setStartCursor(null);
                     pagination.setEndCursor(null);
@@ -444,8 +510,8 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
                     } else {
                         pagination.setHasNextPage(false);
                     }
-                    pagination.setStartCursor(getCursor(records.get(startingIndex), scope));
-                    pagination.setEndCursor(getCursor(records.get(endingIndex), scope));
+                    pagination.setStartCursor(cursors.getCursor(startingIndex));
+                    pagination.setEndCursor(cursors.getCursor(endingIndex));
                     return records.subList(startingIndex, endingIndex + 1);
                 }
             }
@@ -463,44 +529,113 @@ public class InMemoryStoreTransaction implements DataStoreTransaction {
         return records.subList(offset, endIdx);
     }
 
-    private List<Object> sortInMemory(List<Object> records,
-                                        Map<Path, Sorting.SortOrder> sortRules,
-                                        RequestScope scope) {
-        //Build a comparator that handles multiple comparison rules.
-        Comparator<Object> noSort = (left, right) -> 0;
-
-        Comparator<Object> comp = sortRules.entrySet().stream()
-            .map(entry -> getComparator(entry.getKey(), entry.getValue(), scope))
-            .reduce(noSort, (comparator1, comparator2) -> (left, right) -> {
-                int comparison = comparator1.compare(left, right);
-                if (comparison == 0) {
-                    return comparator2.compare(left, right);
+    /**
+     * Sorts the records.  The sort keys of every record are extracted once up front rather than on every
+     * comparison.  When a page end is given, only the first pageEnd records are kept using a bounded heap.
+     * @param records The records to sort.
+     * @param paths The paths to sort by.
+     * @param orders The sort order of each path.
+     * @param pageEnd The number of leading records to keep or a negative number to keep all records.
+     * @param scope The request context.
+     * @return The sorted records along with their sort keys.
+     */
+    private List<SortableRecord> sortInMemory(Iterable<Object> records,
+                                              List<Path> paths,
+                                              Sorting.SortOrder[] orders,
+                                              int pageEnd,
+                                              RequestScope scope) {
+        //Ties are broken by the load order so the sort is stable.
+        Comparator<SortableRecord> comp = (left, right) -> {
+            int comparison = compareSortKeys(left.keys, right.keys, orders);
+            return comparison != 0 ? comparison : Long.compare(left.position, right.position);
+        };
+
+        if (pageEnd == 0) {
+            return new ArrayList<>();
+        }
+
+        List<SortableRecord> sorted;
+        long position = 0;
+        if (pageEnd > 0) {
+            //Max heap holding the best pageEnd records seen so far.  The worst of them is at the head.
+            PriorityQueue<SortableRecord> heap = new PriorityQueue<>(comp.reversed());
+            for (Object entity : records) {
+                SortableRecord candidate = new SortableRecord(entity, getSortKeys(entity, paths, scope), position++);
+                if (heap.size() < pageEnd) {
+                    heap.add(candidate);
+                } else if (comp.compare(candidate, heap.peek()) < 0) {
+                    heap.poll();
+                    heap.add(candidate);
                 }
-                return comparison;
-            });
+            }
+            sorted = new ArrayList<>(heap);
+        } else {
+            sorted = new ArrayList<>();
+            for (Object entity : records) {
+                sorted.add(new SortableRecord(entity, getSortKeys(entity, paths, scope), position++));
+            }
+        }
 
-        records.sort(comp);
-        return records;
+        sorted.sort(comp);
+        return sorted;
     }
 
-    private Comparator<Object> getComparator(Path path, Sorting.SortOrder order, RequestScope requestScope) {
-        return (left, right) -> {
-            Object leftCompare = left;
-            Object rightCompare = right;
+    /**
+     * Compares the sort keys of two records.
+     * @param left The sort keys of the left record.
+     * @param right The sort keys of the right record.
+     * @param orders The sort order of each key.
+     * @return A negative number, zero, or a positive number if left sorts before, with, or after right.
+     */
+    static int compareSortKeys(Object[] left, Object[] right, Sorting.SortOrder[] orders) {
+        for (int idx = 0; idx < orders.length; idx++) {
+            int comparison = orders[idx] == Sorting.SortOrder.asc
+                    ? NULL_SAFE_COMPARE.compare(left[idx], right[idx])
+                    : NULL_SAFE_COMPARE.compare(right[idx], left[idx]);
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return 0;
+    }
+
+    private Object[] getSortKeys(Object entity, List<Path> paths, RequestScope requestScope) {
+        Object[] keys = new Object[paths.size()];
+        for (int idx = 0; idx < keys.length; idx++) {
+            Object value = entity;
 
             // Drill down into path to find value for comparison
-            for (Path.PathElement pathElement : path.getPathElements()) {
-                leftCompare = (leftCompare == null ? null
-                        : PersistentResource.getValue(leftCompare, pathElement.getFieldName(), requestScope));
-                rightCompare = (rightCompare == null ? null
-                        : PersistentResource.getValue(rightCompare, pathElement.getFieldName(), requestScope));
+            for (Path.PathElement pathElement : paths.get(idx).getPathElements()) {
+                value = (value == null ? null
+                        : PersistentResource.getValue(value, pathElement.getFieldName(), requestScope));
             }
+            keys[idx] = value;
+        }
+        return keys;
+    }
 
-            if (order == Sorting.SortOrder.asc) {
-                return NULL_SAFE_COMPARE.compare(leftCompare, rightCompare);
-            }
-            return NULL_SAFE_COMPARE.compare(rightCompare, leftCompare);
-        };
+    /**
+     * What the wrapped store is asked to filter, sort and paginate - and what is left to do in memory.
+     */
+    @AllArgsConstructor
+    @Getter
+    private static class FetchPlan {
+        private final Optional<FilterExpression> dataStoreFilter;
+        private final boolean filterInMemory;
+        private final Optional<Sorting> dataStoreSorting;
+        private final boolean sortingInMemory;
+        private final Optional<Pagination> dataStorePagination;
+    }
+
+    /**
+     * A loaded record along with its extracted sort keys and load order.
+     */
+    @AllArgsConstructor
+    @Getter
+    private static class SortableRecord {
+        private final Object entity;
+        private final Object[] keys;
+        private final long position;
     }
 
     /**
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.inmemory;
+
+import com.yahoo.elide.core.datastore.DataStoreTransaction;
+import com.yahoo.elide.core.type.ClassType;
+import com.yahoo.elide.core.type.Type;
+import com.yahoo.elide.core.utils.ClassScanner;
+import com.yahoo.elide.core.utils.ObjectCloner;
+import com.yahoo.elide.core.utils.ObjectCloners;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-memory only database with secondary indexes.
+ * <p>
+ * Read transactions look up filters on indexed attributes and load only the candidate objects.  Indexes are
+ * kept up to date on commit and rebuilt for the tables restored on rollback.
+ */
+public class IndexedHashMapDataStore extends HashMapDataStore {
+    protected final HashMapIndexes indexes = new HashMapIndexes();
+
+    public IndexedHashMapDataStore(ClassScanner scanner, Package beanPackage) {
+        this(scanner, beanPackage, ObjectCloners::clone);
+    }
+
+    public IndexedHashMapDataStore(ClassScanner scanner, Package beanPackage, ObjectCloner objectCloner) {
+        this(scanner, Collections.singleton(beanPackage), objectCloner);
+    }
+
+    public IndexedHashMapDataStore(ClassScanner scanner, Set<Package> beanPackages) {
+        this(scanner, beanPackages, ObjectCloners::clone);
+    }
+
+    public IndexedHashMapDataStore(ClassScanner scanner, Set<Package> beanPackages, ObjectCloner objectCloner) {
+        super(scanner, beanPackages, objectCloner);
+    }
+
+    public IndexedHashMapDataStore(Collection<Class<?>> beanClasses) {
+        this(beanClasses, ObjectCloners::clone);
+    }
+
+    public IndexedHashMapDataStore(Collection<Class<?>> beanClasses, ObjectCloner objectCloner) {
+        super(beanClasses, objectCloner);
+    }
+
+    @Override
+    public DataStoreTransaction beginTransaction() {
+        return new HashMapStoreTransaction(this.readWriteLock, this.dataStore, this.dictionary,
+                this.getTypeIds(), this.objectCloner, this.indexes, false);
+    }
+
+    @Override
+    public DataStoreTransaction beginReadTransaction() {
+        return new HashMapStoreTransaction(this.readWriteLock, this.dataStore, this.dictionary,
+                this.getTypeIds(), this.objectCloner, this.indexes, true);
+    }
+
+    /**
+     * Creates a secondary index over an attribute of an entity class.  Read transactions use the index to
+     * narrow the objects they load for filters on that attribute.
+     * @param entityClass entity class
+     * @param fieldName attribute to index
+     * @param kind HASH for equality filters or SORTED for range and prefix filters as well
+     */
+    public void createIndex(Type<?> entityClass, String fieldName, HashMapIndex.Kind kind) {
+        Map<String, Object> data = dataStore.get(entityClass);
+        if (data == null) {
+            throw new IllegalArgumentException("Unknown entity class " + entityClass);
+        }
+        readWriteLock.writeLock().lock();
+        try {
+            indexes.create(entityClass, fieldName, kind, data, dictionary);
+        } finally {
+            readWriteLock.writeLock().unlock();
+        }
+    }
+
+    public void createIndex(Class<?> entityClass, String fieldName, HashMapIndex.Kind kind) {
+        createIndex(ClassType.of(entityClass), fieldName, kind);
+    }
+
+    @Override
+    public void cleanseTestData() {
+        super.cleanseTestData();
+        indexes.clear();
+    }
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.inmemory;
+
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.request.Sorting;
+import com.yahoo.elide.core.security.obfuscation.IdObfuscator;
+import com.yahoo.elide.core.type.ClassType;
+import com.yahoo.elide.core.type.Type;
+import com.yahoo.elide.core.utils.coerce.CoerceUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Cursors of records paginated in memory.
+ * <p>
+ * A cursor encodes the keyset of a record: the values of its sort keys followed by its id.  When the records
+ * were sorted in memory, a cursor is located with a binary search over the sort keys and only the records that
+ * share the sort keys of the cursor have their id read.  Unsorted records - and cursors whose sort keys do not
+ * survive the round trip through their string form - are scanned by id.
+ */
+class KeysetCursors {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<LinkedHashMap<String, String>> KEYSET_TYPE = new TypeReference<>() {
+    };
+
+    private final List<Object> records;
+    private final List<Object[]> keys;
+    private final List<Path> paths;
+    private final Sorting.SortOrder[] orders;
+    private final Type<?> type;
+    private final RequestScope scope;
+
+    /**
+     * Cursors of unsorted records.
+     * @param type The type of the records.
+     * @param records The records.
+     * @param scope The request context.
+     */
+    KeysetCursors(Type<?> type, List<Object> records, RequestScope scope) {
+        this(type, records, null, Collections.emptyList(), new Sorting.SortOrder[0], scope);
+    }
+
+    /**
+     * Cursors of records sorted in memory.
+     * @param type The type of the records.
+     * @param records The sorted records.
+     * @param keys The sort keys of each record.
+     * @param paths The paths the records are sorted by.
+     * @param orders The sort order of each path.
+     * @param scope The request context.
+     */
+    KeysetCursors(Type<?> type, List<Object> records, List<Object[]> keys, List<Path> paths,
+                  Sorting.SortOrder[] orders, RequestScope scope) {
+        this.records = records;
+        this.keys = keys;
+        this.paths = paths;
+        this.orders = orders;
+        this.type = type;
+        this.scope = scope;
+    }
+
+    /**
+     * Encodes the cursor of a record.
+     * @param index The index of the record.
+     * @return The cursor.
+     */
+    String getCursor(int index) {
+        Object entity = records.get(index);
+        Map<String, String> keyset = new LinkedHashMap<>();
+        for (int idx = 0; idx < paths.size(); idx++) {
+            keyset.put(paths.get(idx).getFieldPath(), encodeKey(paths.get(idx), keys.get(index)[idx]));
+        }
+        keyset.put(getIdKey(), scope.getDictionary().getId(entity));
+
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(OBJECT_MAPPER.writeValueAsBytes(keyset));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Locates the record of a cursor.
+     * @param cursor The cursor.
+     * @return The index of the record or null if the cursor does not match any record.
+     */
+    Integer indexOf(String cursor) {
+        Map<String, String> keyset = decode(cursor);
+        if (keyset == null || !keyset.containsKey(getIdKey())) {
+            return null;
+        }
+        String id = keyset.get(getIdKey());
+
+        if (keys != null) {
+            Object[] target = decodeKeys(keyset);
+            Integer index = (target == null) ? null : seek(target, id);
+            if (index != null) {
+                return index;
+            }
+        }
+
+        for (int idx = 0; idx < records.size(); idx++) {
+            if (hasId(idx, id)) {
+                return idx;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Looks for the record among the records that share the given sort keys.
+     */
+    private Integer seek(Object[] target, String id) {
+        try {
+            for (int idx = lowerBound(target); idx < records.size()
+                    && InMemoryStoreTransaction.compareSortKeys(keys.get(idx), target, orders) == 0; idx++) {
+                if (hasId(idx, id)) {
+                    return idx;
+                }
+            }
+        } catch (ClassCastException e) {
+            //The cursor does not hold sort keys of the expected types.
+        }
+        return null;
+    }
+
+    private boolean hasId(int index, String id) {
+        return Objects.equals(scope.getDictionary().getId(records.get(index)), id);
+    }
+
+    /**
+     * Finds the first record that does not sort before the given sort keys.
+     */
+    private int lowerBound(Object[] target) {
+        int low = 0;
+        int high = records.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (InMemoryStoreTransaction.compareSortKeys(keys.get(mid), target, orders) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private String getIdFieldName() {
+        return type == null ? null : scope.getDictionary().getIdFieldName(type);
+    }
+
+    private String getIdKey() {
+        String idFieldName = getIdFieldName();
+        return idFieldName == null ? EntityDictionary.REGULAR_ID_NAME : idFieldName;
+    }
+
+    private boolean isObfuscatedId(Path path) {
+        return scope.getDictionary().getIdObfuscator() != null
+                && path.getPathElements().size() == 1
+                && Objects.equals(path.getFieldPath(), getIdFieldName());
+    }
+
+    private String encodeKey(Path path, Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (isObfuscatedId(path)) {
+            return scope.getDictionary().getIdObfuscator().obfuscate(value);
+        }
+        if (value instanceof Date) {
+            //Date serdes may drop precision - so dates are encoded as epoch milliseconds.
+            return String.valueOf(((Date) value).getTime());
+        }
+        return CoerceUtil.coerce(value, String.class);
+    }
+
+    private Object[] decodeKeys(Map<String, String> keyset) {
+        Object[] target = new Object[paths.size()];
+        try {
+            for (int idx = 0; idx < target.length; idx++) {
+                Path path = paths.get(idx);
+                if (!keyset.containsKey(path.getFieldPath())) {
+                    return null;
+                }
+                String value = keyset.get(path.getFieldPath());
+                Type<?> fieldType = path.lastElement().get().getFieldType();
+                if (value == null) {
+                    target[idx] = null;
+                } else if (isObfuscatedId(path)) {
+                    IdObfuscator idObfuscator = scope.getDictionary().getIdObfuscator();
+                    target[idx] = idObfuscator.deobfuscate(value, fieldType);
+                } else if (isDate(fieldType)) {
+                    target[idx] = ((ClassType<?>) fieldType).getCls().getConstructor(long.class)
+                            .newInstance(Long.parseLong(value));
+                } else {
+                    target[idx] = CoerceUtil.coerce(value, fieldType);
+                }
+            }
+        } catch (RuntimeException | ReflectiveOperationException e) {
+            return null;
+        }
+        return target;
+    }
+
+    private static boolean isDate(Type<?> fieldType) {
+        return fieldType instanceof ClassType && Date.class.isAssignableFrom(((ClassType<?>) fieldType).getCls());
+    }
+
+    private static Map<String, String> decode(String cursor) {
+        if (StringUtils.isEmpty(cursor)) {
+            return null;
+        }
+        try {
+            return OBJECT_MAPPER.readValue(Base64.getUrlDecoder().decode(cursor), KEYSET_TYPE);
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.inmemory;
+
+import com.yahoo.elide.core.datastore.DataStoreTransaction;
+import com.yahoo.elide.core.type.Type;
+import com.yahoo.elide.core.utils.ClassScanner;
+import com.yahoo.elide.core.utils.ObjectCloner;
+import com.yahoo.elide.core.utils.ObjectCloners;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory only database that keeps its contents as immutable versions.
+ * <p>
+ * Read transactions work off the version that was current when they began.  They take no lock and return
+ * the stored objects without cloning them, so readers never wait for writers and must not modify what they
+ * load.  Write transactions are serialized with each other.  They work on clones of the objects they load
+ * and publish a new version when they commit by copying only the tables they changed.
+ * <p>
+ * Relationships are resolved by id against the version of the transaction, so a reader never observes a
+ * related object from a newer version.  In-memory filtering and sorting on relationship paths read the
+ * references held by the objects themselves, which may point to an older version of a related object.
+ */
+public class MultiVersionHashMapDataStore extends HashMapDataStore {
+    private final AtomicReference<Map<Type<?>, Map<String, Object>>> version = new AtomicReference<>();
+    private final Lock writeLock = new ReentrantLock();
+
+    public MultiVersionHashMapDataStore(ClassScanner scanner, Package beanPackage) {
+        this(scanner, beanPackage, ObjectCloners::clone);
+    }
+
+    public MultiVersionHashMapDataStore(ClassScanner scanner, Package beanPackage, ObjectCloner objectCloner) {
+        this(scanner, Collections.singleton(beanPackage), objectCloner);
+    }
+
+    public MultiVersionHashMapDataStore(ClassScanner scanner, Set<Package> beanPackages) {
+        this(scanner, beanPackages, ObjectCloners::clone);
+    }
+
+    public MultiVersionHashMapDataStore(ClassScanner scanner, Set<Package> beanPackages,
+            ObjectCloner objectCloner) {
+        super(scanner, beanPackages, objectCloner);
+        version.set(emptyVersion());
+    }
+
+    public MultiVersionHashMapDataStore(Collection<Class<?>> beanClasses) {
+        this(beanClasses, ObjectCloners::clone);
+    }
+
+    public MultiVersionHashMapDataStore(Collection<Class<?>> beanClasses, ObjectCloner objectCloner) {
+        super(beanClasses, objectCloner);
+        version.set(emptyVersion());
+    }
+
+    @Override
+    public DataStoreTransaction beginTransaction() {
+        return new MultiVersionHashMapStoreTransaction(this, writeLock, false);
+    }
+
+    @Override
+    public DataStoreTransaction beginReadTransaction() {
+        return new MultiVersionHashMapStoreTransaction(this, null, true);
+    }
+
+    /**
+     * Returns the current contents of an entity class.
+     * @param cls entity class
+     * @return An immutable map of ids to objects
+     */
+    @Override
+    public Map<String, Object> get(Type<?> cls) {
+        return version.get().get(cls);
+    }
+
+    @Override
+    public void cleanseTestData() {
+        writeLock.lock();
+        try {
+            version.set(emptyVersion());
+            getTypeIds().clear();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the current version.
+     * @return An immutable map of entity classes to their contents
+     */
+    Map<Type<?>, Map<String, Object>> getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Publishes a new version.  Must only be called while holding the write lock.
+     * @param next An immutable map of entity classes to their contents
+     */
+    void publish(Map<Type<?>, Map<String, Object>> next) {
+        version.set(next);
+    }
+
+    private Map<Type<?>, Map<String, Object>> emptyVersion() {
+        Map<Type<?>, Map<String, Object>> empty = new HashMap<>();
+        for (Type<?> type : dataStore.keySet()) {
+            empty.put(type, Collections.emptyMap());
+        }
+        return Collections.unmodifiableMap(empty);
+    }
+}
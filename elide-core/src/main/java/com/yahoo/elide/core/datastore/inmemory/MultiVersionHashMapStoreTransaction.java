@@ -0,0 +1,331 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.datastore.inmemory;
+
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.datastore.DataStoreIterable;
+import com.yahoo.elide.core.datastore.DataStoreIterableBuilder;
+import com.yahoo.elide.core.datastore.DataStoreTransaction;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.exceptions.TransactionException;
+import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.request.Relationship;
+import com.yahoo.elide.core.type.Type;
+import com.yahoo.elide.core.utils.ObjectCloner;
+import com.yahoo.elide.core.utils.coerce.converters.Serde;
+
+import jakarta.persistence.GeneratedValue;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * MultiVersionHashMapDataStore transaction handler.
+ * <p>
+ * A read transaction returns the objects of the version it began with.  A write transaction holds the write
+ * lock of the store until it is closed, loads clones of the stored objects and publishes a new version on commit.
+ */
+public class MultiVersionHashMapStoreTransaction implements DataStoreTransaction {
+    private final MultiVersionHashMapDataStore store;
+    private final EntityDictionary dictionary;
+    private final Map<Type<?>, AtomicLong> typeIds;
+    private final ObjectCloner objectCloner;
+    private final List<Operation> operations = new ArrayList<>();
+    private final boolean readOnly;
+    private Lock lock;
+    private Map<Type<?>, Map<String, Object>> version;
+
+    /**
+     * The clones loaded or created by a write transaction by concrete type and id.  Every load of the same
+     * object returns the same clone so that relationship updates see a consistent object graph.
+     */
+    private final Map<Type<?>, Map<String, Object>> clones = new HashMap<>();
+
+    public MultiVersionHashMapStoreTransaction(MultiVersionHashMapDataStore store, Lock writeLock,
+            boolean readOnly) {
+        this.store = store;
+        this.dictionary = store.getDictionary();
+        this.typeIds = store.getTypeIds();
+        this.objectCloner = store.objectCloner;
+        this.readOnly = readOnly;
+
+        if (!readOnly && writeLock != null) {
+            writeLock.lock();
+            this.lock = writeLock;
+        }
+
+        //Writers must read the version after taking the lock so that no other commit can be lost.
+        this.version = store.getVersion();
+    }
+
+    @Override
+    public void flush(RequestScope requestScope) {
+        // Do nothing
+    }
+
+    @Override
+    public void save(Object object, RequestScope requestScope) {
+        if (object == null) {
+            return;
+        }
+        String id = dictionary.getId(object);
+        if (id == null || "null".equals(id) || "0".equals(id)) {
+            createObject(object, requestScope);
+        }
+        id = dictionary.getId(object);
+        operations.add(new Operation(id, object, EntityDictionary.getType(object), Operation.OpType.UPDATE));
+        replicateOperationToParent(object, Operation.OpType.UPDATE);
+    }
+
+    @Override
+    public void delete(Object object, RequestScope requestScope) {
+        if (object == null) {
+            return;
+        }
+
+        String id = dictionary.getId(object);
+        operations.add(new Operation(id, object, EntityDictionary.getType(object), Operation.OpType.DELETE));
+        replicateOperationToParent(object, Operation.OpType.DELETE);
+    }
+
+    @Override
+    public void commit(RequestScope scope) {
+        //Copy on commit - only the tables that changed are copied.
+        Map<Type<?>, Map<String, Object>> changed = new HashMap<>();
+        operations.stream().filter(op -> op.getInstance() != null).forEach(op -> {
+            Object instance = op.getInstance();
+            String id = op.getId();
+            Map<String, Object> data = changed.computeIfAbsent(op.getType(),
+                    type -> new LinkedHashMap<>(version.getOrDefault(type, Collections.emptyMap())));
+            if (op.getOpType() == Operation.OpType.DELETE) {
+                data.remove(id);
+            } else {
+                if (op.getOpType() == Operation.OpType.CREATE && data.get(id) != null) {
+                    throw new TransactionException(new IllegalStateException("Duplicate key"));
+                }
+                data.put(id, instance);
+            }
+        });
+
+        if (!changed.isEmpty()) {
+            Map<Type<?>, Map<String, Object>> next = new HashMap<>(version);
+            changed.forEach((type, data) -> next.put(type, Collections.unmodifiableMap(data)));
+            version = Collections.unmodifiableMap(next);
+            store.publish(version);
+        }
+        operations.clear();
+    }
+
+    @Override
+    public void createObject(Object entity, RequestScope scope) {
+        Type entityClass = EntityDictionary.getType(entity);
+
+        String idFieldName = dictionary.getIdFieldName(entityClass);
+        String id;
+
+        //GeneratedValue means the DB needs to assign the ID.
+        if (dictionary.getAttributeOrRelationAnnotation(entityClass, GeneratedValue.class, idFieldName) != null) {
+            // TODO: Id's are not necessarily numeric.
+            AtomicLong nextId = getId(entityClass);
+            id = String.valueOf(nextId.getAndIncrement());
+            dictionary.setValue(entity, idFieldName, id);
+        } else {
+            id = dictionary.getId(entity);
+        }
+
+        String entityIdFieldName = dictionary.getEntityIdFieldName(entityClass);
+        if (entityIdFieldName != null) {
+            id = dictionary.getId(entity);
+        }
+
+        if (id != null) {
+            clones.computeIfAbsent(entityClass, key -> new HashMap<>()).put(id, entity);
+        }
+
+        replicateOperationToParent(entity, Operation.OpType.CREATE);
+        operations.add(new Operation(id, entity, entityClass, Operation.OpType.CREATE));
+    }
+
+    @Override
+    public DataStoreIterable<Object> getToManyRelation(DataStoreTransaction relationTx,
+                                                       Object entity,
+                                                       Relationship relationship,
+                                                       RequestScope scope) {
+        Iterable<?> related = (Iterable<?>) dictionary.getValue(entity, relationship.getName(), scope);
+        if (related == null) {
+            return new DataStoreIterableBuilder<>().allInMemory().build();
+        }
+
+        List<Object> resolved = new ArrayList<>();
+        related.forEach(object -> resolved.add(resolve(object)));
+
+        //A writer replaces the members of its own copy of the collection so that updates apply to the clones.
+        if (!readOnly && related instanceof Collection) {
+            Collection<Object> collection = (Collection<Object>) related;
+            collection.clear();
+            collection.addAll(resolved);
+            return new DataStoreIterableBuilder<>((Iterable<Object>) collection).allInMemory().build();
+        }
+        return new DataStoreIterableBuilder<>((Iterable<Object>) resolved).allInMemory().build();
+    }
+
+    @Override
+    public <T, R> R getToOneRelation(DataStoreTransaction relationTx, T entity, Relationship relationship,
+                                     RequestScope scope) {
+        Object related = dictionary.getValue(entity, relationship.getName(), scope);
+        Object resolved = resolve(related);
+        if (!readOnly && resolved != related) {
+            dictionary.setValue(entity, relationship.getName(), resolved);
+        }
+        return (R) resolved;
+    }
+
+    @Override
+    public DataStoreIterable<Object> loadObjects(EntityProjection projection, RequestScope scope) {
+        Map<String, Object> data = version.getOrDefault(projection.getType(), Collections.emptyMap());
+        if (readOnly) {
+            return new DataStoreIterableBuilder<>(data.values()).allInMemory().build();
+        }
+
+        List<Object> loaded = new ArrayList<>(data.size());
+        data.forEach((id, object) -> loaded.add(getClone(object, id)));
+        return new DataStoreIterableBuilder<>((Iterable<Object>) loaded).allInMemory().build();
+    }
+
+    @Override
+    public Object loadObject(EntityProjection projection, Serializable id, RequestScope scope) {
+        EntityDictionary dictionary = scope.getDictionary();
+
+        Map<String, Object> data = version.get(projection.getType());
+        if (data == null) {
+            return null;
+        }
+        Serde serde = dictionary.getSerdeLookup().apply(id.getClass());
+
+        String idString = (serde == null) ? id.toString() : (String) serde.serialize(id);
+        Object object = data.get(idString);
+        if (readOnly || object == null) {
+            return object;
+        }
+        return getClone(object, idString);
+    }
+
+    @Override
+    public void close() throws IOException {
+        operations.clear();
+        clones.clear();
+        if (lock != null) {
+            Lock held = lock;
+            lock = null;
+            held.unlock();
+        }
+    }
+
+    @Override
+    public void cancel(RequestScope scope) {
+        //nothing to cancel in HashMap store transaction
+    }
+
+    /**
+     * Resolves a related object to the object with the same id in the version of this transaction.  Writers
+     * resolve to their clone of that object.
+     */
+    private Object resolve(Object related) {
+        if (related == null) {
+            return null;
+        }
+
+        Type<?> type = EntityDictionary.getType(related);
+        String id = dictionary.getId(related);
+
+        Map<String, Object> loaded = clones.get(type);
+        if (loaded != null && loaded.containsKey(id)) {
+            return loaded.get(id);
+        }
+
+        Map<String, Object> data = version.get(type);
+        Object current = data == null ? null : data.get(id);
+        if (current == null) {
+            return related;
+        }
+        return readOnly ? current : getClone(current, id);
+    }
+
+    private Object getClone(Object object, String id) {
+        Type<?> type = EntityDictionary.getType(object);
+        return clones.computeIfAbsent(type, key -> new HashMap<>())
+                .computeIfAbsent(id, key -> cloneObject(object, type));
+    }
+
+    /**
+     * Clones an object along with its to-many collections so that modifying the clone leaves the stored
+     * version untouched.
+     */
+    private Object cloneObject(Object object, Type<?> type) {
+        Object clone = objectCloner.clone(object, type);
+        for (String relationship : dictionary.getRelationships(type)) {
+            if (dictionary.getRelationshipType(type, relationship).isToMany()) {
+                Object members = dictionary.getValue(clone, relationship, null);
+                if (members instanceof Collection) {
+                    dictionary.setValue(clone, relationship, copyCollection((Collection<?>) members));
+                }
+            }
+        }
+        return clone;
+    }
+
+    private static Collection<Object> copyCollection(Collection<?> members) {
+        if (members instanceof SortedSet) {
+            return new TreeSet<>((SortedSet<Object>) members);
+        }
+        if (members instanceof Set) {
+            return new LinkedHashSet<>(members);
+        }
+        return new ArrayList<>(members);
+    }
+
+    private void replicateOperationToParent(Object entity, Operation.OpType opType) {
+        dictionary.getSuperClassEntities(EntityDictionary.getType(entity)).stream()
+            .forEach(superClass -> {
+                String id = dictionary.getId(entity);
+                operations.add(new Operation(id, entity, superClass, opType));
+            });
+    }
+
+    /**
+     * Get shared ID from Parent for inherited classes.
+     * If not inherited, generate new ID.
+     * @param entityClass Class Type of Entity
+     * @return AtomicLong instance for Id generation.
+     */
+    private AtomicLong getId(Type<?> entityClass) {
+        return dictionary.getSuperClassEntities(entityClass).stream()
+                .findFirst()
+                .map(this::getId)
+                .orElseGet(() -> typeIds.computeIfAbsent(entityClass,
+                    (key) -> {
+                        long maxId = version.getOrDefault(key, Collections.emptyMap()).keySet().stream()
+                                .mapToLong(Long::parseLong)
+                                .max()
+                                .orElse(0);
+                        return new AtomicLong(maxId + 1);
+                    }
+                ));
+    }
+}
@@ -18,6 +18,8 @@ import lombok.Data;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -51,6 +53,18 @@ public abstract class TransactionWrapper implements DataStoreTransaction {
         return tx.getToOneRelation(relationTx, entity, relationship, scope);
     }
 
+    @Override
+    public <T, R> Map<T, DataStoreIterable<R>> getToManyRelations(DataStoreTransaction relationTx, List<T> entities,
+                                                                  Relationship relationship, RequestScope scope) {
+        return tx.getToManyRelations(relationTx, entities, relationship, scope);
+    }
+
+    @Override
+    public <T, R> Map<T, R> getToOneRelations(DataStoreTransaction relationTx, List<T> entities,
+                                              Relationship relationship, RequestScope scope) {
+        return tx.getToOneRelations(relationTx, entities, relationship, scope);
+    }
+
     @Override
     public <T, R> void updateToManyRelation(DataStoreTransaction relationTx, T entity, String relationName,
                                      Set<R> newRelationships, Set<R> deletedRelationships,
@@ -118,6 +118,7 @@ public class EntityBinding {
     public final ConcurrentHashMap<String, String> relationshipToInverse = new ConcurrentHashMap<>();
     public final ConcurrentHashMap<String, CascadeType[]> relationshipToCascadeTypes = new ConcurrentHashMap<>();
     public final ConcurrentHashMap<String, AccessibleObject> fieldsToValues = new ConcurrentHashMap<>();
+    public final ConcurrentHashMap<String, FieldAccessor> fieldsToAccessors = new ConcurrentHashMap<>();
     public final MultiValuedMap<Triple<String, Operation, TransactionPhase>, LifeCycleHook> fieldTriggers =
             new ArrayListValuedHashMap<>();
     public final MultiValuedMap<Pair<Operation, TransactionPhase>, LifeCycleHook> classTriggers =
@@ -353,7 +354,7 @@ public class EntityBinding {
         idType = fieldType;
         idFieldName = fieldName;
 
-        fieldsToValues.put(fieldName, fieldOrMethod);
+        bindValue(fieldName, fieldOrMethod, fieldType);
 
         if (idField != null && !fieldOrMethod.equals(idField)) {
             throw new DuplicateMappingException(type + " " + cls.getName() + ":" + fieldName);
@@ -392,7 +393,7 @@ public class EntityBinding {
         entityIdType = fieldType;
         entityIdFieldName = fieldName;
 
-        fieldsToValues.put(fieldName, fieldOrMethod);
+        bindValue(fieldName, fieldOrMethod, fieldType);
 
         if (entityIdField != null && !fieldOrMethod.equals(entityIdField)) {
             throw new DuplicateMappingException(type + " " + cls.getName() + ":" + fieldName);
@@ -494,7 +495,7 @@ public class EntityBinding {
         if (!isHidden) {
             relationshipsDeque.push(fieldName);
         }
-        fieldsToValues.put(fieldName, fieldOrMethod);
+        bindValue(fieldName, fieldOrMethod, fieldType);
         fieldsToTypes.put(fieldName, fieldType);
     }
 
@@ -510,10 +511,26 @@ public class EntityBinding {
         if (!isHidden) {
             attributesDeque.push(fieldName);
         }
-        fieldsToValues.put(fieldName, fieldOrMethod);
+        bindValue(fieldName, fieldOrMethod, fieldType);
         fieldsToTypes.put(fieldName, fieldType);
     }
 
+    /**
+     * Bind the field or method that holds the value of a field and compile its accessor.
+     *
+     * @param fieldName Field name
+     * @param fieldOrMethod Field or method to bind
+     * @param fieldType Field type
+     */
+    private void bindValue(String fieldName, AccessibleObject fieldOrMethod, Type<?> fieldType) {
+        boolean requestScopeable = fieldOrMethod instanceof Method
+                && requestScopeableMethods.getOrDefault(fieldOrMethod, false);
+
+        fieldsToValues.put(fieldName, fieldOrMethod);
+        fieldsToAccessors.put(fieldName,
+                new FieldAccessor(entityClass, fieldOrMethod, fieldName, fieldType, requestScopeable));
+    }
+
     /**
      * Returns name of field whether public member or method.
      *
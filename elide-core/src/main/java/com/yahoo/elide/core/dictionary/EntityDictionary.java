@@ -43,6 +43,7 @@ import com.yahoo.elide.core.security.checks.prefab.Collections.AppendOnly;
 import com.yahoo.elide.core.security.checks.prefab.Collections.RemoveOnly;
 import com.yahoo.elide.core.security.checks.prefab.Role;
 import com.yahoo.elide.core.security.obfuscation.IdObfuscator;
+import com.yahoo.elide.core.security.permissions.PermissionExpressionTemplate;
 import com.yahoo.elide.core.type.AccessibleObject;
 import com.yahoo.elide.core.type.ClassType;
 import com.yahoo.elide.core.type.Dynamic;
@@ -128,6 +129,8 @@ public class EntityDictionary {
     protected final BiMap<String, Class<? extends Check>> checkNames;
     protected final Map<Class<? extends Check>, Check> checkInstances;
     protected final Map<String, UserCheck> roleChecks;
+    protected final ConcurrentHashMap<ParseTree, PermissionExpressionTemplate> permissionTemplates =
+            new ConcurrentHashMap<>();
 
     @Getter
     protected final Set<String> apiVersions;
@@ -377,6 +380,18 @@ public class EntityDictionary {
         return binding.entityPermissions.getFieldChecksForPermission(field, annotationClass);
     }
 
+    /**
+     * Gets the compiled form of a permission definition.  Each definition is compiled the first time it is used.
+     *
+     * @param permissions the permission definition returned by {@link #getPermissionsForClass} or
+     *                    {@link #getPermissionsForField}
+     * @return the compiled permission expression template
+     */
+    public PermissionExpressionTemplate getPermissionTemplate(ParseTree permissions) {
+        return permissionTemplates.computeIfAbsent(permissions,
+                (unused) -> PermissionExpressionTemplate.compile(permissions, this));
+    }
+
     /**
      * Returns the check class mapped to a particular identifier.
      *
@@ -1748,24 +1763,40 @@ public class EntityDictionary {
      * @return the value
      */
     public Object getValue(Object target, String fieldName, RequestScope scope) {
-        AccessibleObject accessor = getAccessibleObject(target, fieldName);
+        FieldAccessor accessor = getFieldAccessor(getType(target), fieldName);
+        if (accessor == null) {
+            throw new InvalidAttributeException(fieldName, getJsonAliasFor(getType(target)));
+        }
+        return getValue(target, accessor, fieldName, scope);
+    }
+
+    /**
+     * Returns the accessor of a bound field.  Callers that read the same field of many objects can resolve the
+     * accessor once and read the field with {@link #getValue(Object, FieldAccessor, String, RequestScope)}.
+     * @param entityClass the entity class
+     * @param fieldName the field name
+     * @return the accessor or null if the field is not bound
+     */
+    public FieldAccessor getFieldAccessor(Type<?> entityClass, String fieldName) {
+        return getEntityBinding(entityClass).fieldsToAccessors.get(fieldName);
+    }
+
+    /**
+     * Reads a field through an accessor returned by {@link #getFieldAccessor(Type, String)}.
+     * @param target the object to get
+     * @param accessor the accessor of the field for the class of the target
+     * @param fieldName the field name
+     * @param scope the request scope
+     * @return the value
+     */
+    public Object getValue(Object target, FieldAccessor accessor, String fieldName, RequestScope scope) {
         try {
-            if (accessor instanceof Method) {
-                // Pass RequestScope into @Computed fields if requested
-                if (isMethodRequestScopeable(target, (Method) accessor)) {
-                    return ((Method) accessor).invoke(target, scope);
-                }
-                return ((Method) accessor).invoke(target);
-            }
-            if (accessor instanceof Field) {
-                return ((Field) accessor).get(target);
-            }
+            return accessor.get(target, scope);
         } catch (IllegalAccessException e) {
             throw new InvalidAttributeException(fieldName, getJsonAliasFor(getType(target)), e);
         } catch (InvocationTargetException e) {
             throw handleInvocationTargetException(e);
         }
-        throw new InvalidAttributeException(fieldName, getJsonAliasFor(getType(target)));
     }
 
     /**
@@ -1804,6 +1835,14 @@ public class EntityDictionary {
             Type<?> fieldClass = getType(targetClass, fieldName);
             String realName = getNameFromAlias(target, fieldName);
             fieldAlias = (realName != null) ? realName : fieldName;
+
+            //Use the setter compiled at bind time.  Setters only declared by a subclass are looked up below.
+            FieldAccessor accessor = getEntityBinding(targetClass).fieldsToAccessors.get(fieldAlias);
+            if (accessor != null && accessor.isWritable()) {
+                accessor.set(target, coerce(target, value, fieldAlias, accessor.getValueType()));
+                return;
+            }
+
             String setMethod = "set" + StringUtils.capitalize(fieldAlias);
             Method method = EntityDictionary.findMethod(targetClass, setMethod, fieldClass);
             method.invoke(target, coerce(target, value, fieldAlias, fieldClass));
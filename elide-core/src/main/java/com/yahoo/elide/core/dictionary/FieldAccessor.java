@@ -0,0 +1,211 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.dictionary;
+
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.type.AccessibleObject;
+import com.yahoo.elide.core.type.Field;
+import com.yahoo.elide.core.type.Method;
+import com.yahoo.elide.core.type.Type;
+import org.apache.commons.lang3.StringUtils;
+
+import lombok.Getter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.Optional;
+
+/**
+ * Reads and writes a bound field of an entity.  The getter and setter are resolved once at bind time into
+ * method handles so that reading or writing a value does not require any reflective lookup.
+ * <p>
+ * Fields that are not backed by a Java class (dynamic types) fall back to the reflective Elide type API.
+ */
+public class FieldAccessor {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SCOPED_GETTER_TYPE =
+            MethodType.methodType(Object.class, Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final AccessibleObject fieldOrMethod;
+    private final boolean requestScopeable;
+    private final MethodHandle getter;
+
+    private final Method setterMethod;
+    private final Field setterField;
+    private final MethodHandle setter;
+
+    /**
+     * The type a value must be coerced to before it is set.
+     */
+    @Getter
+    private final Type<?> valueType;
+
+    /**
+     * Constructor.
+     *
+     * @param entityClass The entity class the field is bound to
+     * @param fieldOrMethod The bound field or getter method
+     * @param fieldName The name of the field
+     * @param fieldType The type of the field
+     * @param requestScopeable Whether the getter takes the request scope as its only argument
+     */
+    public FieldAccessor(Type<?> entityClass, AccessibleObject fieldOrMethod, String fieldName,
+                         Type<?> fieldType, boolean requestScopeable) {
+        this.fieldOrMethod = fieldOrMethod;
+        this.requestScopeable = requestScopeable;
+        this.getter = unreflectGetter(fieldOrMethod, requestScopeable);
+
+        Method method = findSetter(entityClass, fieldName, fieldType);
+        if (method != null) {
+            setterMethod = method;
+            setterField = null;
+            valueType = fieldType;
+            setter = unreflectSetter(method);
+        } else if (fieldOrMethod instanceof Field) {
+            setterMethod = null;
+            setterField = (Field) fieldOrMethod;
+            valueType = setterField.getType();
+            setter = unreflectSetter(setterField);
+        } else {
+            setterMethod = null;
+            setterField = null;
+            valueType = fieldType;
+            setter = null;
+        }
+    }
+
+    /**
+     * Reads the field.
+     *
+     * @param target The entity to read
+     * @param scope The request scope passed to request scopeable computed attributes
+     * @return The field value
+     * @throws IllegalAccessException If the field cannot be accessed
+     * @throws InvocationTargetException If the getter throws an exception
+     */
+    public Object get(Object target, RequestScope scope) throws IllegalAccessException, InvocationTargetException {
+        if (getter != null) {
+            try {
+                return requestScopeable
+                        ? (Object) getter.invokeExact(target, (Object) scope)
+                        : (Object) getter.invokeExact(target);
+            } catch (Throwable e) {
+                if (fieldOrMethod instanceof Field && e instanceof RuntimeException) {
+                    throw (RuntimeException) e;
+                }
+                throw new InvocationTargetException(e);
+            }
+        }
+
+        if (fieldOrMethod instanceof Method) {
+            return requestScopeable
+                    ? ((Method) fieldOrMethod).invoke(target, scope)
+                    : ((Method) fieldOrMethod).invoke(target);
+        }
+        return ((Field) fieldOrMethod).get(target);
+    }
+
+    /**
+     * Whether the field can be written through a setter or the field itself.
+     *
+     * @return true if the field is writable
+     */
+    public boolean isWritable() {
+        return setterMethod != null || setterField != null;
+    }
+
+    /**
+     * Writes an already coerced value to the field.
+     *
+     * @param target The entity to write
+     * @param value The value coerced to {@link #getValueType()}
+     * @throws IllegalAccessException If the field cannot be accessed
+     * @throws InvocationTargetException If the setter throws an exception
+     */
+    public void set(Object target, Object value) throws IllegalAccessException, InvocationTargetException {
+        if (setter != null) {
+            try {
+                setter.invokeExact(target, value);
+            } catch (ClassCastException e) {
+                throw new IllegalArgumentException(e);
+            } catch (Throwable e) {
+                if (setterField != null && e instanceof RuntimeException) {
+                    throw (RuntimeException) e;
+                }
+                throw new InvocationTargetException(e);
+            }
+            return;
+        }
+
+        if (setterMethod != null) {
+            setterMethod.invoke(target, value);
+        } else {
+            setterField.set(target, value);
+        }
+    }
+
+    private static Method findSetter(Type<?> entityClass, String fieldName, Type<?> fieldType) {
+        if (entityClass == null || fieldName == null) {
+            return null;
+        }
+
+        String setMethod = "set" + StringUtils.capitalize(fieldName);
+        try {
+            return EntityDictionary.findMethod(entityClass, setMethod, fieldType);
+        } catch (NoSuchMethodException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle unreflectGetter(AccessibleObject fieldOrMethod, boolean requestScopeable) {
+        try {
+            if (fieldOrMethod instanceof Method) {
+                Optional<java.lang.reflect.Method> method = ((Method) fieldOrMethod).getJavaMethod();
+                if (method.isPresent()) {
+                    return MethodHandles.lookup().unreflect(method.get())
+                            .asType(requestScopeable ? SCOPED_GETTER_TYPE : GETTER_TYPE);
+                }
+            } else if (fieldOrMethod instanceof Field) {
+                Optional<java.lang.reflect.Field> field = ((Field) fieldOrMethod).getJavaField();
+                if (field.isPresent() && !Modifier.isStatic(field.get().getModifiers())) {
+                    return MethodHandles.lookup().unreflectGetter(field.get()).asType(GETTER_TYPE);
+                }
+            }
+        } catch (IllegalAccessException | RuntimeException e) {
+            //Fall back to reflection.
+        }
+        return null;
+    }
+
+    private static MethodHandle unreflectSetter(Method method) {
+        try {
+            Optional<java.lang.reflect.Method> javaMethod = method.getJavaMethod();
+            if (javaMethod.isPresent()) {
+                return MethodHandles.lookup().unreflect(javaMethod.get()).asType(SETTER_TYPE);
+            }
+        } catch (IllegalAccessException | RuntimeException e) {
+            //Fall back to reflection.
+        }
+        return null;
+    }
+
+    private static MethodHandle unreflectSetter(Field field) {
+        try {
+            Optional<java.lang.reflect.Field> javaField = field.getJavaField();
+            if (javaField.isPresent() && !Modifier.isStatic(javaField.get().getModifiers())
+                    && !Modifier.isFinal(javaField.get().getModifiers())) {
+                return MethodHandles.lookup().unreflectSetter(javaField.get()).asType(SETTER_TYPE);
+            }
+        } catch (IllegalAccessException | RuntimeException e) {
+            //Fall back to reflection.
+        }
+        return null;
+    }
+}
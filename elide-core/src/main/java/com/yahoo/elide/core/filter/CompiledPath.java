@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.filter;
+
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.dictionary.FieldAccessor;
+import com.yahoo.elide.core.type.Dynamic;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reads the value of a filter path (for example this.book.author) from entities.
+ * <p>
+ * The field accessor of each hop is resolved for the class of the first object read at that hop and reused while
+ * the following objects share that class, so reading a path does not look up the entity binding on every row.
+ */
+final class CompiledPath {
+    private final Hop[] hops;
+    private final RequestScope requestScope;
+    private final boolean nullable;
+
+    /**
+     * Constructor.
+     *
+     * @param fieldPath field value/path
+     * @param requestScope Request scope
+     * @param nullable keep null values read from collections
+     */
+    CompiledPath(Path fieldPath, RequestScope requestScope, boolean nullable) {
+        this.hops = fieldPath.getPathElements().stream()
+                .map(Path.PathElement::getFieldName)
+                .filter(fieldName -> !"this".equals(fieldName))
+                .map(Hop::new)
+                .toArray(Hop[]::new);
+        this.requestScope = requestScope;
+        this.nullable = nullable;
+    }
+
+    /**
+     * Return value of the path for given entity.
+     *
+     * @param entity Entity bean
+     * @return the value of the field
+     */
+    Object getValue(Object entity) {
+        Object val = entity;
+        for (Hop hop : hops) {
+            if (val == null) {
+                break;
+            }
+            if (val instanceof Collection<?> collection) {
+                val = collection.stream()
+                        .filter(Objects::nonNull)
+                        .map(hop::read)
+                        .filter(test -> Objects.nonNull(test) || nullable)
+                        .flatMap(result -> {
+                            if (result instanceof Collection<?> resultCollection) {
+                                return resultCollection.stream();
+                            }
+                            return Stream.of(result);
+                        })
+                        .collect(Collectors.toSet());
+            } else {
+                val = hop.read(val);
+            }
+        }
+        return val;
+    }
+
+    /**
+     * One field of the path along with the accessor resolved for the last class it was read from.
+     */
+    private final class Hop {
+        private final String fieldName;
+        private volatile Resolved resolved;
+
+        private Hop(String fieldName) {
+            this.fieldName = fieldName;
+        }
+
+        private Object read(Object target) {
+            EntityDictionary dictionary = requestScope.getDictionary();
+            if (target instanceof Dynamic) {
+                return dictionary.getValue(target, fieldName, requestScope);
+            }
+
+            Resolved current = resolved;
+            if (current == null || current.cls != target.getClass()) {
+                FieldAccessor accessor = dictionary.getFieldAccessor(EntityDictionary.getType(target), fieldName);
+                if (accessor == null) {
+                    //Raises the same error as an unresolved read.
+                    return dictionary.getValue(target, fieldName, requestScope);
+                }
+                current = new Resolved(target.getClass(), accessor);
+                resolved = current;
+            }
+            return dictionary.getValue(target, current.accessor, fieldName, requestScope);
+        }
+    }
+
+    private static final class Resolved {
+        private final Class<?> cls;
+        private final FieldAccessor accessor;
+
+        private Resolved(Class<?> cls, FieldAccessor accessor) {
+            this.cls = cls;
+            this.accessor = accessor;
+        }
+    }
+}
@@ -9,7 +9,6 @@ import static com.yahoo.elide.core.type.ClassType.COLLECTION_TYPE;
 import static java.util.Map.entry;
 
 import com.yahoo.elide.core.Path;
-import com.yahoo.elide.core.PersistentResource;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.exceptions.BadRequestException;
 import com.yahoo.elide.core.exceptions.InvalidOperatorNegationException;
@@ -21,15 +20,15 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.function.IntPredicate;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -54,14 +53,16 @@ public enum Operator {
     NOT("not", true) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return (T entity) -> !in(fieldPath, values, requestScope).test(entity);
+            Predicate<T> in = in(fieldPath, values, requestScope);
+            return in.negate();
         }
     },
 
     NOT_INSENSITIVE("noti", true) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return (T entity) -> !in(fieldPath, values, requestScope, FOLD_CASE).test(entity);
+            Predicate<T> in = in(fieldPath, values, requestScope, FOLD_CASE);
+            return in.negate();
         }
     },
 
@@ -158,7 +159,8 @@ public enum Operator {
     NOTNULL("notnull", false) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return (val) -> !isNull(fieldPath, requestScope).test(val);
+            Predicate<T> isNull = isNull(fieldPath, requestScope);
+            return isNull.negate();
         }
     },
 
@@ -215,7 +217,8 @@ public enum Operator {
     NOTEMPTY("notempty", false) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return (entity) -> !isEmpty(fieldPath, requestScope).test(entity);
+            Predicate<T> isEmpty = isEmpty(fieldPath, requestScope);
+            return isEmpty.negate();
         }
     },
 
@@ -229,7 +232,8 @@ public enum Operator {
     HASNOMEMBER("hasnomember", true) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return entity -> !hasMember(fieldPath, values, requestScope).test(entity);
+            Predicate<T> hasMember = hasMember(fieldPath, values, requestScope);
+            return hasMember.negate();
         }
     },
 
@@ -243,7 +247,8 @@ public enum Operator {
     NOTSUBSETOF("notsubsetof", true) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return entity -> !subsetOf(fieldPath, values, requestScope).test(entity);
+            Predicate<T> subsetOf = subsetOf(fieldPath, values, requestScope);
+            return subsetOf.negate();
         }
     },
 
@@ -257,20 +262,22 @@ public enum Operator {
     NOTSUPERSETOF("notsupersetof", true) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return entity -> !supersetOf(fieldPath, values, requestScope).test(entity);
+            Predicate<T> supersetOf = supersetOf(fieldPath, values, requestScope);
+            return supersetOf.negate();
         }
     },
 
     BETWEEN("between", true) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return entity -> between(fieldPath, values, requestScope).test(entity);
+            return between(fieldPath, values, requestScope);
         }
     },
     NOTBETWEEN("notbetween", true) {
         @Override
         public <T> Predicate<T> contextualize(Path fieldPath, List<Object> values, RequestScope requestScope) {
-            return entity -> !between(fieldPath, values, requestScope).test(entity);
+            Predicate<T> between = between(fieldPath, values, requestScope);
+            return between.negate();
         }
     };
 
@@ -329,14 +336,30 @@ public enum Operator {
     //
     // Predicate generation
     //
+    // The helpers below compile a predicate once per filter: the field path is resolved and the filter values are
+    // coerced when the predicate is built so that testing an entity only reads the path and compares values.
+    // Filter values that cannot be coerced are coerced again for every entity tested so that the error surfaces
+    // exactly as it does without compilation.
 
     //
     // In with strict equality
     private static <T> Predicate<T> in(Path fieldPath, List<Object> values, RequestScope requestScope) {
+        Type<?> valueClass = fieldPath.lastElement().get().getFieldType();
+        List<Object> coerced = coerceValues(values, valueClass, UnaryOperator.identity());
+        if (coerced == null) {
+            return evaluate(fieldPath, values, UnaryOperator.identity(), (a, b) -> a.equals(b), requestScope);
+        }
+
+        Set<Object> members = new HashSet<>(coerced);
+        CompiledPath path = new CompiledPath(fieldPath, requestScope, false);
+        boolean collectionValued = isCollectionValued(valueClass);
         return (T entity) -> {
-            BiPredicate<Object, Object> predicate = (a, b) -> a.equals(b);
+            Object leftHandSide = path.getValue(entity);
 
-            return evaluate(entity, fieldPath, values, predicate, requestScope);
+            if (leftHandSide instanceof Collection<?> collection && !collectionValued) {
+                return collection.stream().anyMatch(members::contains);
+            }
+            return leftHandSide != null && members.contains(leftHandSide);
         };
     }
 
@@ -344,142 +367,85 @@ public enum Operator {
     // String-like In with optional transformation
     private static <T> Predicate<T> in(Path fieldPath, List<Object> values,
             RequestScope requestScope, UnaryOperator<String> transform) {
-        return (T entity) -> {
-
-            BiPredicate<Object, Object> predicate = (a, b) -> {
-                if (!a.getClass().isAssignableFrom(String.class)) {
-                    throw new IllegalStateException("Cannot case insensitive compare non-string values");
-                }
-
-                String lhs = transform.apply((String) a);
-                String rhs = transform.apply(CoerceUtil.coerce(b, String.class));
+        BiPredicate<Object, Object> predicate = (a, b) -> {
+            if (!a.getClass().isAssignableFrom(String.class)) {
+                throw new IllegalStateException("Cannot case insensitive compare non-string values");
+            }
 
-                return lhs.equals(rhs);
-            };
+            String lhs = transform.apply((String) a);
 
-            return evaluate(entity, fieldPath, values, predicate, requestScope);
+            return lhs.equals(b);
         };
+
+        return evaluate(fieldPath, values, b -> transform.apply(CoerceUtil.coerce(b, String.class)), predicate,
+                requestScope);
     }
 
     //
     // String-like prefix matching with optional transformation
     private static <T> Predicate<T> prefix(Path fieldPath, List<Object> values,
                                            RequestScope requestScope, UnaryOperator<String> transform) {
-        return (T entity) -> {
-            if (values.size() != 1) {
-                throw new BadRequestException("PREFIX can only take one argument");
-            }
-
-            BiPredicate<Object, Object> predicate = (a, b) -> {
-                String lhs = transform.apply(CoerceUtil.coerce(a, String.class));
-                String rhs = transform.apply(CoerceUtil.coerce(b, String.class));
-
-                return lhs != null && rhs != null && lhs.startsWith(rhs);
-            };
-
-            return evaluate(entity, fieldPath, values, predicate, requestScope);
-        };
+        return match("PREFIX", fieldPath, values, requestScope, transform, (lhs, rhs) -> lhs.startsWith(rhs));
     }
 
     // String-like prefix matching with optional transformation
     private static <T> Predicate<T> notprefix(Path fieldPath, List<Object> values,
                                               RequestScope requestScope, UnaryOperator<String> transform) {
-        return (T entity) -> {
-            if (values.size() != 1) {
-                throw new BadRequestException("NOTPREFIX can only take one argument");
-            }
-
-            BiPredicate<Object, Object> predicate = (a, b) -> {
-                String lhs = transform.apply(CoerceUtil.coerce(a, String.class));
-                String rhs = transform.apply(CoerceUtil.coerce(b, String.class));
-
-                return lhs != null && rhs != null && !lhs.startsWith(rhs);
-            };
-
-            return evaluate(entity, fieldPath, values, predicate, requestScope);
-        };
+        return match("NOTPREFIX", fieldPath, values, requestScope, transform, (lhs, rhs) -> !lhs.startsWith(rhs));
     }
 
     //
     // String-like postfix matching with optional transformation
     private static <T> Predicate<T> postfix(Path fieldPath, List<Object> values,
                                             RequestScope requestScope, UnaryOperator<String> transform) {
-        return (T entity) -> {
-            if (values.size() != 1) {
-                throw new BadRequestException("POSTFIX can only take one argument");
-            }
-
-            BiPredicate<Object, Object> predicate = (a, b) -> {
-                String lhs = transform.apply(CoerceUtil.coerce(a, String.class));
-                String rhs = transform.apply(CoerceUtil.coerce(b, String.class));
-
-                return lhs != null && rhs != null && lhs.endsWith(rhs);
-            };
-
-            return evaluate(entity, fieldPath, values, predicate, requestScope);
-        };
+        return match("POSTFIX", fieldPath, values, requestScope, transform, (lhs, rhs) -> lhs.endsWith(rhs));
     }
 
     private static <T> Predicate<T> notpostfix(Path fieldPath, List<Object> values,
                                                RequestScope requestScope, UnaryOperator<String> transform) {
-        return (T entity) -> {
-            if (values.size() != 1) {
-                throw new BadRequestException("NOTPOSTFIX can only take one argument");
-            }
-
-            BiPredicate<Object, Object> predicate = (a, b) -> {
-                String lhs = transform.apply(CoerceUtil.coerce(a, String.class));
-                String rhs = transform.apply(CoerceUtil.coerce(b, String.class));
-
-                return lhs != null && rhs != null && !lhs.endsWith(rhs);
-            };
-
-            return evaluate(entity, fieldPath, values, predicate, requestScope);
-        };
+        return match("NOTPOSTFIX", fieldPath, values, requestScope, transform, (lhs, rhs) -> !lhs.endsWith(rhs));
     }
 
     //
     // String-like infix matching with optional transformation
     private static <T> Predicate<T> infix(Path fieldPath, List<Object> values,
                                           RequestScope requestScope, UnaryOperator<String> transform) {
-        return (T entity) -> {
-            if (values.size() != 1) {
-                throw new BadRequestException("INFIX can only take one argument");
-            }
-
-            BiPredicate<Object, Object> predicate = (a, b) -> {
-                String lhs = transform.apply(CoerceUtil.coerce(a, String.class));
-                String rhs = transform.apply(CoerceUtil.coerce(b, String.class));
-
-                return lhs != null && rhs != null && lhs.contains(rhs);
-            };
-
-            return evaluate(entity, fieldPath, values, predicate, requestScope);
-        };
+        return match("INFIX", fieldPath, values, requestScope, transform, (lhs, rhs) -> lhs.contains(rhs));
     }
 
     private static <T> Predicate<T> notinfix(Path fieldPath, List<Object> values,
                                              RequestScope requestScope, UnaryOperator<String> transform) {
+        return match("NOTINFIX", fieldPath, values, requestScope, transform, (lhs, rhs) -> !lhs.contains(rhs));
+    }
+
+    //
+    // String-like matching of a single value with optional transformation
+    private static <T> Predicate<T> match(String operator, Path fieldPath, List<Object> values,
+            RequestScope requestScope, UnaryOperator<String> transform, BiPredicate<String, String> match) {
+        BiPredicate<Object, Object> predicate = (a, b) -> {
+            String lhs = transform.apply(CoerceUtil.coerce(a, String.class));
+            String rhs = (String) b;
+
+            return lhs != null && rhs != null && match.test(lhs, rhs);
+        };
+
+        Predicate<T> evaluate = evaluate(fieldPath, values,
+                b -> transform.apply(CoerceUtil.coerce(b, String.class)), predicate, requestScope);
+
         return (T entity) -> {
             if (values.size() != 1) {
-                throw new BadRequestException("NOTINFIX can only take one argument");
+                throw new BadRequestException(operator + " can only take one argument");
             }
 
-            BiPredicate<Object, Object> predicate = (a, b) -> {
-                String lhs = transform.apply(CoerceUtil.coerce(a, String.class));
-                String rhs = transform.apply(CoerceUtil.coerce(b, String.class));
-
-                return lhs != null && rhs != null && !lhs.contains(rhs);
-            };
-
-            return evaluate(entity, fieldPath, values, predicate, requestScope);
+            return evaluate.test(entity);
         };
     }
 
     //
     // Null checking
     private static <T> Predicate<T> isNull(Path fieldPath, RequestScope requestScope) {
-        return (T entity) -> getFieldValue(entity, fieldPath, requestScope) == null;
+        CompiledPath path = new CompiledPath(fieldPath, requestScope, false);
+        return (T entity) -> path.getValue(entity) == null;
     }
 
     private static <T> Predicate<T> lt(Path fieldPath, List<Object> values, RequestScope requestScope) {
@@ -499,19 +465,21 @@ public enum Operator {
     }
 
     private static <T> Predicate<T> between(Path fieldPath, List<Object> values, RequestScope requestScope) {
+        CompiledPath path = new CompiledPath(fieldPath, requestScope, false);
+        ComparableValues testValues = new ComparableValues(values);
         return (T entity) -> {
             if (values.size() != 2) {
                 throw new BadRequestException("Between operator expects exactly 2 values");
             }
-            Object fieldVal = getFieldValue(entity, fieldPath, requestScope);
+            Object fieldVal = path.getValue(entity);
 
             if (fieldVal instanceof Collection) {
                 return false;
             }
 
             return fieldVal != null
-                    && compare(fieldVal, values.get(0)) >= 0
-                    && compare(fieldVal, values.get(1)) <= 0;
+                    && testValues.compare(fieldVal, 0) >= 0
+                    && testValues.compare(fieldVal, 1) <= 0;
         };
     }
 
@@ -524,9 +492,10 @@ public enum Operator {
     }
 
     private static <T> Predicate<T> isEmpty(Path fieldPath, RequestScope requestScope) {
+        CompiledPath path = new CompiledPath(fieldPath, requestScope, false);
         return (T entity) -> {
 
-            Object val = getFieldValue(entity, fieldPath, requestScope);
+            Object val = path.getValue(entity);
             if (val instanceof Collection<?> collection) {
                 return collection.isEmpty();
             }
@@ -539,12 +508,14 @@ public enum Operator {
     }
 
     private static <T> Predicate<T> hasMember(Path fieldPath, List<Object> values, RequestScope requestScope) {
+        CompiledPath path = new CompiledPath(fieldPath, requestScope, true);
+        Object coerced = values != null && values.size() == 1 ? coerceMember(fieldPath, values.get(0)) : null;
         return (T entity) -> {
             if (values.size() != 1) {
                 throw new BadRequestException("HasMember can only take one argument");
             }
-            Object val = getFieldValue(entity, fieldPath, requestScope, true);
-            Object filterStr = fieldPath.lastElement()
+            Object val = path.getValue(entity);
+            Object filterStr = coerced != null ? coerced : fieldPath.lastElement()
                     .map(last -> CoerceUtil.coerce(values.get(0), last.getFieldType()))
                     .orElseGet(() -> CoerceUtil.coerce(values.get(0), String.class));
 
@@ -565,15 +536,28 @@ public enum Operator {
         };
     }
 
+    private static Object coerceMember(Path fieldPath, Object value) {
+        try {
+            return fieldPath.lastElement()
+                    .map(last -> CoerceUtil.coerce(value, last.getFieldType()))
+                    .orElseGet(() -> CoerceUtil.coerce(value, String.class));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
     private static <T> Predicate<T> subsetOf(Path fieldPath, List<Object> values, RequestScope requestScope) {
+        Type<?> valueClass = fieldPath.lastElement().get().getFieldType();
+        CompiledPath path = new CompiledPath(fieldPath, requestScope, false);
+        List<Object> coerced = coerceValues(values, valueClass, UnaryOperator.identity());
         return (T entity) -> {
-            Type<?> valueClass = fieldPath.lastElement().get().getFieldType();
-
-            Object leftHandSide = getFieldValue(entity, fieldPath, requestScope);
+            Object leftHandSide = path.getValue(entity);
 
             BiPredicate<Object, Object> predicate = (a, b) -> a.equals(b);
 
-            List<?> rightHandSide = values.stream().map(value -> CoerceUtil.coerce(value, valueClass)).toList();
+            List<?> rightHandSide = coerced != null
+                    ? coerced
+                    : values.stream().map(value -> CoerceUtil.coerce(value, valueClass)).toList();
 
             if (leftHandSide instanceof Collection<?> collection && !valueClass.isAssignableFrom(COLLECTION_TYPE)) {
                 for (Object left : collection) {
@@ -593,14 +577,17 @@ public enum Operator {
     }
 
     private static <T> Predicate<T> supersetOf(Path fieldPath, List<Object> values, RequestScope requestScope) {
+        Type<?> valueClass = fieldPath.lastElement().get().getFieldType();
+        CompiledPath path = new CompiledPath(fieldPath, requestScope, false);
+        List<Object> coerced = coerceValues(values, valueClass, UnaryOperator.identity());
         return (T entity) -> {
-            Type<?> valueClass = fieldPath.lastElement().get().getFieldType();
-
-            Object leftHandSide = getFieldValue(entity, fieldPath, requestScope);
+            Object leftHandSide = path.getValue(entity);
 
             BiPredicate<Object, Object> predicate = (a, b) -> a.equals(b);
 
-            List<?> rightHandSide = values.stream().map(value -> CoerceUtil.coerce(value, valueClass)).toList();
+            List<?> rightHandSide = coerced != null
+                    ? coerced
+                    : values.stream().map(value -> CoerceUtil.coerce(value, valueClass)).toList();
 
             if (leftHandSide instanceof Collection<?> collection && !valueClass.isAssignableFrom(COLLECTION_TYPE)) {
                 for (Object right : rightHandSide) {
@@ -619,76 +606,24 @@ public enum Operator {
             return true;
         };
     }
-    /**
-     * Return value of field/path for given entity. For example this.book.author
-     *
-     * @param <T> the type of entity to retrieve a value from
-     * @param entity Entity bean
-     * @param fieldPath field value/path
-     * @param requestScope Request scope
-     * @return the value of the field
-     */
-    private static <T> Object getFieldValue(T entity, Path fieldPath, RequestScope requestScope) {
-        return getFieldValue(entity, fieldPath, requestScope, false);
-    }
-
-    /**
-     * Return value of field/path for given entity. For example this.book.author
-     *
-     * @param <T> the type of entity to retrieve a value from
-     * @param entity Entity bean
-     * @param fieldPath field value/path
-     * @param requestScope Request scope
-     * @param nullable allow null values
-     * @return the value of the field
-     */
-    private static <T> Object getFieldValue(T entity, Path fieldPath, RequestScope requestScope, boolean nullable) {
-        Object val = entity;
-        for (Path.PathElement field : fieldPath.getPathElements()) {
-            if ("this".equals(field.getFieldName())) {
-                continue;
-            }
-            if (val == null) {
-                break;
-            }
-            if (val instanceof Collection<?> collection) {
-                val = collection.stream()
-                        .filter(Objects::nonNull)
-                        .map(target -> PersistentResource.getValue(target, field.getFieldName(), requestScope))
-                        .filter(test -> Objects.nonNull(test) || nullable)
-                        .flatMap(result -> {
-                            if (result instanceof Collection<?> resultCollection) {
-                                return resultCollection.stream();
-                            }
-                            return Stream.of(result);
-                        })
-                        .collect(Collectors.toSet());
-            } else {
-                val = PersistentResource.getValue(val, field.getFieldName(), requestScope);
-            }
-        }
-        return val;
-    }
 
     private static <T> Predicate<T> getComparator(Path fieldPath, List<Object> values,
             RequestScope requestScope, IntPredicate condition) {
+        CompiledPath path = new CompiledPath(fieldPath, requestScope, false);
+        ComparableValues testValues = new ComparableValues(values);
         return (T entity) -> {
             if (CollectionUtils.isEmpty(values)) {
                 throw new BadRequestException("No value to compare");
             }
-            Object fieldVal = getFieldValue(entity, fieldPath, requestScope);
+            Object fieldVal = path.getValue(entity);
 
             if (fieldVal instanceof Collection<?> collection) {
                 return collection.stream()
                         .anyMatch(fieldValueElement ->
-                            fieldValueElement != null
-                            && values.stream()
-                            .anyMatch(testVal -> condition.test(compare(fieldValueElement, testVal))));
+                            fieldValueElement != null && testValues.anyMatch(fieldValueElement, condition));
             }
 
-            return fieldVal != null
-                    && values.stream()
-                    .anyMatch(testVal -> condition.test(compare(fieldVal, testVal)));
+            return fieldVal != null && testValues.anyMatch(fieldVal, condition);
         };
 
     }
@@ -701,22 +636,121 @@ public enum Operator {
         return fieldComp.compareTo(testComp);
     }
 
-    private static boolean evaluate(Object entity, Path fieldPath, List<Object> values,
+    private static <T> Predicate<T> evaluate(Path fieldPath, List<Object> values, UnaryOperator<Object> prepare,
                              BiPredicate<Object, Object> predicate, RequestScope requestScope) {
         Type<?> valueClass = fieldPath.lastElement().get().getFieldType();
+        CompiledPath path = new CompiledPath(fieldPath, requestScope, false);
+        List<Object> prepared = coerceValues(values, valueClass, prepare);
+        boolean collectionValued = isCollectionValued(valueClass);
+
+        return (T entity) -> {
+            Object leftHandSide = path.getValue(entity);
 
-        Object leftHandSide = getFieldValue(entity, fieldPath, requestScope);
+            if (leftHandSide instanceof Collection<?> collection && !collectionValued) {
+                return collection.stream()
+                        .anyMatch(leftHandSideElement ->
+                            rightHandSide(prepared, values, valueClass, prepare)
+                                .anyMatch(value -> predicate.test(leftHandSideElement, value)));
+            }
+            return leftHandSide != null && rightHandSide(prepared, values, valueClass, prepare)
+                    .anyMatch(value -> predicate.test(leftHandSide, value));
+        };
+    }
+
+    private static Stream<Object> rightHandSide(List<Object> prepared, List<Object> values, Type<?> valueClass,
+            UnaryOperator<Object> prepare) {
+        if (prepared != null) {
+            return prepared.stream();
+        }
+        return values.stream()
+                .map(value -> prepare.apply(valueClass == null ? value : CoerceUtil.coerce(value, valueClass)));
+    }
 
-        if (leftHandSide instanceof Collection<?> collection && !valueClass.isAssignableFrom(COLLECTION_TYPE)) {
-            return collection.stream()
-                    .anyMatch(leftHandSideElement ->
-                        values.stream()
-                            .map(value -> CoerceUtil.coerce(value, valueClass))
-                            .anyMatch(value -> predicate.test(leftHandSideElement, value)));
+    /**
+     * Coerces filter values to the field type and prepares them for comparison.
+     *
+     * @return the prepared values or null if a value cannot be coerced
+     */
+    private static List<Object> coerceValues(List<Object> values, Type<?> valueClass,
+            UnaryOperator<Object> prepare) {
+        if (values == null) {
+            return null;
+        }
+        try {
+            return values.stream()
+                    .map(value -> prepare.apply(valueClass == null ? value : CoerceUtil.coerce(value, valueClass)))
+                    .toList();
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static boolean isCollectionValued(Type<?> valueClass) {
+        return valueClass != null && valueClass.isAssignableFrom(COLLECTION_TYPE);
+    }
+
+    /**
+     * Filter values coerced for comparison with field values of one class.  The field values read through a path
+     * normally share a class, so the filter values are coerced once for the last class seen.
+     */
+    private static final class ComparableValues {
+        private final List<Object> values;
+        private volatile Coerced coerced;
+
+        private ComparableValues(List<Object> values) {
+            this.values = values;
+        }
+
+        private boolean anyMatch(Object fieldValue, IntPredicate condition) {
+            List<Comparable> testValues = forClass(fieldValue.getClass());
+            if (testValues == null) {
+                return values.stream().anyMatch(testVal -> condition.test(Operator.compare(fieldValue, testVal)));
+            }
+
+            Comparable fieldComp = CoerceUtil.coerce(fieldValue, Comparable.class);
+            for (Comparable testComp : testValues) {
+                if (condition.test(fieldComp.compareTo(testComp))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private int compare(Object fieldValue, int index) {
+            List<Comparable> testValues = forClass(fieldValue.getClass());
+            if (testValues == null) {
+                return Operator.compare(fieldValue, values.get(index));
+            }
+            return CoerceUtil.coerce(fieldValue, Comparable.class).compareTo(testValues.get(index));
+        }
+
+        private List<Comparable> forClass(Class<?> cls) {
+            Coerced current = coerced;
+            if (current == null || current.cls != cls) {
+                List<Comparable> testValues;
+                try {
+                    testValues = values.stream()
+                            .map(value -> (Comparable) CoerceUtil.coerce(CoerceUtil.coerce(value, cls),
+                                    Comparable.class))
+                            .toList();
+                } catch (RuntimeException e) {
+                    testValues = null;
+                }
+                current = new Coerced(cls, testValues);
+                coerced = current;
+            }
+            return current.values;
+        }
+
+        private static final class Coerced {
+            private final Class<?> cls;
+            private final List<Comparable> values;
+
+            private Coerced(Class<?> cls, List<Comparable> values) {
+                this.cls = cls;
+                this.values = values;
+            }
         }
-        return leftHandSide != null && values.stream()
-                .map(value -> valueClass == null ? value : CoerceUtil.coerce(value, valueClass))
-                .anyMatch(value -> predicate.test(leftHandSide, value));
     }
 
     public Operator negate() {
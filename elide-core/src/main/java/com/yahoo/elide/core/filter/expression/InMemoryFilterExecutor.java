@@ -12,6 +12,10 @@ import java.util.function.Predicate;
 
 /**
  * Visitor for in memory filterExpressions.
+ * <p>
+ * Compiles a filter expression into a single predicate.  Each filter predicate resolves its path and coerces its
+ * values once when it is compiled, so the returned predicate should be built once per query and reused for every
+ * object tested.
  */
 public class InMemoryFilterExecutor implements FilterExpressionVisitor<Predicate> {
     private final RequestScope requestScope;
@@ -29,19 +33,19 @@ public class InMemoryFilterExecutor implements FilterExpressionVisitor<Predicate
     public Predicate visitAndExpression(AndFilterExpression expression) {
         Predicate leftPredicate = expression.getLeft().accept(this);
         Predicate rightPredicate = expression.getRight().accept(this);
-        return t -> leftPredicate.and(rightPredicate).test(t);
+        return leftPredicate.and(rightPredicate);
     }
 
     @Override
     public Predicate visitOrExpression(OrFilterExpression expression) {
         Predicate leftPredicate = expression.getLeft().accept(this);
         Predicate rightPredicate = expression.getRight().accept(this);
-        return t -> leftPredicate.or(rightPredicate).test(t);
+        return leftPredicate.or(rightPredicate);
     }
 
     @Override
     public Predicate visitNotExpression(NotFilterExpression expression) {
         Predicate predicate = expression.getNegated().accept(this);
-        return t -> predicate.negate().test(t);
+        return predicate.negate();
     }
 }
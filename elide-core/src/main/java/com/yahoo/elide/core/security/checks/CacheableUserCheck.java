@@ -0,0 +1,25 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.security.checks;
+
+import com.yahoo.elide.core.security.User;
+
+/**
+ * Marks a {@link UserCheck} whose outcome depends only on the identity of the user.  The outcome of such a check
+ * may be shared across requests by a {@link com.yahoo.elide.core.security.permissions.UserCheckCache}.
+ */
+public interface CacheableUserCheck {
+
+    /**
+     * Returns the stable identity of the user the outcome is cached for.
+     *
+     * @param user User to check
+     * @return The identity of the user or null if the outcome must not be cached
+     */
+    default Object getPrincipalKey(User user) {
+        return user == null ? null : user.getName();
+    }
+}
@@ -18,6 +18,7 @@ import com.yahoo.elide.core.security.PermissionExecutor;
 import com.yahoo.elide.core.security.permissions.ExpressionResult;
 import com.yahoo.elide.core.security.permissions.ExpressionResultCache;
 import com.yahoo.elide.core.security.permissions.PermissionExpressionBuilder;
+import com.yahoo.elide.core.security.permissions.UserCheckCache;
 import com.yahoo.elide.core.security.permissions.expressions.Expression;
 import com.yahoo.elide.core.type.Type;
 import com.google.common.collect.ImmutableSet;
@@ -51,7 +52,11 @@ public abstract class AbstractPermissionExecutor implements PermissionExecutor {
     protected final Map<String, Long> checkStats;
 
     public AbstractPermissionExecutor(Logger log, RequestScope requestScope) {
-        ExpressionResultCache cache = new ExpressionResultCache();
+        this(log, requestScope, null);
+    }
+
+    public AbstractPermissionExecutor(Logger log, RequestScope requestScope, UserCheckCache userCheckCache) {
+        ExpressionResultCache cache = new ExpressionResultCache(userCheckCache);
         this.log = log;
         this.requestScope = requestScope;
         this.expressionBuilder = new PermissionExpressionBuilder(cache, requestScope.getDictionary());
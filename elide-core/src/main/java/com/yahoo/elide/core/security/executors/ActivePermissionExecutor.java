@@ -23,6 +23,7 @@ import com.yahoo.elide.core.security.PermissionExecutor;
 import com.yahoo.elide.core.security.permissions.ExpressionResult;
 import com.yahoo.elide.core.security.permissions.ExpressionResultCache;
 import com.yahoo.elide.core.security.permissions.PermissionExpressionBuilder;
+import com.yahoo.elide.core.security.permissions.UserCheckCache;
 import com.yahoo.elide.core.security.permissions.expressions.Expression;
 import com.yahoo.elide.core.type.Type;
 import com.google.common.collect.ImmutableSet;
@@ -63,7 +64,17 @@ public class ActivePermissionExecutor implements PermissionExecutor {
      * @param requestScope Request scope
      */
     public ActivePermissionExecutor(final RequestScope requestScope) {
-        ExpressionResultCache cache = new ExpressionResultCache();
+        this(requestScope, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param requestScope Request scope
+     * @param userCheckCache Shares user check outcomes across requests (or null to evaluate them per request)
+     */
+    public ActivePermissionExecutor(final RequestScope requestScope, final UserCheckCache userCheckCache) {
+        ExpressionResultCache cache = new ExpressionResultCache(userCheckCache);
 
         this.requestScope = requestScope;
         this.expressionBuilder = new PermissionExpressionBuilder(cache, requestScope.getDictionary());
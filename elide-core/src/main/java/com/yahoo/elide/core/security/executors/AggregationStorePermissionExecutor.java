@@ -12,6 +12,7 @@ import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.security.ChangeSpec;
 import com.yahoo.elide.core.security.permissions.ExpressionResult;
+import com.yahoo.elide.core.security.permissions.UserCheckCache;
 import com.yahoo.elide.core.security.permissions.expressions.Expression;
 import com.yahoo.elide.core.type.Type;
 
@@ -33,6 +34,10 @@ public class AggregationStorePermissionExecutor extends AbstractPermissionExecut
         super(log, requestScope);
     }
 
+    public AggregationStorePermissionExecutor(RequestScope requestScope, UserCheckCache userCheckCache) {
+        super(log, requestScope, userCheckCache);
+    }
+
     /**
      * Checks user checks for the requested fields.
      * expression = (field1Rule OR field2Rule ... OR fieldNRule)
@@ -6,7 +6,9 @@
 package com.yahoo.elide.core.security.permissions;
 
 import com.yahoo.elide.core.security.PersistentResource;
+import com.yahoo.elide.core.security.User;
 import com.yahoo.elide.core.security.checks.Check;
+import com.yahoo.elide.core.security.checks.UserCheck;
 
 import java.util.HashMap;
 import java.util.IdentityHashMap;
@@ -17,9 +19,31 @@ import java.util.Map;
  */
 public class ExpressionResultCache {
     private final Map<Class<? extends Check>, Map<PersistentResource, ExpressionResult>> computedResults;
+    private final UserCheckCache userCheckCache;
 
     public ExpressionResultCache() {
+        this(null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param userCheckCache Shares user check outcomes across requests (or null to evaluate them per request)
+     */
+    public ExpressionResultCache(UserCheckCache userCheckCache) {
         computedResults = new HashMap<>();
+        this.userCheckCache = userCheckCache;
+    }
+
+    /**
+     * Evaluates a user check through the shared user check cache if one is configured.
+     *
+     * @param check User check to evaluate
+     * @param user User to check
+     * @return True if user check passes, false otherwise
+     */
+    public boolean evaluateUserCheck(UserCheck check, User user) {
+        return userCheckCache == null ? check.ok(user) : userCheckCache.ok(check, user);
     }
 
 
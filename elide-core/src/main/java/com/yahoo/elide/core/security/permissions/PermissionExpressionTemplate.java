@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.security.permissions;
+
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.security.checks.Check;
+import com.yahoo.elide.core.security.permissions.expressions.AndExpression;
+import com.yahoo.elide.core.security.permissions.expressions.AnyFieldExpression;
+import com.yahoo.elide.core.security.permissions.expressions.BooleanExpression;
+import com.yahoo.elide.core.security.permissions.expressions.CheckExpression;
+import com.yahoo.elide.core.security.permissions.expressions.Expression;
+import com.yahoo.elide.core.security.permissions.expressions.ExpressionVisitor;
+import com.yahoo.elide.core.security.permissions.expressions.NotExpression;
+import com.yahoo.elide.core.security.permissions.expressions.OrExpression;
+import com.yahoo.elide.core.security.permissions.expressions.SpecificFieldExpression;
+import com.yahoo.elide.core.security.visitors.PermissionExpressionNormalizationVisitor;
+import com.yahoo.elide.core.security.visitors.PermissionExpressionVisitor;
+import org.antlr.v4.runtime.tree.ParseTree;
+
+import java.util.function.Function;
+
+/**
+ * A permission expression compiled from the parse tree of a permission annotation.  The template holds the
+ * normalized expression and the check instances it references.  Binding the template for a resource creates
+ * the expression to evaluate without walking the parse tree, normalizing or looking up checks again.
+ */
+public class PermissionExpressionTemplate {
+
+    /**
+     * The normalized expression.  Its check expressions are placeholders that are not bound to any request.
+     */
+    private final Expression template;
+
+    private PermissionExpressionTemplate(Expression template) {
+        this.template = template;
+    }
+
+    /**
+     * Compiles the parse tree of a permission annotation.
+     *
+     * @param permissions The permission parse tree
+     * @param dictionary The dictionary used to resolve checks
+     * @return The compiled template
+     */
+    public static PermissionExpressionTemplate compile(ParseTree permissions, EntityDictionary dictionary) {
+        Function<Check, Expression> placeholderFn = (check) -> new CheckExpression(check, null, null, null, null);
+
+        return new PermissionExpressionTemplate(permissions
+                .accept(new PermissionExpressionVisitor(dictionary, placeholderFn))
+                .accept(new PermissionExpressionNormalizationVisitor()));
+    }
+
+    /**
+     * Creates the expression to evaluate.
+     *
+     * @param checkFn Creates the expression that evaluates a check
+     * @return The bound expression
+     */
+    public Expression bind(Function<Check, Expression> checkFn) {
+        return template.accept(new BindingVisitor(checkFn));
+    }
+
+    /**
+     * Copies the template replacing each placeholder with a bound check expression.
+     */
+    private static class BindingVisitor implements ExpressionVisitor<Expression> {
+        private final Function<Check, Expression> checkFn;
+
+        BindingVisitor(Function<Check, Expression> checkFn) {
+            this.checkFn = checkFn;
+        }
+
+        @Override
+        public Expression visitSpecificFieldExpression(SpecificFieldExpression expression) {
+            return expression;
+        }
+
+        @Override
+        public Expression visitAnyFieldExpression(AnyFieldExpression expression) {
+            return expression;
+        }
+
+        @Override
+        public Expression visitBooleanExpression(BooleanExpression expression) {
+            return expression;
+        }
+
+        @Override
+        public Expression visitCheckExpression(CheckExpression checkExpression) {
+            return checkFn.apply(checkExpression.getCheck());
+        }
+
+        @Override
+        public Expression visitAndExpression(AndExpression andExpression) {
+            return new AndExpression(andExpression.getLeft().accept(this), bindNullable(andExpression.getRight()));
+        }
+
+        @Override
+        public Expression visitOrExpression(OrExpression orExpression) {
+            return new OrExpression(orExpression.getLeft().accept(this), bindNullable(orExpression.getRight()));
+        }
+
+        @Override
+        public Expression visitNotExpression(NotExpression notExpression) {
+            return new NotExpression(notExpression.getLogical().accept(this));
+        }
+
+        private Expression bindNullable(Expression expression) {
+            return expression == null ? null : expression.accept(this);
+        }
+    }
+}
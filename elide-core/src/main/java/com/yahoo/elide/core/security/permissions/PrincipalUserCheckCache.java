@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.security.permissions;
+
+import com.yahoo.elide.core.security.User;
+import com.yahoo.elide.core.security.checks.CacheableUserCheck;
+import com.yahoo.elide.core.security.checks.UserCheck;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import lombok.Value;
+
+import java.time.Duration;
+
+/**
+ * A bounded {@link UserCheckCache} that expires outcomes a fixed time after they are computed.  Only checks that
+ * implement {@link CacheableUserCheck} are cached.  Other checks are evaluated on every call.
+ */
+public class PrincipalUserCheckCache implements UserCheckCache {
+    public static final int DEFAULT_MAXIMUM_SIZE = 10000;
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofMinutes(1);
+
+    private final Cache<Key, Boolean> outcomes;
+
+    public PrincipalUserCheckCache() {
+        this(DEFAULT_MAXIMUM_SIZE, DEFAULT_TIME_TO_LIVE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSize The maximum number of cached outcomes
+     * @param timeToLive How long an outcome is cached
+     */
+    public PrincipalUserCheckCache(long maximumSize, Duration timeToLive) {
+        this.outcomes = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .build();
+    }
+
+    @Override
+    public boolean ok(UserCheck check, User user) {
+        if (!(check instanceof CacheableUserCheck)) {
+            return check.ok(user);
+        }
+
+        Object principalKey = ((CacheableUserCheck) check).getPrincipalKey(user);
+        if (principalKey == null) {
+            return check.ok(user);
+        }
+
+        Key key = new Key(principalKey, check);
+        Boolean outcome = outcomes.getIfPresent(key);
+        if (outcome == null) {
+            outcome = check.ok(user);
+            outcomes.put(key, outcome);
+        }
+        return outcome;
+    }
+
+    @Override
+    public void invalidate(Object principalKey) {
+        outcomes.asMap().keySet().removeIf(key -> key.getPrincipalKey().equals(principalKey));
+    }
+
+    @Override
+    public void invalidateAll() {
+        outcomes.invalidateAll();
+    }
+
+    /**
+     * Checks are keyed by instance as role checks share a class.
+     */
+    @Value
+    private static class Key {
+        Object principalKey;
+        UserCheck check;
+    }
+}
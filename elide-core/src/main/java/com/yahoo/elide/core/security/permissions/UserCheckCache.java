@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.security.permissions;
+
+import com.yahoo.elide.core.security.User;
+import com.yahoo.elide.core.security.checks.UserCheck;
+
+/**
+ * Shares the outcomes of {@link UserCheck}s across requests.
+ */
+public interface UserCheckCache {
+
+    /**
+     * Evaluates a user check, reusing a previous outcome for the same user if one is cached.
+     *
+     * @param check User check to evaluate
+     * @param user User to check
+     * @return True if user check passes, false otherwise
+     */
+    boolean ok(UserCheck check, User user);
+
+    /**
+     * Discards the cached outcomes of a user.
+     *
+     * @param principalKey The identity of the user as returned by
+     *                     {@link com.yahoo.elide.core.security.checks.CacheableUserCheck#getPrincipalKey}
+     */
+    void invalidate(Object principalKey);
+
+    /**
+     * Discards all cached outcomes.
+     */
+    void invalidateAll();
+}
@@ -126,7 +126,11 @@ public class CheckExpression implements Expression {
         Object entity = (resource == null) ? null : resource.getObject();
 
         if (check instanceof UserCheck) {
-            result = ((UserCheck) check).ok(requestScope.getUser()) ? PASS : FAIL;
+            UserCheck userCheck = (UserCheck) check;
+            boolean ok = (cache == null)
+                    ? userCheck.ok(requestScope.getUser())
+                    : cache.evaluateUserCheck(userCheck, requestScope.getUser());
+            result = ok ? PASS : FAIL;
         } else {
             result = ((OperationCheck) check).ok(entity, requestScope, changeSpec) ? PASS : FAIL;
         }
@@ -44,4 +44,12 @@ public interface Field extends AccessibleObject {
      * @throws IllegalAccessException If the field cannot be accessed.
      */
     void set(Object obj, Object value) throws IllegalArgumentException, IllegalAccessException;
+
+    /**
+     * Returns the Java field backing this field (if any).
+     * @return The Java field or empty if the field is not backed by a Java field.
+     */
+    default Optional<java.lang.reflect.Field> getJavaField() {
+        return Optional.empty();
+    }
 }
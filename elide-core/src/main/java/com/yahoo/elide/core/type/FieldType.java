@@ -102,4 +102,9 @@ public class FieldType implements Field {
     public void set(Object obj, Object value) throws IllegalArgumentException, IllegalAccessException {
         field.set(obj, value);
     }
+
+    @Override
+    public Optional<java.lang.reflect.Field> getJavaField() {
+        return Optional.of(field);
+    }
 }
@@ -51,4 +51,12 @@ public interface Method extends AccessibleObject {
      * @return All the parameter types.
      */
     Class<?>[] getParameterTypes();
+
+    /**
+     * Returns the Java method backing this method (if any).
+     * @return The Java method or empty if the method is not backed by a Java method.
+     */
+    default Optional<java.lang.reflect.Method> getJavaMethod() {
+        return Optional.empty();
+    }
 }
@@ -118,4 +118,12 @@ public class MethodType implements Method {
     public Class<?>[] getParameterTypes() {
         return method.getParameterTypes();
     }
+
+    @Override
+    public Optional<java.lang.reflect.Method> getJavaMethod() {
+        if (! (method instanceof java.lang.reflect.Method)) {
+            return Optional.empty();
+        }
+        return Optional.of((java.lang.reflect.Method) method);
+    }
 }
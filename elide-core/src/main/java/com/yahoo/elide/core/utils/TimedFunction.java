@@ -37,4 +37,12 @@ public class TimedFunction<R> implements Supplier<R> {
 
         return ret;
     }
+
+    /**
+     * Logs a function that did not need to run next to the timings of the ones that did.
+     * @param logMessage The message describing the skipped function.
+     */
+    public static void skipped(String logMessage) {
+        log.debug(logMessage + "\tSkipped");
+    }
 }
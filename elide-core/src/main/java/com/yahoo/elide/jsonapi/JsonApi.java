@@ -39,10 +39,15 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -113,6 +118,100 @@ public class JsonApi {
         });
     }
 
+    /**
+     * Handle GET writing the response body while the primary data is read.
+     * <p>
+     * The request is visited, checked and flushed before this returns so the status is known.  The returned body
+     * writes the document and then commits and closes the transaction.  The caller must close the body once the
+     * response is done, which closes the transaction without committing it if the body was never written.  An
+     * error while the body is written can't change the status and leaves the body incomplete.
+     *
+     * @param route the route
+     * @param opaqueUser the opaque user
+     * @param requestId the request ID
+     * @return Elide response object with a body that writes the document
+     */
+    public ElideResponse<StreamingBody> getStreaming(Route route, User opaqueUser, UUID requestId) {
+        UUID requestUuid = requestId != null ? requestId : UUID.randomUUID();
+
+        if (strictQueryParameters) {
+            try {
+                verifyQueryParams(route.getParameters());
+            } catch (BadRequestException e) {
+                JsonApiErrorContext errorContext = JsonApiErrorContext.builder().mapper(this.mapper).verbose(false)
+                        .build();
+                ElideResponse<?> errorResponse = jsonApiExceptionHandler.handleException(e, errorContext);
+                return toStreamingResponse(toResponse(errorResponse.getStatus(), errorResponse.getBody()));
+            }
+        }
+
+        JsonApiErrorContext errorContext = JsonApiErrorContext.builder().mapper(this.mapper)
+                .verbose(elideSettings.isVerboseErrors()).build();
+        DataStoreTransaction tx = null;
+        try {
+            tx = dataStore.beginReadTransaction();
+            transactionRegistry.addRunningTransaction(requestUuid, tx);
+            JsonApiDocument jsonApiDoc = new JsonApiDocument();
+            JsonApiRequestScope requestScope = JsonApiRequestScope.builder().route(route).dataStoreTransaction(tx)
+                    .user(opaqueUser).requestId(requestUuid).elideSettings(elideSettings).jsonApiDocument(jsonApiDoc)
+                    .build();
+            requestScope.setStreamingResponse(true);
+            requestScope.setEntityProjection(new EntityProjectionMaker(elideSettings.getEntityDictionary(),
+                    requestScope).parsePath(route.getPath()));
+            HandlerResult result = visit(route.getPath(), requestScope, new GetVisitor(requestScope));
+            Supplier<Pair<Integer, JsonApiDocument>> responder = result.getResponder();
+            tx.preCommit(requestScope);
+            requestScope.runQueuedPreSecurityTriggers();
+            requestScope.getPermissionExecutor().executeCommitChecks();
+            requestScope.runQueuedPreFlushTriggers();
+            tx.flush(requestScope);
+
+            requestScope.runQueuedPreCommitTriggers();
+
+            Pair<Integer, JsonApiDocument> response = responder.get();
+
+            auditLogger.commit();
+
+            DataStoreTransaction transaction = tx;
+            AtomicBoolean open = new AtomicBoolean(true);
+            StreamingBody body = new StreamingBody() {
+                @Override
+                public void accept(OutputStream outputStream) {
+                    if (!open.compareAndSet(true, false)) {
+                        throw new IllegalStateException("The response body was already written or closed");
+                    }
+                    try {
+                        mapper.writeJsonApiDocument(response.getRight(), outputStream);
+                        transaction.commit(requestScope);
+                        requestScope.runQueuedPostCommitTriggers();
+
+                        if (log.isTraceEnabled()) {
+                            requestScope.getPermissionExecutor().logCheckStats();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    } finally {
+                        closeTransaction(requestUuid, transaction);
+                    }
+                }
+
+                @Override
+                public void close() {
+                    if (open.compareAndSet(true, false)) {
+                        closeTransaction(requestUuid, transaction);
+                    }
+                }
+            };
+            return ElideResponse.status(response.getLeft()).body(body);
+        } catch (Throwable e) {
+            closeTransaction(requestUuid, tx);
+            ElideResponse<?> errorResponse = jsonApiExceptionHandler.handleException(e, errorContext);
+            return toStreamingResponse(toResponse(errorResponse.getStatus(), errorResponse.getBody()));
+        } finally {
+            auditLogger.clear();
+        }
+    }
+
     /**
      * Handle POST.
      *
@@ -321,6 +420,39 @@ public class JsonApi {
         return ElideResponse.status(status).body(result);
     }
 
+    private ElideResponse<StreamingBody> toStreamingResponse(ElideResponse<String> response) {
+        String result = response.getBody();
+        StreamingBody body = new StreamingBody() {
+            @Override
+            public void accept(OutputStream outputStream) {
+                if (result != null) {
+                    try {
+                        outputStream.write(result.getBytes(StandardCharsets.UTF_8));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            }
+
+            @Override
+            public void close() {
+                // Nothing is held for a buffered body.
+            }
+        };
+        return ElideResponse.status(response.getStatus()).body(body);
+    }
+
+    private void closeTransaction(UUID requestId, DataStoreTransaction tx) {
+        transactionRegistry.removeRunningTransaction(requestId);
+        if (tx != null) {
+            try {
+                tx.close();
+            } catch (IOException | RuntimeException e) {
+                log.error("Failed to close transaction for request {}", requestId, e);
+            }
+        }
+    }
+
     protected <T> ElideResponse<String> buildResponse(Pair<Integer, T> response) {
         T responseNode = response.getRight();
         Integer responseCode = response.getLeft();
@@ -351,6 +483,15 @@ public class JsonApi {
         return route.getHeaders().getOrDefault(headerName, Collections.emptyList()).stream().findFirst().orElse("");
     }
 
+    /**
+     * A response body that is written to the output stream at most once.  Closing the body releases what it holds
+     * if it was not written.
+     */
+    public interface StreamingBody extends Consumer<OutputStream>, AutoCloseable {
+        @Override
+        void close();
+    }
+
     /**
      * A function that sets up the request handling objects.
      *
@@ -7,13 +7,17 @@ package com.yahoo.elide.jsonapi;
 
 import com.yahoo.elide.jsonapi.extensions.JsonApiAtomicOperationsMapper;
 import com.yahoo.elide.jsonapi.extensions.JsonApiJsonPatchMapper;
+import com.yahoo.elide.jsonapi.models.Data;
 import com.yahoo.elide.jsonapi.models.JsonApiDocument;
+import com.yahoo.elide.jsonapi.models.Resource;
 import com.yahoo.elide.jsonapi.serialization.JsonApiModule;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.io.IOException;
+import java.io.OutputStream;
 
 /**
  * Serializer/Deserializer for JSON API.
@@ -76,6 +80,44 @@ public class JsonApiMapper {
         return mapper.writeValueAsString(doc);
     }
 
+    /**
+     * Write json api document to a stream.  The primary data is written as it is fetched instead of being collected
+     * first, so the included resources and the meta data are written after it.  The stream is not closed.
+     *
+     * @param jsonApiDocument the document
+     * @param outputStream the stream to write to
+     * @throws IOException the iO exception
+     */
+    public void writeJsonApiDocument(JsonApiDocument jsonApiDocument, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = mapper.createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+
+            Data<Resource> data = jsonApiDocument.getData();
+            generator.writeFieldName("data");
+            if (data == null || data.isToOne()) {
+                generator.writeObject(data);
+            } else {
+                generator.writeStartArray();
+                for (Resource resource : data.getValues().toIterable()) {
+                    generator.writeObject(resource);
+                }
+                generator.writeEndArray();
+            }
+            if (jsonApiDocument.getIncluded() != null) {
+                generator.writeObjectField("included", jsonApiDocument.getIncluded());
+            }
+            if (jsonApiDocument.getMeta() != null) {
+                generator.writeObjectField("meta", jsonApiDocument.getMeta());
+            }
+            if (jsonApiDocument.getLinks() != null) {
+                generator.writeObjectField("links", jsonApiDocument.getLinks());
+            }
+
+            generator.writeEndObject();
+        }
+    }
+
     /**
      * Read json api document.
      *
@@ -22,6 +22,7 @@ import com.yahoo.elide.core.security.User;
 import com.yahoo.elide.jsonapi.models.JsonApiDocument;
 
 import lombok.Getter;
+import lombok.Setter;
 
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
@@ -39,6 +40,11 @@ public class JsonApiRequestScope extends RequestScope {
     @Getter private final int updateStatusCode;
     @Getter private final MultipleFilterDialect filterDialect;
 
+    /**
+     * Whether the response document is written while its primary data is fetched.
+     */
+    @Getter @Setter private boolean streamingResponse = false;
+
     /**
      * Create a new RequestScope.
      *
@@ -101,6 +101,15 @@ public class Data<T> {
         return values.collectList().block();
     }
 
+    /**
+     * Returns the resources without collecting them.
+     *
+     * @return the resources
+     */
+    public Flux<T> getValues() {
+        return values;
+    }
+
     /**
      * Determine whether or not the contained type is toOne.
      *
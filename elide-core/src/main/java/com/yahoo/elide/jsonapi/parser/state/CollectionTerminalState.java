@@ -68,8 +68,12 @@ public class CollectionTerminalState extends BaseState {
 
     @Override
     public Supplier<Pair<Integer, JsonApiDocument>> handleGet(StateContext state) {
+        JsonApiRequestScope requestScope = state.getRequestScope();
+        if (requestScope.isStreamingResponse()) {
+            return handleStreamingGet(requestScope);
+        }
+
         JsonApiDocument jsonApiDocument = new JsonApiDocument();
-        RequestScope requestScope = state.getRequestScope();
         Map<String, List<String>> queryParams = requestScope.getRoute().getParameters();
 
         LinkedHashSet<PersistentResource> collection =
@@ -82,6 +86,42 @@ public class CollectionTerminalState extends BaseState {
         DocumentProcessor includedProcessor = new IncludedProcessor();
         includedProcessor.execute(jsonApiDocument, requestScope, collection, queryParams);
 
+        addPageMeta(jsonApiDocument);
+
+        PopulateMetaProcessor metaProcessor = new PopulateMetaProcessor();
+        metaProcessor.execute(jsonApiDocument, requestScope, collection, queryParams);
+
+        return () -> Pair.of(HttpStatus.SC_OK, jsonApiDocument);
+    }
+
+    /**
+     * Builds a document whose primary data is converted while the document is written.  The included resources and
+     * the meta data are complete once the primary data has been consumed.  The included resources are collected in
+     * the document rather than streamed, so their memory use is proportional to the included set.
+     */
+    private Supplier<Pair<Integer, JsonApiDocument>> handleStreamingGet(JsonApiRequestScope requestScope) {
+        JsonApiDocument jsonApiDocument = new JsonApiDocument();
+        Map<String, List<String>> queryParams = requestScope.getRoute().getParameters();
+        DocumentProcessor includedProcessor = new IncludedProcessor();
+        PopulateMetaProcessor metaProcessor = new PopulateMetaProcessor();
+
+        // Only the identities of the resources are kept to drop duplicates.
+        Flux<Resource> resources = getResourceCollection(requestScope)
+                .distinct(resource -> Pair.of(resource.getTypeName(), resource.getId()))
+                .doOnNext(resource -> includedProcessor.execute(jsonApiDocument, requestScope, resource, queryParams))
+                .map(PersistentResource::toResource)
+                .doOnComplete(() -> {
+                    addPageMeta(jsonApiDocument);
+                    // The document meta data does not depend on the resources.
+                    metaProcessor.execute(jsonApiDocument, requestScope, new LinkedHashSet<>(), queryParams);
+                });
+
+        jsonApiDocument.setData(new Data<>(resources, getRelationshipType(requestScope.getDictionary())));
+
+        return () -> Pair.of(HttpStatus.SC_OK, jsonApiDocument);
+    }
+
+    private void addPageMeta(JsonApiDocument jsonApiDocument) {
         Pagination pagination = parentProjection.getPagination();
         if (parent.isPresent()) {
             pagination = parentProjection.getRelationship(relationName.orElseThrow(IllegalStateException::new))
@@ -127,11 +167,6 @@ public class CollectionTerminalState extends BaseState {
             Meta meta = new Meta(allMetaData);
             jsonApiDocument.setMeta(meta);
         }
-
-        PopulateMetaProcessor metaProcessor = new PopulateMetaProcessor();
-        metaProcessor.execute(jsonApiDocument, requestScope, collection, queryParams);
-
-        return () -> Pair.of(HttpStatus.SC_OK, jsonApiDocument);
     }
 
     @Override
@@ -174,14 +209,16 @@ public class CollectionTerminalState extends BaseState {
         Preconditions.checkNotNull(collection);
         List<Resource> resources = collection.stream().map(PersistentResource::toResource).collect(Collectors.toList());
 
+        return new Data<>(resources, getRelationshipType(dictionary));
+    }
+
+    private RelationshipType getRelationshipType(EntityDictionary dictionary) {
         if (parent.isPresent()) {
             Type<?> parentClass = parent.get().getResourceType();
             String relationshipName = relationName.orElseThrow(IllegalStateException::new);
-            RelationshipType type = dictionary.getRelationshipType(parentClass, relationshipName);
-
-            return new Data<>(resources, type);
+            return dictionary.getRelationshipType(parentClass, relationshipName);
         }
-        return new Data<>(resources);
+        return RelationshipType.MANY_TO_MANY;
     }
 
     private PersistentResource createObject(JsonApiRequestScope requestScope)
@@ -15,6 +15,7 @@ import com.yahoo.elide.core.request.route.Route;
 import com.yahoo.elide.core.request.route.RouteResolver;
 import com.yahoo.elide.core.security.User;
 import com.yahoo.elide.jsonapi.JsonApi;
+import com.yahoo.elide.jsonapi.JsonApiSettings;
 import com.yahoo.elide.utils.HeaderProcessor;
 import com.yahoo.elide.utils.ResourceUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -25,6 +26,7 @@ import jakarta.inject.Singleton;
 import jakarta.ws.rs.Consumes;
 import jakarta.ws.rs.DELETE;
 import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HEAD;
 import jakarta.ws.rs.PATCH;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
@@ -34,6 +36,7 @@ import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
+import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.core.UriInfo;
 
 import java.util.List;
@@ -53,6 +56,7 @@ public class JsonApiEndpoint {
     protected final JsonApi jsonApi;
     protected final HeaderProcessor headerProcessor;
     protected final RouteResolver routeResolver;
+    protected final boolean streamingGet;
 
     @Inject
     public JsonApiEndpoint(
@@ -60,6 +64,7 @@ public class JsonApiEndpoint {
         this.elide = elide;
         this.jsonApi = new JsonApi(this.elide);
         this.headerProcessor = elide.getElideSettings().getHeaderProcessor();
+        this.streamingGet = elide.getSettings(JsonApiSettings.class).isStreamingGet();
         this.routeResolver = optionalRouteResolver.orElseGet(() -> {
             Set<String> apiVersions = elide.getElideSettings().getEntityDictionary().getApiVersions();
             if (apiVersions.size() == 1 && apiVersions.contains(EntityDictionary.NO_VERSION)) {
@@ -124,6 +129,43 @@ public class JsonApiEndpoint {
         Map<String, List<String>> requestHeaders = headerProcessor.process(headers.getRequestHeaders());
         User user = new SecurityContextUser(securityContext);
 
+        String baseUrl = getBaseUrlEndpoint(uriInfo);
+        String pathname = path;
+        Route route = routeResolver.resolve(JsonApi.MEDIA_TYPE, baseUrl, pathname, requestHeaders,
+                uriInfo.getQueryParameters());
+
+        if (streamingGet) {
+            ElideResponse<JsonApi.StreamingBody> response = jsonApi.getStreaming(route, user, UUID.randomUUID());
+            StreamingOutput body = outputStream -> {
+                try (JsonApi.StreamingBody streamingBody = response.getBody()) {
+                    streamingBody.accept(outputStream);
+                }
+            };
+            return Response.status(response.getStatus()).entity(body).build();
+        }
+        return build(jsonApi.get(route, user, UUID.randomUUID()));
+    }
+
+    /**
+     * Read handler for HEAD.  The response has no body so it is never streamed - a streamed body that is not
+     * written would hold its transaction open.
+     *
+     * @param path request path
+     * @param uriInfo URI info
+     * @param headers the request headers
+     * @param securityContext security context
+     * @return response
+     */
+    @HEAD
+    @Path("{path:.*}")
+    public Response head(
+        @PathParam("path") String path,
+        @Context UriInfo uriInfo,
+        @Context HttpHeaders headers,
+        @Context SecurityContext securityContext) {
+        Map<String, List<String>> requestHeaders = headerProcessor.process(headers.getRequestHeaders());
+        User user = new SecurityContextUser(securityContext);
+
         String baseUrl = getBaseUrlEndpoint(uriInfo);
         String pathname = path;
         Route route = routeResolver.resolve(JsonApi.MEDIA_TYPE, baseUrl, pathname, requestHeaders,
@@ -100,6 +100,7 @@ import java.util.Collections;
 import java.util.Currency;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -1023,6 +1024,38 @@ public class PersistentResourceTest extends PersistenceResourceTestSetup {
         assertEquals(2, results.size(), "Only filtered relation elements should be returned.");
     }
 
+    @Test
+    public void testGetRelationsCheckedFiltered() {
+        FunWithPermissions fun1 = new FunWithPermissions();
+        Set<Child> children1 = Sets.newHashSet(newChild(1), newChild(-2), newChild(3));
+        fun1.setRelation2(children1);
+
+        FunWithPermissions fun2 = new FunWithPermissions();
+        Set<Child> children2 = Sets.newHashSet(newChild(4));
+        fun2.setRelation2(children2);
+
+        RequestScope scope = new TestRequestScope(tx, goodUser, dictionary);
+        PersistentResource<FunWithPermissions> funResource1 = new PersistentResource<>(fun1, "1", scope);
+        PersistentResource<FunWithPermissions> funResource2 = new PersistentResource<>(fun2, "2", scope);
+
+        Map<Object, Object> relations = new IdentityHashMap<>();
+        relations.put(fun1, new DataStoreIterableBuilder(children1).build());
+        relations.put(fun2, new DataStoreIterableBuilder(children2).build());
+        when(tx.getToManyRelations(any(), any(), any(), any())).thenReturn((Map) relations);
+
+        List<Flux<PersistentResource>> results = PersistentResource.getRelationsCheckedFiltered(
+                List.of(funResource1, funResource2),
+                getRelationship(funResource1.getResourceType(), "relation2"));
+
+        assertEquals(2, results.size());
+        assertEquals(2, results.get(0).collectList().block().size(), "Only filtered relation elements of the "
+                + "first resource should be returned.");
+        assertEquals(1, results.get(1).collectList().block().size());
+
+        verify(tx, times(1)).getToManyRelations(any(), eq(List.of(fun1, fun2)), any(), any());
+        verify(tx, never()).getToManyRelation(any(), any(), any(), any());
+    }
+
     @Test
     public void testGetRelationWithPredicateSuccess() {
         Parent parent = newParent(1);
@@ -8,6 +8,7 @@ package com.yahoo.elide.core;
 import static com.yahoo.elide.core.dictionary.EntityDictionary.NO_VERSION;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -85,6 +86,43 @@ class RequestScopeTest {
         assertNotNull(requestScope.getObjectById(ClassType.of(MyBaseClass.class), myId));
     }
 
+    @Test
+    void testNewObjectsAreCachedByTypeAndId() throws Exception {
+        @Entity
+        @Include(rootLevel = false)
+        class MyFirstClass {
+            @Id
+            public long id;
+        }
+
+        @Entity
+        @Include(rootLevel = false)
+        class MySecondClass {
+            @Id
+            public long id;
+        }
+
+        EntityDictionary dictionary = EntityDictionary.builder().build();
+
+        dictionary.bindEntity(MyFirstClass.class);
+        dictionary.bindEntity(MySecondClass.class);
+
+        Route route = Route.builder().path("/").apiVersion(NO_VERSION).build();
+        ElideSettings elideSettings = ElideSettings.builder().dataStore(null).entityDictionary(dictionary).build();
+        RequestScope requestScope = new RequestScope(route, null, null, UUID.randomUUID(), elideSettings, null);
+
+        assertTrue(requestScope.getObjectEntityCache().isEmpty());
+        assertNull(requestScope.getObjectById(ClassType.of(MyFirstClass.class), "1"));
+
+        MyFirstClass first = new MyFirstClass();
+        requestScope.setUUIDForObject(ClassType.of(MyFirstClass.class), "1", first);
+
+        assertSame(first, requestScope.getObjectById(ClassType.of(MyFirstClass.class), "1"));
+        assertEquals("1", requestScope.getUUIDFor(first));
+        assertNull(requestScope.getObjectById(ClassType.of(MySecondClass.class), "1"));
+        assertNull(requestScope.getObjectById(ClassType.of(MyFirstClass.class), "2"));
+    }
+
     @Test
     void builder() {
         DataStoreTransaction dataStoreTransaction = mock(DataStoreTransaction.class);
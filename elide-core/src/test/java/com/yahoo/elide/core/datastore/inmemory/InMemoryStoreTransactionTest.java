@@ -28,6 +28,7 @@ import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.filter.predicates.InPredicate;
 import com.yahoo.elide.core.pagination.PaginationImpl;
 import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.request.Pagination.Direction;
 import com.yahoo.elide.core.request.Relationship;
 import com.yahoo.elide.core.request.Sorting;
 import com.yahoo.elide.core.sort.SortingImpl;
@@ -40,6 +41,8 @@ import example.Address;
 import example.Author;
 import example.Book;
 import example.Editor;
+import example.Invoice;
+import example.LineItem;
 import example.Price;
 import example.Publisher;
 import org.junit.jupiter.api.BeforeEach;
@@ -49,7 +52,9 @@ import org.mockito.ArgumentCaptor;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -77,6 +82,8 @@ public class InMemoryStoreTransactionTest {
         dictionary.bindEntity(Author.class);
         dictionary.bindEntity(Editor.class);
         dictionary.bindEntity(Publisher.class);
+        dictionary.bindEntity(Invoice.class);
+        dictionary.bindEntity(LineItem.class);
 
         elideSettings = ElideSettings.builder().dataStore(null)
                 .entityDictionary(EntityDictionary.builder().build())
@@ -609,6 +616,142 @@ public class InMemoryStoreTransactionTest {
         assertEquals(3, pagination.getPageTotals());
     }
 
+    @Test
+    public void testSortingSelectsPageWithoutPageTotals() {
+        PaginationImpl pagination = new PaginationImpl(ClassType.of(Book.class), 1, 1, 10, 10, false, false);
+
+        Map<String, Sorting.SortOrder> sortOrder = new HashMap<>();
+        sortOrder.put("title", Sorting.SortOrder.desc);
+
+        Sorting sorting = new SortingImpl(sortOrder, Book.class, dictionary);
+
+        EntityProjection projection = EntityProjection.builder()
+                .type(Book.class)
+                .sorting(sorting)
+                .pagination(pagination)
+                .build();
+
+        DataStoreIterable sortInMemory = new DataStoreIterableBuilder(books).sortInMemory(true).build();
+
+        when(wrappedTransaction.loadObjects(any(), eq(scope))).thenReturn(sortInMemory);
+
+        Collection<Object> loaded = Lists.newArrayList(inMemoryStoreTransaction.loadObjects(
+                projection,
+                scope));
+
+        List<String> bookTitles = loaded.stream().map((o) -> ((Book) o).getTitle()).collect(Collectors.toList());
+        assertEquals(Lists.newArrayList("Book 2"), bookTitles);
+        assertNull(pagination.getPageTotals());
+    }
+
+    @Test
+    public void testInMemoryPaginationStopsLoadingWhenPageIsFull() {
+        PaginationImpl pagination = new PaginationImpl(ClassType.of(Book.class), 0, 1, 10, 10, false, false);
+
+        EntityProjection projection = EntityProjection.builder()
+                .type(Book.class)
+                .pagination(pagination)
+                .build();
+
+        Iterator<Object> iterator = mock(Iterator.class);
+        when(iterator.hasNext()).thenReturn(true);
+        when(iterator.next()).thenReturn(book1, book2, book3);
+
+        DataStoreIterable paginateInMemory = new DataStoreIterableBuilder(() -> iterator)
+                .paginateInMemory(true).build();
+
+        when(wrappedTransaction.loadObjects(any(), eq(scope))).thenReturn(paginateInMemory);
+
+        Collection<Object> loaded = Lists.newArrayList(inMemoryStoreTransaction.loadObjects(
+                projection,
+                scope));
+
+        assertEquals(Lists.newArrayList(book1), loaded);
+        verify(iterator, times(1)).next();
+    }
+
+    @Test
+    public void testSortingWithCursorPagination() {
+        Map<String, Sorting.SortOrder> sortOrder = new HashMap<>();
+        sortOrder.put("title", Sorting.SortOrder.desc);
+
+        Sorting sorting = new SortingImpl(sortOrder, Book.class, dictionary);
+
+        PaginationImpl first = new PaginationImpl(Book.class, null, 1, 10, 10, false, false,
+                null, null, Direction.FORWARD);
+
+        List<Object> loaded = loadSortedPage(sorting, first);
+        assertEquals(Lists.newArrayList(book3), loaded);
+        assertTrue(first.getHasNextPage());
+
+        PaginationImpl next = new PaginationImpl(Book.class, null, 1, 10, 10, false, false,
+                null, first.getEndCursor(), Direction.FORWARD);
+
+        loaded = loadSortedPage(sorting, next);
+        assertEquals(Lists.newArrayList(book2), loaded);
+
+        PaginationImpl previous = new PaginationImpl(Book.class, null, 2, 10, 10, false, false,
+                next.getEndCursor(), null, Direction.BACKWARD);
+
+        loaded = loadSortedPage(sorting, previous);
+        assertEquals(Lists.newArrayList(book3), loaded);
+
+        PaginationImpl unknown = new PaginationImpl(Book.class, null, 1, 10, 10, false, false,
+                null, "unknown", Direction.FORWARD);
+
+        assertTrue(loadSortedPage(sorting, unknown).isEmpty());
+    }
+
+    @Test
+    public void testCursorPaginationOverDates() {
+        //The dates differ by less than the precision of their string form.
+        List<Object> invoices = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        for (int idx = 0; idx < 3; idx++) {
+            Invoice invoice = new Invoice();
+            invoice.setId(idx);
+            invoice.setCreationDate(new Date(now + idx));
+            invoices.add(invoice);
+        }
+
+        Map<String, Sorting.SortOrder> sortOrder = new HashMap<>();
+        sortOrder.put("creationDate", Sorting.SortOrder.desc);
+        Sorting sorting = new SortingImpl(sortOrder, Invoice.class, dictionary);
+
+        String cursor = null;
+        List<Object> loaded = new ArrayList<>();
+        for (int idx = 0; idx < 3; idx++) {
+            PaginationImpl page = new PaginationImpl(Invoice.class, null, 1, 10, 10, false, false,
+                    null, cursor, Direction.FORWARD);
+            EntityProjection projection = EntityProjection.builder()
+                    .type(Invoice.class)
+                    .sorting(sorting)
+                    .pagination(page)
+                    .build();
+            when(wrappedTransaction.loadObjects(any(), eq(scope)))
+                    .thenReturn(new DataStoreIterableBuilder(invoices).sortInMemory(true).build());
+
+            loaded.addAll(Lists.newArrayList(inMemoryStoreTransaction.loadObjects(projection, scope)));
+            cursor = page.getEndCursor();
+        }
+
+        assertEquals(Lists.newArrayList(invoices.get(2), invoices.get(1), invoices.get(0)), loaded);
+    }
+
+    private List<Object> loadSortedPage(Sorting sorting, PaginationImpl pagination) {
+        EntityProjection projection = EntityProjection.builder()
+                .type(Book.class)
+                .sorting(sorting)
+                .pagination(pagination)
+                .build();
+
+        DataStoreIterable sortInMemory = new DataStoreIterableBuilder(books).sortInMemory(true).build();
+
+        when(wrappedTransaction.loadObjects(any(), eq(scope))).thenReturn(sortInMemory);
+
+        return Lists.newArrayList(inMemoryStoreTransaction.loadObjects(projection, scope));
+    }
+
     @Test
     public void testGetProperty() {
         when(wrappedTransaction.getProperty(any())).thenReturn(1);
@@ -19,6 +19,9 @@ import com.yahoo.elide.core.datastore.DataStoreTransaction;
 import com.yahoo.elide.core.request.Attribute;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+import java.util.Map;
+
 public class TransactionWrapperTest {
 
     private static class TestTransactionWrapper extends TransactionWrapper {
@@ -180,6 +183,34 @@ public class TransactionWrapperTest {
         assertEquals(1L, actual);
     }
 
+    @Test
+    public void testGetToManyRelations() {
+        DataStoreTransaction wrapped = mock(DataStoreTransaction.class);
+        DataStoreTransaction wrapper = new TestTransactionWrapper(wrapped);
+
+        Map<Object, DataStoreIterable<Object>> expected = Map.of(1L, mock(DataStoreIterable.class));
+        when(wrapped.getToManyRelations(any(), any(), any(), any())).thenReturn(expected);
+
+        Map<Object, DataStoreIterable<Object>> actual = wrapper.getToManyRelations(null, List.of(1L), null, null);
+
+        verify(wrapped, times(1)).getToManyRelations(any(), any(), any(), any());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testGetToOneRelations() {
+        DataStoreTransaction wrapped = mock(DataStoreTransaction.class);
+        DataStoreTransaction wrapper = new TestTransactionWrapper(wrapped);
+
+        Map<Object, Object> expected = Map.of(1L, 2L);
+        when(wrapped.getToOneRelations(any(), any(), any(), any())).thenReturn(expected);
+
+        Map<Object, Object> actual = wrapper.getToOneRelations(null, List.of(1L), null, null);
+
+        verify(wrapped, times(1)).getToOneRelations(any(), any(), any(), any());
+        assertEquals(expected, actual);
+    }
+
     @Test
     public void testLoadObject() {
         DataStoreTransaction wrapped = mock(DataStoreTransaction.class);
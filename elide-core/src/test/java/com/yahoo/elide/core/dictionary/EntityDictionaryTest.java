@@ -23,6 +23,7 @@ import com.yahoo.elide.annotation.LifeCycleHookBinding;
 import com.yahoo.elide.annotation.ReadPermission;
 import com.yahoo.elide.annotation.SecurityCheck;
 import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.exceptions.BadRequestException;
 import com.yahoo.elide.core.exceptions.InvalidAttributeException;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
 import com.yahoo.elide.core.lifecycle.LifeCycleHook;
@@ -1135,6 +1136,43 @@ public class EntityDictionaryTest extends EntityDictionary {
         assertEquals(ImmutableSet.of(3.0, 4.0), bean.set);
     }
 
+    @Test
+    public void testCompiledAccessors() {
+        @Entity
+        @Include(rootLevel = false)
+        class AccessorTest {
+            @Id
+            private long id;
+
+            private String name;
+
+            @Transient
+            @ComputedAttribute
+            public String getScopedName(com.yahoo.elide.core.security.RequestScope requestScope) {
+                return requestScope == null ? null : name;
+            }
+
+            @Transient
+            @ComputedAttribute
+            public String getBadName() {
+                throw new BadRequestException("Invalid name");
+            }
+        }
+        bindEntity(AccessorTest.class);
+
+        AccessorTest model = new AccessorTest();
+        RequestScope scope = mock(RequestScope.class);
+
+        setValue(model, "name", 1L);
+        assertEquals("1", model.name);
+        assertEquals("1", getValue(model, "name", scope));
+        assertEquals("1", getValue(model, "scopedName", scope));
+
+        assertThrows(BadRequestException.class, () -> getValue(model, "badName", scope));
+        assertThrows(InvalidAttributeException.class, () -> getValue(model, "badfield", scope));
+        assertThrows(InvalidAttributeException.class, () -> setValue(model, "scopedName", "Elide"));
+    }
+
     public static class TestCheck extends UserCheck {
 
         @Override
@@ -5,7 +5,9 @@
  */
 package com.yahoo.elide.core.filter.expression;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
@@ -13,6 +15,7 @@ import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.Path.PathElement;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.exceptions.InvalidValueException;
 import com.yahoo.elide.core.filter.predicates.FalsePredicate;
 import com.yahoo.elide.core.filter.predicates.GEPredicate;
 import com.yahoo.elide.core.filter.predicates.GTPredicate;
@@ -47,6 +50,7 @@ import example.Book;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -637,4 +641,35 @@ public class InMemoryFilterExecutorTest {
         fn = expression.accept(visitor);
         assertFalse(fn.test(author));
     }
+
+    @Test
+    public void compiledPredicateReuseTest() throws Exception {
+        expression = new OrFilterExpression(
+                new InPredicate(authorIdElement, "1", "3"),
+                new AndFilterExpression(
+                        new GTPredicate(authorIdElement, "10"),
+                        new NotFilterExpression(new PrefixPredicate(authorNameElement, "skip"))));
+        fn = expression.accept(visitor);
+
+        List<Long> matches = new ArrayList<>();
+        for (long id = 0; id < 14; id++) {
+            author = new Author();
+            author.setId(id);
+            author.setName(id == 12 ? "skipped" : "kept");
+            if (fn.test(author)) {
+                matches.add(id);
+            }
+        }
+        assertEquals(Arrays.asList(1L, 3L, 11L, 13L), matches);
+    }
+
+    @Test
+    public void invalidValueRaisedWhenTestedTest() throws Exception {
+        author = new Author();
+        author.setId(1L);
+
+        expression = new InPredicate(authorIdElement, "one");
+        fn = expression.accept(visitor);
+        assertThrows(InvalidValueException.class, () -> fn.test(author));
+    }
 }
@@ -7,6 +7,8 @@ package com.yahoo.elide.core.security.permissions;
 
 import static com.yahoo.elide.core.dictionary.EntityDictionary.NO_VERSION;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import com.yahoo.elide.ElideSettings;
 import com.yahoo.elide.annotation.Include;
@@ -21,6 +23,8 @@ import com.yahoo.elide.core.security.ChangeSpec;
 import com.yahoo.elide.core.security.checks.Check;
 import com.yahoo.elide.core.security.checks.prefab.Role;
 import com.yahoo.elide.core.security.permissions.expressions.Expression;
+import com.yahoo.elide.core.type.ClassType;
+import org.antlr.v4.runtime.tree.ParseTree;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -125,6 +129,33 @@ public class PermissionExpressionBuilderTest {
 
      }
 
+    @Test
+    public void testPermissionTemplateIsCompiledOnce() {
+        @Entity
+        @Include(rootLevel = false)
+        @ReadPermission(expression = "NOT (user has all access AND user has no access)")
+        class Model { }
+        dictionary.bindEntity(Model.class);
+
+        ParseTree permissions = dictionary.getPermissionsForClass(ClassType.of(Model.class), ReadPermission.class);
+        PermissionExpressionTemplate template = dictionary.getPermissionTemplate(permissions);
+        assertSame(template, dictionary.getPermissionTemplate(permissions));
+
+        Expression first = builder.buildAnyFieldExpressions(
+                newResource(new Model(), Model.class), ReadPermission.class, null, null);
+        Expression second = builder.buildAnyFieldExpressions(
+                newResource(new Model(), Model.class), ReadPermission.class, null, null);
+
+        assertNotSame(first, second);
+        assertEquals(first.toString(), second.toString());
+        assertEquals("READ PERMISSION WAS INVOKED ON PersistentResource{type=model, id=null}  "
+                        + "FOR EXPRESSION [(NOT ((user has all access \u001B[34mWAS UNEVALUATED\u001B[m))) "
+                        + "OR (NOT ((user has no access \u001B[34mWAS UNEVALUATED\u001B[m)))]",
+                first.toString());
+
+        assertEquals(ExpressionResult.PASS, first.evaluate(Expression.EvaluationMode.ALL_CHECKS));
+    }
+
     public <T> PersistentResource newResource(T obj, Class<T> cls) {
         Route route = Route.builder().apiVersion(NO_VERSION).build();
         RequestScope requestScope = RequestScope.builder().route(route).requestId(UUID.randomUUID())
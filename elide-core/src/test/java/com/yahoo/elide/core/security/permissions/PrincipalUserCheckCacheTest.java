@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.core.security.permissions;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.yahoo.elide.core.security.User;
+import com.yahoo.elide.core.security.checks.CacheableUserCheck;
+import com.yahoo.elide.core.security.checks.UserCheck;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+public class PrincipalUserCheckCacheTest {
+
+    private static class CountingCheck extends UserCheck {
+        int evaluations = 0;
+
+        @Override
+        public boolean ok(User user) {
+            evaluations++;
+            return "admin".equals(user.getName());
+        }
+    }
+
+    private static class CacheableCountingCheck extends CountingCheck implements CacheableUserCheck {
+    }
+
+    private static User user(String name) {
+        return new User(() -> name);
+    }
+
+    @Test
+    public void testCacheableCheckIsEvaluatedOncePerPrincipal() {
+        PrincipalUserCheckCache cache = new PrincipalUserCheckCache();
+        CacheableCountingCheck check = new CacheableCountingCheck();
+
+        assertTrue(cache.ok(check, user("admin")));
+        assertTrue(cache.ok(check, user("admin")));
+        assertFalse(cache.ok(check, user("guest")));
+        assertFalse(cache.ok(check, user("guest")));
+
+        assertEquals(2, check.evaluations);
+    }
+
+    @Test
+    public void testOtherChecksAreNotCached() {
+        PrincipalUserCheckCache cache = new PrincipalUserCheckCache();
+        CountingCheck check = new CountingCheck();
+
+        cache.ok(check, user("admin"));
+        cache.ok(check, user("admin"));
+
+        assertEquals(2, check.evaluations);
+    }
+
+    @Test
+    public void testAnonymousUserIsNotCached() {
+        PrincipalUserCheckCache cache = new PrincipalUserCheckCache();
+        CacheableCountingCheck check = new CacheableCountingCheck();
+
+        cache.ok(check, new User(null));
+        cache.ok(check, new User(null));
+
+        assertEquals(2, check.evaluations);
+    }
+
+    @Test
+    public void testInvalidate() {
+        PrincipalUserCheckCache cache = new PrincipalUserCheckCache(100, Duration.ofHours(1));
+        CacheableCountingCheck check = new CacheableCountingCheck();
+
+        cache.ok(check, user("admin"));
+        cache.ok(check, user("guest"));
+        cache.invalidate("admin");
+        cache.ok(check, user("admin"));
+        cache.ok(check, user("guest"));
+        assertEquals(3, check.evaluations);
+
+        cache.invalidateAll();
+        cache.ok(check, user("guest"));
+        assertEquals(4, check.evaluations);
+    }
+
+    @Test
+    public void testExpressionResultCacheUsesSharedCache() {
+        PrincipalUserCheckCache shared = new PrincipalUserCheckCache();
+        CacheableCountingCheck check = new CacheableCountingCheck();
+
+        //Each request has its own expression result cache.
+        assertTrue(new ExpressionResultCache(shared).evaluateUserCheck(check, user("admin")));
+        assertTrue(new ExpressionResultCache(shared).evaluateUserCheck(check, user("admin")));
+        assertEquals(1, check.evaluations);
+
+        new ExpressionResultCache().evaluateUserCheck(check, user("admin"));
+        assertEquals(2, check.evaluations);
+    }
+}
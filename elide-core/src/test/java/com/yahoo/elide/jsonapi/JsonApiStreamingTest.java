@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.jsonapi;
+
+import static com.yahoo.elide.core.dictionary.EntityDictionary.NO_VERSION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.ElideResponse;
+import com.yahoo.elide.ElideSettings;
+import com.yahoo.elide.core.datastore.DataStoreTransaction;
+import com.yahoo.elide.core.datastore.inmemory.HashMapDataStore;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.dictionary.TestDictionary;
+import com.yahoo.elide.core.request.route.Route;
+import com.yahoo.elide.core.security.TestUser;
+import com.yahoo.elide.core.security.User;
+
+import example.Child;
+import example.Parent;
+
+import org.json.JSONException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.skyscreamer.jsonassert.JSONAssert;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Tests that a streamed GET writes the same document as a buffered GET and always releases its transaction.
+ */
+public class JsonApiStreamingTest {
+    private static final String BASE_URL = "http://localhost:8080/json";
+
+    private final User user = new TestUser("1");
+    private Elide elide;
+    private JsonApi jsonApi;
+
+    @BeforeEach
+    void setup() throws IOException {
+        EntityDictionary dictionary = TestDictionary.getTestDictionary();
+        HashMapDataStore dataStore = new HashMapDataStore(Arrays.asList(Parent.class, Child.class));
+        dataStore.populateEntityDictionary(dictionary);
+
+        try (DataStoreTransaction tx = dataStore.beginTransaction()) {
+            for (long id = 1; id <= 3; id++) {
+                Parent parent = new Parent();
+                parent.setId(id);
+                parent.setFirstName("parent" + id);
+                parent.setSpouses(new HashSet<>());
+                Child child = new Child();
+                child.setName("child" + id);
+                child.setFriends(new HashSet<>());
+                parent.setChildren(Set.of(child));
+                child.setParents(Set.of(parent));
+                tx.createObject(parent, null);
+                tx.createObject(child, null);
+            }
+            tx.commit(null);
+        }
+
+        JsonApiSettings.JsonApiSettingsBuilder jsonApiSettings = JsonApiSettings.builder().streamingGet(true);
+        ElideSettings settings = ElideSettings.builder().dataStore(dataStore)
+                .entityDictionary(dictionary)
+                .objectMapper(jsonApiSettings.build().getJsonApiMapper().getObjectMapper())
+                .settings(jsonApiSettings)
+                .build();
+        elide = new Elide(settings);
+        jsonApi = new JsonApi(elide);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "/parent",
+        "/parent?include=children",
+        "/parent?include=children.parents&page[size]=2&page[totals]",
+        "/parent/1",
+        "/parent/1/children",
+        "/parent/1/children?include=parents",
+        "/parent/4",
+        "/unknown",
+        "/parent?unknown=1",
+    })
+    void streamedResponseMatchesBufferedResponse(String request) {
+        Route route = route(request);
+
+        ElideResponse<String> expected = jsonApi.get(route, user, null);
+        ElideResponse<JsonApi.StreamingBody> actual = jsonApi.getStreaming(route, user, null);
+
+        assertEquals(expected.getStatus(), actual.getStatus());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (JsonApi.StreamingBody body = actual.getBody()) {
+            body.accept(outputStream);
+        }
+        try {
+            JSONAssert.assertEquals(expected.getBody(), outputStream.toString(StandardCharsets.UTF_8), true);
+        } catch (JSONException e) {
+            fail(e);
+        }
+        assertTrue(elide.getTransactionRegistry().getRunningTransactions().isEmpty());
+    }
+
+    @Test
+    void droppedBodyClosesTransaction() {
+        UUID requestId = UUID.randomUUID();
+        ElideResponse<JsonApi.StreamingBody> response = jsonApi.getStreaming(route("/parent"), user, requestId);
+        assertEquals(200, response.getStatus());
+        assertNotNull(elide.getTransactionRegistry().getRunningTransaction(requestId));
+
+        // The body is closed without being written, as for a HEAD request or a client that went away.
+        response.getBody().close();
+
+        assertTrue(elide.getTransactionRegistry().getRunningTransactions().isEmpty());
+        assertThrows(IllegalStateException.class, () -> response.getBody().accept(new ByteArrayOutputStream()));
+    }
+
+    private static Route route(String request) {
+        String[] parts = request.split("\\?", 2);
+        Map<String, List<String>> parameters = new LinkedHashMap<>();
+        if (parts.length > 1) {
+            for (String parameter : parts[1].split("&")) {
+                String[] keyValue = parameter.split("=", 2);
+                parameters.computeIfAbsent(keyValue[0], key -> new ArrayList<>())
+                        .add(keyValue.length > 1 ? keyValue[1] : "");
+            }
+        }
+        return Route.builder().baseUrl(BASE_URL).path(parts[0]).apiVersion(NO_VERSION).parameters(parameters)
+                .build();
+    }
+}
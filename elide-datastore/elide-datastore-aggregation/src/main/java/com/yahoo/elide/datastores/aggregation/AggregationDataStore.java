@@ -23,6 +23,9 @@ import com.yahoo.elide.datastores.aggregation.annotation.ColumnMeta;
 import com.yahoo.elide.datastores.aggregation.annotation.Join;
 import com.yahoo.elide.datastores.aggregation.annotation.TableMeta;
 import com.yahoo.elide.datastores.aggregation.cache.Cache;
+import com.yahoo.elide.datastores.aggregation.cache.CacheBudget;
+import com.yahoo.elide.datastores.aggregation.cache.QueryCoalescer;
+import com.yahoo.elide.datastores.aggregation.cache.TableVersionCache;
 import com.yahoo.elide.datastores.aggregation.core.QueryLogger;
 import com.yahoo.elide.datastores.aggregation.metadata.enums.ValueType;
 import com.yahoo.elide.datastores.aggregation.metadata.models.ArgumentDefinition;
@@ -35,6 +38,7 @@ import com.yahoo.elide.modelconfig.validator.PermissionExpressionVisitor;
 import org.antlr.v4.runtime.tree.ParseTree;
 
 import lombok.Builder;
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.ToString;
 
@@ -57,6 +61,23 @@ public class AggregationDataStore implements DataStore {
     private final Set<Type<?>> dynamicCompiledClasses;
     private final QueryLogger queryLogger;
 
+    /**
+     * Cached table versions for query cache lookups.  If null, table versions are queried for every lookup.
+     */
+    @Getter
+    private final TableVersionCache tableVersionCache;
+
+    /**
+     * Limits the size of results stored in the cache.
+     */
+    @Builder.Default
+    private final CacheBudget cacheBudget = CacheBudget.UNLIMITED;
+
+    /**
+     * Shares the result of identical concurrent queries across transactions.  Null disables coalescing.
+     */
+    private final QueryCoalescer queryCoalescer;
+
     public static final Predicate<AccessibleObject> IS_FIELD_HIDDEN = (field -> {
         ColumnMeta meta = field.getAnnotation(ColumnMeta.class);
         Join join = field.getAnnotation(Join.class);
@@ -135,7 +156,8 @@ public class AggregationDataStore implements DataStore {
 
     @Override
     public DataStoreTransaction beginTransaction() {
-        return new AggregationDataStoreTransaction(queryEngine, cache, queryLogger);
+        return new AggregationDataStoreTransaction(queryEngine, cache, queryLogger, tableVersionCache,
+                cacheBudget, queryCoalescer);
     }
 
     /**
@@ -19,7 +19,11 @@ import com.yahoo.elide.core.request.Argument;
 import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.core.type.Type;
 import com.yahoo.elide.datastores.aggregation.cache.Cache;
+import com.yahoo.elide.datastores.aggregation.cache.CacheBudget;
+import com.yahoo.elide.datastores.aggregation.cache.CachingIterable;
+import com.yahoo.elide.datastores.aggregation.cache.QueryCoalescer;
 import com.yahoo.elide.datastores.aggregation.cache.QueryKeyExtractor;
+import com.yahoo.elide.datastores.aggregation.cache.TableVersionCache;
 import com.yahoo.elide.datastores.aggregation.core.QueryLogger;
 import com.yahoo.elide.datastores.aggregation.core.QueryResponse;
 import com.yahoo.elide.datastores.aggregation.filter.visitor.MatchesTemplateVisitor;
@@ -30,20 +34,28 @@ import com.yahoo.elide.datastores.aggregation.metadata.models.Table;
 import com.yahoo.elide.datastores.aggregation.query.Query;
 import com.yahoo.elide.datastores.aggregation.query.QueryResult;
 import com.google.common.annotations.VisibleForTesting;
-import com.google.common.collect.Lists;
+import com.google.common.base.Suppliers;
+import com.google.common.collect.Iterables;
 
 import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
  * Transaction handler for {@link AggregationDataStore}.
  */
+@Slf4j
 @ToString
 public class AggregationDataStoreTransaction implements DataStoreTransaction {
     private final QueryEngine queryEngine;
@@ -51,11 +63,59 @@ public class AggregationDataStoreTransaction implements DataStoreTransaction {
     private final QueryEngine.Transaction queryEngineTransaction;
     private final QueryLogger queryLogger;
     private final MetaDataStore metaDataStore;
+    private final TableVersionCache tableVersionCache;
+    private final CacheBudget cacheBudget;
+    private final QueryCoalescer queryCoalescer;
 
     public AggregationDataStoreTransaction(QueryEngine queryEngine, Cache cache,
                                            QueryLogger queryLogger) {
+        this(queryEngine, cache, queryLogger, null);
+    }
+
+    /**
+     * Constructor.
+     * @param queryEngine The engine that runs the queries.
+     * @param cache The query result cache or null if caching is disabled.
+     * @param queryLogger Logs each query.
+     * @param tableVersionCache Cached table versions.  If null, table versions are queried on every cache lookup.
+     */
+    public AggregationDataStoreTransaction(QueryEngine queryEngine, Cache cache,
+                                           QueryLogger queryLogger, TableVersionCache tableVersionCache) {
+        this(queryEngine, cache, queryLogger, tableVersionCache, CacheBudget.UNLIMITED);
+    }
+
+    /**
+     * Constructor.
+     * @param queryEngine The engine that runs the queries.
+     * @param cache The query result cache or null if caching is disabled.
+     * @param queryLogger Logs each query.
+     * @param tableVersionCache Cached table versions.  If null, table versions are queried on every cache lookup.
+     * @param cacheBudget Limits the size of results stored in the cache.
+     */
+    public AggregationDataStoreTransaction(QueryEngine queryEngine, Cache cache,
+                                           QueryLogger queryLogger, TableVersionCache tableVersionCache,
+                                           CacheBudget cacheBudget) {
+        this(queryEngine, cache, queryLogger, tableVersionCache, cacheBudget, null);
+    }
+
+    /**
+     * Constructor.
+     * @param queryEngine The engine that runs the queries.
+     * @param cache The query result cache or null if caching is disabled.
+     * @param queryLogger Logs each query.
+     * @param tableVersionCache Cached table versions.  If null, table versions are queried on every cache lookup.
+     * @param cacheBudget Limits the size of results stored in the cache.
+     * @param queryCoalescer Shares the result of identical concurrent cache misses.  If null, every cache miss
+     *                       runs its own query.
+     */
+    public AggregationDataStoreTransaction(QueryEngine queryEngine, Cache cache,
+                                           QueryLogger queryLogger, TableVersionCache tableVersionCache,
+                                           CacheBudget cacheBudget, QueryCoalescer queryCoalescer) {
         this.queryEngine = queryEngine;
         this.cache = cache;
+        this.tableVersionCache = tableVersionCache;
+        this.cacheBudget = cacheBudget;
+        this.queryCoalescer = queryCoalescer;
         this.queryEngineTransaction = queryEngine.beginTransaction();
         this.queryLogger = queryLogger;
         this.metaDataStore = queryEngine.getMetaDataStore();
@@ -106,7 +166,9 @@ public class AggregationDataStoreTransaction implements DataStoreTransaction {
             Query query = buildQuery(entityProjection, scope);
             Table table = (Table) query.getSource();
             if (cache != null && !query.isBypassingCache()) {
-                String tableVersion = queryEngine.getTableVersion(table, queryEngineTransaction);
+                String tableVersion = (tableVersionCache != null)
+                        ? tableVersionCache.getTableVersion(table)
+                        : queryEngine.getTableVersion(table, queryEngineTransaction);
                 tableVersion = tableVersion == null ? "" : tableVersion;
 
                 cacheKey = tableVersion + ';' + QueryKeyExtractor.extractKey(query);
@@ -114,21 +176,26 @@ public class AggregationDataStoreTransaction implements DataStoreTransaction {
             }
 
             boolean isCached = result != null;
-            List<String> queryText = queryEngine.explain(query);
+
+            //The query text is only generated if the logger reads it (or the query executes).
+            List<String> queryText = new LazyQueryText(() -> queryEngine.explain(query, queryEngineTransaction));
             queryLogger.processQuery(scope.getRequestId(), query, queryText, isCached);
-            if (result == null) {
+            if (result == null && cacheKey != null && queryCoalescer != null) {
+
+                //Identical concurrent queries share the first one's result when it fits the cache budget.
+                String key = cacheKey;
+                result = queryCoalescer.execute(key, () -> executeAndCache(key, query));
+            } else if (result == null) {
                 result = queryEngine.executeQuery(query, queryEngineTransaction);
                 if (cacheKey != null) {
 
-                    //The query result needs to be streamed into an in memory list before caching.
-                    //TODO - add a cap to how many records can be streamed back.  If this is exceeded, abort caching
-                    //and return the results.
-                    QueryResult cacheableResult = QueryResult.builder()
-                            .data(Lists.newArrayList(result.getData().iterator()))
+                    //The query result is buffered while it streams back to the client.  It is cached once fully
+                    //read - unless it exceeds the cache budget, in which case buffering is abandoned.
+                    result = QueryResult.builder()
+                            .data(new CachingIterable<>(result.getData(), cacheBudget,
+                                    putInCache(cacheKey, query, result.getPageTotals())))
                             .pageTotals(result.getPageTotals())
                             .build();
-                    cache.put(cacheKey, cacheableResult);
-                    result = cacheableResult;
                 }
             }
             if (entityProjection.getPagination() != null && entityProjection.getPagination().returnPageTotals()) {
@@ -147,6 +214,55 @@ public class AggregationDataStoreTransaction implements DataStoreTransaction {
         }
     }
 
+    /**
+     * Runs the query and reads the whole result so that it can be cached and shared by coalesced requests.  A
+     * result that exceeds the cache budget is neither cached nor shared: the rows read so far and the rest of the
+     * result are streamed to this request only.
+     */
+    private QueryResult executeAndCache(String cacheKey, Query query) {
+        QueryResult result = queryEngine.executeQuery(query, queryEngineTransaction);
+
+        Iterator<Object> iterator = result.getData().iterator();
+        List<Object> rows = new ArrayList<>();
+        long bytes = 0;
+        while (iterator.hasNext()) {
+            Object row = iterator.next();
+            rows.add(row);
+            bytes += cacheBudget.getRowSizeEstimator().applyAsLong(row);
+            if (rows.size() > cacheBudget.getMaxRows() || bytes > cacheBudget.getMaxBytes()) {
+                log.debug("Result exceeds cache budget of {} rows or {} bytes.  It will not be cached or shared.",
+                        cacheBudget.getMaxRows(), cacheBudget.getMaxBytes());
+                Iterable<Object> remaining = () -> iterator;
+                return QueryResult.builder()
+                        .data(Iterables.concat(rows, remaining))
+                        .pageTotals(result.getPageTotals())
+                        .build();
+            }
+        }
+        putInCache(cacheKey, query, result.getPageTotals()).accept(rows);
+
+        return QueryResult.builder()
+                .data(rows)
+                .pageTotals(result.getPageTotals())
+                .build();
+    }
+
+    private Consumer<List<Object>> putInCache(String cacheKey, Query query, Long pageTotals) {
+        return rows -> {
+            QueryResult cacheableResult = QueryResult.builder()
+                    .data(rows)
+                    .pageTotals(pageTotals)
+                    .build();
+
+            //The client is already reading the result, so a cache failure must not fail the request.
+            try {
+                cache.put(cacheKey, query, cacheableResult);
+            } catch (RuntimeException e) {
+                log.error("Unable to cache query result: {}", e.getMessage());
+            }
+        };
+    }
+
     @Override
     public void close() throws IOException {
         queryEngineTransaction.close();
@@ -256,6 +372,27 @@ public class AggregationDataStoreTransaction implements DataStoreTransaction {
         queryEngineTransaction.cancel();
     }
 
+    /**
+     * Query text that is generated on first access.
+     */
+    private static class LazyQueryText extends AbstractList<String> {
+        private final Supplier<List<String>> queryText;
+
+        LazyQueryText(Supplier<List<String>> explain) {
+            this.queryText = Suppliers.memoize(explain::get);
+        }
+
+        @Override
+        public String get(int index) {
+            return queryText.get().get(index);
+        }
+
+        @Override
+        public int size() {
+            return queryText.get().size();
+        }
+    }
+
     private <T> void throwReadOnlyException(T entity) {
         EntityDictionary dictionary = metaDataStore.getMetadataDictionary();
         Type<?> type  = dictionary.getType(entity);
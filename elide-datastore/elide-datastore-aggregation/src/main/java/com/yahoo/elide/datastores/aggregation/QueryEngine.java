@@ -250,5 +250,18 @@ public abstract class QueryEngine {
      */
     public abstract List<String> explain(Query query);
 
+    /**
+     * Returns the actual query string(s) that would be executed for the input {@link Query} within the given
+     * transaction.  Engines may memoize the translation so that a subsequent
+     * {@link #executeQuery(Query, Transaction)} for the same query does not repeat it.
+     *
+     * @param query The query customized for a particular persistent storage or storage client.
+     * @param transaction transaction
+     * @return List of SQL string(s) corresponding to the given query.
+     */
+    public List<String> explain(Query query, Transaction transaction) {
+        return explain(query);
+    }
+
     public abstract QueryValidator getValidator();
 }
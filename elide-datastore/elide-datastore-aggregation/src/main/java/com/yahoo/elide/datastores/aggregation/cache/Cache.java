@@ -5,6 +5,7 @@
  */
 package com.yahoo.elide.datastores.aggregation.cache;
 
+import com.yahoo.elide.datastores.aggregation.query.Query;
 import com.yahoo.elide.datastores.aggregation.query.QueryResult;
 
 /**
@@ -26,4 +27,15 @@ public interface Cache {
      * @param result the result to cache with the key
      */
     void put(Object key, QueryResult result);
+
+    /**
+     * Insert results into cache.  Caches that encode results using the layout of the query should override this.
+     *
+     * @param key    the key to associate with the query
+     * @param query  the query which produced the result
+     * @param result the result to cache with the key
+     */
+    default void put(Object key, Query query, QueryResult result) {
+        put(key, result);
+    }
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.aggregation.cache;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Limits how large a query result may be and still be stored in the query {@link Cache}.
+ */
+@Value
+@Builder
+public class CacheBudget {
+    /**
+     * Rough heap size of a hydrated row used when no estimator is supplied.
+     */
+    public static final long DEFAULT_ROW_BYTES = 256L;
+
+    /**
+     * A budget that caches every result.
+     */
+    public static final CacheBudget UNLIMITED = CacheBudget.builder().build();
+
+    /**
+     * Maximum number of rows in a cacheable result.
+     */
+    @Builder.Default
+    private long maxRows = Long.MAX_VALUE;
+
+    /**
+     * Maximum estimated size in bytes of a cacheable result.
+     */
+    @Builder.Default
+    private long maxBytes = Long.MAX_VALUE;
+
+    /**
+     * Estimates the size in bytes of a single row.
+     */
+    @Builder.Default
+    private ToLongFunction<Object> rowSizeEstimator = row -> DEFAULT_ROW_BYTES;
+}
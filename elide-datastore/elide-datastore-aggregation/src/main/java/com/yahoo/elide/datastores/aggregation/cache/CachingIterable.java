@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.aggregation.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Streams a single pass result while buffering its rows for the query {@link Cache}.  Once the result has been
+ * fully iterated, the buffered rows are handed to a callback.  If the result exceeds its {@link CacheBudget},
+ * buffering is abandoned and the remaining rows are streamed without being retained.
+ * @param <T> The type of each row.
+ */
+@Slf4j
+public class CachingIterable<T> implements Iterable<T> {
+    private final Iterable<T> source;
+    private final CacheBudget budget;
+    private final Consumer<List<T>> onComplete;
+
+    /**
+     * Constructor.
+     * @param source The single pass result to stream.
+     * @param budget Limits the size of the buffered result.
+     * @param onComplete Receives the buffered rows if the whole result fit within the budget.
+     */
+    public CachingIterable(Iterable<T> source, CacheBudget budget, Consumer<List<T>> onComplete) {
+        this.source = source;
+        this.budget = budget;
+        this.onComplete = onComplete;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        Iterator<T> iterator = source.iterator();
+
+        return new Iterator<>() {
+            private List<T> buffer = new ArrayList<>();
+            private long bytes = 0;
+
+            @Override
+            public boolean hasNext() {
+                boolean hasNext = iterator.hasNext();
+                if (! hasNext && buffer != null) {
+                    List<T> rows = buffer;
+                    buffer = null;
+                    onComplete.accept(rows);
+                }
+                return hasNext;
+            }
+
+            @Override
+            public T next() {
+                T next = iterator.next();
+                if (buffer != null) {
+                    bytes += budget.getRowSizeEstimator().applyAsLong(next);
+                    if (buffer.size() >= budget.getMaxRows() || bytes > budget.getMaxBytes()) {
+                        log.debug("Result exceeds cache budget of {} rows or {} bytes.  It will not be cached.",
+                                budget.getMaxRows(), budget.getMaxBytes());
+                        buffer = null;
+                    } else {
+                        buffer.add(next);
+                    }
+                }
+                return next;
+            }
+        };
+    }
+}
@@ -0,0 +1,404 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.aggregation.cache;
+
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.request.Argument;
+import com.yahoo.elide.core.request.Attribute;
+import com.yahoo.elide.core.type.ClassType;
+import com.yahoo.elide.core.type.ParameterizedModel;
+import com.yahoo.elide.core.type.Type;
+import com.yahoo.elide.datastores.aggregation.query.ColumnProjection;
+import com.yahoo.elide.datastores.aggregation.query.Query;
+import com.yahoo.elide.datastores.aggregation.query.QueryResult;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Encodes {@link QueryResult}s of hydrated analytic models into a compact, columnar binary format.
+ * <p>
+ * The layout of each column is taken from the column projections of the {@link Query} that produced the result.
+ * Long, integer and double columns are written as primitives with a null bitmap.  String columns are dictionary
+ * encoded.  Any other column falls back to Java serialization of the whole column.  The body can optionally be
+ * deflate compressed.
+ */
+public class ColumnarQueryResultCodec {
+    private static final byte[] MAGIC = {'E', 'Q', 'R'};
+    private static final byte FORMAT_VERSION = 1;
+    private static final byte FLAG_COMPRESSED = 1;
+
+    private static final byte OBJECT_COLUMN = 0;
+    private static final byte LONG_COLUMN = 1;
+    private static final byte INT_COLUMN = 2;
+    private static final byte DOUBLE_COLUMN = 3;
+    private static final byte STRING_COLUMN = 4;
+
+    private static final Object ABSENT = new Object();
+
+    private final EntityDictionary dictionary;
+    private final boolean compress;
+
+    /**
+     * Constructor.
+     * @param dictionary The dictionary the analytic models are bound in.
+     * @param compress Whether to deflate the encoded result.
+     */
+    public ColumnarQueryResultCodec(EntityDictionary dictionary, boolean compress) {
+        this.dictionary = dictionary;
+        this.compress = compress;
+    }
+
+    /**
+     * Determines if a payload was written by this codec.
+     * @param payload The encoded bytes.
+     * @return true if the payload can be decoded by this codec.
+     */
+    public boolean canDecode(byte[] payload) {
+        if (payload == null || payload.length < MAGIC.length + 2) {
+            return false;
+        }
+        for (int idx = 0; idx < MAGIC.length; idx++) {
+            if (payload[idx] != MAGIC[idx]) {
+                return false;
+            }
+        }
+        return payload[MAGIC.length] == FORMAT_VERSION;
+    }
+
+    /**
+     * Encodes a query result.
+     * @param query The query which produced the result.
+     * @param result The result to encode.
+     * @return The encoded bytes.
+     */
+    public byte[] encode(Query query, QueryResult result) {
+        List<Object> rows = new ArrayList<>();
+        result.getData().forEach(rows::add);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.write(MAGIC, 0, MAGIC.length);
+        bytes.write(FORMAT_VERSION);
+        bytes.write(compress ? FLAG_COMPRESSED : 0);
+
+        OutputStream body = compress ? new DeflaterOutputStream(bytes) : bytes;
+        try (ObjectOutputStream out = new ObjectOutputStream(body)) {
+            Long pageTotals = result.getPageTotals();
+            out.writeBoolean(pageTotals != null);
+            if (pageTotals != null) {
+                out.writeLong(pageTotals);
+            }
+
+            out.writeInt(rows.size());
+            if (! rows.isEmpty()) {
+                writeRows(out, query, rows);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a query result.
+     * @param payload Bytes produced by {@link #encode(Query, QueryResult)}.
+     * @return The decoded result.
+     */
+    public QueryResult decode(byte[] payload) {
+        if (! canDecode(payload)) {
+            throw new IllegalArgumentException("Payload was not encoded by " + getClass().getSimpleName());
+        }
+
+        int headerLength = MAGIC.length + 2;
+        boolean compressed = (payload[headerLength - 1] & FLAG_COMPRESSED) != 0;
+        InputStream bytes = new ByteArrayInputStream(payload, headerLength, payload.length - headerLength);
+        InputStream body = compressed ? new InflaterInputStream(bytes) : bytes;
+
+        try (ObjectInputStream in = new ObjectInputStream(body)) {
+            Long pageTotals = in.readBoolean() ? in.readLong() : null;
+            int rowCount = in.readInt();
+            List<Object> rows = (rowCount == 0) ? new ArrayList<>() : readRows(in, rowCount);
+
+            return QueryResult.builder()
+                    .data(rows)
+                    .pageTotals(pageTotals)
+                    .build();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void writeRows(ObjectOutputStream out, Query query, List<Object> rows) throws IOException {
+        Object first = rows.get(0);
+        Type<?> modelType = EntityDictionary.getType(first);
+        boolean parameterized = first instanceof ParameterizedModel;
+
+        writeString(out, dictionary.getJsonAliasFor(modelType));
+        writeString(out, EntityDictionary.getModelVersion(modelType));
+
+        String idField = dictionary.getIdFieldName(modelType);
+        Object[] ids = new Object[rows.size()];
+        for (int idx = 0; idx < ids.length; idx++) {
+            ids[idx] = dictionary.getValue(rows.get(idx), idField, null);
+        }
+        writeColumn(out, ids);
+
+        List<ColumnProjection> columns = new ArrayList<>();
+        Set<String> aliases = new HashSet<>();
+        for (ColumnProjection column : query.getColumnProjections()) {
+            String alias = column.getAlias();
+            if (aliases.add(alias) && isPresent(first, modelType, alias)) {
+                columns.add(column);
+            }
+        }
+
+        out.writeInt(columns.size());
+        for (ColumnProjection column : columns) {
+            String alias = column.getAlias();
+            writeString(out, column.getName());
+            writeString(out, alias);
+            writeArguments(out, column.getArguments().values());
+
+            Object[] values = new Object[rows.size()];
+            for (int idx = 0; idx < values.length; idx++) {
+                Object row = rows.get(idx);
+                values[idx] = parameterized
+                        ? ((ParameterizedModel) row).fetch(alias, null)
+                        : dictionary.getValue(row, alias, null);
+            }
+            writeColumn(out, values);
+        }
+    }
+
+    private List<Object> readRows(ObjectInputStream in, int rowCount) throws IOException, ClassNotFoundException {
+        Type<?> modelType = dictionary.getEntityClass(readString(in), readString(in));
+        if (modelType == null) {
+            throw new IllegalStateException("Cached result references an unknown model");
+        }
+
+        List<Object> rows = new ArrayList<>(rowCount);
+        for (int idx = 0; idx < rowCount; idx++) {
+            try {
+                rows.add(modelType.newInstance());
+            } catch (InstantiationException | IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        String idField = dictionary.getIdFieldName(modelType);
+        Object[] ids = readColumn(in, rowCount);
+        for (int idx = 0; idx < rowCount; idx++) {
+            dictionary.setValue(rows.get(idx), idField, ids[idx]);
+        }
+
+        int columnCount = in.readInt();
+        for (int column = 0; column < columnCount; column++) {
+            String name = readString(in);
+            String alias = readString(in);
+            Set<Argument> arguments = readArguments(in);
+            Object[] values = readColumn(in, rowCount);
+
+            Type<?> fieldType = dictionary.getType(modelType, name);
+            Attribute attribute = Attribute.builder()
+                    .type(fieldType == null ? ClassType.of(Object.class) : fieldType)
+                    .name(name)
+                    .alias(alias)
+                    .arguments(arguments)
+                    .build();
+
+            for (int idx = 0; idx < rowCount; idx++) {
+                Object row = rows.get(idx);
+                if (row instanceof ParameterizedModel) {
+                    ((ParameterizedModel) row).addAttributeValue(attribute, values[idx]);
+                } else if (values[idx] != null) {
+                    dictionary.setValue(row, alias, values[idx]);
+                }
+            }
+        }
+        return rows;
+    }
+
+    private boolean isPresent(Object row, Type<?> modelType, String alias) {
+        if (row instanceof ParameterizedModel) {
+            return ((ParameterizedModel) row).fetch(alias, ABSENT) != ABSENT;
+        }
+        return dictionary.getAttributes(modelType).contains(alias);
+    }
+
+    private static void writeArguments(ObjectOutputStream out, Collection<Argument> arguments) throws IOException {
+        out.writeInt(arguments.size());
+        for (Argument argument : arguments) {
+            writeString(out, argument.getName());
+            out.writeObject(argument.getValue());
+        }
+    }
+
+    private static Set<Argument> readArguments(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        int count = in.readInt();
+        Set<Argument> arguments = new HashSet<>();
+        for (int idx = 0; idx < count; idx++) {
+            String name = readString(in);
+            arguments.add(Argument.builder().name(name).value(in.readObject()).build());
+        }
+        return arguments;
+    }
+
+    private static void writeColumn(ObjectOutputStream out, Object[] values) throws IOException {
+        byte encoding = getEncoding(values);
+        out.writeByte(encoding);
+
+        if (encoding == OBJECT_COLUMN) {
+            out.writeObject(values);
+            return;
+        }
+
+        if (encoding == STRING_COLUMN) {
+            Map<Object, Integer> entries = new LinkedHashMap<>();
+            int[] indices = new int[values.length];
+            for (int idx = 0; idx < values.length; idx++) {
+                indices[idx] = (values[idx] == null) ? -1 : entries.computeIfAbsent(values[idx], k -> entries.size());
+            }
+            out.writeInt(entries.size());
+            for (Object entry : entries.keySet()) {
+                writeString(out, (String) entry);
+            }
+            for (int index : indices) {
+                out.writeInt(index);
+            }
+            return;
+        }
+
+        BitSet nulls = new BitSet(values.length);
+        for (int idx = 0; idx < values.length; idx++) {
+            if (values[idx] == null) {
+                nulls.set(idx);
+            }
+        }
+        byte[] nullBits = nulls.toByteArray();
+        out.writeInt(nullBits.length);
+        out.write(nullBits);
+
+        for (Object value : values) {
+            if (value == null) {
+                continue;
+            }
+            switch (encoding) {
+                case LONG_COLUMN:
+                    out.writeLong((Long) value);
+                    break;
+                case INT_COLUMN:
+                    out.writeInt((Integer) value);
+                    break;
+                default:
+                    out.writeDouble((Double) value);
+            }
+        }
+    }
+
+    private static Object[] readColumn(ObjectInputStream in, int rowCount) throws IOException, ClassNotFoundException {
+        byte encoding = in.readByte();
+
+        if (encoding == OBJECT_COLUMN) {
+            return (Object[]) in.readObject();
+        }
+
+        Object[] values = new Object[rowCount];
+        if (encoding == STRING_COLUMN) {
+            String[] entries = new String[in.readInt()];
+            for (int idx = 0; idx < entries.length; idx++) {
+                entries[idx] = readString(in);
+            }
+            for (int idx = 0; idx < rowCount; idx++) {
+                int index = in.readInt();
+                values[idx] = (index < 0) ? null : entries[index];
+            }
+            return values;
+        }
+
+        byte[] nullBits = new byte[in.readInt()];
+        in.readFully(nullBits);
+        BitSet nulls = BitSet.valueOf(nullBits);
+
+        for (int idx = 0; idx < rowCount; idx++) {
+            if (nulls.get(idx)) {
+                continue;
+            }
+            switch (encoding) {
+                case LONG_COLUMN:
+                    values[idx] = in.readLong();
+                    break;
+                case INT_COLUMN:
+                    values[idx] = in.readInt();
+                    break;
+                case DOUBLE_COLUMN:
+                    values[idx] = in.readDouble();
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown column encoding: " + encoding);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Picks the most compact encoding that can hold every value of a column.
+     */
+    private static byte getEncoding(Object[] values) {
+        Class<?> valueClass = null;
+        for (Object value : values) {
+            if (value == null) {
+                continue;
+            }
+            if (valueClass == null) {
+                valueClass = value.getClass();
+            } else if (valueClass != value.getClass()) {
+                return OBJECT_COLUMN;
+            }
+        }
+
+        if (valueClass == Long.class) {
+            return LONG_COLUMN;
+        } else if (valueClass == Integer.class) {
+            return INT_COLUMN;
+        } else if (valueClass == Double.class) {
+            return DOUBLE_COLUMN;
+        } else if (valueClass == String.class) {
+            return STRING_COLUMN;
+        }
+        return OBJECT_COLUMN;
+    }
+
+    private static void writeString(ObjectOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ObjectInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
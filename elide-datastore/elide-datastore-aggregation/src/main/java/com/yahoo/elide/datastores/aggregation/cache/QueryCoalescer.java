@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.aggregation.cache;
+
+import com.yahoo.elide.datastores.aggregation.query.QueryResult;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces identical concurrent queries (same query cache key) so that only one of them runs.  The first caller
+ * runs the query while later callers wait for - and share - its result.
+ * <p>
+ * Shared results are read by several requests, so only a fully materialized result (whose data is a
+ * {@link Collection}) is shared.  A single pass result is returned to the caller that ran the query only, and the
+ * callers that waited for it run their own query.
+ */
+public class QueryCoalescer {
+    private final ConcurrentMap<String, CompletableFuture<QueryResult>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Runs the query unless an identical query is already running, in which case its result is returned.
+     * @param key The query cache key.
+     * @param query Runs the query.  The result is shared only if it is materialized.
+     * @return The query result.
+     */
+    public QueryResult execute(String key, Supplier<QueryResult> query) {
+        CompletableFuture<QueryResult> future = new CompletableFuture<>();
+        CompletableFuture<QueryResult> running = inFlight.putIfAbsent(key, future);
+        if (running != null) {
+            QueryResult shared = await(running);
+            return shared != null ? shared : query.get();
+        }
+
+        try {
+            QueryResult result = query.get();
+            future.complete(result.getData() instanceof Collection ? result : null);
+            return result;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    /**
+     * Returns the number of queries currently running.
+     * @return the number of in-flight queries.
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private static QueryResult await(CompletableFuture<QueryResult> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -6,6 +6,7 @@
 
 package com.yahoo.elide.datastores.aggregation.cache;
 
+import com.yahoo.elide.datastores.aggregation.query.Query;
 import com.yahoo.elide.datastores.aggregation.query.QueryResult;
 import org.springframework.util.SerializationUtils;
 
@@ -18,6 +19,7 @@ import redis.clients.jedis.UnifiedJedis;
 public class RedisCache implements Cache {
     @Setter private UnifiedJedis jedis;
     @Setter private long defaultExpirationMinutes;
+    @Setter private ColumnarQueryResultCodec codec;
 
     /**
      * Constructor.
@@ -25,19 +27,46 @@ public class RedisCache implements Cache {
      * @param defaultExpirationMinutes Expiration Time for results on Redis.
      */
     public RedisCache(UnifiedJedis jedis, long defaultExpirationMinutes) {
+        this(jedis, defaultExpirationMinutes, null);
+    }
+
+    /**
+     * Constructor.
+     * @param jedis Jedis Connection Pool to Redis clusteer.
+     * @param defaultExpirationMinutes Expiration Time for results on Redis.
+     * @param codec Encodes results in a compact columnar format.  If null, Java serialization is used.
+     */
+    public RedisCache(UnifiedJedis jedis, long defaultExpirationMinutes, ColumnarQueryResultCodec codec) {
         this.jedis = jedis;
         this.defaultExpirationMinutes = defaultExpirationMinutes;
+        this.codec = codec;
     }
 
     @Override
     public QueryResult get(Object key) {
-        return (QueryResult) SerializationUtils.deserialize(jedis.get(SerializationUtils.serialize(key)));
+        byte[] payload = jedis.get(SerializationUtils.serialize(key));
+        if (codec != null && codec.canDecode(payload)) {
+            return codec.decode(payload);
+        }
+        return (QueryResult) SerializationUtils.deserialize(payload);
     }
 
     @Override
     public void put(Object key, QueryResult result) {
-        byte[] keyBytes = SerializationUtils.serialize(key);
-        jedis.set(keyBytes, SerializationUtils.serialize(result));
+        store(SerializationUtils.serialize(key), SerializationUtils.serialize(result));
+    }
+
+    @Override
+    public void put(Object key, Query query, QueryResult result) {
+        if (codec == null) {
+            put(key, result);
+            return;
+        }
+        store(SerializationUtils.serialize(key), codec.encode(query, result));
+    }
+
+    private void store(byte[] keyBytes, byte[] valueBytes) {
+        jedis.set(keyBytes, valueBytes);
         jedis.expire(keyBytes, defaultExpirationMinutes * 60);
     }
 }
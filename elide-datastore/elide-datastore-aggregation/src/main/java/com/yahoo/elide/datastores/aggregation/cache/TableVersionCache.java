@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.aggregation.cache;
+
+import com.yahoo.elide.core.type.Type;
+import com.yahoo.elide.datastores.aggregation.QueryEngine;
+import com.yahoo.elide.datastores.aggregation.metadata.models.Table;
+import com.google.common.base.Preconditions;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches table versions (see {@link QueryEngine#getTableVersion}) so that query cache lookups do not require
+ * a round trip to the database.
+ * <p>
+ * The version of a table is loaded by the first request that needs it.  After that, a single background thread
+ * reloads the versions of all known tables once per staleness window.  A cached version can therefore be stale
+ * by at most the staleness window plus the time needed to run the version queries.
+ */
+@Slf4j
+public class TableVersionCache implements Closeable {
+    private final QueryEngine queryEngine;
+    private final Map<Type<?>, Table> tables = new ConcurrentHashMap<>();
+    private final Map<Type<?>, String> versions = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService refresher;
+
+    /**
+     * Constructor.
+     * @param queryEngine The engine used to look up table versions.
+     * @param staleness How long a cached version may be used before it is refreshed.
+     */
+    public TableVersionCache(QueryEngine queryEngine, Duration staleness) {
+        Preconditions.checkNotNull(queryEngine);
+        Preconditions.checkArgument(staleness != null && !staleness.isNegative() && !staleness.isZero(),
+                "Table version staleness must be positive");
+
+        this.queryEngine = queryEngine;
+        this.refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "elide-table-version-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long period = staleness.toMillis();
+        refresher.scheduleWithFixedDelay(this::refresh, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the cached version of a table.  Only the first lookup for a table queries the database.
+     * @param table The table to get version of
+     * @return a version token, or the empty string if not available.
+     */
+    public String getTableVersion(Table table) {
+        Type<?> model = table.getModel();
+        String version = versions.get(model);
+        if (version != null) {
+            return version;
+        }
+
+        tables.putIfAbsent(model, table);
+        return versions.computeIfAbsent(model, unused -> loadVersion(table));
+    }
+
+    /**
+     * Reloads the version of every table seen so far.  A table whose version cannot be loaded is dropped
+     * so that the next request reloads it rather than trusting an outdated version.
+     */
+    void refresh() {
+        tables.forEach((model, table) -> {
+            try {
+                versions.put(model, loadVersion(table));
+            } catch (RuntimeException e) {
+                log.error("Unable to refresh version of table {}", table.getName(), e);
+                versions.remove(model);
+            }
+        });
+    }
+
+    private String loadVersion(Table table) {
+        try (QueryEngine.Transaction transaction = queryEngine.beginTransaction()) {
+            String version = queryEngine.getTableVersion(table, transaction);
+            return version == null ? "" : version;
+        }
+    }
+
+    @Override
+    public void close() {
+        refresher.shutdownNow();
+    }
+}
@@ -29,6 +29,11 @@ public class Slf4jQueryLogger implements QueryLogger {
     private final ObjectMapper mapper;
     private final Logger logger;
 
+    /**
+     * Whether the output goes through {@link #log(String, JsonNode)} rather than a {@link Logger} passed in.
+     */
+    private final boolean defaultLogger;
+
     @FunctionalInterface
     public interface Logger {
         void log(String template, JsonNode value);
@@ -37,12 +42,14 @@ public class Slf4jQueryLogger implements QueryLogger {
     public Slf4jQueryLogger() {
         mapper = new ObjectMapper();
         this.logger = this::log;
+        this.defaultLogger = true;
     }
 
 
     public Slf4jQueryLogger(Logger logger) {
         mapper = new ObjectMapper();
         this.logger = logger;
+        this.defaultLogger = false;
     }
 
     @Override
@@ -70,6 +77,11 @@ public class Slf4jQueryLogger implements QueryLogger {
 
     @Override
     public void processQuery(UUID queryId, Query query, List<String> apiQuery, boolean isCached) {
+        if (!isEnabled()) {
+            //Avoid generating the query text when nothing will be logged.
+            return;
+        }
+
         ObjectNode rootNode = mapper.createObjectNode();
 
         rootNode.put(ID, queryId.toString());
@@ -95,7 +107,25 @@ public class Slf4jQueryLogger implements QueryLogger {
         logger.log("QUERY COMPLETE: {}", rootNode);
     }
 
+    /**
+     * Writes a log entry to the debug level.  Subclasses that override this should override {@link #isEnabled()}
+     * to match.
+     *
+     * @param template the message template
+     * @param value the entry
+     */
     protected void log(String template, JsonNode value) {
         log.debug(template, value);
     }
+
+    /**
+     * Whether the query text is generated and logged by {@link #processQuery}.  The default output is the debug
+     * level of this class's logger, while a {@link Logger} passed to the constructor always receives the query
+     * text.  Subclasses that override {@link #log(String, JsonNode)} should override this as well.
+     *
+     * @return true if the query text should be logged
+     */
+    protected boolean isEnabled() {
+        return !defaultLogger || log.isDebugEnabled();
+    }
 }
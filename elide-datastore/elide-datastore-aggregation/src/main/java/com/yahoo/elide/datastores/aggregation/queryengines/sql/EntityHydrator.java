@@ -35,16 +35,19 @@ import com.yahoo.elide.datastores.aggregation.timegrains.Year;
 import org.apache.commons.lang3.mutable.MutableInt;
 
 import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -62,7 +65,7 @@ public class EntityHydrator implements Iterable<Object> {
 
     private ResultSet resultSet;
 
-    private Map<String, String> projections;
+    private final HydrationPlan plan;
 
     public EntityHydrator(ResultSet resultSet, Query query, EntityDictionary entityDictionary) {
         this.query = query;
@@ -70,7 +73,7 @@ public class EntityHydrator implements Iterable<Object> {
         this.resultSet = resultSet;
 
         //Get all the projections from the client query.
-        projections = this.query.getMetricProjections().stream()
+        Map<String, String> projections = this.query.getMetricProjections().stream()
                 .map(SQLMetricProjection.class::cast)
                 .filter(SQLColumnProjection::isProjected)
                 .filter(projection -> ! projection.getValueType().equals(ValueType.ID))
@@ -80,6 +83,42 @@ public class EntityHydrator implements Iterable<Object> {
                 .map(SQLColumnProjection.class::cast)
                 .filter(SQLColumnProjection::isProjected)
                 .collect(Collectors.toMap(ColumnProjection::getAlias, ColumnProjection::getSafeAlias)));
+
+        this.plan = compilePlan(projections);
+    }
+
+    /**
+     * Resolves everything needed to hydrate a column once per query so that rows can be hydrated
+     * without per cell metadata lookups.
+     *
+     * @param projections a map of field name to result set column label.
+     * @return The hydration plan.
+     */
+    private HydrationPlan compilePlan(Map<String, String> projections) {
+        Table table = getBaseTable(query);
+        Type<?> entityClass = entityDictionary.getEntityClass(table.getName(), table.getVersion());
+
+        List<ColumnPlan> columns = new ArrayList<>(projections.size());
+        projections.forEach((fieldName, label) -> {
+            ColumnProjection columnProjection = query.getColumnProjection(fieldName);
+            Column column = table.getColumn(Column.class, columnProjection.getName());
+            Type<?> fieldType = getType(entityClass, columnProjection);
+
+            String[] enumValues = null;
+
+            // This is an ENUM_TEXT or ENUM_ORDINAL type.
+            if (! fieldType.isEnum() //Java enums can be coerced directly via CoerceUtil - so skip them.
+                    && column.getValueType() == ValueType.TEXT
+                    && column.getValues() != null
+                    && !column.getValues().isEmpty()) {
+                enumValues = column.getValues().toArray(new String[0]);
+            }
+
+            columns.add(new ColumnPlan(fieldName, label, projectionToAttribute(columnProjection, fieldType),
+                    toCoercer(fieldType), enumValues));
+        });
+
+        return new HydrationPlan(entityClass, entityDictionary.getIdFieldName(entityClass), columns);
     }
 
     /**
@@ -90,48 +129,51 @@ public class EntityHydrator implements Iterable<Object> {
      * @return A hydrated entity object.
      */
     protected Object coerceObjectToEntity(Map<String, Object> result, MutableInt counter) {
-        Table table = getBaseTable(query);
-        Type<?> entityClass = entityDictionary.getEntityClass(table.getName(), table.getVersion());
+        Object[] values = new Object[plan.columns.size()];
+        for (int idx = 0; idx < values.length; idx++) {
+            values[idx] = result.get(plan.columns.get(idx).fieldName);
+        }
+        return coerceObjectToEntity(values, counter);
+    }
+
+    /**
+     * Coerces a row of column values (ordered like the hydration plan columns) into an Object.
+     *
+     * @param values The column values for a single row.
+     * @param counter Monotonically increasing number to generate IDs.
+     * @return A hydrated entity object.
+     */
+    private Object coerceObjectToEntity(Object[] values, MutableInt counter) {
 
         //Construct the object.
         Object entityInstance;
         try {
-            entityInstance = entityClass.newInstance();
+            entityInstance = plan.entityClass.newInstance();
         } catch (InstantiationException | IllegalAccessException e) {
             throw new IllegalStateException(e);
         }
 
-        result.forEach((fieldName, value) -> {
-            ColumnProjection columnProjection = query.getColumnProjection(fieldName);
-            Column column = table.getColumn(Column.class, columnProjection.getName());
-
-            Type<?> fieldType = getType(entityClass, columnProjection);
-            Attribute attribute = projectionToAttribute(columnProjection, fieldType);
-
-            ValueType valueType = column.getValueType();
+        for (int idx = 0; idx < values.length; idx++) {
+            ColumnPlan column = plan.columns.get(idx);
+            Object value = values[idx];
 
             if (entityInstance instanceof ParameterizedModel) {
-
-                // This is an ENUM_TEXT or ENUM_ORDINAL type.
-                if (! fieldType.isEnum() //Java enums can be coerced directly via CoerceUtil - so skip them.
-                        && valueType == ValueType.TEXT
-                        && column.getValues() != null
-                        && !column.getValues().isEmpty()) {
-                    value = convertToEnumValue(value, column.getValues());
+                if (column.enumValues != null) {
+                    value = convertToEnumValue(value, column.enumValues);
                 }
 
                 ((ParameterizedModel) entityInstance).addAttributeValue(
-                    attribute,
-                    CoerceUtil.coerce(value, fieldType));
+                    column.attribute,
+                    column.coercer.apply(value));
             } else {
-                    getEntityDictionary().setValue(entityInstance, fieldName, value);
+                getEntityDictionary().setValue(entityInstance, column.fieldName, value);
             }
-        });
+        }
 
         //Set the ID (it must be coerced from an integer)
         getEntityDictionary().setValue(
                 entityInstance,
-                getEntityDictionary().getIdFieldName(entityClass),
+                plan.idFieldName,
                 counter.getAndIncrement()
         );
 
@@ -185,22 +227,35 @@ public class EntityHydrator implements Iterable<Object> {
         }
     }
 
-    private String convertToEnumValue(Object value, LinkedHashSet<String> enumValues) {
+    private static Function<Object, Object> toCoercer(Type<?> fieldType) {
+        if (! (fieldType instanceof ClassType)) {
+            return value -> CoerceUtil.coerce(value, fieldType);
+        }
+
+        Class<?> cls = ((ClassType<?>) fieldType).getCls();
+        return value -> CoerceUtil.coerce(value, cls);
+    }
+
+    private String convertToEnumValue(Object value, String[] enumValues) {
         if (value == null) {
             return null;
         }
 
         if (Integer.class.isAssignableFrom(value.getClass())) {
             Integer valueIndex = (Integer) value;
-            if (valueIndex < enumValues.size()) {
-                return enumValues.toArray(new String[0])[valueIndex];
+            if (valueIndex >= 0 && valueIndex < enumValues.length) {
+                return enumValues[valueIndex];
+            }
+        } else {
+            String text = value.toString();
+            for (String enumValue : enumValues) {
+                if (enumValue.equals(text)) {
+                    return text;
+                }
             }
-        }
-        else if (enumValues.contains(value.toString())) {
-            return value.toString();
         }
 
-        throw new InvalidValueException(value, "Value must map to a value in: " + enumValues);
+        throw new InvalidValueException(value, "Value must map to a value in: " + Arrays.toString(enumValues));
     }
 
     @Override
@@ -209,6 +264,7 @@ public class EntityHydrator implements Iterable<Object> {
 
             Object next = null;
             MutableInt counter = new MutableInt(0);
+            int[] columnIndexes = null;
 
             @Override
             public boolean hasNext() {
@@ -237,11 +293,16 @@ public class EntityHydrator implements Iterable<Object> {
                     if (! hasNext) {
                         throw new NoSuchElementException();
                     }
-                    Map<String, Object> row = new LinkedHashMap<>();
+                    if (columnIndexes == null) {
+                        columnIndexes = new int[plan.columns.size()];
+                        for (int idx = 0; idx < columnIndexes.length; idx++) {
+                            columnIndexes[idx] = resultSet.findColumn(plan.columns.get(idx).label);
+                        }
+                    }
 
-                    for (Map.Entry<String, String> entry : projections.entrySet()) {
-                        Object value = resultSet.getObject(entry.getValue());
-                        row.put(entry.getKey(), value);
+                    Object[] row = new Object[columnIndexes.length];
+                    for (int idx = 0; idx < columnIndexes.length; idx++) {
+                        row[idx] = resultSet.getObject(columnIndexes[idx]);
                     }
 
                     return coerceObjectToEntity(row, counter);
@@ -252,4 +313,26 @@ public class EntityHydrator implements Iterable<Object> {
             }
         };
     }
+
+    /**
+     * Per query metadata needed to hydrate entities.
+     */
+    @AllArgsConstructor
+    private static final class HydrationPlan {
+        private final Type<?> entityClass;
+        private final String idFieldName;
+        private final List<ColumnPlan> columns;
+    }
+
+    /**
+     * Per column metadata needed to hydrate a single field.
+     */
+    @AllArgsConstructor
+    private static final class ColumnPlan {
+        private final String fieldName;
+        private final String label;
+        private final Attribute attribute;
+        private final Function<Object, Object> coercer;
+        private final String[] enumValues;
+    }
 }
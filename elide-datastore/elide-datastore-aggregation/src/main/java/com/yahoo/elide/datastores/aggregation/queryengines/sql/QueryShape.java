@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.aggregation.queryengines.sql;
+
+import com.yahoo.elide.core.filter.Operator;
+import com.yahoo.elide.core.filter.expression.AndFilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.FilterExpressionVisitor;
+import com.yahoo.elide.core.filter.expression.NotFilterExpression;
+import com.yahoo.elide.core.filter.expression.OrFilterExpression;
+import com.yahoo.elide.core.filter.predicates.FilterPredicate;
+import com.yahoo.elide.datastores.aggregation.query.Query;
+import com.yahoo.elide.datastores.aggregation.queryengines.sql.dialects.SQLDialect;
+
+import lombok.Value;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The parameter free shape of a client {@link Query}.  Two queries with the same shape translate into the same
+ * SQL (modulo parameter names) and differ only in the values bound to the filter parameters.
+ */
+@Value
+class QueryShape {
+
+    /**
+     * Operators whose generated SQL depends on the filter values (and not just the number of values).
+     */
+    private static final Set<Operator> VALUE_DEPENDENT_OPERATORS = EnumSet.of(
+            Operator.HASMEMBER, Operator.HASNOMEMBER,
+            Operator.SUBSETOF, Operator.NOTSUBSETOF,
+            Operator.SUPERSETOF, Operator.NOTSUPERSETOF);
+
+    /**
+     * The client query without filters.
+     */
+    Query query;
+
+    Object whereFilter;
+    Object havingFilter;
+    SQLDialect dialect;
+
+    /**
+     * Computes the shape of a client query.
+     * @param query The client query.
+     * @param dialect The dialect the query is translated to.
+     * @return The shape or null if the SQL generated for the query depends on its filter values.
+     */
+    static QueryShape of(Query query, SQLDialect dialect) {
+        if (query.isNested()) {
+            return null;
+        }
+
+        ShapeVisitor visitor = new ShapeVisitor();
+        Object whereFilter = shapeOf(query.getWhereFilter(), visitor);
+        Object havingFilter = shapeOf(query.getHavingFilter(), visitor);
+
+        if (! visitor.cacheable) {
+            return null;
+        }
+
+        Query withoutFilters = Query.builder()
+                .query(query)
+                .whereFilter(null)
+                .havingFilter(null)
+                .scope(null)
+                .build();
+
+        return new QueryShape(withoutFilters, whereFilter, havingFilter, dialect);
+    }
+
+    private static Object shapeOf(FilterExpression expression, ShapeVisitor visitor) {
+        return expression == null ? null : expression.accept(visitor);
+    }
+
+    /**
+     * Replaces every predicate value with the number of values.
+     */
+    private static class ShapeVisitor implements FilterExpressionVisitor<Object> {
+        private boolean cacheable = true;
+
+        @Override
+        public Object visitPredicate(FilterPredicate filterPredicate) {
+            if (VALUE_DEPENDENT_OPERATORS.contains(filterPredicate.getOperator())) {
+                cacheable = false;
+            }
+            return Arrays.asList(filterPredicate.getPath(), filterPredicate.getOperator(),
+                    filterPredicate.getValues().size());
+        }
+
+        @Override
+        public Object visitAndExpression(AndFilterExpression expression) {
+            return Arrays.asList("AND", expression.getLeft().accept(this), expression.getRight().accept(this));
+        }
+
+        @Override
+        public Object visitOrExpression(OrFilterExpression expression) {
+            return Arrays.asList("OR", expression.getLeft().accept(this), expression.getRight().accept(this));
+        }
+
+        @Override
+        public Object visitNotExpression(NotFilterExpression expression) {
+            return Arrays.asList("NOT", expression.getNegated().accept(this));
+        }
+    }
+}
@@ -51,11 +51,14 @@ import com.yahoo.elide.datastores.aggregation.queryengines.sql.query.SQLTimeDime
 import com.yahoo.elide.datastores.aggregation.timegrains.Time;
 import com.yahoo.elide.datastores.aggregation.validator.ColumnArgumentValidator;
 import com.yahoo.elide.datastores.aggregation.validator.TableArgumentValidator;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.base.Preconditions;
 
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import lombok.Getter;
+import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 
 import java.lang.annotation.Annotation;
@@ -64,11 +67,17 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -86,6 +95,14 @@ public class SQLQueryEngine extends QueryEngine {
     private final FormulaValidator formulaValidator;
     private final Function<String, ConnectionDetails> connectionDetailsLookup;
     private final QueryPlanMerger merger;
+    private final Executor pageTotalsExecutor;
+
+    public static final int DEFAULT_TEMPLATE_CACHE_SIZE = 1024;
+
+    /**
+     * Translated SQL keyed by the parameter free shape of the client query.  Null if templates are not cached.
+     */
+    private final Cache<QueryShape, TranslatedQuery> templates;
 
     public SQLQueryEngine(MetaDataStore metaDataStore, Function<String, ConnectionDetails> connectionDetailsLookup) {
         this(metaDataStore, connectionDetailsLookup, new HashSet<>(), new DefaultQueryPlanMerger(metaDataStore),
@@ -107,6 +124,51 @@ public class SQLQueryEngine extends QueryEngine {
             QueryPlanMerger merger,
             QueryValidator validator
     ) {
+        this(metaDataStore, connectionDetailsLookup, optimizers, merger, validator, null);
+    }
+
+    /**
+     * Constructor.
+     * @param metaDataStore : MetaDataStore.
+     * @param connectionDetailsLookup : maps a connection name to meta info about the connection.
+     * @param optimizers The set of enabled optimizers.
+     * @param merger Merges multiple plans into a smaller set (one if possible)
+     * @param validator Validates each incoming client query.
+     * @param pageTotalsExecutor When not null, page totals queries run on this executor using a separate
+     *                           connection - concurrently with the data query.
+     */
+    public SQLQueryEngine(
+            MetaDataStore metaDataStore,
+            Function<String, ConnectionDetails> connectionDetailsLookup,
+            Set<Optimizer> optimizers,
+            QueryPlanMerger merger,
+            QueryValidator validator,
+            Executor pageTotalsExecutor
+    ) {
+        this(metaDataStore, connectionDetailsLookup, optimizers, merger, validator, pageTotalsExecutor,
+                DEFAULT_TEMPLATE_CACHE_SIZE);
+    }
+
+    /**
+     * Constructor.
+     * @param metaDataStore : MetaDataStore.
+     * @param connectionDetailsLookup : maps a connection name to meta info about the connection.
+     * @param optimizers The set of enabled optimizers.
+     * @param merger Merges multiple plans into a smaller set (one if possible)
+     * @param validator Validates each incoming client query.
+     * @param pageTotalsExecutor When not null, page totals queries run on this executor using a separate
+     *                           connection - concurrently with the data query.
+     * @param templateCacheSize The number of query shapes whose SQL is cached.  Zero translates every query.
+     */
+    public SQLQueryEngine(
+            MetaDataStore metaDataStore,
+            Function<String, ConnectionDetails> connectionDetailsLookup,
+            Set<Optimizer> optimizers,
+            QueryPlanMerger merger,
+            QueryValidator validator,
+            Executor pageTotalsExecutor,
+            int templateCacheSize
+    ) {
 
         Preconditions.checkNotNull(connectionDetailsLookup);
 
@@ -118,6 +180,10 @@ public class SQLQueryEngine extends QueryEngine {
         populateMetaData(metaDataStore);
         this.optimizers = optimizers;
         this.merger = merger;
+        this.pageTotalsExecutor = pageTotalsExecutor;
+        this.templates = (templateCacheSize > 0)
+                ? Caffeine.newBuilder().maximumSize(templateCacheSize).build()
+                : null;
     }
 
     private static final Function<ResultSet, Object> SINGLE_RESULT_MAPPER = rs -> {
@@ -203,7 +269,19 @@ public class SQLQueryEngine extends QueryEngine {
     static class SqlTransaction implements QueryEngine.Transaction {
 
         private Connection conn;
-        private final List<NamedParamPreparedStatement> stmts = new ArrayList<>();
+
+        // Statements and connections may be registered by concurrent page totals queries.
+        private final List<NamedParamPreparedStatement> stmts = new CopyOnWriteArrayList<>();
+        private final List<Connection> concurrentConns = new CopyOnWriteArrayList<>();
+
+        // Guarded by this.  Once set, concurrent statements close themselves instead of registering.
+        private boolean closed = false;
+
+        /**
+         * SQL translations of client queries, memoized by query instance so that explain and execute
+         * share a single translation.
+         */
+        private final Map<Query, TranslatedQuery> translations = new IdentityHashMap<>();
 
         private void initializeConnection(DataSource dataSource) {
             try {
@@ -227,16 +305,97 @@ public class SQLQueryEngine extends QueryEngine {
             return stmt;
         }
 
+        /**
+         * Prepares a statement on a dedicated connection so that it can run concurrently with statements
+         * on the primary connection.
+         * @param namedParamQuery The query to prepare.
+         * @param dataSource The pool to borrow the connection from.
+         * @return the prepared statement.
+         */
+        public NamedParamPreparedStatement initializeConcurrentStatement(String namedParamQuery,
+                                                                         DataSource dataSource) {
+            Connection concurrentConn;
+            NamedParamPreparedStatement stmt;
+            try {
+                concurrentConn = dataSource.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            try {
+                stmt = new NamedParamPreparedStatement(concurrentConn, namedParamQuery);
+            } catch (SQLException e) {
+                closeSoftly(concurrentConn);
+                throw new IllegalStateException(e);
+            }
+
+            synchronized (this) {
+                if (!closed) {
+                    concurrentConns.add(concurrentConn);
+                    stmts.add(stmt);
+                    return stmt;
+                }
+            }
+
+            // The transaction was closed or cancelled while the connection was being acquired.
+            cancelAndCloseSoftly(stmt);
+            closeSoftly(concurrentConn);
+            throw new IllegalStateException("Transaction closed before the query could run");
+        }
+
         @Override
         public void close() {
+            markClosed();
             stmts.forEach(SQLQueryEngine::cancelAndCloseSoftly);
             closeSoftly(conn);
+            concurrentConns.forEach(SQLQueryEngine::closeSoftly);
         }
 
         @Override
         public void cancel() {
+            markClosed();
             stmts.forEach(SQLQueryEngine::cancelSoftly);
         }
+
+        private synchronized void markClosed() {
+            closed = true;
+        }
+    }
+
+    /**
+     * The SQL generated for a single client query.
+     */
+    @Value
+    private static class TranslatedQuery {
+        /**
+         * The connection of the client query after metric plan expansion and optimization.  Only the SQL and
+         * connection are kept so that cached translations do not retain the request that produced them.
+         */
+        ConnectionDetails connectionDetails;
+
+        /**
+         * The primary query.
+         */
+        NativeQuery sql;
+
+        /**
+         * The page totals query or null if page totals were not requested or the query returns a single record.
+         */
+        NativeQuery pageTotalSql;
+
+        /**
+         * The filter parameter names used in the SQL, in the order the client query filter parameters are
+         * visited.  Queries sharing this translation bind their values to these names by position.
+         */
+        List<String> parameterNames;
+
+        List<String> toQueryStrings() {
+            List<String> queries = new ArrayList<>();
+            if (pageTotalSql != null) {
+                queries.add(pageTotalSql.toString());
+            }
+            queries.add(sql.toString());
+            return queries;
+        }
     }
 
     @Override
@@ -251,38 +410,54 @@ public class SQLQueryEngine extends QueryEngine {
         DataSource dataSource = details.getDataSource();
         SQLDialect dialect = details.getDialect();
 
-        Query expandedQuery = expandMetricQueryPlans(query);
-
-        // Translate the query into SQL.
-        NativeQuery sql = toSQL(expandedQuery, dialect);
-        String queryString = sql.toString();
+        // Translate the query into SQL (or reuse the translation from explain).
+        TranslatedQuery translated = translate(query, sqlTransaction);
+        String queryString = translated.getSql().toString();
 
         QueryResult.QueryResultBuilder resultBuilder = QueryResult.builder();
         NamedParamPreparedStatement stmt;
 
         Pagination pagination = query.getPagination();
+        CompletableFuture<Long> pageTotal = null;
         if (returnPageTotals(pagination)) {
-            resultBuilder.pageTotals(getPageTotal(expandedQuery, sql, query, sqlTransaction));
+            if (pageTotalsExecutor != null && translated.getPageTotalSql() != null) {
+                pageTotal = CompletableFuture.supplyAsync(
+                        () -> getPageTotal(translated, query, sqlTransaction), pageTotalsExecutor);
+            } else {
+                resultBuilder.pageTotals(getPageTotal(translated, query, sqlTransaction));
+            }
         }
 
-        log.debug("SQL Query: " + queryString);
-        stmt = sqlTransaction.initializeStatement(queryString, dataSource);
+        ResultSet resultSet;
+        try {
+            log.debug("SQL Query: " + queryString);
+            stmt = sqlTransaction.initializeStatement(queryString, dataSource);
 
-        // Supply the query parameters to the query
-        supplyFilterQueryParameters(query, stmt, dialect);
+            // Supply the query parameters to the query
+            supplyFilterQueryParameters(query, translated.getParameterNames(), stmt, dialect);
 
-        // Run the primary query and log the time spent.
-        ResultSet resultSet = runQuery(stmt, queryString, Function.identity());
+            // Run the primary query and log the time spent.
+            resultSet = runQuery(stmt, queryString, Function.identity());
+        } catch (RuntimeException e) {
+            if (pageTotal != null) {
+                abandonPageTotal(pageTotal, sqlTransaction);
+            }
+            throw e;
+        }
+
+        if (pageTotal != null) {
+            resultBuilder.pageTotals(awaitPageTotal(pageTotal));
+        }
 
         resultBuilder.data(new EntityHydrator(resultSet, query, metadataDictionary));
         return resultBuilder.build();
     }
 
-    private long getPageTotal(Query expandedQuery, NativeQuery sql, Query clientQuery, SqlTransaction sqlTransaction) {
-        ConnectionDetails details = expandedQuery.getConnectionDetails();
+    private long getPageTotal(TranslatedQuery translated, Query clientQuery, SqlTransaction sqlTransaction) {
+        ConnectionDetails details = translated.getConnectionDetails();
         DataSource dataSource = details.getDataSource();
         SQLDialect dialect = details.getDialect();
-        NativeQuery paginationSQL = toPageTotalSQL(expandedQuery, sql, dialect);
+        NativeQuery paginationSQL = translated.getPageTotalSql();
 
         if (paginationSQL == null) {
             // The query returns the aggregated metric without any dimension.
@@ -290,10 +465,12 @@ public class SQLQueryEngine extends QueryEngine {
             return 1;
         }
 
-        NamedParamPreparedStatement stmt = sqlTransaction.initializeStatement(paginationSQL.toString(), dataSource);
+        NamedParamPreparedStatement stmt = (pageTotalsExecutor == null)
+                ? sqlTransaction.initializeStatement(paginationSQL.toString(), dataSource)
+                : sqlTransaction.initializeConcurrentStatement(paginationSQL.toString(), dataSource);
 
         // Supply the query parameters to the query
-        supplyFilterQueryParameters(clientQuery, stmt, dialect);
+        supplyFilterQueryParameters(clientQuery, translated.getParameterNames(), stmt, dialect);
 
         // Run the Pagination query and log the time spent.
         Long result = CoerceUtil.coerce(runQuery(stmt, paginationSQL.toString(), SINGLE_RESULT_MAPPER), Long.class);
@@ -301,6 +478,38 @@ public class SQLQueryEngine extends QueryEngine {
         return (result != null) ? result : 0;
     }
 
+    /**
+     * Waits for a concurrently running page totals query to finish.
+     * @param pageTotal The running page totals query.
+     * @return The page totals.
+     */
+    private static long awaitPageTotal(CompletableFuture<Long> pageTotal) {
+        try {
+            return pageTotal.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Stops a concurrently running page totals query after the data query failed.  The transaction is
+     * cancelled so the page totals statement either aborts or never registers, and the query is awaited
+     * so that nothing keeps running against the pool once the failure propagates.
+     * @param pageTotal The running page totals query.
+     * @param sqlTransaction The transaction the query runs in.
+     */
+    private static void abandonPageTotal(CompletableFuture<Long> pageTotal, SqlTransaction sqlTransaction) {
+        sqlTransaction.cancel();
+        try {
+            pageTotal.join();
+        } catch (CompletionException | CancellationException e) {
+            log.debug("Page totals query abandoned: {}", e.getMessage());
+        }
+    }
+
     @Override
     public String getTableVersion(Table table, Transaction transaction) {
 
@@ -341,19 +550,7 @@ public class SQLQueryEngine extends QueryEngine {
      * @return List of SQL string(s) corresponding to the given query.
      */
     public List<String> explain(Query query, SQLDialect dialect) {
-        List<String> queries = new ArrayList<>();
-        Query expandedQuery = expandMetricQueryPlans(query);
-        NativeQuery sql = toSQL(expandedQuery, dialect);
-
-        Pagination pagination = query.getPagination();
-        if (returnPageTotals(pagination)) {
-            NativeQuery paginationSql = toPageTotalSQL(expandedQuery, sql, dialect);
-            if (paginationSql != null) {
-                queries.add(paginationSql.toString());
-            }
-        }
-        queries.add(sql.toString());
-        return queries;
+        return translate(query, dialect).toQueryStrings();
     }
 
     @Override
@@ -361,6 +558,69 @@ public class SQLQueryEngine extends QueryEngine {
         return explain(query, query.getConnectionDetails().getDialect());
     }
 
+    @Override
+    public List<String> explain(Query query, Transaction transaction) {
+        return translate(query, (SqlTransaction) transaction).toQueryStrings();
+    }
+
+    /**
+     * Translates the client query into SQL once per transaction.  Subsequent calls for the same query instance
+     * return the memoized translation.
+     *
+     * @param query The client query.
+     * @param sqlTransaction The transaction holding previous translations.
+     * @return the translated query.
+     */
+    private TranslatedQuery translate(Query query, SqlTransaction sqlTransaction) {
+        return sqlTransaction.translations.computeIfAbsent(query,
+                (key) -> translate(key, key.getConnectionDetails().getDialect()));
+    }
+
+    /**
+     * Translates the client query into its primary and (if requested) page totals SQL.  Translations are
+     * shared by all queries with the same shape - only the filter values differ between them.
+     *
+     * @param query The client query.
+     * @param dialect SQL dialect to use for this storage.
+     * @return the translated query.
+     */
+    private TranslatedQuery translate(Query query, SQLDialect dialect) {
+        QueryShape shape = (templates == null) ? null : QueryShape.of(query, dialect);
+        if (shape == null) {
+            return translateQuery(query, dialect);
+        }
+
+        TranslatedQuery template = templates.getIfPresent(shape);
+        if (template != null) {
+            return template;
+        }
+
+        TranslatedQuery translated = translateQuery(query, dialect);
+
+        // A parameter that occurs more than once cannot be rebound by position.
+        if (new HashSet<>(translated.getParameterNames()).size() == translated.getParameterNames().size()) {
+            templates.put(shape, translated);
+        }
+        return translated;
+    }
+
+    private TranslatedQuery translateQuery(Query query, SQLDialect dialect) {
+        Query expandedQuery = expandMetricQueryPlans(query);
+        NativeQuery sql = toSQL(expandedQuery, dialect);
+
+        NativeQuery paginationSql = null;
+        if (returnPageTotals(query.getPagination())) {
+            paginationSql = toPageTotalSQL(expandedQuery, sql, dialect);
+        }
+
+        List<String> parameterNames = getParameterizedPredicates(query).stream()
+                .flatMap(predicate -> predicate.getParameters().stream())
+                .map(FilterPredicate.FilterParameter::getName)
+                .collect(Collectors.toList());
+
+        return new TranslatedQuery(expandedQuery.getConnectionDetails(), sql, paginationSql, parameterNames);
+    }
+
     @Override
     public QueryValidator getValidator() {
         return validator;
@@ -431,38 +691,51 @@ public class SQLQueryEngine extends QueryEngine {
     }
 
     /**
-     * Given a Prepared Statement, replaces any parameters with their values from client query.
+     * Returns the client query predicates that have parameters - in the order they are bound.
      *
      * @param query The client query
-     * @param stmt Customized Prepared Statement
-     * @param dialect the SQL dialect
+     * @return The where predicates followed by the having predicates.
      */
-    private void supplyFilterQueryParameters(Query query, NamedParamPreparedStatement stmt, SQLDialect dialect) {
-
-        Collection<FilterPredicate> predicates = new ArrayList<>();
+    private static List<FilterPredicate> getParameterizedPredicates(Query query) {
+        List<FilterPredicate> predicates = new ArrayList<>();
         if (query.getWhereFilter() != null) {
-            predicates.addAll(query.getWhereFilter().accept(new PredicateExtractionVisitor()));
+            query.getWhereFilter().accept(new PredicateExtractionVisitor(predicates));
         }
 
         if (query.getHavingFilter() != null) {
-            predicates.addAll(query.getHavingFilter().accept(new PredicateExtractionVisitor()));
+            query.getHavingFilter().accept(new PredicateExtractionVisitor(predicates));
         }
 
-        for (FilterPredicate filterPredicate : predicates) {
+        return predicates.stream()
+                .filter(predicate -> predicate.getOperator().isParameterized())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Given a Prepared Statement, replaces any parameters with their values from client query.
+     *
+     * @param query The client query
+     * @param parameterNames The names of the parameters in the prepared statement (in binding order).
+     * @param stmt Customized Prepared Statement
+     * @param dialect the SQL dialect
+     */
+    private void supplyFilterQueryParameters(Query query, List<String> parameterNames,
+                                             NamedParamPreparedStatement stmt, SQLDialect dialect) {
+
+        Iterator<String> names = parameterNames.iterator();
+        for (FilterPredicate filterPredicate : getParameterizedPredicates(query)) {
             Column column = metaDataStore.getColumn(filterPredicate.getEntityType(), filterPredicate.getField());
-            if (filterPredicate.getOperator().isParameterized()) {
-                boolean shouldEscape = filterPredicate.isMatchingOperator();
-                filterPredicate.getParameters().forEach(param -> {
-                    try {
-                        Object value = param.getValue();
+            boolean shouldEscape = filterPredicate.isMatchingOperator();
+            for (FilterPredicate.FilterParameter param : filterPredicate.getParameters()) {
+                try {
+                    Object value = param.getValue();
 
-                        value = convertForJdbc(filterPredicate.getEntityType(), column, value, dialect);
+                    value = convertForJdbc(filterPredicate.getEntityType(), column, value, dialect);
 
-                        stmt.setObject(param.getName(), shouldEscape ? param.escapeMatching() : value);
-                    } catch (SQLException e) {
-                        throw new IllegalStateException(e);
-                    }
-                });
+                    stmt.setObject(names.next(), shouldEscape ? param.escapeMatching() : value);
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
             }
         }
     }
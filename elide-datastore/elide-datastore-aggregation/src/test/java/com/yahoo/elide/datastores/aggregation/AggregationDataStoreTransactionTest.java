@@ -37,7 +37,10 @@ import com.yahoo.elide.core.utils.DefaultClassScanner;
 import com.yahoo.elide.core.utils.coerce.CoerceUtil;
 import com.yahoo.elide.core.utils.coerce.converters.ISO8601DateSerde;
 import com.yahoo.elide.datastores.aggregation.cache.Cache;
+import com.yahoo.elide.datastores.aggregation.cache.CacheBudget;
+import com.yahoo.elide.datastores.aggregation.cache.QueryCoalescer;
 import com.yahoo.elide.datastores.aggregation.cache.QueryKeyExtractor;
+import com.yahoo.elide.datastores.aggregation.cache.TableVersionCache;
 import com.yahoo.elide.datastores.aggregation.core.QueryLogger;
 import com.yahoo.elide.datastores.aggregation.core.QueryResponse;
 import com.yahoo.elide.datastores.aggregation.framework.SQLUnitTest;
@@ -48,8 +51,8 @@ import com.yahoo.elide.datastores.aggregation.query.Query;
 import com.yahoo.elide.datastores.aggregation.query.QueryResult;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.SQLQueryEngine;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.metadata.SQLTable;
-import com.yahoo.elide.datastores.aggregation.queryengines.sql.query.NativeQuery;
 import com.yahoo.elide.datastores.aggregation.queryengines.sql.query.SQLMetricProjection;
+import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
 import example.PlayerStats;
 import example.PlayerStatsWithRequiredFilter;
@@ -65,7 +68,9 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @ExtendWith(MockitoExtension.class)
 class AggregationDataStoreTransactionTest extends SQLUnitTest {
@@ -86,6 +91,26 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
             super(queryEngine, cache, queryLogger);
         }
 
+        public MyAggregationDataStoreTransaction(QueryEngine queryEngine, Cache cache, QueryLogger queryLogger,
+                                                 TableVersionCache tableVersionCache) {
+            super(queryEngine, cache, queryLogger, tableVersionCache);
+        }
+
+        public MyAggregationDataStoreTransaction(QueryEngine queryEngine, Cache cache, QueryLogger queryLogger,
+                                                 TableVersionCache tableVersionCache, CacheBudget cacheBudget) {
+            super(queryEngine, cache, queryLogger, tableVersionCache, cacheBudget);
+        }
+
+        public MyAggregationDataStoreTransaction(QueryEngine queryEngine, Cache cache, QueryLogger queryLogger,
+                                                 QueryCoalescer queryCoalescer) {
+            super(queryEngine, cache, queryLogger, null, CacheBudget.UNLIMITED, queryCoalescer);
+        }
+
+        public MyAggregationDataStoreTransaction(QueryEngine queryEngine, Cache cache, QueryLogger queryLogger,
+                                                 CacheBudget cacheBudget, QueryCoalescer queryCoalescer) {
+            super(queryEngine, cache, queryLogger, null, cacheBudget, queryCoalescer);
+        }
+
         @Override
         Query buildQuery(EntityProjection entityProjection, RequestScope scope) {
             return query;
@@ -200,12 +225,8 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
         Mockito.reset(queryLogger);
 
         QueryResult queryResult = QueryResult.builder().data(DATA).build();
-        NativeQuery myQuery = NativeQuery.builder()
-                .fromClause(playerStatsTable.getName())
-                .projectionClause(" ").build();
         when(queryEngine.getTableVersion(playerStatsTable, qeTransaction)).thenReturn("foo");
         when(queryEngine.executeQuery(query, qeTransaction)).thenReturn(queryResult);
-        when(queryEngine.explain(query)).thenReturn(Arrays.asList(myQuery.toString()));
         AggregationDataStoreTransaction transaction =
                 new MyAggregationDataStoreTransaction(queryEngine, cache, queryLogger);
         EntityProjection entityProjection = EntityProjection.builder().type(PlayerStats.class).build();
@@ -215,7 +236,7 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
 
         String cacheKey = "foo;" + queryKey;
         Mockito.verify(cache).get(cacheKey);
-        Mockito.verify(cache).put(cacheKey, queryResult);
+        Mockito.verify(cache).put(cacheKey, query, queryResult);
         Mockito.verifyNoMoreInteractions(cache);
         Mockito.verify(queryLogger, times(1)).acceptQuery(
                 Mockito.eq(scope.getRequestId()),
@@ -226,18 +247,86 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
                 Mockito.eq(scope.getRequestId()), any());
     }
 
+    @Test
+    public void loadObjectsSkipsCacheOverBudget() {
+        Mockito.reset(queryLogger);
+
+        QueryResult queryResult = QueryResult.builder().data(Arrays.asList("xyzzy", "plugh")).build();
+        when(queryEngine.getTableVersion(playerStatsTable, qeTransaction)).thenReturn("foo");
+        when(queryEngine.executeQuery(query, qeTransaction)).thenReturn(queryResult);
+        AggregationDataStoreTransaction transaction = new MyAggregationDataStoreTransaction(queryEngine, cache,
+                queryLogger, null, CacheBudget.builder().maxRows(1).build());
+        EntityProjection entityProjection = EntityProjection.builder().type(PlayerStats.class).build();
+
+        when(scope.getRoute()).thenReturn(Route.builder().build());
+        assertEquals(Arrays.asList("xyzzy", "plugh"),
+                Lists.newArrayList(transaction.loadObjects(entityProjection, scope)));
+
+        String cacheKey = "foo;" + queryKey;
+        Mockito.verify(cache).get(cacheKey);
+        Mockito.verify(cache, never()).put(any(), any(), any());
+    }
+
+    @Test
+    public void loadObjectsCoalescesQueries() {
+        Mockito.reset(queryLogger);
+
+        QueryResult queryResult = QueryResult.builder().data(DATA).build();
+        when(queryEngine.getTableVersion(playerStatsTable, qeTransaction)).thenReturn("foo");
+        when(queryEngine.executeQuery(query, qeTransaction)).thenReturn(queryResult);
+        QueryCoalescer queryCoalescer = new QueryCoalescer();
+        AggregationDataStoreTransaction transaction =
+                new MyAggregationDataStoreTransaction(queryEngine, cache, queryLogger, queryCoalescer);
+        EntityProjection entityProjection = EntityProjection.builder().type(PlayerStats.class).build();
+
+        when(scope.getRoute()).thenReturn(Route.builder().build());
+
+        // The result is cached before it is returned (rather than after the client reads it).
+        Iterable<Object> loaded = transaction.loadObjects(entityProjection, scope);
+        String cacheKey = "foo;" + queryKey;
+        Mockito.verify(cache).get(cacheKey);
+        Mockito.verify(cache).put(cacheKey, query, queryResult);
+        assertEquals(DATA, Lists.newArrayList(loaded));
+        assertEquals(0, queryCoalescer.getInFlightCount());
+    }
+
+    @Test
+    public void loadObjectsStreamsCoalescedQueriesOverBudget() {
+        Mockito.reset(queryLogger);
+
+        List<Object> rows = Arrays.asList("xyzzy", "plugh", "plover");
+        AtomicInteger read = new AtomicInteger();
+        Iterable<Object> singlePass = () -> Iterators.transform(rows.iterator(), row -> {
+            read.incrementAndGet();
+            return row;
+        });
+        QueryResult queryResult = QueryResult.builder().data(singlePass).build();
+        when(queryEngine.getTableVersion(playerStatsTable, qeTransaction)).thenReturn("foo");
+        when(queryEngine.executeQuery(query, qeTransaction)).thenReturn(queryResult);
+        QueryCoalescer queryCoalescer = new QueryCoalescer();
+        AggregationDataStoreTransaction transaction = new MyAggregationDataStoreTransaction(queryEngine, cache,
+                queryLogger, CacheBudget.builder().maxRows(1).build(), queryCoalescer);
+        EntityProjection entityProjection = EntityProjection.builder().type(PlayerStats.class).build();
+
+        when(scope.getRoute()).thenReturn(Route.builder().build());
+
+        // Only the rows within the budget are read before the result is returned.  The rest is streamed.
+        Iterable<Object> loaded = transaction.loadObjects(entityProjection, scope);
+        assertEquals(2, read.get());
+        assertEquals(rows, Lists.newArrayList(loaded));
+        assertEquals(3, read.get());
+        Mockito.verify(cache, never()).put(any(), any(), any());
+        assertEquals(0, queryCoalescer.getInFlightCount());
+    }
+
     @Test
     public void loadObjectsUsesCache() {
         Mockito.reset(queryLogger);
 
         String cacheKey = "foo;" + queryKey;
         QueryResult queryResult = QueryResult.builder().data(DATA).build();
-        NativeQuery myQuery = NativeQuery.builder()
-                .fromClause(playerStatsTable.getName())
-                .projectionClause(" ").build();
         when(cache.get(cacheKey)).thenReturn(queryResult);
         when(queryEngine.getTableVersion(playerStatsTable, qeTransaction)).thenReturn("foo");
-        when(queryEngine.explain(query)).thenReturn(Arrays.asList(myQuery.toString()));
         AggregationDataStoreTransaction transaction =
                 new MyAggregationDataStoreTransaction(queryEngine, cache, queryLogger);
         EntityProjection entityProjection = EntityProjection.builder().type(PlayerStats.class).build();
@@ -246,6 +335,8 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
         assertEquals(DATA, Lists.newArrayList(transaction.loadObjects(entityProjection, scope)));
 
         Mockito.verify(queryEngine, never()).executeQuery(any(), any());
+        Mockito.verify(queryEngine, never()).explain(any());
+        Mockito.verify(queryEngine, never()).explain(any(), any(QueryEngine.Transaction.class));
         Mockito.verify(cache).get(cacheKey);
         Mockito.verifyNoMoreInteractions(cache);
         Mockito.verify(queryLogger, times(1)).acceptQuery(
@@ -257,17 +348,35 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
                 Mockito.eq(scope.getRequestId()), any());
     }
 
+    @Test
+    public void loadObjectsUsesTableVersionCache() {
+        Mockito.reset(queryLogger);
+
+        String cacheKey = "foo;" + queryKey;
+        QueryResult queryResult = QueryResult.builder().data(DATA).build();
+        TableVersionCache tableVersionCache = Mockito.mock(TableVersionCache.class);
+        when(tableVersionCache.getTableVersion(playerStatsTable)).thenReturn("foo");
+        when(cache.get(cacheKey)).thenReturn(queryResult);
+        AggregationDataStoreTransaction transaction =
+                new MyAggregationDataStoreTransaction(queryEngine, cache, queryLogger, tableVersionCache);
+        EntityProjection entityProjection = EntityProjection.builder().type(PlayerStats.class).build();
+
+        when(scope.getRoute()).thenReturn(Route.builder().build());
+        assertEquals(DATA, Lists.newArrayList(transaction.loadObjects(entityProjection, scope)));
+
+        Mockito.verify(queryEngine, never()).getTableVersion(any(), any());
+        Mockito.verify(queryEngine, never()).executeQuery(any(), any());
+        Mockito.verify(cache).get(cacheKey);
+        Mockito.verifyNoMoreInteractions(cache);
+    }
+
     @Test
     public void loadObjectsPassesPagination() {
         Mockito.reset(queryLogger);
 
         QueryResult queryResult = QueryResult.builder().data(DATA).pageTotals(314L).build();
-        NativeQuery myQuery = NativeQuery.builder()
-                .fromClause(playerStatsTable.getName())
-                .projectionClause(" ").build();
         when(cache.get(anyString())).thenReturn(queryResult);
         when(queryEngine.getTableVersion(playerStatsTable, qeTransaction)).thenReturn("foo");
-        when(queryEngine.explain(query)).thenReturn(Arrays.asList(myQuery.toString()));
         AggregationDataStoreTransaction transaction =
                 new MyAggregationDataStoreTransaction(queryEngine, cache, queryLogger);
         Pagination pagination = new PaginationImpl(
@@ -296,24 +405,19 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
     public void loadObjectsNoTableVersion() {
         Mockito.reset(queryLogger);
 
-        NativeQuery myQuery = NativeQuery.builder()
-                .fromClause(playerStatsTable.getName())
-                .projectionClause(" ").build();
-
         QueryResult queryResult = QueryResult.builder().data(DATA).build();
 
         when(queryEngine.executeQuery(query, qeTransaction))
                 .thenReturn(queryResult);
-        when(queryEngine.explain(query)).thenReturn(Arrays.asList(myQuery.toString()));
         AggregationDataStoreTransaction transaction =
                 new MyAggregationDataStoreTransaction(queryEngine, cache, queryLogger);
         EntityProjection entityProjection = EntityProjection.builder().type(PlayerStats.class).build();
         when(scope.getRoute()).thenReturn(Route.builder().build());
-        transaction.loadObjects(entityProjection, scope);
+        assertEquals(DATA, Lists.newArrayList(transaction.loadObjects(entityProjection, scope)));
 
         String cacheKey = ";" + queryKey;
         Mockito.verify(cache).get(cacheKey);
-        Mockito.verify(cache).put(cacheKey, queryResult);
+        Mockito.verify(cache).put(cacheKey, query, queryResult);
         Mockito.verify(queryLogger, times(1)).acceptQuery(
                 Mockito.eq(scope.getRequestId()),
                 any(), any(), any(), any(), any());
@@ -328,13 +432,9 @@ class AggregationDataStoreTransactionTest extends SQLUnitTest {
         Mockito.reset(queryLogger);
 
         query = Query.builder().source(playerStatsTable).bypassingCache(true).build();
-        NativeQuery myQuery = NativeQuery.builder()
-                .fromClause(playerStatsTable.getName())
-                .projectionClause(" ").build();
 
         QueryResult queryResult = QueryResult.builder().data(DATA).build();
         when(queryEngine.executeQuery(query, qeTransaction)).thenReturn(queryResult);
-        when(queryEngine.explain(query)).thenReturn(Arrays.asList(myQuery.toString()));
         AggregationDataStoreTransaction transaction =
                 new MyAggregationDataStoreTransaction(queryEngine, cache, queryLogger);
         EntityProjection entityProjection = EntityProjection.builder().type(PlayerStats.class).build();
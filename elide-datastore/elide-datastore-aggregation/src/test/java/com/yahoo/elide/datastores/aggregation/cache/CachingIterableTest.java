@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.aggregation.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Test cases for CachingIterable.
+ */
+public class CachingIterableTest {
+    private static final List<String> DATA = Arrays.asList("a", "b", "c");
+
+    @Test
+    public void testBuffersWithinBudget() {
+        AtomicReference<List<String>> cached = new AtomicReference<>();
+        CachingIterable<String> iterable = new CachingIterable<>(DATA, CacheBudget.UNLIMITED, cached::set);
+
+        assertEquals(DATA, Lists.newArrayList(iterable));
+        assertEquals(DATA, cached.get());
+    }
+
+    @Test
+    public void testNotCachedUntilFullyRead() {
+        AtomicReference<List<String>> cached = new AtomicReference<>();
+        CachingIterable<String> iterable = new CachingIterable<>(DATA, CacheBudget.UNLIMITED, cached::set);
+
+        iterable.iterator().next();
+        assertNull(cached.get());
+    }
+
+    @Test
+    public void testRowBudgetExceeded() {
+        AtomicReference<List<String>> cached = new AtomicReference<>();
+        CacheBudget budget = CacheBudget.builder().maxRows(2).build();
+        CachingIterable<String> iterable = new CachingIterable<>(DATA, budget, cached::set);
+
+        assertEquals(DATA, Lists.newArrayList(iterable));
+        assertNull(cached.get());
+    }
+
+    @Test
+    public void testByteBudgetExceeded() {
+        AtomicReference<List<String>> cached = new AtomicReference<>();
+        CacheBudget budget = CacheBudget.builder().maxBytes(2).rowSizeEstimator(row -> 1).build();
+        CachingIterable<String> iterable = new CachingIterable<>(DATA, budget, cached::set);
+
+        assertEquals(DATA, Lists.newArrayList(iterable));
+        assertNull(cached.get());
+    }
+
+    @Test
+    public void testExactBudget() {
+        AtomicReference<List<String>> cached = new AtomicReference<>();
+        CacheBudget budget = CacheBudget.builder().maxRows(3).maxBytes(3).rowSizeEstimator(row -> 1).build();
+        CachingIterable<String> iterable = new CachingIterable<>(DATA, budget, cached::set);
+
+        assertEquals(DATA, Lists.newArrayList(iterable));
+        assertEquals(DATA, cached.get());
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.aggregation.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.yahoo.elide.datastores.aggregation.framework.SQLUnitTest;
+import com.yahoo.elide.datastores.aggregation.query.ImmutablePagination;
+import com.yahoo.elide.datastores.aggregation.query.Query;
+import com.yahoo.elide.datastores.aggregation.query.QueryResult;
+import example.PlayerStats;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.util.SerializationUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Test cases for ColumnarQueryResultCodec.
+ */
+public class ColumnarQueryResultCodecTest extends SQLUnitTest {
+
+    @BeforeAll
+    public static void init() {
+        SQLUnitTest.init();
+    }
+
+    private Query buildQuery() {
+        return Query.builder()
+                .source(playerStatsTable)
+                .metricProjection(playerStatsTable.getMetricProjection("lowScore"))
+                .metricProjection(playerStatsTable.getMetricProjection("dailyAverageScorePerPeriod"))
+                .dimensionProjection(playerStatsTable.getDimensionProjection("overallRating"))
+                .dimensionProjection(playerStatsTable.getDimensionProjection("countryUnSeats"))
+                .timeDimensionProjection(playerStatsTable.getTimeDimensionProjection("recordedDate"))
+                .pagination(new ImmutablePagination(0, 10, false, true))
+                .build();
+    }
+
+    private QueryResult runQuery(Query query) {
+        QueryResult result = engine.executeQuery(query, transaction);
+        return QueryResult.builder()
+                .data(toList(result.getData()))
+                .pageTotals(result.getPageTotals())
+                .build();
+    }
+
+    private static List<List<Object>> toValues(Iterable<Object> data) {
+        return toList(data).stream()
+                .map(PlayerStats.class::cast)
+                .map(stats -> Arrays.<Object>asList(
+                        stats.getId(),
+                        stats.getLowScore(),
+                        stats.getDailyAverageScorePerPeriod(),
+                        stats.getOverallRating(),
+                        stats.getCountryUnSeats(),
+                        stats.getRecordedDate()))
+                .collect(Collectors.toList());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void testRoundTrip(boolean compress) {
+        Query query = buildQuery();
+        QueryResult result = runQuery(query);
+        ColumnarQueryResultCodec codec = new ColumnarQueryResultCodec(metaDataStore.getMetadataDictionary(),
+                compress);
+
+        byte[] encoded = codec.encode(query, result);
+        assertTrue(codec.canDecode(encoded));
+
+        QueryResult decoded = codec.decode(encoded);
+        assertEquals(result.getPageTotals(), decoded.getPageTotals());
+        assertEquals(result.getData(), decoded.getData());
+        assertEquals(toValues(result.getData()), toValues(decoded.getData()));
+    }
+
+    @Test
+    public void testEmptyResult() {
+        ColumnarQueryResultCodec codec = new ColumnarQueryResultCodec(metaDataStore.getMetadataDictionary(), true);
+        QueryResult result = QueryResult.builder().data(Collections.emptyList()).build();
+
+        QueryResult decoded = codec.decode(codec.encode(buildQuery(), result));
+
+        assertNull(decoded.getPageTotals());
+        assertEquals(Collections.emptyList(), decoded.getData());
+    }
+
+    @Test
+    public void testSmallerThanJavaSerialization() {
+        Query query = buildQuery();
+        QueryResult result = runQuery(query);
+        ColumnarQueryResultCodec codec = new ColumnarQueryResultCodec(metaDataStore.getMetadataDictionary(), false);
+
+        assertTrue(codec.encode(query, result).length < SerializationUtils.serialize(result).length);
+    }
+
+    @Test
+    public void testJavaSerializedPayloadIsNotDecoded() {
+        ColumnarQueryResultCodec codec = new ColumnarQueryResultCodec(metaDataStore.getMetadataDictionary(), true);
+        QueryResult result = QueryResult.builder().data(Collections.singletonList("xyzzy")).build();
+
+        assertFalse(codec.canDecode(SerializationUtils.serialize(result)));
+        assertFalse(codec.canDecode(null));
+    }
+}
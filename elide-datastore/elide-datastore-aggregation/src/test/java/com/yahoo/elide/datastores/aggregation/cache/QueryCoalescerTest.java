@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.aggregation.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.yahoo.elide.datastores.aggregation.query.QueryResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test cases for QueryCoalescer.
+ */
+public class QueryCoalescerTest {
+    private QueryCoalescer coalescer;
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setup() {
+        coalescer = new QueryCoalescer();
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testConcurrentQueriesShareResult() throws Exception {
+        QueryResult result = QueryResult.builder().data(Arrays.asList("xyzzy")).build();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+
+        Future<QueryResult> leader = executor.submit(() -> coalescer.execute("key", () -> {
+            executions.incrementAndGet();
+            started.countDown();
+            await(release);
+            return result;
+        }));
+
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        assertEquals(1, coalescer.getInFlightCount());
+
+        Thread releaser = new Thread(() -> {
+            //Give the follower time to start waiting.
+            sleep(100);
+            release.countDown();
+        });
+        releaser.start();
+
+        QueryResult shared = coalescer.execute("key", () -> {
+            executions.incrementAndGet();
+            return QueryResult.builder().data(Arrays.asList("plugh")).build();
+        });
+
+        assertSame(result, shared);
+        assertSame(result, leader.get(10, TimeUnit.SECONDS));
+        assertEquals(1, executions.get());
+        assertEquals(0, coalescer.getInFlightCount());
+        releaser.join();
+    }
+
+    @Test
+    public void testSinglePassResultIsNotShared() throws Exception {
+        Iterable<Object> singlePass = () -> Arrays.<Object>asList("xyzzy").iterator();
+        QueryResult result = QueryResult.builder().data(singlePass).build();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+
+        Future<QueryResult> leader = executor.submit(() -> coalescer.execute("key", () -> {
+            executions.incrementAndGet();
+            started.countDown();
+            await(release);
+            return result;
+        }));
+
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        Thread releaser = new Thread(() -> {
+            //Give the follower time to start waiting.
+            sleep(100);
+            release.countDown();
+        });
+        releaser.start();
+
+        QueryResult own = QueryResult.builder().data(Arrays.asList("plugh")).build();
+        QueryResult followed = coalescer.execute("key", () -> {
+            executions.incrementAndGet();
+            return own;
+        });
+
+        assertSame(own, followed);
+        assertSame(result, leader.get(10, TimeUnit.SECONDS));
+        assertEquals(2, executions.get());
+        assertEquals(0, coalescer.getInFlightCount());
+        releaser.join();
+    }
+
+    @Test
+    public void testSequentialQueriesRunSeparately() {
+        AtomicInteger executions = new AtomicInteger();
+
+        coalescer.execute("key", () -> QueryResult.builder().data(Arrays.asList(executions.incrementAndGet())).build());
+        coalescer.execute("key", () -> QueryResult.builder().data(Arrays.asList(executions.incrementAndGet())).build());
+
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    public void testFailureIsSharedAndCleared() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<QueryResult> leader = executor.submit(() -> coalescer.execute("key", () -> {
+            started.countDown();
+            await(release);
+            throw new IllegalStateException("boom");
+        }));
+
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        release.countDown();
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> leader.get(10, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof IllegalStateException);
+        assertEquals(0, coalescer.getInFlightCount());
+
+        QueryResult result = QueryResult.builder().data(Arrays.asList("xyzzy")).build();
+        assertSame(result, coalescer.execute("key", () -> result));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.aggregation.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.core.type.ClassType;
+import com.yahoo.elide.datastores.aggregation.QueryEngine;
+import com.yahoo.elide.datastores.aggregation.metadata.models.Table;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+/**
+ * Test cases for TableVersionCache.
+ */
+public class TableVersionCacheTest {
+    private QueryEngine queryEngine;
+    private QueryEngine.Transaction transaction;
+    private Table table;
+    private TableVersionCache cache;
+
+    @BeforeEach
+    public void setup() {
+        queryEngine = mock(QueryEngine.class);
+        transaction = mock(QueryEngine.Transaction.class);
+        table = mock(Table.class);
+        when(table.getModel()).thenAnswer(invocation -> ClassType.of(String.class));
+        when(queryEngine.beginTransaction()).thenReturn(transaction);
+
+        cache = new TableVersionCache(queryEngine, Duration.ofHours(1));
+    }
+
+    @AfterEach
+    public void destroy() {
+        cache.close();
+    }
+
+    @Test
+    public void testVersionIsLoadedOnce() {
+        when(queryEngine.getTableVersion(table, transaction)).thenReturn("1");
+
+        assertEquals("1", cache.getTableVersion(table));
+        assertEquals("1", cache.getTableVersion(table));
+
+        verify(queryEngine, times(1)).getTableVersion(table, transaction);
+        verify(transaction, times(1)).close();
+    }
+
+    @Test
+    public void testMissingVersion() {
+        when(queryEngine.getTableVersion(table, transaction)).thenReturn(null);
+
+        assertEquals("", cache.getTableVersion(table));
+    }
+
+    @Test
+    public void testRefresh() {
+        when(queryEngine.getTableVersion(table, transaction)).thenReturn("1", "2");
+
+        assertEquals("1", cache.getTableVersion(table));
+        cache.refresh();
+        assertEquals("2", cache.getTableVersion(table));
+    }
+
+    @Test
+    public void testFailedRefreshReloadsOnNextLookup() {
+        when(queryEngine.getTableVersion(table, transaction))
+                .thenReturn("1")
+                .thenThrow(new IllegalStateException())
+                .thenReturn("3");
+
+        assertEquals("1", cache.getTableVersion(table));
+        cache.refresh();
+        assertEquals("3", cache.getTableVersion(table));
+        verify(queryEngine, times(3)).getTableVersion(any(), any());
+    }
+
+    @Test
+    public void testInvalidStaleness() {
+        assertThrows(IllegalArgumentException.class, () -> new TableVersionCache(queryEngine, Duration.ZERO));
+    }
+}
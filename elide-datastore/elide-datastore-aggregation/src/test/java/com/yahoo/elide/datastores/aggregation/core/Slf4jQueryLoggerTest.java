@@ -11,10 +11,13 @@ import static org.mockito.Mockito.mock;
 import com.yahoo.elide.core.security.User;
 import com.yahoo.elide.datastores.aggregation.query.Query;
 import com.yahoo.elide.datastores.aggregation.query.Queryable;
+import com.fasterxml.jackson.databind.JsonNode;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -57,6 +60,31 @@ public class Slf4jQueryLoggerTest {
                 true);
     }
 
+    @Test
+    void testProcessWithOverriddenLog() {
+        List<String> templates = new ArrayList<>();
+        Slf4jQueryLogger slf4jQueryLogger = new Slf4jQueryLogger() {
+            @Override
+            protected void log(String template, JsonNode value) {
+                templates.add(template);
+            }
+
+            @Override
+            protected boolean isEnabled() {
+                return true;
+            }
+        };
+
+        slf4jQueryLogger.processQuery(
+                UUID.fromString("edc4a871-dff2-4054-804e-d80075cf828d"),
+                Query.builder()
+                        .source(mock(Queryable.class))
+                        .build(),
+                Arrays.asList("foo", "bar"),
+                true);
+        assertEquals(List.of("QUERY RUNNING: {}"), templates);
+    }
+
     @Test
     void testComplete() {
         Slf4jQueryLogger.Logger logger = (template, node) -> {
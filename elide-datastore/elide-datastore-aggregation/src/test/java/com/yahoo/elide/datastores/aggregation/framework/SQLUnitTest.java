@@ -83,6 +83,7 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -471,6 +472,11 @@ public abstract class SQLUnitTest {
     protected Pattern repeatedWhitespacePattern = Pattern.compile("\\s\\s*");
 
     public static void init(SQLDialect sqlDialect, Set<Optimizer> optimizers, MetaDataStore metaDataStore) {
+        init(sqlDialect, optimizers, metaDataStore, null);
+    }
+
+    public static void init(SQLDialect sqlDialect, Set<Optimizer> optimizers, MetaDataStore metaDataStore,
+                            Executor pageTotalsExecutor) {
         Properties properties = new Properties();
         properties.put("driverClassName", "org.h2.Driver");
 
@@ -527,7 +533,8 @@ public abstract class SQLUnitTest {
         engine = new SQLQueryEngine(metaDataStore, connectionLookup,
                 optimizers,
                 new DefaultQueryPlanMerger(metaDataStore),
-                new DefaultQueryValidator(metaDataStore.getMetadataDictionary()));
+                new DefaultQueryValidator(metaDataStore.getMetadataDictionary()),
+                pageTotalsExecutor);
         playerStatsTable = (SQLTable) metaDataStore.getTable("playerStats", NO_VERSION);
         videoGameTable = (SQLTable) metaDataStore.getTable("videoGame", NO_VERSION);
         playerStatsViewTable = (SQLTable) metaDataStore.getTable("playerStatsView", NO_VERSION);
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.aggregation.queryengines.sql;
+
+import static com.yahoo.elide.core.utils.TypeHelper.getClassType;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.annotation.Include;
+import com.yahoo.elide.core.utils.DefaultClassScanner;
+import com.yahoo.elide.datastores.aggregation.framework.SQLUnitTest;
+import com.yahoo.elide.datastores.aggregation.metadata.MetaDataStore;
+import com.yahoo.elide.datastores.aggregation.query.ImmutablePagination;
+import com.yahoo.elide.datastores.aggregation.query.Query;
+import com.yahoo.elide.datastores.aggregation.query.QueryResult;
+import com.yahoo.elide.datastores.aggregation.queryengines.sql.dialects.SQLDialectFactory;
+import com.yahoo.elide.datastores.aggregation.timegrains.Day;
+import com.google.common.collect.ImmutableList;
+import example.PlayerStats;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.sql.DataSource;
+
+/**
+ * Tests page totals queries running concurrently with the data query.
+ */
+public class ConcurrentPageTotalsTest extends SQLUnitTest {
+
+    private static ExecutorService executor;
+
+    @BeforeAll
+    public static void init() {
+        executor = Executors.newSingleThreadExecutor();
+        MetaDataStore metaDataStore = new MetaDataStore(new DefaultClassScanner(),
+                getClassType(new DefaultClassScanner().getAnnotatedClasses("example", Include.class)),
+                false);
+        SQLUnitTest.init(SQLDialectFactory.getDefaultDialect(), new HashSet<>(), metaDataStore, executor);
+    }
+
+    @AfterAll
+    public static void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testPagination() throws Exception {
+        Query query = Query.builder()
+                .source(playerStatsTable)
+                .metricProjection(playerStatsTable.getMetricProjection("lowScore"))
+                .dimensionProjection(playerStatsTable.getDimensionProjection("overallRating"))
+                .timeDimensionProjection(playerStatsTable.getTimeDimensionProjection("recordedDate"))
+                .pagination(new ImmutablePagination(0, 1, false, true))
+                .build();
+
+        QueryResult result = engine.executeQuery(query, transaction);
+        List<Object> data = toList(result.getData());
+
+        PlayerStats stats1 = new PlayerStats();
+        stats1.setId("0");
+        stats1.setLowScore(35);
+        stats1.setOverallRating("Good");
+        stats1.setRecordedDate(new Day(Date.valueOf("2019-07-12")));
+
+        assertEquals(ImmutableList.of(stats1), data, "Returned record does not match");
+        assertEquals(3, result.getPageTotals(), "Page totals does not match");
+    }
+
+    @Test
+    public void testPaginationWithoutDimensions() throws Exception {
+        Query query = Query.builder()
+                .source(playerStatsTable)
+                .metricProjection(playerStatsTable.getMetricProjection("lowScore"))
+                .pagination(new ImmutablePagination(0, 1, false, true))
+                .build();
+
+        QueryResult result = engine.executeQuery(query, transaction);
+
+        assertEquals(1, toList(result.getData()).size());
+        assertEquals(1, result.getPageTotals(), "Page totals does not match");
+    }
+
+    @Test
+    public void testConcurrentStatementAfterClose() throws Exception {
+        PreparedStatement statement = mock(PreparedStatement.class);
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+
+        SQLQueryEngine.SqlTransaction sqlTransaction = new SQLQueryEngine.SqlTransaction();
+        sqlTransaction.cancel();
+
+        assertThrows(IllegalStateException.class,
+                () -> sqlTransaction.initializeConcurrentStatement("SELECT 1", dataSource));
+        verify(statement).close();
+        verify(connection).close();
+    }
+}
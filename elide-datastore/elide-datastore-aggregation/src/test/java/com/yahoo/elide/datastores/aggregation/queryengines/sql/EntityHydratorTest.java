@@ -13,6 +13,8 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.yahoo.elide.core.request.Argument;
@@ -68,9 +70,12 @@ public class EntityHydratorTest extends SQLUnitTest {
         ResultSet resultSet = mock(ResultSet.class);
         ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
         when(resultSet.next()).thenReturn(true, false);
-        when(resultSet.getObject("highScore")).thenReturn(1234);
-        when(resultSet.getObject(createSafeAlias("recordedDate", "byDay"))).thenReturn(new Date(1612390856));
-        when(resultSet.getObject(createSafeAlias("recordedDate", "byMonth"))).thenReturn(new Date(1612390856));
+        when(resultSet.findColumn("highScore")).thenReturn(1);
+        when(resultSet.findColumn(createSafeAlias("recordedDate", "byDay"))).thenReturn(2);
+        when(resultSet.findColumn(createSafeAlias("recordedDate", "byMonth"))).thenReturn(3);
+        when(resultSet.getObject(1)).thenReturn(1234);
+        when(resultSet.getObject(2)).thenReturn(new Date(1612390856));
+        when(resultSet.getObject(3)).thenReturn(new Date(1612390856));
         when(resultSet.getMetaData()).thenReturn(resultSetMetaData);
         when(resultSetMetaData.getColumnCount()).thenReturn(3);
 
@@ -104,7 +109,8 @@ public class EntityHydratorTest extends SQLUnitTest {
         ResultSet resultSet = mock(ResultSet.class);
         ResultSetMetaData resultSetMetaData = mock(ResultSetMetaData.class);
         when(resultSet.next()).thenReturn(true, false);
-        when(resultSet.getObject("overallRating")).thenReturn(null);
+        when(resultSet.findColumn("overallRating")).thenReturn(1);
+        when(resultSet.getObject(1)).thenReturn(null);
         when(resultSetMetaData.getColumnCount()).thenReturn(1);
 
         Query query = Query.builder()
@@ -122,4 +128,37 @@ public class EntityHydratorTest extends SQLUnitTest {
         assertFalse(iterator.hasNext());
         assertThrows(NoSuchElementException.class, () -> hydrator.iterator().next());
     }
+
+    @Test
+    void testColumnsAreResolvedOnce() throws Exception {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.findColumn("highScore")).thenReturn(1);
+        when(resultSet.findColumn("overallRating")).thenReturn(2);
+        when(resultSet.getObject(1)).thenReturn(1234, 2345);
+        when(resultSet.getObject(2)).thenReturn("Good", "Great");
+
+        Query query = Query.builder()
+                .source(playerStatsTable)
+                .metricProjection(playerStatsTable.getMetricProjection("highScore"))
+                .dimensionProjection(playerStatsTable.getDimensionProjection("overallRating"))
+                .build();
+
+        EntityHydrator hydrator = new EntityHydrator(resultSet, query, dictionary);
+
+        Iterator<Object> iterator = hydrator.iterator();
+        PlayerStats first = (PlayerStats) iterator.next();
+        PlayerStats second = (PlayerStats) iterator.next();
+        assertFalse(iterator.hasNext());
+
+        assertEquals(1234, first.getHighScore());
+        assertEquals("Good", first.getOverallRating());
+        assertEquals("0", first.getId());
+        assertEquals(2345, second.getHighScore());
+        assertEquals("Great", second.getOverallRating());
+        assertEquals("1", second.getId());
+
+        verify(resultSet, times(1)).findColumn("highScore");
+        verify(resultSet, times(1)).findColumn("overallRating");
+    }
 }
@@ -164,6 +164,36 @@ public class QueryEngineTest extends SQLUnitTest {
         assertEquals(ImmutableList.of(stats1), results);
     }
 
+    /**
+     * Test queries that only differ in their filter values share a translation but bind their own values.
+     *
+     * @throws Exception exception
+     */
+    @Test
+    public void testSameShapeDifferentFilterValues() throws Exception {
+        Query great = Query.builder()
+                .source(playerStatsTable)
+                .metricProjection(playerStatsTable.getMetricProjection("lowScore"))
+                .dimensionProjection(playerStatsTable.getDimensionProjection("overallRating"))
+                .whereFilter(filterParser.parseFilterExpression("overallRating==Great", playerStatsType, false))
+                .build();
+
+        Query good = Query.builder()
+                .query(great)
+                .whereFilter(filterParser.parseFilterExpression("overallRating==Good", playerStatsType, false))
+                .build();
+
+        List<Object> greatResults = toList(engine.executeQuery(great, transaction).getData());
+        List<Object> goodResults = toList(engine.executeQuery(good, transaction).getData());
+
+        assertEquals(1, greatResults.size());
+        assertEquals("Great", ((PlayerStats) greatResults.get(0)).getOverallRating());
+        assertEquals(1, goodResults.size());
+        assertEquals("Good", ((PlayerStats) goodResults.get(0)).getOverallRating());
+
+        assertEquals(engine.explain(great), engine.explain(good));
+    }
+
     /**
      * Test filtering on an attribute that's not present in the query.
      *
@@ -13,10 +13,17 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import com.yahoo.elide.core.Path;
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
 import com.yahoo.elide.core.datastore.inmemory.HashMapDataStore;
+import com.yahoo.elide.core.datastore.inmemory.HashMapIndex;
+import com.yahoo.elide.core.datastore.inmemory.IndexedHashMapDataStore;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.exceptions.TransactionException;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.predicates.InPredicate;
+import com.yahoo.elide.core.filter.predicates.PrefixPredicate;
 import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.core.type.ClassType;
 import com.yahoo.elide.core.utils.DefaultClassScanner;
@@ -32,6 +39,7 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
@@ -308,4 +316,68 @@ public class HashMapDataStoreTest {
             executor.shutdownNow();
         }
     }
+
+    @Test
+    public void testIndexNarrowsFilteredLoads() throws Exception {
+        IndexedHashMapDataStore indexedDataStore =
+                new IndexedHashMapDataStore(new DefaultClassScanner(), FirstBean.class.getPackage());
+        entityDictionary = EntityDictionary.builder().build();
+        indexedDataStore.populateEntityDictionary(entityDictionary);
+        hashMapDataStore = indexedDataStore;
+
+        RequestScope scope = mock(RequestScope.class);
+        when(scope.getDictionary()).thenReturn(entityDictionary);
+
+        for (String name : new String[] {"apple", "apricot", "banana"}) {
+            FirstBean object = new FirstBean();
+            object.name = name;
+            try (DataStoreTransaction t = hashMapDataStore.beginTransaction()) {
+                t.createObject(object, null);
+                t.commit(null);
+            }
+        }
+        indexedDataStore.createIndex(FirstBean.class, "name", HashMapIndex.Kind.SORTED);
+
+        Path name = new Path(FirstBean.class, entityDictionary, "name");
+        assertEquals(Set.of("apple", "apricot"), loadNames(new PrefixPredicate(name, List.of("ap"))));
+        assertEquals(Set.of("banana"), loadNames(new InPredicate(name, "banana")));
+
+        //Updates move the object within the index.
+        try (DataStoreTransaction t = hashMapDataStore.beginTransaction()) {
+            FirstBean loaded = t.loadObject(EntityProjection.builder().type(FirstBean.class).build(), "3", scope);
+            loaded.name = "avocado";
+            t.save(loaded, null);
+            t.commit(null);
+        }
+        assertEquals(Set.of("apple", "apricot", "avocado"), loadNames(new PrefixPredicate(name, List.of("a"))));
+        assertEquals(Set.of(), loadNames(new InPredicate(name, "banana")));
+
+        //Writes rolled back after a failed commit restore the index.
+        SecondBean second = new SecondBean();
+        second.id = 5;
+        try (DataStoreTransaction t = hashMapDataStore.beginTransaction()) {
+            t.createObject(second, null);
+            t.commit(null);
+        }
+        try (DataStoreTransaction t = hashMapDataStore.beginTransaction()) {
+            t.loadObjects(EntityProjection.builder().type(FirstBean.class).build(), scope);
+            FirstBean added = new FirstBean();
+            added.name = "blueberry";
+            t.createObject(added, null);
+            SecondBean duplicate = new SecondBean();
+            duplicate.id = 5;
+            t.createObject(duplicate, null);
+            assertThrows(TransactionException.class, () -> t.commit(null));
+        }
+        assertEquals(Set.of(), loadNames(new InPredicate(name, "blueberry")));
+    }
+
+    private Set<String> loadNames(FilterExpression filterExpression) throws IOException {
+        try (DataStoreTransaction t = hashMapDataStore.beginReadTransaction()) {
+            Set<String> names = new HashSet<>();
+            t.loadObjects(EntityProjection.builder().type(FirstBean.class).filterExpression(filterExpression).build(),
+                    null).forEach(object -> names.add(((FirstBean) object).name));
+            return names;
+        }
+    }
 }
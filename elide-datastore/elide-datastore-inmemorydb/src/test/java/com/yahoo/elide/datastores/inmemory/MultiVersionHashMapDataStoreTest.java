@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.inmemory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.datastore.DataStoreTransaction;
+import com.yahoo.elide.core.datastore.inmemory.MultiVersionHashMapDataStore;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.exceptions.TransactionException;
+import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.type.ClassType;
+import com.yahoo.elide.core.utils.DefaultClassScanner;
+import com.yahoo.elide.example.beans.FirstBean;
+import com.yahoo.elide.example.beans.FirstChildBean;
+import com.yahoo.elide.example.beans.SecondBean;
+import org.apache.commons.collections4.IterableUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MultiVersionHashMapDataStore tests.
+ */
+public class MultiVersionHashMapDataStoreTest {
+    private static final EntityProjection FIRST_BEAN = EntityProjection.builder().type(FirstBean.class).build();
+
+    private MultiVersionHashMapDataStore dataStore;
+    private RequestScope scope;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        EntityDictionary entityDictionary = EntityDictionary.builder().build();
+        dataStore = new MultiVersionHashMapDataStore(new DefaultClassScanner(), FirstBean.class.getPackage());
+        dataStore.populateEntityDictionary(entityDictionary);
+
+        scope = mock(RequestScope.class);
+        when(scope.getDictionary()).thenReturn(entityDictionary);
+
+        FirstBean object = new FirstBean();
+        object.name = "number one";
+        try (DataStoreTransaction t = dataStore.beginTransaction()) {
+            t.createObject(object, null);
+            t.commit(null);
+        }
+    }
+
+    @Test
+    public void testReadersShareTheStoredVersion() throws Exception {
+        FirstBean first;
+        try (DataStoreTransaction r = dataStore.beginReadTransaction()) {
+            first = r.loadObject(FIRST_BEAN, "1", scope);
+        }
+        try (DataStoreTransaction r = dataStore.beginReadTransaction()) {
+            assertSame(first, r.loadObject(FIRST_BEAN, "1", scope));
+        }
+        assertEquals(1, dataStore.get(ClassType.of(FirstBean.class)).size());
+    }
+
+    @Test
+    public void testWriterChangesArePublishedOnCommit() throws Exception {
+        try (DataStoreTransaction r = dataStore.beginReadTransaction()) {
+            try (DataStoreTransaction t = dataStore.beginTransaction()) {
+                FirstBean loaded = t.loadObject(FIRST_BEAN, "1", scope);
+                assertSame(loaded, IterableUtils.first(t.loadObjects(FIRST_BEAN, scope)));
+
+                loaded.name = "updated";
+                assertEquals("number one", ((FirstBean) r.loadObject(FIRST_BEAN, "1", scope)).name);
+
+                t.save(loaded, null);
+                t.commit(null);
+            }
+
+            //The reader keeps the version it began with.
+            assertEquals("number one", ((FirstBean) r.loadObject(FIRST_BEAN, "1", scope)).name);
+        }
+
+        try (DataStoreTransaction r = dataStore.beginReadTransaction()) {
+            assertEquals("updated", ((FirstBean) r.loadObject(FIRST_BEAN, "1", scope)).name);
+        }
+    }
+
+    @Test
+    public void testUncommittedChangesAreDiscarded() throws Exception {
+        try (DataStoreTransaction t = dataStore.beginTransaction()) {
+            FirstBean loaded = t.loadObject(FIRST_BEAN, "1", scope);
+            loaded.name = "updated";
+            t.delete(loaded, null);
+        }
+
+        try (DataStoreTransaction r = dataStore.beginReadTransaction()) {
+            FirstBean loaded = r.loadObject(FIRST_BEAN, "1", scope);
+            assertEquals("number one", loaded.name);
+        }
+    }
+
+    @Test
+    public void testDelete() throws Exception {
+        try (DataStoreTransaction t = dataStore.beginTransaction()) {
+            t.delete(t.loadObject(FIRST_BEAN, "1", scope), null);
+            t.commit(null);
+        }
+
+        try (DataStoreTransaction r = dataStore.beginReadTransaction()) {
+            assertNull(r.loadObject(FIRST_BEAN, "1", scope));
+        }
+    }
+
+    @Test
+    public void testDuplicateKey() throws Exception {
+        SecondBean object = new SecondBean();
+        object.id = 5;
+        try (DataStoreTransaction t = dataStore.beginTransaction()) {
+            t.createObject(object, null);
+            t.commit(null);
+        }
+
+        SecondBean duplicate = new SecondBean();
+        duplicate.id = 5;
+        try (DataStoreTransaction t = dataStore.beginTransaction()) {
+            t.createObject(duplicate, null);
+            assertThrows(TransactionException.class, () -> t.commit(null));
+        }
+    }
+
+    @Test
+    public void testInheritance() throws Exception {
+        FirstChildBean child = new FirstChildBean();
+        try (DataStoreTransaction t = dataStore.beginTransaction()) {
+            t.createObject(child, null);
+            t.commit(null);
+        }
+        assertEquals("2", child.getId());
+
+        try (DataStoreTransaction r = dataStore.beginReadTransaction()) {
+            assertSame(child, r.loadObject(FIRST_BEAN, "2", scope));
+        }
+    }
+
+    @Test
+    public void testReadersDoNotWaitForWriters() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(1);
+        try (DataStoreTransaction t = dataStore.beginTransaction()) {
+            FirstBean loaded = t.loadObject(FIRST_BEAN, "1", scope);
+            loaded.name = "updated";
+
+            Future<FirstBean> future = executor.submit(() -> {
+                try (DataStoreTransaction r = dataStore.beginReadTransaction()) {
+                    return r.loadObject(FIRST_BEAN, "1", scope);
+                }
+            });
+
+            FirstBean other = future.get(30, TimeUnit.SECONDS);
+            assertNotSame(loaded, other);
+            assertEquals("number one", other.name);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -77,7 +77,28 @@ public abstract class AbstractJpaTransaction extends JPQLTransaction implements
      */
     protected AbstractJpaTransaction(EntityManager em, Consumer<EntityManager> jpaTransactionCancel, QueryLogger logger,
             boolean delegateToInMemoryStore, boolean isScrollEnabled, CursorEncoder cursorEncoder) {
-        super(new EntityManagerWrapper(em, logger), delegateToInMemoryStore, isScrollEnabled, cursorEncoder);
+        this(em, jpaTransactionCancel, logger, delegateToInMemoryStore, isScrollEnabled, cursorEncoder, false);
+    }
+
+    /**
+     * Creates a new JPA transaction.
+     *
+     * @param em The entity manager / session.
+     * @param jpaTransactionCancel A function which can cancel a session.
+     * @param logger Logs queries.
+     * @param delegateToInMemoryStore When fetching a subcollection from another multi-element collection,
+     *                                whether or not to do sorting, filtering and pagination in memory - or
+     *                                do N+1 queries.
+     * @param isScrollEnabled Whether or not scrolling is enabled
+     * @param cursorEncoder the cursor encoder
+     * @param batchToManyLoads Whether to fetch a subcollection of a multi-element collection for all of its
+     *                         elements with a single query.
+     */
+    protected AbstractJpaTransaction(EntityManager em, Consumer<EntityManager> jpaTransactionCancel, QueryLogger logger,
+            boolean delegateToInMemoryStore, boolean isScrollEnabled, CursorEncoder cursorEncoder,
+            boolean batchToManyLoads) {
+        super(new EntityManagerWrapper(em, logger), delegateToInMemoryStore, isScrollEnabled, cursorEncoder,
+                batchToManyLoads);
         this.em = em;
         this.jpaTransactionCancel = jpaTransactionCancel;
     }
@@ -9,6 +9,7 @@ import static com.yahoo.elide.datastores.jpa.JpaDataStore.DEFAULT_LOGGER;
 
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.datastores.jpql.porting.QueryLogger;
+import com.yahoo.elide.datastores.jpql.query.JacksonCursorEncoder;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityTransaction;
@@ -47,7 +48,28 @@ public class NonJtaTransaction extends AbstractJpaTransaction {
                              QueryLogger logger,
                              boolean delegateToInMemoryStore,
                              boolean isScrollEnabled) {
-        super(entityManager, jpaTransactionCancel, logger, delegateToInMemoryStore, isScrollEnabled);
+        this(entityManager, jpaTransactionCancel, logger, delegateToInMemoryStore, isScrollEnabled, false);
+    }
+
+    /**
+     * Creates a new Non-JTA, JPA transaction.
+     * @param entityManager The entity manager / session.
+     * @param jpaTransactionCancel A function which can cancel a session.
+     * @param logger Logs queries.
+     * @param delegateToInMemoryStore When fetching a subcollection from another multi-element collection,
+     *                                whether or not to do sorting, filtering and pagination in memory - or
+     *                                do N+1 queries.
+     * @param isScrollEnabled Enables/disables scrollable iterators.
+     * @param batchToManyLoads When fetching a subcollection from another multi-element collection, whether to
+     *                         fetch it for all elements of the collection with a single query.
+     */
+    public NonJtaTransaction(EntityManager entityManager, Consumer<EntityManager> jpaTransactionCancel,
+                             QueryLogger logger,
+                             boolean delegateToInMemoryStore,
+                             boolean isScrollEnabled,
+                             boolean batchToManyLoads) {
+        super(entityManager, jpaTransactionCancel, logger, delegateToInMemoryStore, isScrollEnabled,
+                new JacksonCursorEncoder(), batchToManyLoads);
         this.transaction = entityManager.getTransaction();
         entityManager.clear();
     }
@@ -11,7 +11,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.yahoo.elide.core.RequestScope;
@@ -19,19 +24,24 @@ import com.yahoo.elide.core.datastore.DataStoreIterable;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
 import com.yahoo.elide.core.filter.dialect.RSQLFilterDialect;
 import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.pagination.PaginationImpl;
 import com.yahoo.elide.core.request.EntityProjection;
 import com.yahoo.elide.core.request.Relationship;
 import com.yahoo.elide.core.type.ClassType;
 import com.yahoo.elide.datastores.jpa.transaction.AbstractJpaTransaction;
+import com.yahoo.elide.datastores.jpql.JPQLTransaction;
+import com.yahoo.elide.datastores.jpql.query.JacksonCursorEncoder;
 import example.Author;
 import example.Book;
 import org.hibernate.collection.spi.PersistentSet;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
@@ -40,6 +50,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -164,6 +175,210 @@ public class JpaDataStoreTransactionTest {
         assertEquals(usesInMemory, loadedBooks.needsInMemoryPagination());
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {2, 3})
+    public void testPageTotalsOfShortPage(int numberOfBooks) {
+        EntityManager entityManager = mock(EntityManager.class);
+        Query query = mock(Query.class);
+        when(entityManager.createQuery(any(String.class))).thenReturn(query);
+        when(query.setParameter(any(String.class), any())).thenReturn(query);
+        when(query.setParameter(any(Integer.class), any())).thenReturn(query);
+        when(query.setFirstResult(anyInt())).thenReturn(query);
+        when(query.setMaxResults(anyInt())).thenReturn(query);
+        when(query.getSingleResult()).thenReturn(10L);
+
+        AbstractJpaTransaction tx = new AbstractJpaTransaction(entityManager, (unused) -> {
+        }, DEFAULT_LOGGER, false, false) {
+            @Override
+            public boolean isOpen() {
+                return false;
+            }
+
+            @Override
+            public void begin() {
+
+            }
+
+            @Override
+            protected Predicate<Collection<?>> isPersistentCollection() {
+                return (unused) -> true;
+            };
+        };
+
+        List<Book> books = new ArrayList<>();
+        for (int idx = 0; idx < numberOfBooks; idx++) {
+            books.add(new Book());
+        }
+        when(query.getResultList()).thenReturn(books);
+
+        PaginationImpl pagination = new PaginationImpl(Book.class, 4, 3, 10, 10, true, false);
+        EntityProjection projection = EntityProjection.builder()
+                .type(Book.class)
+                .pagination(pagination)
+                .build();
+
+        tx.loadObjects(projection, scope);
+
+        if (numberOfBooks < 3) {
+            //The page is the last one - so the total is known without counting.
+            assertEquals(4L + numberOfBooks, pagination.getPageTotals());
+            verify(query, never()).getSingleResult();
+        } else {
+            assertEquals(10L, pagination.getPageTotals());
+            verify(query, times(1)).getSingleResult();
+        }
+    }
+
+    @Test
+    public void testBatchedToManyLoadsMatchPerParentLoads() {
+        List<Author> authors = new ArrayList<>();
+        for (int idx = 0; idx < 3; idx++) {
+            Author author = new Author();
+            author.setId((long) idx);
+            authors.add(author);
+        }
+
+        //The books are spread over the first two authors.  The last author has none.
+        List<Object[]> rows = new ArrayList<>();
+        for (int idx = 0; idx < 4; idx++) {
+            Author author = authors.get(idx % 2);
+            Book book = new Book();
+            book.setId(idx);
+            author.getBooks().add(book);
+            rows.add(new Object[] {author, book});
+        }
+
+        EntityManager entityManager = mock(EntityManager.class);
+        Query query = mockQuery(entityManager);
+        when(query.getResultList()).thenReturn(rows);
+
+        Relationship relationship = Relationship.builder()
+                .name("books")
+                .projection(EntityProjection.builder().type(Book.class).build())
+                .build();
+
+        AbstractJpaTransaction batchTx = newBatchingTransaction(entityManager, true);
+        Map<Author, DataStoreIterable<Book>> batched =
+                batchTx.getToManyRelations(batchTx, authors, relationship, scope);
+
+        AbstractJpaTransaction perParentTx = newBatchingTransaction(entityManager, false);
+        for (Author author : authors) {
+            List<Book> expected = toList(perParentTx.getToManyRelation(perParentTx, author, relationship, scope));
+            assertEquals(expected, toList(batched.get(author)));
+        }
+        assertEquals(Collections.emptyList(), toList(batched.get(authors.get(2))));
+
+        //One query for every parent.
+        verify(entityManager, times(1)).createQuery(anyString());
+    }
+
+    @Test
+    public void testBatchedToManyLoadsSplitAtMaxBatchSize() {
+        List<Author> authors = new ArrayList<>();
+        List<Object[]> firstRows = new ArrayList<>();
+        List<Object[]> secondRows = new ArrayList<>();
+        for (int idx = 0; idx <= JPQLTransaction.MAX_BATCH_SIZE; idx++) {
+            Author author = new Author();
+            author.setId((long) idx);
+            Book book = new Book();
+            book.setId(idx);
+            author.getBooks().add(book);
+            authors.add(author);
+            (idx < JPQLTransaction.MAX_BATCH_SIZE ? firstRows : secondRows).add(new Object[] {author, book});
+        }
+
+        EntityManager entityManager = mock(EntityManager.class);
+        Query query = mockQuery(entityManager);
+        when(query.getResultList()).thenReturn(firstRows, secondRows);
+
+        Relationship relationship = Relationship.builder()
+                .name("books")
+                .projection(EntityProjection.builder().type(Book.class).build())
+                .build();
+
+        AbstractJpaTransaction tx = newBatchingTransaction(entityManager, true);
+        Map<Author, DataStoreIterable<Book>> batched = tx.getToManyRelations(tx, authors, relationship, scope);
+
+        ArgumentCaptor<Object> parents = ArgumentCaptor.forClass(Object.class);
+        verify(entityManager, times(2)).createQuery(anyString());
+        verify(query, times(2)).setParameter(anyString(), parents.capture());
+        assertEquals(JPQLTransaction.MAX_BATCH_SIZE, ((Collection<?>) parents.getAllValues().get(0)).size());
+        assertEquals(1, ((Collection<?>) parents.getAllValues().get(1)).size());
+
+        for (Author author : authors) {
+            assertEquals(new ArrayList<>(author.getBooks()), toList(batched.get(author)));
+        }
+    }
+
+    @Test
+    public void testToManyLoadsAreNotBatchedWhenDisabledOrPaginated() {
+        List<Author> authors = new ArrayList<>();
+        for (int idx = 0; idx < 3; idx++) {
+            Author author = new Author();
+            author.setId((long) idx);
+            authors.add(author);
+        }
+
+        EntityManager entityManager = mock(EntityManager.class);
+        mockQuery(entityManager);
+
+        //Without batching the persistent collections are returned as they are.
+        Relationship relationship = Relationship.builder()
+                .name("books")
+                .projection(EntityProjection.builder().type(Book.class).build())
+                .build();
+        AbstractJpaTransaction perParentTx = newBatchingTransaction(entityManager, false);
+        perParentTx.getToManyRelations(perParentTx, authors, relationship, scope);
+        verify(entityManager, never()).createQuery(anyString());
+
+        //A requested page is limited per parent - so every parent runs its own query.
+        PaginationImpl pagination = new PaginationImpl(Book.class, 0, 2, 10, 10, false, false);
+        Relationship paginated = Relationship.builder()
+                .name("books")
+                .projection(EntityProjection.builder().type(Book.class).pagination(pagination).build())
+                .build();
+        AbstractJpaTransaction batchTx = newBatchingTransaction(entityManager, true);
+        batchTx.getToManyRelations(batchTx, authors, paginated, scope);
+        verify(entityManager, times(authors.size())).createQuery(anyString());
+    }
+
+    private static Query mockQuery(EntityManager entityManager) {
+        Query query = mock(Query.class);
+        when(entityManager.createQuery(any(String.class))).thenReturn(query);
+        when(query.setParameter(any(String.class), any())).thenReturn(query);
+        when(query.setParameter(any(Integer.class), any())).thenReturn(query);
+        when(query.setFirstResult(anyInt())).thenReturn(query);
+        when(query.setMaxResults(anyInt())).thenReturn(query);
+        return query;
+    }
+
+    private static AbstractJpaTransaction newBatchingTransaction(EntityManager entityManager,
+            boolean batchToManyLoads) {
+        return new AbstractJpaTransaction(entityManager, (unused) -> {
+        }, DEFAULT_LOGGER, false, false, new JacksonCursorEncoder(), batchToManyLoads) {
+            @Override
+            public boolean isOpen() {
+                return false;
+            }
+
+            @Override
+            public void begin() {
+
+            }
+
+            @Override
+            protected Predicate<Collection<?>> isPersistentCollection() {
+                return (unused) -> true;
+            };
+        };
+    }
+
+    private static <T> List<T> toList(Iterable<T> iterable) {
+        List<T> list = new ArrayList<>();
+        iterable.forEach(list::add);
+        return list;
+    }
+
     private Stream<Arguments> getTestArguments() throws Exception {
         RSQLFilterDialect parser = RSQLFilterDialect.builder().dictionary(dictionary).build();
 
@@ -34,14 +34,17 @@ import com.yahoo.elide.datastores.jpql.query.CursorEncoder;
 import com.yahoo.elide.datastores.jpql.query.RelationshipImpl;
 import com.yahoo.elide.datastores.jpql.query.RootCollectionFetchQueryBuilder;
 import com.yahoo.elide.datastores.jpql.query.RootCollectionPageTotalsQueryBuilder;
+import com.yahoo.elide.datastores.jpql.query.SubCollectionBatchFetchQueryBuilder;
 import com.yahoo.elide.datastores.jpql.query.SubCollectionFetchQueryBuilder;
 import com.yahoo.elide.datastores.jpql.query.SubCollectionPageTotalsQueryBuilder;
 
+import lombok.Value;
 
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -50,6 +53,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Hibernate Transaction implementation.
@@ -61,7 +65,22 @@ public abstract class JPQLTransaction implements DataStoreTransaction {
     private final Set<Object> singleElementLoads;
     private final boolean delegateToInMemoryStore;
     private final CursorEncoder cursorEncoder;
+    private final boolean batchToManyLoads;
 
+    /**
+     * The maximum number of parents in a single batched relationship query.
+     */
+    public static final int MAX_BATCH_SIZE = 500;
+
+    /**
+     * Groups of entities that were loaded together - keyed by each member of the group.
+     */
+    private final Map<Object, List<Object>> batchGroups = new IdentityHashMap<>();
+
+    /**
+     * Relationship members fetched for a whole group - keyed by group, then relationship and then parent.
+     */
+    private final Map<List<Object>, Map<BatchKey, Map<Object, List<Object>>>> batchResults = new IdentityHashMap<>();
 
     /**
      * Constructor.
@@ -73,6 +92,21 @@ public abstract class JPQLTransaction implements DataStoreTransaction {
      */
     protected JPQLTransaction(Session session, boolean delegateToInMemoryStore, boolean isScrollEnabled,
             CursorEncoder cursorEncoder) {
+        this(session, delegateToInMemoryStore, isScrollEnabled, cursorEncoder, false);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param session Hibernate session
+     * @param delegateToInMemoryStore Whether to delegate to in memory store
+     * @param isScrollEnabled Whether or not scrolling is enabled
+     * @param cursorEncoder the cursor encoder
+     * @param batchToManyLoads Whether to fetch a to-many relationship for all entities loaded in the same collection
+     *                         with a single query (rather than one query per entity).
+     */
+    protected JPQLTransaction(Session session, boolean delegateToInMemoryStore, boolean isScrollEnabled,
+            CursorEncoder cursorEncoder, boolean batchToManyLoads) {
         this.sessionWrapper = session;
         this.isScrollEnabled = isScrollEnabled;
 
@@ -81,6 +115,7 @@ public abstract class JPQLTransaction implements DataStoreTransaction {
         this.singleElementLoads = Collections.newSetFromMap(new IdentityHashMap<>());
         this.delegateToInMemoryStore = delegateToInMemoryStore;
         this.cursorEncoder = cursorEncoder;
+        this.batchToManyLoads = batchToManyLoads;
     }
 
     /**
@@ -152,8 +187,9 @@ public abstract class JPQLTransaction implements DataStoreTransaction {
                 new RootCollectionFetchQueryBuilder(projection, scope.getDictionary(), sessionWrapper, cursorEncoder)
                         .build();
 
+        // Batching needs every member of the page, so the page is read rather than scrolled.
         Iterable<T> results = new TimedFunction<Iterable<T>>(() -> {
-            return isScrollEnabled ? query.scroll() : query.list();
+            return isScrollEnabled && !batchToManyLoads ? query.scroll() : query.list();
         }, "Query Hash: " + query.hashCode()).get();
 
         final boolean hasResults;
@@ -169,7 +205,8 @@ public abstract class JPQLTransaction implements DataStoreTransaction {
             // Issue #1429
             if (pagination.returnPageTotals()) {
                 if ((hasResults || pagination.getLimit() == 0)) {
-                    pagination.setPageTotals(getTotalRecords(projection, scope.getDictionary()));
+                    pagination.setPageTotals(getPageTotals(results, pagination,
+                            () -> getTotalRecords(projection, scope.getDictionary())));
                 } else {
                     pagination.setPageTotals(0L);
                 }
@@ -207,6 +244,7 @@ public abstract class JPQLTransaction implements DataStoreTransaction {
             }
         }
 
+        addBatchGroup(results);
         return new DataStoreIterableBuilder<T>(addSingleElement(results)).build();
     }
 
@@ -255,6 +293,21 @@ public abstract class JPQLTransaction implements DataStoreTransaction {
         EntityDictionary dictionary = scope.getDictionary();
         Iterable val = (Iterable) com.yahoo.elide.core.PersistentResource.getValue(entity, relation.getName(), scope);
 
+        //If the entity was loaded with others, fetch the relationship for all of them with a single query...
+        if (canBatch(entity, pagination) && val instanceof Collection
+                && isPersistentCollection().test((Collection<?>) val)) {
+            RelationshipImpl relationship = new RelationshipImpl(
+                    dictionary.lookupEntityClass(EntityDictionary.getType(entity)),
+                    entity,
+                    relation);
+
+            List<Object> members = getBatchedRelation(relationship, scope);
+            if (pagination != null) {
+                members = members.subList(0, Math.min(pagination.getLimit(), members.size()));
+            }
+            return new DataStoreIterableBuilder(addSingleElement(members)).build();
+        }
+
         //If the query is safe for N+1 and the value is an ORM managed, persistent collection, run a JPQL query...
         if (doInDatabase(entity) && val instanceof Collection && isPersistentCollection().test((Collection<?>) val)) {
 
@@ -272,23 +325,72 @@ public abstract class JPQLTransaction implements DataStoreTransaction {
                     entity,
                     relation);
 
-            if (pagination != null && pagination.returnPageTotals()) {
-                pagination.setPageTotals(getTotalRecords(
-                        relationship,
-                        scope.getDictionary()));
-            }
-
             final Query query =
                     new SubCollectionFetchQueryBuilder(relationship, dictionary, sessionWrapper, cursorEncoder)
                             .build();
 
-            if (query != null) {
-                return new DataStoreIterableBuilder(addSingleElement(query.list())).build();
+            Iterable<R> results = query == null ? null : query.list();
+
+            if (pagination != null && pagination.returnPageTotals()) {
+                pagination.setPageTotals(getPageTotals(results, pagination,
+                        () -> getTotalRecords(relationship, scope.getDictionary())));
+            }
+
+            if (results != null) {
+                return new DataStoreIterableBuilder(addSingleElement(results)).build();
             }
         }
         return new DataStoreIterableBuilder<R>(addSingleElement(val)).allInMemory().build();
     }
 
+    @Override
+    public <T, R> Map<T, DataStoreIterable<R>> getToManyRelations(
+            DataStoreTransaction relationTx,
+            List<T> entities,
+            Relationship relation,
+            RequestScope scope) {
+
+        Pagination pagination = relation.getProjection().getPagination();
+
+        //The batch query isn't limited per parent - so requested pages are fetched one parent at a time.
+        if (!batchToManyLoads || entities.size() < 2 || (pagination != null && !pagination.isDefaultInstance())) {
+            return DataStoreTransaction.super.getToManyRelations(relationTx, entities, relation, scope);
+        }
+
+        Map<T, DataStoreIterable<R>> results = new IdentityHashMap<>();
+        List<Object> parents = new ArrayList<>();
+        for (T entity : entities) {
+            Object val = com.yahoo.elide.core.PersistentResource.getValue(entity, relation.getName(), scope);
+            if (doInDatabase(entity) && val instanceof Collection
+                    && isPersistentCollection().test((Collection<?>) val)) {
+                parents.add(entity);
+            } else {
+                results.put(entity, getToManyRelation(relationTx, entity, relation, scope));
+            }
+        }
+
+        if (parents.isEmpty()) {
+            return results;
+        }
+
+        //A single query (per MAX_BATCH_SIZE parents) replaces a query or a lazy collection load per parent.
+        EntityDictionary dictionary = scope.getDictionary();
+        RelationshipImpl relationship = new RelationshipImpl(
+                dictionary.lookupEntityClass(EntityDictionary.getType(parents.get(0))),
+                parents.get(0),
+                relation);
+        Map<Object, List<Object>> membersByParent = fetchBatch(relationship, parents, scope);
+
+        for (Object parent : parents) {
+            List<Object> members = membersByParent.getOrDefault(parent, Collections.emptyList());
+            if (pagination != null) {
+                members = members.subList(0, Math.min(pagination.getLimit(), members.size()));
+            }
+            results.put((T) parent, new DataStoreIterableBuilder(addSingleElement(members)).build());
+        }
+        return results;
+    }
+
     @Override
     public <T, R> R getToOneRelation(
             DataStoreTransaction relationTx,
@@ -305,6 +407,94 @@ public abstract class JPQLTransaction implements DataStoreTransaction {
 
     protected abstract Predicate<Collection<?>> isPersistentCollection();
 
+    /**
+     * Whether a relationship of the entity can be fetched together with the same relationship of the entities
+     * it was loaded with.
+     */
+    private boolean canBatch(Object entity, Pagination pagination) {
+        if (!batchToManyLoads || !batchGroups.containsKey(entity)) {
+            return false;
+        }
+
+        // The batch query isn't limited per parent - so only relationships without requested pagination are batched.
+        return pagination == null || pagination.isDefaultInstance();
+    }
+
+    /**
+     * Returns the (filtered and sorted but not paginated) relationship members of the parent.  The first request
+     * for a group fetches the relationship for every member of the parent's group.
+     */
+    private List<Object> getBatchedRelation(RelationshipImpl relationship, RequestScope scope) {
+        Object parent = relationship.getParent();
+        List<Object> group = batchGroups.get(parent);
+        EntityProjection projection = relationship.getRelationship().getProjection();
+        BatchKey key = new BatchKey(relationship.getRelationshipName(), projection.getFilterExpression(),
+                projection.getSorting());
+
+        Map<Object, List<Object>> membersByParent = batchResults
+                .computeIfAbsent(group, unused -> new HashMap<>())
+                .computeIfAbsent(key, unused -> fetchBatch(relationship, group, scope));
+
+        return membersByParent.getOrDefault(parent, Collections.emptyList());
+    }
+
+    private Map<Object, List<Object>> fetchBatch(RelationshipImpl relationship, List<Object> group,
+                                                 RequestScope scope) {
+        Map<Object, List<Object>> membersByParent = new IdentityHashMap<>();
+        Set<Object> allMembers = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        for (int start = 0; start < group.size(); start += MAX_BATCH_SIZE) {
+            List<Object> parents = group.subList(start, Math.min(start + MAX_BATCH_SIZE, group.size()));
+            Query query = new SubCollectionBatchFetchQueryBuilder(relationship, parents, scope.getDictionary(),
+                    sessionWrapper, cursorEncoder).build();
+
+            Iterable<Object[]> rows = new TimedFunction<Iterable<Object[]>>(query::list,
+                    "Query Hash: " + query.hashCode()).get();
+
+            for (Object[] row : rows) {
+                membersByParent.computeIfAbsent(row[0], unused -> new ArrayList<>()).add(row[1]);
+                allMembers.add(row[1]);
+            }
+        }
+
+        // The members of all the parents were loaded together - so their relationships can be batched too.
+        addBatchGroup(new ArrayList<>(allMembers));
+        return membersByParent;
+    }
+
+    /**
+     * Registers the members of a collection as loaded together.
+     */
+    private void addBatchGroup(Iterable<?> results) {
+        if (!batchToManyLoads || !(results instanceof Collection) || ((Collection<?>) results).size() < 2) {
+            return;
+        }
+
+        List<Object> group = new ArrayList<>((Collection<?>) results);
+        group.forEach(member -> batchGroups.putIfAbsent(member, group));
+    }
+
+    /**
+     * Returns the total record count for a paginated collection.  If the page is shorter than the page limit,
+     * it is the last page and the total is derived from its size without running the count query.
+     *
+     * @param results The page (null if it was not fetched)
+     * @param pagination The pagination of the page
+     * @param countQuery Runs the count query
+     * @return The total row count.
+     */
+    private Long getPageTotals(Iterable<?> results, Pagination pagination, Supplier<Long> countQuery) {
+        if (pagination.getDirection() == null && results instanceof Collection) {
+            int pageSize = ((Collection<?>) results).size();
+            if (pageSize > 0 && pageSize < pagination.getLimit()) {
+                TimedFunction.skipped("Page totals count query (derived from a short page)");
+                return (long) pagination.getOffset() + pageSize;
+            }
+        }
+
+        return countQuery.get();
+    }
+
     /**
      * Returns the total record count for a root entity and an optional filter expression.
      *
@@ -349,6 +539,16 @@ public abstract class JPQLTransaction implements DataStoreTransaction {
         return results;
     }
 
+    /**
+     * Identifies a relationship fetch that can be shared by all the parents of a group.
+     */
+    @Value
+    private static class BatchKey {
+        String relationshipName;
+        FilterExpression filterExpression;
+        Sorting sorting;
+    }
+
     protected <T> boolean doInDatabase(T parent) {
         // In-Memory delegation is disabled.
         return !delegateToInMemoryStore
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.jpql.query;
+
+import static com.yahoo.elide.core.utils.TypeHelper.getTypeAlias;
+
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.exceptions.InvalidValueException;
+import com.yahoo.elide.core.filter.expression.FilterExpression;
+import com.yahoo.elide.core.filter.expression.PredicateExtractionVisitor;
+import com.yahoo.elide.core.filter.predicates.FilterPredicate;
+import com.yahoo.elide.datastores.jpql.filter.FilterTranslator;
+import com.yahoo.elide.datastores.jpql.porting.Query;
+import com.yahoo.elide.datastores.jpql.porting.Session;
+
+import java.util.Collection;
+
+/**
+ * Constructs a HQL query that fetches the members of a relationship for several parents at once.  Each result row
+ * is a pair of parent and child.  Pagination is not applied by the query as it must be applied per parent.
+ */
+public class SubCollectionBatchFetchQueryBuilder extends SubCollectionFetchQueryBuilder {
+
+    private final Relationship relationship;
+    private final Collection<?> parents;
+
+    /**
+     * Constructor.
+     * @param relationship The relationship of one of the parents.  All parents share its type and projection.
+     * @param parents The parents to fetch the relationship members of.
+     * @param dictionary The entity dictionary.
+     * @param session The session.
+     * @param cursorEncoder The cursor encoder.
+     */
+    public SubCollectionBatchFetchQueryBuilder(Relationship relationship,
+                                               Collection<?> parents,
+                                               EntityDictionary dictionary,
+                                               Session session, CursorEncoder cursorEncoder) {
+        super(relationship, dictionary, session, cursorEncoder);
+        this.relationship = relationship;
+        this.parents = parents;
+    }
+
+    /**
+     * Constructs a query that returns (parent, child) pairs for every parent.
+     *
+     * @return the constructed query.
+     */
+    @Override
+    public Query build() {
+        String childAlias = getTypeAlias(relationship.getChildType());
+        String parentAlias = getTypeAlias(relationship.getParentType()) + "__fetch";
+        String parentName = relationship.getParentType().getCanonicalName();
+        String relationshipName = relationship.getRelationshipName();
+
+        FilterExpression filterExpression = entityProjection.getFilterExpression();
+
+        String filterClause = "";
+        String joinClause = getJoinClauseFromSort(entityProjection.getSorting())
+                + extractToOneMergeJoins(relationship.getChildType(), childAlias);
+        boolean requiresDistinct = false;
+        Collection<FilterPredicate> predicates = null;
+
+        if (filterExpression != null) {
+            predicates = filterExpression.accept(new PredicateExtractionVisitor());
+            filterClause = new FilterTranslator(dictionary).apply(filterExpression, USE_ALIAS) + " AND ";
+            joinClause = getJoinClauseFromFilters(filterExpression) + joinClause;
+            requiresDistinct = containsOneToMany(filterExpression);
+
+            boolean sortOverRelationship = entityProjection.getSorting() != null
+                    && entityProjection.getSorting().getSortingPaths().keySet()
+                    .stream().anyMatch(path ->
+                            path.getPathElements()
+                                    .stream()
+                                    .anyMatch(element ->
+                                            dictionary.isRelation(element.getType(), element.getFieldName())));
+
+            if (requiresDistinct && sortOverRelationship) {
+                //SQL does not support distinct and order by on columns which are not selected
+                throw new InvalidValueException("Combination of sorting over relationship and"
+                        + " filtering over toMany relationships unsupported");
+            }
+        }
+
+        //SELECT parent, parent_children from Parent parent JOIN parent.children parent_children
+        //WHERE ... AND parent IN (:parent)
+        Query query = session.createQuery(SELECT
+                + (requiresDistinct ? DISTINCT : "")
+                + parentAlias + COMMA + SPACE + childAlias
+                + FROM
+                + parentName + SPACE + parentAlias
+                + JOIN
+                + parentAlias + PERIOD + relationshipName + SPACE + childAlias
+                + joinClause
+                + WHERE
+                + filterClause
+                + parentAlias + " IN (:" + parentAlias + ")"
+                + getSortClause(entityProjection.getSorting())
+        );
+
+        if (predicates != null) {
+            supplyFilterQueryParameters(query, predicates);
+        }
+
+        query.setParameterList(parentAlias, parents);
+        return query;
+    }
+}
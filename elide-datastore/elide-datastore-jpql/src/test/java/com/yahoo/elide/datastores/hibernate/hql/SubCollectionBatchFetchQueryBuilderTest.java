@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.datastores.hibernate.hql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.yahoo.elide.core.Path;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.filter.predicates.FilterPredicate;
+import com.yahoo.elide.core.filter.predicates.InPredicate;
+import com.yahoo.elide.core.request.EntityProjection;
+import com.yahoo.elide.core.request.Relationship;
+import com.yahoo.elide.core.request.Sorting;
+import com.yahoo.elide.core.sort.SortingImpl;
+import com.yahoo.elide.core.type.ClassType;
+import com.yahoo.elide.datastores.jpql.query.CursorEncoder;
+import com.yahoo.elide.datastores.jpql.query.JacksonCursorEncoder;
+import com.yahoo.elide.datastores.jpql.query.RelationshipImpl;
+import com.yahoo.elide.datastores.jpql.query.SubCollectionBatchFetchQueryBuilder;
+import example.Author;
+import example.Book;
+import example.Chapter;
+import example.Editor;
+import example.Publisher;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class SubCollectionBatchFetchQueryBuilderTest {
+
+    private EntityDictionary dictionary;
+    private CursorEncoder cursorEncoder = new JacksonCursorEncoder();
+
+    private static final String TITLE = "title";
+    private static final String BOOKS = "books";
+    private static final String NAME = "name";
+    private static final String PUBLISHER = "publisher";
+    private static final String PUB1 = "Pub1";
+
+    @BeforeAll
+    public void initialize() {
+        dictionary = EntityDictionary.builder().build();
+        dictionary.bindEntity(Book.class);
+        dictionary.bindEntity(Author.class);
+        dictionary.bindEntity(Publisher.class);
+        dictionary.bindEntity(Chapter.class);
+        dictionary.bindEntity(Editor.class);
+    }
+
+    private List<Author> authors() {
+        Author author1 = new Author();
+        author1.setId(1L);
+
+        Author author2 = new Author();
+        author2.setId(2L);
+
+        return Arrays.asList(author1, author2);
+    }
+
+    @Test
+    public void testBatchFetchWithSorting() {
+        List<Author> authors = authors();
+
+        Map<String, Sorting.SortOrder> sorting = new HashMap<>();
+        sorting.put(TITLE, Sorting.SortOrder.asc);
+
+        EntityProjection entityProjection = EntityProjection.builder().type(Book.class)
+                .sorting(new SortingImpl(sorting, Book.class, dictionary))
+                .build();
+
+        Relationship relationshipProjection = Relationship.builder().name(BOOKS).projection(entityProjection).build();
+        RelationshipImpl relationship = new RelationshipImpl(
+                ClassType.of(Author.class),
+                authors.get(0),
+                relationshipProjection
+        );
+
+        SubCollectionBatchFetchQueryBuilder builder = new SubCollectionBatchFetchQueryBuilder(
+                relationship,
+                authors,
+                dictionary,
+                new TestSessionWrapper(),
+                cursorEncoder
+        );
+
+        TestQueryWrapper query = (TestQueryWrapper) builder.build();
+
+        String expected = "SELECT example_Author__fetch, example_Book FROM example.Author example_Author__fetch "
+                + "JOIN example_Author__fetch.books example_Book "
+                + "WHERE example_Author__fetch IN (:example_Author__fetch) order by example_Book.title asc";
+        String actual = query.getQueryText();
+        actual = actual.trim().replaceAll(" +", " ");
+
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void testBatchFetchWithJoinFilter() {
+        List<Author> authors = authors();
+
+        List<Path.PathElement>  publisherNamePath = Arrays.asList(
+                new Path.PathElement(Book.class, Publisher.class, PUBLISHER),
+                new Path.PathElement(Publisher.class, String.class, NAME)
+        );
+
+        FilterPredicate publisherNamePredicate = new InPredicate(
+                new Path(publisherNamePath),
+                PUB1);
+
+        EntityProjection entityProjection = EntityProjection.builder()
+                .type(Book.class)
+                .filterExpression(publisherNamePredicate)
+                .build();
+
+        Relationship relationshipProjection = Relationship.builder().name(BOOKS).projection(entityProjection).build();
+        RelationshipImpl relationship = new RelationshipImpl(
+                ClassType.of(Author.class),
+                authors.get(0),
+                relationshipProjection
+        );
+
+        SubCollectionBatchFetchQueryBuilder builder = new SubCollectionBatchFetchQueryBuilder(
+                relationship,
+                authors,
+                dictionary,
+                new TestSessionWrapper(),
+                cursorEncoder
+        );
+
+        TestQueryWrapper query = (TestQueryWrapper) builder.build();
+
+        String expected = "SELECT example_Author__fetch, example_Book FROM example.Author example_Author__fetch "
+                + "JOIN example_Author__fetch.books example_Book "
+                + "LEFT JOIN example_Book.publisher example_Book_publisher "
+                + "WHERE example_Book_publisher.name IN (:books_publisher_name_XXX) "
+                + "AND example_Author__fetch IN (:example_Author__fetch)";
+        String actual = query.getQueryText();
+        actual = actual.trim().replaceAll(" +", " ");
+        actual = actual.replaceFirst(":publisher_name_\\w+_\\w+", ":books_publisher_name_XXX");
+
+        assertEquals(expected, actual);
+    }
+}
@@ -7,7 +7,14 @@ package com.yahoo.elide.datastores.multiplex;
 
 import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.core.datastore.DataStore;
+import com.yahoo.elide.core.datastore.DataStoreIterable;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.request.Relationship;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Multiplex transaction handler.
@@ -23,6 +30,43 @@ public class MultiplexReadTransaction extends MultiplexTransaction {
         return dataStore.beginReadTransaction();
     }
 
+    @Override
+    public <T, R> Map<T, DataStoreIterable<R>> getToManyRelations(
+            DataStoreTransaction tx,
+            List<T> entities,
+            Relationship relation,
+            RequestScope scope
+    ) {
+        if (entities.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        // All the entities share a type - so they are owned by the same store.
+        T entity = entities.get(0);
+        DataStoreTransaction relationTx = getRelationTransaction(entity, relation.getName());
+        DataStoreTransaction entityTransaction = getTransaction(EntityDictionary.getType(entity));
+
+        return entityTransaction.getToManyRelations(relationTx, entities, relation, scope);
+    }
+
+    @Override
+    public <T, R> Map<T, R> getToOneRelations(
+            DataStoreTransaction tx,
+            List<T> entities,
+            Relationship relation,
+            RequestScope scope
+    ) {
+        if (entities.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        T entity = entities.get(0);
+        DataStoreTransaction relationTx = getRelationTransaction(entity, relation.getName());
+        DataStoreTransaction entityTransaction = getTransaction(EntityDictionary.getType(entity));
+
+        return entityTransaction.getToOneRelations(relationTx, entities, relation, scope);
+    }
+
     @Override
     public <T> void save(T entity, RequestScope scope) {
         throw new UnsupportedOperationException();
@@ -7,9 +7,11 @@
 package com.yahoo.elide.graphql;
 
 import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.graphql.containers.ConnectionContainer;
 import com.yahoo.elide.graphql.containers.GraphQLContainer;
 import com.yahoo.elide.graphql.containers.PersistentResourceContainer;
 import com.yahoo.elide.graphql.containers.RootContainer;
+import org.dataloader.DataLoader;
 
 import graphql.language.Field;
 import graphql.schema.DataFetchingEnvironment;
@@ -41,6 +43,7 @@ public class Environment {
     public final GraphQLType outputType;
     public final Field field;
     public final NonEntityDictionary nonEntityDictionary;
+    public final Optional<DataLoader<RelationshipBatchLoader.Key, ConnectionContainer>> relationshipLoader;
 
     public Environment(DataFetchingEnvironment environment, NonEntityDictionary nonEntityDictionary) {
         this.nonEntityDictionary = nonEntityDictionary;
@@ -79,6 +82,8 @@ public class Environment {
 
         this.ids = Optional.ofNullable((List<String>) args.get(ModelBuilder.ARGUMENT_IDS));
 
+        this.relationshipLoader = Optional.ofNullable(environment.getDataLoader(RelationshipBatchLoader.NAME));
+
         List<Map<String, Object>> data;
         if (args.get(ModelBuilder.ARGUMENT_DATA) instanceof Map) {
             data = Arrays.asList((Map<String, Object>) args.get(ModelBuilder.ARGUMENT_DATA));
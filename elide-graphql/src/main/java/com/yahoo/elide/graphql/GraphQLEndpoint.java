@@ -26,6 +26,7 @@ import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
@@ -33,8 +34,10 @@ import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
+import jakarta.ws.rs.core.StreamingOutput;
 import jakarta.ws.rs.core.UriInfo;
 import lombok.extern.slf4j.Slf4j;
 
@@ -108,15 +111,15 @@ public class GraphQLEndpoint {
 
         QueryRunner runner = runners.getOrDefault(route.getApiVersion(), null);
 
-        ElideResponse<String> response;
+        ElideResponse<?> response;
         if (runner == null) {
             response = QueryRunner.handleRuntimeException(elide,
                     new InvalidApiVersionException("Invalid API Version"));
         } else {
-            response = runner.run(route.getBaseUrl(),
-                                  graphQLDocument, user, UUID.randomUUID(), requestHeaders);
+            response = runner.execute(route.getBaseUrl(),
+                                      graphQLDocument, user, UUID.randomUUID(), requestHeaders);
         }
-        return Response.status(response.getStatus()).entity(response.getBody()).build();
+        return build(response);
     }
 
     @POST
@@ -129,6 +132,63 @@ public class GraphQLEndpoint {
         return post("", uriInfo, headers, securityContext, graphQLDocument);
     }
 
+    /**
+     * Query handler.  Persisted queries are typically sent with GET so that they can be cached by HTTP caches.
+     * @param path the path
+     * @param uriInfo URI info with the query, operationName, variables and extensions parameters
+     * @param headers the request headers
+     * @param securityContext security context
+     * @return response
+     */
+    @GET
+    @Path("{path:.*}")
+    public Response get(
+            @PathParam("path") String path,
+            @Context UriInfo uriInfo,
+            @Context HttpHeaders headers,
+            @Context SecurityContext securityContext) {
+        Map<String, List<String>> requestHeaders = headerProcessor.process(headers.getRequestHeaders());
+        User user = new SecurityContextUser(securityContext);
+
+        String baseUrl = getBaseUrlEndpoint(uriInfo);
+        MultivaluedMap<String, String> parameters = uriInfo.getQueryParameters();
+        Route route = routeResolver.resolve(MediaType.APPLICATION_JSON, baseUrl, path, requestHeaders, parameters);
+
+        QueryRunner runner = runners.getOrDefault(route.getApiVersion(), null);
+
+        ElideResponse<?> response;
+        if (runner == null) {
+            response = QueryRunner.handleRuntimeException(elide,
+                    new InvalidApiVersionException("Invalid API Version"));
+        } else {
+            response = runner.executeGet(route.getBaseUrl(), parameters.getFirst("query"),
+                    parameters.getFirst("operationName"), parameters.getFirst("variables"),
+                    parameters.getFirst("extensions"), user, UUID.randomUUID(), requestHeaders);
+        }
+        return build(response);
+    }
+
+    @GET
+    public Response get(
+            @Context UriInfo uriInfo,
+            @Context HttpHeaders headers,
+            @Context SecurityContext securityContext) {
+        return get("", uriInfo, headers, securityContext);
+    }
+
+    /**
+     * Bodies which are already serialized are returned as they are.  Results are written while they are serialized
+     * - without a content length, so the response is sent chunked.
+     */
+    private Response build(ElideResponse<?> response) {
+        Object body = response.getBody();
+        if (body == null || body instanceof String) {
+            return Response.status(response.getStatus()).entity(body).build();
+        }
+        StreamingOutput output = outputStream -> QueryRunner.writeBody(elide.getObjectMapper(), body, outputStream);
+        return Response.status(response.getStatus()).entity(output).build();
+    }
+
     protected String getBaseUrlEndpoint(UriInfo uriInfo) {
         String baseUrl = elide.getElideSettings().getBaseUrl();
         if (StringUtils.isEmpty(baseUrl)) {
@@ -12,6 +12,8 @@ import com.yahoo.elide.core.exceptions.Slf4jExceptionLogger;
 import com.yahoo.elide.core.filter.dialect.RSQLFilterDialect;
 import com.yahoo.elide.core.filter.dialect.graphql.FilterDialect;
 import com.yahoo.elide.graphql.federation.FederationVersion;
+import com.yahoo.elide.graphql.persistedqueries.FilePersistedQueryStore;
+import com.yahoo.elide.graphql.persistedqueries.PersistedQueryStore;
 
 import lombok.Getter;
 
@@ -62,22 +64,134 @@ public class GraphQLSettings implements Settings {
         }
     }
 
+    /**
+     * Settings for persisted queries.  Clients send the SHA-256 hash of a query instead of its text.
+     */
+    @Getter
+    public static class PersistedQueries {
+        private final PersistedQueryStore store;
+        private final boolean registerOnMiss;
+        private final boolean persistedOnly;
+
+        public PersistedQueries(PersistedQueryStore store, boolean registerOnMiss) {
+            this(store, registerOnMiss, false);
+        }
+
+        public PersistedQueries(PersistedQueryStore store, boolean registerOnMiss, boolean persistedOnly) {
+            this.store = store;
+            this.registerOnMiss = registerOnMiss && !persistedOnly;
+            this.persistedOnly = persistedOnly;
+        }
+
+        /**
+         * Persisted queries are enabled when there is a store.
+         *
+         * @return true if enabled
+         */
+        public boolean isEnabled() {
+            return this.store != null;
+        }
+
+        public static PersistedQueriesBuilder builder() {
+            return new PersistedQueriesBuilder();
+        }
+
+        public static class PersistedQueriesBuilder {
+            private PersistedQueryStore store = null;
+            private Boolean registerOnMiss = null;
+            private boolean persistedOnly = false;
+
+            /**
+             * Sets the store of the persisted queries.  Null disables persisted queries.
+             *
+             * @param store the store
+             * @return the builder
+             */
+            public PersistedQueriesBuilder store(PersistedQueryStore store) {
+                this.store = store;
+                return this;
+            }
+
+            /**
+             * Whether a client may register a query by sending its text with its hash after a miss.  Without
+             * registration only the queries already in the store can be run by hash.  Defaults to true for the
+             * in-memory store and to false for the file store, which is not bounded.
+             *
+             * @param registerOnMiss true to register queries
+             * @return the builder
+             */
+            public PersistedQueriesBuilder registerOnMiss(boolean registerOnMiss) {
+                this.registerOnMiss = registerOnMiss;
+                return this;
+            }
+
+            /**
+             * Whether only the queries already in the store can run.  Requests without a hash and hashes that are
+             * not in the store are rejected, and the text sent with a hash is never registered - so the store acts
+             * as an allow-list.
+             *
+             * @param persistedOnly true to run only stored queries
+             * @return the builder
+             */
+            public PersistedQueriesBuilder persistedOnly(boolean persistedOnly) {
+                this.persistedOnly = persistedOnly;
+                return this;
+            }
+
+            public PersistedQueries build() {
+                boolean register = this.registerOnMiss != null
+                        ? this.registerOnMiss
+                        : !(this.store instanceof FilePersistedQueryStore);
+                return new PersistedQueries(this.store, register, this.persistedOnly);
+            }
+        }
+    }
+
     private final boolean enabled;
     private final String path;
     private final Federation federation;
     private final FilterDialect filterDialect;
     private final GraphQLExceptionHandler graphqlExceptionHandler;
     private final GraphQLFieldDefinitionCustomizer graphqlFieldDefinitionCustomizer;
+    private final boolean batchRelationships;
+    private final int documentCacheSize;
+    private final PersistedQueries persistedQueries;
 
     public GraphQLSettings(boolean enabled, String path, Federation federation, FilterDialect filterDialect,
             GraphQLExceptionHandler graphqlExceptionHandler,
             GraphQLFieldDefinitionCustomizer graphqlFieldDefinitionCustomizer) {
+        this(enabled, path, federation, filterDialect, graphqlExceptionHandler, graphqlFieldDefinitionCustomizer,
+                false);
+    }
+
+    public GraphQLSettings(boolean enabled, String path, Federation federation, FilterDialect filterDialect,
+            GraphQLExceptionHandler graphqlExceptionHandler,
+            GraphQLFieldDefinitionCustomizer graphqlFieldDefinitionCustomizer, boolean batchRelationships) {
+        this(enabled, path, federation, filterDialect, graphqlExceptionHandler, graphqlFieldDefinitionCustomizer,
+                batchRelationships, QueryDocumentCache.DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public GraphQLSettings(boolean enabled, String path, Federation federation, FilterDialect filterDialect,
+            GraphQLExceptionHandler graphqlExceptionHandler,
+            GraphQLFieldDefinitionCustomizer graphqlFieldDefinitionCustomizer, boolean batchRelationships,
+            int documentCacheSize) {
+        this(enabled, path, federation, filterDialect, graphqlExceptionHandler, graphqlFieldDefinitionCustomizer,
+                batchRelationships, documentCacheSize, PersistedQueries.builder().build());
+    }
+
+    public GraphQLSettings(boolean enabled, String path, Federation federation, FilterDialect filterDialect,
+            GraphQLExceptionHandler graphqlExceptionHandler,
+            GraphQLFieldDefinitionCustomizer graphqlFieldDefinitionCustomizer, boolean batchRelationships,
+            int documentCacheSize, PersistedQueries persistedQueries) {
         this.enabled = enabled;
         this.path = path;
         this.federation = federation;
         this.filterDialect = filterDialect;
         this.graphqlExceptionHandler = graphqlExceptionHandler;
         this.graphqlFieldDefinitionCustomizer = graphqlFieldDefinitionCustomizer;
+        this.batchRelationships = batchRelationships;
+        this.documentCacheSize = documentCacheSize;
+        this.persistedQueries = persistedQueries;
     }
 
     /**
@@ -92,7 +206,13 @@ public class GraphQLSettings implements Settings {
                 .filterDialect(this.filterDialect)
                 .federation(newFederation -> newFederation.enabled(this.getFederation().isEnabled())
                         .version(this.getFederation().getVersion()))
-                .graphqlExceptionHandler(this.graphqlExceptionHandler);
+                .graphqlExceptionHandler(this.graphqlExceptionHandler)
+                .batchRelationships(this.batchRelationships)
+                .documentCacheSize(this.documentCacheSize)
+                .persistedQueries(newPersistedQueries -> newPersistedQueries
+                        .store(this.getPersistedQueries().getStore())
+                        .registerOnMiss(this.getPersistedQueries().isRegisterOnMiss())
+                        .persistedOnly(this.getPersistedQueries().isPersistedOnly()));
     }
 
     /**
@@ -121,7 +241,8 @@ public class GraphQLSettings implements Settings {
                 this.processor.accept(this);
             }
             return new GraphQLSettings(this.enabled, this.path, this.federation.build(), this.filterDialect,
-                    this.graphqlExceptionHandler, this.graphqlFieldDefinitionCustomizer);
+                    this.graphqlExceptionHandler, this.graphqlFieldDefinitionCustomizer, this.batchRelationships,
+                    this.documentCacheSize, this.persistedQueries.build());
         }
 
         @Override
@@ -153,6 +274,9 @@ public class GraphQLSettings implements Settings {
                 new Slf4jExceptionLogger(), BasicExceptionMappers.builder().build(), new DefaultGraphQLErrorMapper());
         protected GraphQLFieldDefinitionCustomizer graphqlFieldDefinitionCustomizer =
                 DefaultGraphQLFieldDefinitionCustomizer.INSTANCE;
+        protected boolean batchRelationships = false;
+        protected int documentCacheSize = QueryDocumentCache.DEFAULT_MAXIMUM_SIZE;
+        protected final PersistedQueries.PersistedQueriesBuilder persistedQueries = PersistedQueries.builder();
 
         protected abstract S self();
 
@@ -221,5 +345,39 @@ public class GraphQLSettings implements Settings {
             this.graphqlFieldDefinitionCustomizer = graphqlFieldDefinitionCustomizer;
             return self();
         }
+
+        /**
+         * Batch the relationship fetches of sibling nodes in queries.  The relationship of every node at the same
+         * level of the query is fetched with a single call to the data store transaction.
+         *
+         * @param batchRelationships true to batch relationship fetches
+         * @return the builder
+         */
+        public S batchRelationships(boolean batchRelationships) {
+            this.batchRelationships = batchRelationships;
+            return self();
+        }
+
+        /**
+         * Sets the maximum number of parsed query documents to cache.  Zero disables the cache.
+         *
+         * @param documentCacheSize the maximum number of documents
+         * @return the builder
+         */
+        public S documentCacheSize(int documentCacheSize) {
+            this.documentCacheSize = documentCacheSize;
+            return self();
+        }
+
+        /**
+         * Customize the persisted query settings.
+         *
+         * @param persistedQueries the customizer
+         * @return the builder
+         */
+        public S persistedQueries(Consumer<PersistedQueries.PersistedQueriesBuilder> persistedQueries) {
+            persistedQueries.accept(this.persistedQueries);
+            return self();
+        }
     }
 }
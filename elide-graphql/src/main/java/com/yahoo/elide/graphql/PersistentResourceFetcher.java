@@ -191,19 +191,33 @@ public class PersistentResourceFetcher implements DataFetcher<Object>, QueryLogg
             PersistentResource<?> parentResource,
             @NotNull Relationship relationship,
             Optional<List<String>> ids
+    ) {
+        Flux<PersistentResource> relation = ids.isPresent()
+                ? parentResource.getRelation(ids.get(), relationship)
+                : parentResource.getRelationCheckedFiltered(relationship);
+
+        return toConnectionContainer(parentResource, relationship, relation);
+    }
+
+    /**
+     * Collects the fetched relationship of a parent.
+     *
+     * @param parentResource Parent object
+     * @param relationship constructed relationship object with entityProjection
+     * @param relation the fetched relationship
+     * @return persistence resource object(s)
+     */
+    static ConnectionContainer toConnectionContainer(
+            PersistentResource<?> parentResource,
+            Relationship relationship,
+            Flux<PersistentResource> relation
     ) {
         EntityDictionary dictionary = parentResource.getRequestScope().getDictionary();
         Type relationshipClass = dictionary.getParameterizedType(parentResource.getObject(), relationship.getName());
         String relationshipType = dictionary.getJsonAliasFor(relationshipClass);
 
-        Set<PersistentResource> relationResources;
-        if (ids.isPresent()) {
-            relationResources = parentResource.getRelation(ids.get(), relationship)
-                    .collect(Collectors.toCollection(LinkedHashSet::new)).block();
-        } else {
-            relationResources = parentResource.getRelationCheckedFiltered(relationship)
-                    .collect(Collectors.toCollection(LinkedHashSet::new)).block();
-        }
+        Set<PersistentResource> relationResources = relation
+                .collect(Collectors.toCollection(LinkedHashSet::new)).block();
 
         return new ConnectionContainer(
                 relationResources,
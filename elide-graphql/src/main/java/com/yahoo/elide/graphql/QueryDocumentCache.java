@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql;
+
+import com.yahoo.elide.graphql.parser.FragmentResolver;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.execution.preparsed.PreparsedDocumentProvider;
+import graphql.language.Document;
+import graphql.parser.Parser;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of parsed query documents keyed by the query text and the operation name.
+ * <p>
+ * The {@link QueryRunner} parses a document once to build its projections and graphql-java reuses it through the
+ * {@link PreparsedDocumentProvider} - so a query seen before is neither parsed nor validated again.  Only the
+ * analysis which does not depend on the variables of a request is kept with the document.
+ */
+public class QueryDocumentCache implements PreparsedDocumentProvider {
+    public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+    private final boolean enabled;
+    private final Cache<Key, CachedDocument> documents;
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSize the maximum number of documents to keep. Zero disables caching.
+     */
+    public QueryDocumentCache(int maximumSize) {
+        this.enabled = maximumSize > 0;
+        this.documents = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    /**
+     * Returns the parsed document of a query, parsing it if it is not cached.
+     *
+     * @param query the query text
+     * @param operationName the operation name or null
+     * @return the parsed document
+     * @throws graphql.parser.InvalidSyntaxException if the query can't be parsed
+     */
+    public CachedDocument get(String query, String operationName) {
+        if (!enabled) {
+            return new CachedDocument(new Parser().parseDocument(query));
+        }
+        return documents.get(new Key(query, operationName),
+                key -> new CachedDocument(new Parser().parseDocument(query)));
+    }
+
+    @Override
+    public CompletableFuture<PreparsedDocumentEntry> getDocumentAsync(ExecutionInput executionInput,
+            Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidateFunction) {
+        CachedDocument document = documents.getIfPresent(
+                new Key(executionInput.getQuery(), executionInput.getOperationName()));
+        if (document == null) {
+            return CompletableFuture.completedFuture(parseAndValidateFunction.apply(executionInput));
+        }
+
+        PreparsedDocumentEntry entry = document.validated;
+        if (entry == null) {
+            entry = parseAndValidateFunction.apply(executionInput);
+            document.validated = entry;
+        }
+        return CompletableFuture.completedFuture(entry);
+    }
+
+    /**
+     * Returns the number of cached documents.
+     *
+     * @return the number of cached documents
+     */
+    public long size() {
+        documents.cleanUp();
+        return documents.estimatedSize();
+    }
+
+    @EqualsAndHashCode
+    private static class Key {
+        private final String query;
+        private final String operationName;
+
+        Key(String query, String operationName) {
+            this.query = query;
+            this.operationName = operationName;
+        }
+    }
+
+    /**
+     * A parsed query document with the parts of its analysis that are the same for every request.
+     */
+    public static class CachedDocument {
+        @Getter
+        private final Document document;
+
+        @Getter
+        private final boolean mutation;
+
+        private volatile FragmentResolver fragmentResolver;
+
+        /**
+         * The document as validated by graphql-java.
+         */
+        private volatile PreparsedDocumentEntry validated;
+
+        CachedDocument(Document document) {
+            this.document = document;
+            this.mutation = QueryRunner.isMutation(document);
+        }
+
+        /**
+         * Returns the fragments of the document.  Resolving them fails on every call if the fragments are invalid.
+         *
+         * @return the resolved fragments
+         */
+        public FragmentResolver getFragmentResolver() {
+            FragmentResolver resolver = fragmentResolver;
+            if (resolver == null) {
+                resolver = new FragmentResolver();
+                resolver.addFragments(document);
+                fragmentResolver = resolver;
+            }
+            return resolver;
+        }
+    }
+}
@@ -9,24 +9,33 @@ import com.yahoo.elide.Elide;
 import com.yahoo.elide.ElideResponse;
 import com.yahoo.elide.core.datastore.DataStoreTransaction;
 import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.exceptions.BadRequestException;
 import com.yahoo.elide.core.exceptions.InvalidEntityBodyException;
+import com.yahoo.elide.core.exceptions.InvalidOperationException;
 import com.yahoo.elide.core.request.route.Route;
 import com.yahoo.elide.core.security.User;
 import com.yahoo.elide.graphql.parser.GraphQLEntityProjectionMaker;
 import com.yahoo.elide.graphql.parser.GraphQLProjectionInfo;
 import com.yahoo.elide.graphql.parser.GraphQLQuery;
 import com.yahoo.elide.graphql.parser.QueryParser;
+import com.yahoo.elide.graphql.persistedqueries.PersistedQueryStore;
 import com.yahoo.elide.graphql.serialization.GraphQLModule;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import org.dataloader.DataLoaderRegistry;
 
 import graphql.ExecutionInput;
 import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
 import graphql.GraphQL;
 import graphql.GraphQLError;
 import graphql.GraphQLException;
+import graphql.GraphqlErrorBuilder;
+import graphql.execution.AsyncExecutionStrategy;
 import graphql.execution.AsyncSerialExecutionStrategy;
 import graphql.execution.DataFetcherExceptionHandler;
 import graphql.execution.SimpleDataFetcherExceptionHandler;
@@ -34,13 +43,16 @@ import graphql.language.Document;
 import graphql.language.OperationDefinition;
 import graphql.language.OperationDefinition.Operation;
 import graphql.parser.Parser;
+import graphql.schema.GraphQLSchema;
 import graphql.validation.ValidationError;
 import graphql.validation.ValidationErrorType;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -58,6 +70,18 @@ public class QueryRunner {
     private final Elide elide;
     private GraphQL api;
 
+    /**
+     * Runs queries with the relationship fetches of sibling nodes batched.  Null if batching is disabled.
+     */
+    private GraphQL batchedApi;
+
+    /**
+     * Parsed documents of the queries run before.
+     */
+    private final QueryDocumentCache documentCache;
+
+    private final GraphQLSettings.PersistedQueries persistedQueries;
+
     @Getter
     private String apiVersion;
 
@@ -93,11 +117,30 @@ public class QueryRunner {
         ModelBuilder builder = new ModelBuilder(elide.getElideSettings().getEntityDictionary(),
                 nonEntityDictionary, elide.getElideSettings(), fetcher, apiVersion);
 
-        this.api = GraphQL.newGraphQL(builder.build())
+        GraphQLSettings graphqlSettings = elide.getSettings(GraphQLSettings.class);
+        this.documentCache = new QueryDocumentCache(graphqlSettings != null
+                ? graphqlSettings.getDocumentCacheSize()
+                : QueryDocumentCache.DEFAULT_MAXIMUM_SIZE);
+        this.persistedQueries = graphqlSettings != null
+                ? graphqlSettings.getPersistedQueries()
+                : GraphQLSettings.PersistedQueries.builder().build();
+
+        GraphQLSchema schema = builder.build();
+        this.api = GraphQL.newGraphQL(schema)
                 .defaultDataFetcherExceptionHandler(exceptionHandler)
                 .queryExecutionStrategy(new AsyncSerialExecutionStrategy(exceptionHandler))
+                .preparsedDocumentProvider(documentCache)
                 .build();
 
+        if (graphqlSettings != null && graphqlSettings.isBatchRelationships()) {
+            // Data loaders are only dispatched a level at a time by the (non serial) async strategy.
+            this.batchedApi = GraphQL.newGraphQL(schema)
+                    .defaultDataFetcherExceptionHandler(exceptionHandler)
+                    .queryExecutionStrategy(new AsyncExecutionStrategy(exceptionHandler))
+                    .preparsedDocumentProvider(documentCache)
+                    .build();
+        }
+
         elide.getElideSettings().getObjectMapper().registerModule(new GraphQLModule());
     }
 
@@ -180,6 +223,21 @@ public class QueryRunner {
      */
     public ElideResponse<String> run(String baseUrlEndPoint, String graphQLDocument, User user, UUID requestId,
                              Map<String, List<String>> requestHeaders) {
+        return map(execute(baseUrlEndPoint, graphQLDocument, user, requestId, requestHeaders), elide.getObjectMapper());
+    }
+
+    /**
+     * Execute a GraphQL query and return the response without serializing its body.  The body is written with
+     * {@link #writeBody(ObjectMapper, Object, OutputStream)} so that the result is never held as JSON text.
+     * @param baseUrlEndPoint base URL with prefix endpoint
+     * @param graphQLDocument The graphQL document (wrapped in JSON payload).
+     * @param user The user who issued the query.
+     * @param requestId the Request ID.
+     * @param requestHeaders the request headers.
+     * @return The response.
+     */
+    public ElideResponse<?> execute(String baseUrlEndPoint, String graphQLDocument, User user, UUID requestId,
+                             Map<String, List<String>> requestHeaders) {
         ObjectMapper mapper = elide.getObjectMapper();
 
         List<GraphQLQuery> queries;
@@ -194,11 +252,11 @@ public class QueryRunner {
         List<ElideResponse<?>> responses = new ArrayList<>();
         for (GraphQLQuery query : queries) {
             responses.add(executeGraphQLRequest(baseUrlEndPoint, mapper, user,
-                    graphQLDocument, query, requestId, requestHeaders));
+                    graphQLDocument, query, requestId, requestHeaders, false));
         }
 
         if (responses.size() == 1) {
-            return map(responses.get(0), elide.getObjectMapper());
+            return responses.get(0);
         }
 
         //Convert the list of responses into a single JSON Array.
@@ -217,7 +275,57 @@ public class QueryRunner {
                         (left, right) -> left.addAll(right));
 
         // Build and elide response from the array of responses.
-        return map(ElideResponse.ok(result), elide.getObjectMapper());
+        return ElideResponse.ok(result);
+    }
+
+    /**
+     * Execute a GraphQL query sent as the parameters of a GET request and return the response.  Mutations are
+     * refused.
+     * @param baseUrlEndPoint base URL with prefix endpoint
+     * @param query The query parameter or null.
+     * @param operationName The operation name parameter or null.
+     * @param variables The JSON encoded variables parameter or null.
+     * @param extensions The JSON encoded extensions parameter or null.
+     * @param user The user who issued the query.
+     * @param requestId the Request ID.
+     * @param requestHeaders the request headers.
+     * @return The response.
+     */
+    public ElideResponse<String> runGet(String baseUrlEndPoint, String query, String operationName, String variables,
+            String extensions, User user, UUID requestId, Map<String, List<String>> requestHeaders) {
+        return map(executeGet(baseUrlEndPoint, query, operationName, variables, extensions, user, requestId,
+                requestHeaders), elide.getObjectMapper());
+    }
+
+    /**
+     * Execute a GraphQL query sent as the parameters of a GET request and return the response without serializing
+     * its body.  Mutations are refused.
+     * @param baseUrlEndPoint base URL with prefix endpoint
+     * @param query The query parameter or null.
+     * @param operationName The operation name parameter or null.
+     * @param variables The JSON encoded variables parameter or null.
+     * @param extensions The JSON encoded extensions parameter or null.
+     * @param user The user who issued the query.
+     * @param requestId the Request ID.
+     * @param requestHeaders the request headers.
+     * @return The response.
+     */
+    public ElideResponse<?> executeGet(String baseUrlEndPoint, String query, String operationName,
+            String variables, String extensions, User user, UUID requestId, Map<String, List<String>> requestHeaders) {
+        ObjectMapper mapper = elide.getObjectMapper();
+
+        GraphQLQuery graphQLQuery;
+        try {
+            graphQLQuery = new QueryParser() {
+            }.parseQuery(query, operationName, variables, extensions, mapper);
+        } catch (IOException e) {
+            log.debug("Invalid json parameters provided to GraphQL", e);
+            return QueryRunner.handleRuntimeException(elide,
+                    new InvalidEntityBodyException("Invalid variables or extensions", e));
+        }
+
+        return executeGraphQLRequest(baseUrlEndPoint, mapper, user, query, graphQLQuery, requestId,
+                requestHeaders, true);
     }
 
     private static ElideResponse<String> map(ElideResponse<?> response, ObjectMapper objectMapper) {
@@ -234,6 +342,43 @@ public class QueryRunner {
         }
     }
 
+    /**
+     * Writes the body of a response returned by {@link #execute} or {@link #executeGet} to a stream.  The execution
+     * result is serialized as it is written.  The stream is not closed.
+     *
+     * @param mapper the object mapper with the {@link GraphQLModule} registered
+     * @param body the response body
+     * @param outputStream the stream to write to
+     * @throws IOException if the body can't be written
+     */
+    public static void writeBody(ObjectMapper mapper, Object body, OutputStream outputStream) throws IOException {
+        if (body instanceof String string) {
+            outputStream.write(string.getBytes(StandardCharsets.UTF_8));
+        } else if (body != null) {
+            try (JsonGenerator generator = mapper.createGenerator(outputStream)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                writeBody(mapper, body, generator);
+            }
+        }
+    }
+
+    /**
+     * Writes the body of a response returned by {@link #execute} or {@link #executeGet} with a generator.  The
+     * generator is neither flushed nor closed.
+     *
+     * @param mapper the object mapper with the {@link GraphQLModule} registered
+     * @param body the response body
+     * @param generator the generator to write with
+     * @throws IOException if the body can't be written
+     */
+    public static void writeBody(ObjectMapper mapper, Object body, JsonGenerator generator) throws IOException {
+        if (body instanceof String string) {
+            generator.writeRawValue(string);
+        } else if (body != null) {
+            mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE).writeValue(generator, body);
+        }
+    }
+
     /**
      * Extracts the executable query from Json Node.
      * @param jsonDocument The JsonNode object.
@@ -274,20 +419,44 @@ public class QueryRunner {
 
     private ElideResponse<?> executeGraphQLRequest(String baseUrlEndPoint, ObjectMapper mapper, User principal,
                                                 String graphQLDocument, GraphQLQuery query, UUID requestId,
-                                                Map<String, List<String>> requestHeaders) {
-        if (query.getQuery() == null || query.getQuery().isEmpty()) {
+                                                Map<String, List<String>> requestHeaders, boolean queryOnly) {
+        String queryText = query.getQuery();
+        // A query sent with its hash is registered only once it has parsed and validated.
+        boolean register = query.getPersistedQueryHash() != null && queryText != null && !queryText.isEmpty()
+                && persistedQueries.isRegisterOnMiss();
+        if (query.getPersistedQueryHash() == null && persistedQueries.isEnabled()
+                && persistedQueries.isPersistedOnly()) {
+            return persistedQueryError("PersistedQueryRequired", "PERSISTED_QUERY_REQUIRED");
+        }
+        if (query.getPersistedQueryHash() != null) {
+            if (!persistedQueries.isEnabled()) {
+                return persistedQueryError("PersistedQueryNotSupported", "PERSISTED_QUERY_NOT_SUPPORTED");
+            }
+            try {
+                queryText = resolvePersistedQuery(query.getPersistedQueryHash(), queryText);
+            } catch (RuntimeException e) {
+                return handleRuntimeException(elide, e);
+            }
+            if (queryText == null) {
+                // The client registers the query by sending its text with the hash.
+                return persistedQueryError("PersistedQueryNotFound", "PERSISTED_QUERY_NOT_FOUND");
+            }
+        }
+
+        if (queryText == null || queryText.isEmpty()) {
             return ElideResponse.badRequest("A `query` key is required.");
         }
 
-        String queryText = query.getQuery();
-        Parser parser = new Parser();
-        Document parsedDocument;
+        QueryDocumentCache.CachedDocument cachedDocument;
         try {
-            parsedDocument = parser.parseDocument(queryText);
+            cachedDocument = documentCache.get(queryText, query.getOperationName());
         } catch (Exception e) {
             return handleRuntimeException(elide, new InvalidEntityBodyException("Can't parse query: " + queryText));
         }
-        boolean isMutation = isMutation(parsedDocument);
+        boolean isMutation = cachedDocument.isMutation();
+        if (isMutation && queryOnly) {
+            return handleRuntimeException(elide, new InvalidOperationException("Mutations must be sent with POST"));
+        }
         try (DataStoreTransaction tx = isMutation
                 ? elide.getDataStore().beginTransaction()
                 : elide.getDataStore().beginReadTransaction()) {
@@ -297,7 +466,7 @@ public class QueryRunner {
             Map<String, Object> variables = query.getVariables();
 
             GraphQLProjectionInfo projectionInfo = new GraphQLEntityProjectionMaker(elide.getElideSettings(), variables,
-                    apiVersion).make(parsedDocument);
+                    apiVersion, cachedDocument.getFragmentResolver()).make(cachedDocument.getDocument());
             Route route = Route.builder()
                     .baseUrl(baseUrlEndPoint)
                     .apiVersion(apiVersion)
@@ -325,7 +494,18 @@ public class QueryRunner {
             }
             executionInput.variables(variables);
 
-            ExecutionResult result = api.execute(executionInput);
+            GraphQL graphQL = api;
+            if (batchedApi != null && !isMutation) {
+                DataLoaderRegistry dataLoaderRegistry = new DataLoaderRegistry();
+                dataLoaderRegistry.register(RelationshipBatchLoader.NAME, RelationshipBatchLoader.newDataLoader());
+                executionInput.dataLoaderRegistry(dataLoaderRegistry);
+                graphQL = batchedApi;
+            }
+
+            ExecutionResult result = graphQL.execute(executionInput);
+            if (register && result.getErrors().stream().noneMatch(ValidationError.class::isInstance)) {
+                registerPersistedQuery(query.getPersistedQueryHash(), queryText);
+            }
 
             tx.preCommit(requestScope);
             requestScope.getPermissionExecutor().executeCommitChecks();
@@ -362,6 +542,59 @@ public class QueryRunner {
         }
     }
 
+    /**
+     * Resolves the text of a persisted query.  A client sends the text with the hash to register a query the server
+     * does not know - the query is registered by {@link #registerPersistedQuery} once it validates.  Only the stored
+     * text is run when only persisted queries are allowed.
+     *
+     * @param hash the SHA-256 hash of the query
+     * @param queryText the text sent with the hash or null
+     * @return the text of the query or null if it is not stored
+     */
+    private String resolvePersistedQuery(String hash, String queryText) {
+        if (!PersistedQueryStore.isHash(hash)) {
+            throw new BadRequestException("Invalid persisted query hash: " + hash);
+        }
+
+        PersistedQueryStore store = persistedQueries.getStore();
+        String stored = store.get(hash);
+        if (queryText == null || queryText.isEmpty() || persistedQueries.isPersistedOnly()) {
+            return stored;
+        }
+        if (stored != null && stored.equals(queryText)) {
+            // Hand out the stored instance. Its hash code is already computed and the cache compares it by identity.
+            return stored;
+        }
+
+        if (!hash.equals(PersistedQueryStore.hash(queryText))) {
+            throw new BadRequestException("Provided sha does not match query");
+        }
+        return queryText;
+    }
+
+    /**
+     * Stores a persisted query that the server does not know yet.
+     *
+     * @param hash the SHA-256 hash of the query
+     * @param queryText the validated text of the query
+     */
+    private void registerPersistedQuery(String hash, String queryText) {
+        PersistedQueryStore store = persistedQueries.getStore();
+        if (!queryText.equals(store.get(hash))) {
+            store.put(hash, queryText);
+        }
+    }
+
+    private static ElideResponse<ExecutionResult> persistedQueryError(String message, String code) {
+        ExecutionResult result = ExecutionResultImpl.newExecutionResult()
+                .addError(GraphqlErrorBuilder.newError()
+                        .message(message)
+                        .extensions(Map.of("code", code))
+                        .build())
+                .build();
+        return ElideResponse.ok(result);
+    }
+
     /**
      * Generate more user friendly error messages.
      *
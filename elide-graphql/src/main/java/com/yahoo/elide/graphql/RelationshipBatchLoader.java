@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql;
+
+import com.yahoo.elide.core.PersistentResource;
+import com.yahoo.elide.core.request.Pagination;
+import com.yahoo.elide.core.request.Relationship;
+import com.yahoo.elide.graphql.containers.ConnectionContainer;
+import org.dataloader.BatchLoader;
+import org.dataloader.DataLoader;
+import org.dataloader.DataLoaderFactory;
+import org.dataloader.Try;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Collects the relationship fetches of the nodes at one level of a query and fetches the relationship of all the
+ * nodes which share a projection with {@link PersistentResource#getRelationsCheckedFiltered}.
+ * <p>
+ * graphql-java dispatches the loader once every field of a level has been fetched.  A loader must only be used for a
+ * single request.
+ */
+public class RelationshipBatchLoader implements BatchLoader<RelationshipBatchLoader.Key, Try<ConnectionContainer>> {
+    public static final String NAME = "elideRelationships";
+
+    /**
+     * The relationship of a parent node.  Keys are compared by identity so that every fetch is made.
+     */
+    @AllArgsConstructor
+    @Getter
+    public static class Key {
+        private final PersistentResource<?> parentResource;
+        private final Relationship relationship;
+    }
+
+    /**
+     * Creates a loader for a single request.
+     *
+     * @return the loader
+     */
+    public static DataLoader<Key, ConnectionContainer> newDataLoader() {
+        return DataLoaderFactory.newDataLoaderWithTry(new RelationshipBatchLoader());
+    }
+
+    /**
+     * Whether a relationship can be fetched together with the same relationship of sibling nodes.  Page totals and
+     * cursor pages are tracked on the relationship's pagination - so they are fetched one node at a time.
+     *
+     * @param relationship the relationship
+     * @return true if the relationship can be batched
+     */
+    public static boolean canBatch(Relationship relationship) {
+        Pagination pagination = relationship.getProjection().getPagination();
+        return pagination == null || (pagination.getDirection() == null && !pagination.returnPageTotals());
+    }
+
+    @Override
+    public CompletionStage<List<Try<ConnectionContainer>>> load(List<Key> keys) {
+        List<Try<ConnectionContainer>> results = new ArrayList<>(keys.size());
+
+        //Siblings share the relationship of the projection.
+        Map<Relationship, List<Integer>> keysByRelationship = new IdentityHashMap<>();
+        for (int index = 0; index < keys.size(); index++) {
+            results.add(null);
+            keysByRelationship.computeIfAbsent(keys.get(index).getRelationship(), unused -> new ArrayList<>())
+                    .add(index);
+        }
+
+        keysByRelationship.forEach((relationship, indexes) -> {
+            List<PersistentResource> parents = new ArrayList<>(indexes.size());
+            indexes.forEach(index -> parents.add(keys.get(index).getParentResource()));
+
+            List<Flux<PersistentResource>> relations =
+                    PersistentResource.getRelationsCheckedFiltered(parents, relationship);
+
+            for (int position = 0; position < indexes.size(); position++) {
+                Try<ConnectionContainer> result;
+                try {
+                    result = Try.succeeded(PersistentResourceFetcher.toConnectionContainer(parents.get(position),
+                            relationship, relations.get(position)));
+                } catch (RuntimeException e) {
+                    result = Try.failed(e);
+                }
+                results.set(indexes.get(position), result);
+            }
+        });
+
+        return CompletableFuture.completedFuture(results);
+    }
+}
@@ -15,6 +15,7 @@ import com.yahoo.elide.graphql.DeferredId;
 import com.yahoo.elide.graphql.Environment;
 import com.yahoo.elide.graphql.NonEntityDictionary;
 import com.yahoo.elide.graphql.PersistentResourceFetcher;
+import com.yahoo.elide.graphql.RelationshipBatchLoader;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -89,6 +90,12 @@ public class NodeContainer implements PersistentResourceContainer, GraphQLContai
     }
 
     protected Object fetchRelationship(Environment context, Relationship relationship) {
+        if (context.relationshipLoader.isPresent() && context.ids.isEmpty()
+                && RelationshipBatchLoader.canBatch(relationship)) {
+            // Fetched with the same relationship of the sibling nodes once the level is complete.
+            return context.relationshipLoader.get()
+                    .load(new RelationshipBatchLoader.Key(context.parentResource, relationship));
+        }
         return PersistentResourceFetcher.fetchRelationship(context.parentResource, relationship, context.ids);
     }
 }
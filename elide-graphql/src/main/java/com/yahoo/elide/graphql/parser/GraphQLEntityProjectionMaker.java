@@ -80,6 +80,7 @@ public class GraphQLEntityProjectionMaker {
 
     protected final VariableResolver variableResolver;
     protected final FragmentResolver fragmentResolver;
+    private final boolean fragmentsResolved;
 
     protected final Map<SourceLocation, Relationship> relationshipMap = new HashMap<>();
     protected final Map<String, EntityProjection> rootProjections = new HashMap<>();
@@ -96,6 +97,24 @@ public class GraphQLEntityProjectionMaker {
      * @param apiVersion The client requested API version.
      */
     public GraphQLEntityProjectionMaker(ElideSettings elideSettings, Map<String, Object> variables, String apiVersion) {
+        this(elideSettings, variables, apiVersion, new FragmentResolver(), false);
+    }
+
+    /**
+     * Constructor for documents whose fragments have already been resolved.
+     *
+     * @param elideSettings settings of current Elide instance
+     * @param variables variables provided in the request
+     * @param apiVersion The client requested API version.
+     * @param fragmentResolver the resolved fragments of the documents to convert
+     */
+    public GraphQLEntityProjectionMaker(ElideSettings elideSettings, Map<String, Object> variables, String apiVersion,
+            FragmentResolver fragmentResolver) {
+        this(elideSettings, variables, apiVersion, fragmentResolver, true);
+    }
+
+    private GraphQLEntityProjectionMaker(ElideSettings elideSettings, Map<String, Object> variables, String apiVersion,
+            FragmentResolver fragmentResolver, boolean fragmentsResolved) {
         this.elideSettings = elideSettings;
         this.entityDictionary = elideSettings.getEntityDictionary();
         GraphQLSettings graphqlSettings = elideSettings.getSettings(GraphQLSettings.class);
@@ -103,7 +122,8 @@ public class GraphQLEntityProjectionMaker {
                 : RSQLFilterDialect.builder().dictionary(entityDictionary).build();
 
         this.variableResolver = new VariableResolver(variables);
-        this.fragmentResolver = new FragmentResolver();
+        this.fragmentResolver = fragmentResolver;
+        this.fragmentsResolved = fragmentsResolved;
         this.nameUtils = new GraphQLNameUtils(entityDictionary);
         this.apiVersion = apiVersion;
     }
@@ -142,7 +162,9 @@ public class GraphQLEntityProjectionMaker {
      */
     public GraphQLProjectionInfo make(Document parsedDocument) {
         // resolve fragment definitions
-        fragmentResolver.addFragments(parsedDocument);
+        if (!fragmentsResolved) {
+            fragmentResolver.addFragments(parsedDocument);
+        }
 
         // resolve operation definitions
         parsedDocument.getDefinitions().forEach(definition -> {
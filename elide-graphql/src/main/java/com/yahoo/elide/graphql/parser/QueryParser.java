@@ -8,6 +8,7 @@ package com.yahoo.elide.graphql.parser;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -24,6 +25,9 @@ public interface QueryParser {
     static final String QUERY = "query";
     static final String OPERATION_NAME = "operationName";
     static final String VARIABLES = "variables";
+    static final String EXTENSIONS = "extensions";
+    static final String PERSISTED_QUERY = "persistedQuery";
+    static final String SHA256_HASH = "sha256Hash";
 
     /**
      * Parse a document which could consist of 1 or more GraphQL queries.
@@ -71,6 +75,40 @@ public interface QueryParser {
             operationName = topLevel.get(OPERATION_NAME).asText();
         }
 
-        return new GraphQLQuery(query, operationName, variables);
+        String persistedQueryHash = null;
+        JsonNode persistedQuery = topLevel.path(EXTENSIONS).path(PERSISTED_QUERY);
+        if (persistedQuery.hasNonNull(SHA256_HASH)) {
+            persistedQueryHash = persistedQuery.get(SHA256_HASH).asText();
+        }
+
+        return new GraphQLQuery(query, operationName, variables, persistedQueryHash);
+    }
+
+    /**
+     * Parse a GraphQL query sent as the parameters of a GET request.
+     * @param query The query parameter or null.
+     * @param operationName The operation name parameter or null.
+     * @param variables The JSON encoded variables parameter or null.
+     * @param extensions The JSON encoded extensions parameter or null.
+     * @param mapper An object mapper to do JSON parsing.
+     * @return A parsed GraphQL query.
+     * @throws IOException If there is a JSON processing error.
+     */
+    default GraphQLQuery parseQuery(String query, String operationName, String variables, String extensions,
+            ObjectMapper mapper) throws IOException {
+        ObjectNode topLevel = mapper.createObjectNode();
+        if (query != null) {
+            topLevel.put(QUERY, query);
+        }
+        if (operationName != null) {
+            topLevel.put(OPERATION_NAME, operationName);
+        }
+        if (variables != null) {
+            topLevel.set(VARIABLES, mapper.readTree(variables));
+        }
+        if (extensions != null) {
+            topLevel.set(EXTENSIONS, mapper.readTree(extensions));
+        }
+        return parseQuery(topLevel, mapper);
     }
 }
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql.persistedqueries;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Keeps persisted queries as files named {@code <hash>.graphql} in a directory.  The directory can be populated ahead
+ * of time with the queries of known clients.  Queries read from disk are kept in memory by an
+ * {@link InMemoryPersistedQueryStore}.
+ */
+public class FilePersistedQueryStore implements PersistedQueryStore {
+    private static final String SUFFIX = ".graphql";
+
+    private final Path directory;
+    private final InMemoryPersistedQueryStore loaded;
+
+    public FilePersistedQueryStore(Path directory) {
+        this(directory, InMemoryPersistedQueryStore.DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param directory the directory of the query files. It is created if it does not exist.
+     * @param maximumSize the maximum number of queries to keep in memory
+     */
+    public FilePersistedQueryStore(Path directory, int maximumSize) {
+        this.directory = directory;
+        this.loaded = new InMemoryPersistedQueryStore(maximumSize);
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String get(String hash) {
+        // The hash names the file - so anything else is rejected before touching the file system.
+        if (!PersistedQueryStore.isHash(hash)) {
+            return null;
+        }
+
+        String query = loaded.get(hash);
+        if (query == null) {
+            Path file = directory.resolve(hash + SUFFIX);
+            if (!Files.isRegularFile(file)) {
+                return null;
+            }
+            try {
+                query = Files.readString(file, StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            loaded.put(hash, query);
+        }
+        return query;
+    }
+
+    @Override
+    public void put(String hash, String query) {
+        if (!PersistedQueryStore.isHash(hash)) {
+            throw new IllegalArgumentException("Invalid persisted query hash: " + hash);
+        }
+
+        // Write to a temporary file first so that readers never see a partial query.
+        try {
+            Path temporary = Files.createTempFile(directory, hash, ".tmp");
+            try {
+                Files.writeString(temporary, query, StandardCharsets.UTF_8);
+                Files.move(temporary, directory.resolve(hash + SUFFIX), StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        loaded.put(hash, query);
+    }
+}
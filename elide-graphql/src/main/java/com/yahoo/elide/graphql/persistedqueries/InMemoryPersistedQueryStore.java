@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql.persistedqueries;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Keeps persisted queries in memory.  The least recently used queries are evicted once the store is full, clients
+ * register them again on their next miss.
+ */
+public class InMemoryPersistedQueryStore implements PersistedQueryStore {
+    public static final int DEFAULT_MAXIMUM_SIZE = 10000;
+
+    private final Cache<String, String> queries;
+
+    public InMemoryPersistedQueryStore() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSize the maximum number of queries to keep
+     */
+    public InMemoryPersistedQueryStore(int maximumSize) {
+        this.queries = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .build();
+    }
+
+    @Override
+    public String get(String hash) {
+        return queries.getIfPresent(hash);
+    }
+
+    @Override
+    public void put(String hash, String query) {
+        queries.put(hash, query);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql.persistedqueries;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Stores the text of persisted queries by the SHA-256 hash of the text.
+ * <p>
+ * Implementations must be thread safe.
+ */
+public interface PersistedQueryStore {
+    /**
+     * Returns the text of a persisted query.
+     *
+     * @param hash the lower case hex encoded SHA-256 hash of the query
+     * @return the query or null if no query is stored with the hash
+     */
+    String get(String hash);
+
+    /**
+     * Stores the text of a query.
+     *
+     * @param hash the lower case hex encoded SHA-256 hash of the query
+     * @param query the query
+     */
+    void put(String hash, String query);
+
+    /**
+     * Computes the hash by which a query is stored.
+     *
+     * @param query the query
+     * @return the lower case hex encoded SHA-256 hash of the query
+     */
+    static String hash(String query) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(query.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Whether a string is a lower case hex encoded SHA-256 hash.
+     *
+     * @param hash the string to check
+     * @return true if it is a hash
+     */
+    static boolean isHash(String hash) {
+        if (hash == null || hash.length() != 64) {
+            return false;
+        }
+        for (int index = 0; index < hash.length(); index++) {
+            char c = hash.charAt(index);
+            if (!((c >= '0' && c <= '9') || (c >= 'a' && c <= 'f'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -31,15 +31,14 @@ public class ExecutionResultSerializer extends StdSerializer<ExecutionResult> {
 
     @Override
     public void serialize(ExecutionResult value, JsonGenerator gen, SerializerProvider provider) throws IOException {
-        // mimic the ExecutionResult.toSpecification response
+        // mimic the ExecutionResult.toSpecification response without copying the result into a new map
         gen.writeStartObject();
-        Map<String, Object> spec = value.toSpecification();
-        if (spec.containsKey("data")) {
-            gen.writeObjectField("data", spec.get("data"));
+        if (value.isDataPresent()) {
+            gen.writeObjectField("data", value.getData());
         }
 
-        if (spec.containsKey("errors")) {
-            List<GraphQLError> errors = value.getErrors();
+        List<GraphQLError> errors = value.getErrors();
+        if (errors != null && !errors.isEmpty()) {
             gen.writeArrayFieldStart("errors");
             for (GraphQLError error : errors) {
                 gen.writeObject(error);
@@ -47,8 +46,9 @@ public class ExecutionResultSerializer extends StdSerializer<ExecutionResult> {
             gen.writeEndArray();
         }
 
-        if (spec.containsKey("extensions")) {
-            gen.writeObjectField("extensions", spec.get("extensions"));
+        Map<Object, Object> extensions = value.getExtensions();
+        if (extensions != null) {
+            gen.writeObjectField("extensions", extensions);
         }
 
         gen.writeEndObject();
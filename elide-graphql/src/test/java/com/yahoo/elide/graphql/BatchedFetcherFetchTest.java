@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+
+package com.yahoo.elide.graphql;
+
+import static com.yahoo.elide.core.dictionary.EntityDictionary.NO_VERSION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.ElideResponse;
+import com.yahoo.elide.core.RequestScope;
+import com.yahoo.elide.core.datastore.DataStore;
+import com.yahoo.elide.core.datastore.DataStoreIterable;
+import com.yahoo.elide.core.datastore.DataStoreTransaction;
+import com.yahoo.elide.core.datastore.wrapped.TransactionWrapper;
+import com.yahoo.elide.core.dictionary.EntityDictionary;
+import com.yahoo.elide.core.request.Relationship;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs the Fetch operation tests with the relationship fetches of sibling nodes batched.  The responses must be the
+ * same as when every node fetches its own relationships.
+ */
+public class BatchedFetcherFetchTest extends FetcherFetchTest {
+    private final List<String> toManyFetches = new ArrayList<>();
+
+    @Override
+    protected GraphQLSettings.GraphQLSettingsBuilder graphqlSettings() {
+        return super.graphqlSettings().batchRelationships(true);
+    }
+
+    @Test
+    void siblingRelationshipsAreFetchedTogether() throws Exception {
+        toManyFetches.clear();
+        DataStore countingStore = new DataStore() {
+            @Override
+            public void populateEntityDictionary(EntityDictionary dictionary) {
+                hashMapDataStore.populateEntityDictionary(dictionary);
+            }
+
+            @Override
+            public DataStoreTransaction beginTransaction() {
+                return new CountingTransaction(hashMapDataStore.beginTransaction());
+            }
+
+            @Override
+            public DataStoreTransaction beginReadTransaction() {
+                return new CountingTransaction(hashMapDataStore.beginReadTransaction());
+            }
+        };
+        Elide elide = new Elide(settings.mutate().dataStore(countingStore).build());
+        elide.doScans();
+        QueryRunner countingRunner = new QueryRunner(elide, NO_VERSION);
+
+        String query = "{ author { edges { node { id books { edges { node { id } } } } } } }";
+        ElideResponse<String> response = countingRunner.run("", mapper.writeValueAsString(Map.of("query", query)),
+                user);
+
+        JsonNode result = mapper.readTree(response.getBody());
+        assertFalse(result.has("errors"), response.getBody());
+        assertEquals(3, result.get("data").get("author").get("edges").size());
+        // The books of the three authors are fetched with a single call.
+        assertEquals(List.of("getToManyRelations(3)"), toManyFetches);
+    }
+
+    private class CountingTransaction extends TransactionWrapper {
+        CountingTransaction(DataStoreTransaction tx) {
+            super(tx);
+        }
+
+        @Override
+        public <T, R> DataStoreIterable<R> getToManyRelation(DataStoreTransaction relationTx, T entity,
+                Relationship relationship, RequestScope scope) {
+            toManyFetches.add("getToManyRelation");
+            return super.getToManyRelation(relationTx, entity, relationship, scope);
+        }
+
+        @Override
+        public <T, R> Map<T, DataStoreIterable<R>> getToManyRelations(DataStoreTransaction relationTx,
+                List<T> entities, Relationship relationship, RequestScope scope) {
+            toManyFetches.add("getToManyRelations(" + entities.size() + ")");
+            return super.getToManyRelations(relationTx, entities, relationship, scope);
+        }
+    }
+}
@@ -5,6 +5,7 @@
  */
 package com.yahoo.elide.graphql;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -27,6 +28,22 @@ class GraphQLSettingsTest {
         assertNotEquals(graphqlSettings.getFederation().isEnabled(), mutated.getFederation().isEnabled());
     }
 
+    @Test
+    void mutateBatchRelationships() {
+        GraphQLSettings graphqlSettings = GraphQLSettings.builder().batchRelationships(true).build();
+        assertTrue(graphqlSettings.isBatchRelationships());
+        assertTrue(graphqlSettings.mutate().build().isBatchRelationships());
+        assertFalse(GraphQLSettings.builder().build().isBatchRelationships());
+    }
+
+    @Test
+    void mutateDocumentCacheSize() {
+        GraphQLSettings graphqlSettings = GraphQLSettings.builder().documentCacheSize(10).build();
+        assertEquals(10, graphqlSettings.getDocumentCacheSize());
+        assertEquals(10, graphqlSettings.mutate().build().getDocumentCacheSize());
+        assertEquals(QueryDocumentCache.DEFAULT_MAXIMUM_SIZE, GraphQLSettings.builder().build().getDocumentCacheSize());
+    }
+
     @Test
     void withDefaults() {
         EntityDictionary entityDictionary = EntityDictionary.builder().build();
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql;
+
+import static com.yahoo.elide.core.dictionary.EntityDictionary.NO_VERSION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.yahoo.elide.Elide;
+import com.yahoo.elide.ElideResponse;
+import com.yahoo.elide.ElideSettings;
+import com.yahoo.elide.graphql.persistedqueries.FilePersistedQueryStore;
+import com.yahoo.elide.graphql.persistedqueries.InMemoryPersistedQueryStore;
+import com.yahoo.elide.graphql.persistedqueries.PersistedQueryStore;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.UUID;
+
+/**
+ * Tests running persisted queries by their hash.
+ */
+public class PersistedQueryTest extends PersistentResourceFetcherTest {
+    private static final String BASE_URL = "http://localhost:8080/graphql";
+    private static final String QUERY = "{ book(ids: [\"1\"]) { edges { node { id title } } } }";
+    private static final String DATA = """
+            {"book":{"edges":[{"node":{"id":"1","title":"Libro Uno"}}]}}""";
+
+    private final PersistedQueryStore store = new InMemoryPersistedQueryStore();
+
+    @Override
+    protected GraphQLSettings.GraphQLSettingsBuilder graphqlSettings() {
+        return super.graphqlSettings().persistedQueries(persistedQueries -> persistedQueries.store(store));
+    }
+
+    @Test
+    void registerOnMiss() throws Exception {
+        String query = QUERY + " # registerOnMiss";
+        String hash = PersistedQueryStore.hash(query);
+
+        JsonNode miss = run(null, hash);
+        assertEquals("PersistedQueryNotFound", miss.get("errors").get(0).get("message").asText());
+        assertEquals("PERSISTED_QUERY_NOT_FOUND", miss.get("errors").get(0).get("extensions").get("code").asText());
+
+        assertEquals(mapper.readTree(DATA), run(query, hash).get("data"));
+        assertEquals(query, store.get(hash));
+        assertEquals(mapper.readTree(DATA), run(null, hash).get("data"));
+    }
+
+    @Test
+    void hashMismatch() throws Exception {
+        String hash = PersistedQueryStore.hash(QUERY + " # other");
+
+        JsonNode result = run(QUERY, hash);
+        assertEquals(1, result.get("errors").size());
+        assertNull(store.get(hash));
+    }
+
+    @Test
+    void invalidQueryIsNotRegistered() throws Exception {
+        String query = "{ book(ids: [\"1\"]) { edges { node { id unknown } } } }";
+        String hash = PersistedQueryStore.hash(query);
+
+        JsonNode result = run(query, hash);
+        assertTrue(result.has("errors"));
+        assertNull(store.get(hash));
+    }
+
+    @Test
+    void fileStoreDoesNotRegisterByDefault(@TempDir Path directory) {
+        GraphQLSettings.PersistedQueries fileQueries = GraphQLSettings.PersistedQueries.builder()
+                .store(new FilePersistedQueryStore(directory))
+                .build();
+        assertFalse(fileQueries.isRegisterOnMiss());
+
+        GraphQLSettings.PersistedQueries memoryQueries = GraphQLSettings.PersistedQueries.builder()
+                .store(new InMemoryPersistedQueryStore())
+                .build();
+        assertTrue(memoryQueries.isRegisterOnMiss());
+    }
+
+    @Test
+    void persistedOnly() throws Exception {
+        String query = QUERY + " # persistedOnly";
+        String hash = PersistedQueryStore.hash(query);
+        ElideSettings persistedOnlySettings = settings.mutate()
+                .settings(settings.getSettings(GraphQLSettings.class).mutate()
+                        .persistedQueries(persistedQueries -> persistedQueries.persistedOnly(true)))
+                .build();
+        Elide elide = new Elide(persistedOnlySettings);
+        elide.doScans();
+        QueryRunner persistedOnlyRunner = new QueryRunner(elide, NO_VERSION);
+
+        JsonNode unhashed = run(persistedOnlyRunner, query, null);
+        assertEquals("PersistedQueryRequired", unhashed.get("errors").get(0).get("message").asText());
+
+        JsonNode unknown = run(persistedOnlyRunner, query, hash);
+        assertEquals("PersistedQueryNotFound", unknown.get("errors").get(0).get("message").asText());
+        assertNull(store.get(hash));
+
+        store.put(hash, query);
+        assertEquals(mapper.readTree(DATA), run(persistedOnlyRunner, null, hash).get("data"));
+    }
+
+    @Test
+    void runGet() throws Exception {
+        String query = QUERY + " # runGet";
+        String hash = PersistedQueryStore.hash(query);
+        store.put(hash, query);
+        String extensions = """
+                {"persistedQuery":{"version":1,"sha256Hash":"%s"}}""".formatted(hash);
+
+        ElideResponse<String> response = runner.runGet(BASE_URL, null, null, null, extensions, user,
+                UUID.randomUUID(), null);
+        assertEquals(200, response.getStatus());
+        assertEquals(mapper.readTree(DATA), mapper.readTree(response.getBody()).get("data"));
+    }
+
+    @Test
+    void runGetRefusesMutations() throws Exception {
+        String mutation = "mutation { book(op: DELETE, ids: [\"1\"]) { edges { node { id } } } }";
+
+        ElideResponse<String> response = runner.runGet(BASE_URL, mutation, null, null, null, user,
+                UUID.randomUUID(), null);
+        // Like every HttpStatusException, the refusal is reported as an error with a 200 status.
+        assertEquals(200, response.getStatus());
+        JsonNode errors = mapper.readTree(response.getBody()).get("errors");
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0).get("message").asText().contains("Mutations must be sent with POST"));
+        assertEquals(mapper.readTree(DATA), run(QUERY, PersistedQueryStore.hash(QUERY)).get("data"));
+    }
+
+    private JsonNode run(String query, String hash) throws Exception {
+        return run(runner, query, hash);
+    }
+
+    private JsonNode run(QueryRunner queryRunner, String query, String hash) throws Exception {
+        ObjectNode request = JsonNodeFactory.instance.objectNode();
+        if (query != null) {
+            request.put("query", query);
+        }
+        if (hash != null) {
+            ObjectNode persistedQuery = JsonNodeFactory.instance.objectNode();
+            persistedQuery.put("version", 1);
+            persistedQuery.put("sha256Hash", hash);
+            request.set("extensions", JsonNodeFactory.instance.objectNode().set("persistedQuery", persistedQuery));
+        }
+
+        return mapper.readTree(queryRunner.run(BASE_URL, mapper.writeValueAsString(request), user).getBody());
+    }
+}
@@ -85,8 +85,7 @@ public abstract class PersistentResourceFetcherTest extends GraphQLTest {
 
         hashMapDataStore = new HashMapDataStore(new DefaultClassScanner(), Author.class.getPackage());
 
-        GraphQLSettings.GraphQLSettingsBuilder graphqlSettings = GraphQLSettings.builder()
-                .federation(federation -> federation.enabled(true));
+        GraphQLSettings.GraphQLSettingsBuilder graphqlSettings = graphqlSettings();
 
         JsonApiSettings.JsonApiSettingsBuilder jsonApiSettings = JsonApiSettings.builder().joinFilterDialect(filterDialect)
                 .subqueryFilterDialect(filterDialect);
@@ -108,6 +107,11 @@ public abstract class PersistentResourceFetcherTest extends GraphQLTest {
         this.mapper = elide.getObjectMapper();
     }
 
+    protected GraphQLSettings.GraphQLSettingsBuilder graphqlSettings() {
+        return GraphQLSettings.builder()
+                .federation(federation -> federation.enabled(true));
+    }
+
     protected void initializeMocks() {
         //NOOP;
     }
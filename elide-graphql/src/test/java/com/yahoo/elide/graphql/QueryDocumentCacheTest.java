@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.yahoo.elide.core.exceptions.InvalidEntityBodyException;
+
+import org.junit.jupiter.api.Test;
+
+import graphql.ExecutionInput;
+import graphql.execution.preparsed.PreparsedDocumentEntry;
+import graphql.parser.Parser;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Tests {@link QueryDocumentCache}.
+ */
+class QueryDocumentCacheTest {
+    private static final String QUERY = "query books { book { edges { node { ...bookData } } } } "
+            + "fragment bookData on Book { id title }";
+    private static final String MUTATION = "mutation { book(op: UPSERT, data: {id: \"1\"}) { edges { node { id } } } }";
+
+    @Test
+    void getCachesByQueryAndOperationName() {
+        QueryDocumentCache cache = new QueryDocumentCache(10);
+
+        QueryDocumentCache.CachedDocument document = cache.get(QUERY, "books");
+        assertSame(document, cache.get(QUERY, "books"));
+        assertNotSame(document, cache.get(QUERY, null));
+        assertEquals(2, cache.size());
+
+        assertFalse(document.isMutation());
+        assertTrue(cache.get(MUTATION, null).isMutation());
+        assertTrue(document.getFragmentResolver().contains("bookData"));
+        assertSame(document.getFragmentResolver(), document.getFragmentResolver());
+    }
+
+    @Test
+    void invalidFragmentsFailOnEveryCall() {
+        QueryDocumentCache cache = new QueryDocumentCache(10);
+        QueryDocumentCache.CachedDocument document = cache.get(
+                "{ book { edges { node { ...bookData } } } } fragment bookData on Book { ...bookData }", null);
+
+        assertThrows(InvalidEntityBodyException.class, document::getFragmentResolver);
+        assertThrows(InvalidEntityBodyException.class, document::getFragmentResolver);
+    }
+
+    @Test
+    void getDocumentAsyncValidatesOnce() throws Exception {
+        QueryDocumentCache cache = new QueryDocumentCache(10);
+        AtomicInteger validations = new AtomicInteger();
+        Function<ExecutionInput, PreparsedDocumentEntry> parseAndValidate = input -> {
+            validations.incrementAndGet();
+            return new PreparsedDocumentEntry(new Parser().parseDocument(input.getQuery()));
+        };
+        ExecutionInput input = ExecutionInput.newExecutionInput().query(QUERY).operationName("books").build();
+
+        // Documents which were not parsed by the query runner are not cached.
+        cache.getDocumentAsync(input, parseAndValidate).get();
+        cache.getDocumentAsync(input, parseAndValidate).get();
+        assertEquals(2, validations.get());
+
+        cache.get(QUERY, "books");
+        PreparsedDocumentEntry entry = cache.getDocumentAsync(input, parseAndValidate).get();
+        assertSame(entry, cache.getDocumentAsync(input, parseAndValidate).get());
+        assertEquals(3, validations.get());
+    }
+
+    @Test
+    void zeroSizeDisablesCaching() {
+        QueryDocumentCache cache = new QueryDocumentCache(0);
+
+        assertNotSame(cache.get(QUERY, null), cache.get(QUERY, null));
+        assertEquals(0, cache.size());
+    }
+}
@@ -29,7 +29,10 @@ import com.yahoo.elide.core.exceptions.Slf4jExceptionLogger;
 import com.yahoo.elide.core.type.ClassType;
 import com.yahoo.elide.graphql.models.GraphQLErrors;
 import com.yahoo.elide.graphql.serialization.GraphQLErrorDeserializer;
+import com.yahoo.elide.graphql.serialization.GraphQLModule;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 
 import example.Book;
@@ -38,7 +41,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import graphql.ExecutionResult;
+import graphql.ExecutionResultImpl;
 import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
 import graphql.language.Document;
 
 import jakarta.validation.ConstraintViolation;
@@ -50,6 +56,10 @@ import jakarta.validation.ValidatorFactory;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -64,7 +74,7 @@ public class QueryRunnerTest extends GraphQLTest {
                 stars
                 commentary
                     }
-            }
+            }
             """,
             "mutation {book(op: UPSERT data: {id:1,title:\"1984\",price:{total:10.0,currency:{isoCode:\"USD\"}}}) {edges {node {id title authors(op: UPSERT data: {id:1,name:\"George Orwell\"}) {edges {node {id name}}}}}}}",
             """
@@ -102,7 +112,7 @@ public class QueryRunnerTest extends GraphQLTest {
               hero {
                 name
               }
-            }
+            }
             """,
             """
             query HeroComparison($first: Int = 3) {
@@ -194,6 +204,32 @@ public class QueryRunnerTest extends GraphQLTest {
         verify(tx).close();
     }
 
+    @Test
+    void writeBody() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new GraphQLModule());
+        ExecutionResult result = ExecutionResultImpl.newExecutionResult()
+                .data(Map.of("book", Map.of("edges", List.of())))
+                .addError(GraphqlErrorBuilder.newError().message("failed").build())
+                .build();
+        String expected = mapper.writeValueAsString(result);
+        assertTrue(expected.startsWith("{\"data\":{\"book\":{\"edges\":[]}},\"errors\":[{\"message\":\"failed\""));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        QueryRunner.writeBody(mapper, result, outputStream);
+        QueryRunner.writeBody(mapper, "{}", outputStream);
+        assertEquals(expected + "{}", outputStream.toString(StandardCharsets.UTF_8));
+
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = mapper.createGenerator(writer)) {
+            generator.writeStartArray();
+            QueryRunner.writeBody(mapper, result, generator);
+            QueryRunner.writeBody(mapper, "{}", generator);
+            generator.writeEndArray();
+        }
+        assertEquals("[" + expected + ",{}]", writer.toString());
+    }
+
     private Elide getElide(DataStore dataStore, EntityDictionary dictionary, ExceptionMappers exceptionMappers) {
         ElideSettings settings = getElideSettings(dataStore, dictionary, exceptionMappers);
         return new Elide(settings, new TransactionRegistry(), settings.getEntityDictionary().getScanner(), false);
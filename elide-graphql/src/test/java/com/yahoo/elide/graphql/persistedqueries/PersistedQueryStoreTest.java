@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026, Yahoo Inc.
+ * Licensed under the Apache License, Version 2.0
+ * See LICENSE file in project root for terms.
+ */
+package com.yahoo.elide.graphql.persistedqueries;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+/**
+ * Tests the {@link PersistedQueryStore} implementations.
+ */
+class PersistedQueryStoreTest {
+    private static final String QUERY = "{ book { edges { node { id } } } }";
+
+    @Test
+    void hash() {
+        assertEquals("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855", PersistedQueryStore.hash(""));
+        assertTrue(PersistedQueryStore.isHash(PersistedQueryStore.hash(QUERY)));
+        assertFalse(PersistedQueryStore.isHash("../../etc/passwd"));
+        assertFalse(PersistedQueryStore.isHash(PersistedQueryStore.hash(QUERY).toUpperCase(Locale.ENGLISH)));
+        assertFalse(PersistedQueryStore.isHash(null));
+    }
+
+    @Test
+    void inMemory() {
+        PersistedQueryStore store = new InMemoryPersistedQueryStore();
+        String hash = PersistedQueryStore.hash(QUERY);
+
+        assertNull(store.get(hash));
+        store.put(hash, QUERY);
+        assertEquals(QUERY, store.get(hash));
+    }
+
+    @Test
+    void file(@TempDir Path directory) throws Exception {
+        String hash = PersistedQueryStore.hash(QUERY);
+
+        new FilePersistedQueryStore(directory).put(hash, QUERY);
+        assertEquals(QUERY, Files.readString(directory.resolve(hash + ".graphql")));
+
+        // A new store reads the queries written before.
+        assertEquals(QUERY, new FilePersistedQueryStore(directory).get(hash));
+        assertNull(new FilePersistedQueryStore(directory).get(PersistedQueryStore.hash("other")));
+    }
+
+    @Test
+    void fileRejectsInvalidHashes(@TempDir Path directory) {
+        FilePersistedQueryStore store = new FilePersistedQueryStore(directory);
+
+        assertNull(store.get("../" + PersistedQueryStore.hash(QUERY)));
+        assertThrows(IllegalArgumentException.class, () -> store.put("../query", QUERY));
+    }
+}
@@ -11,6 +11,7 @@ import com.yahoo.elide.datastores.aggregation.queryengines.sql.dialects.SQLDiale
 
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
 import org.springframework.boot.convert.DurationUnit;
+import org.springframework.util.unit.DataSize;
 
 import lombok.Data;
 
@@ -48,6 +49,12 @@ public class AggregationStoreProperties {
 
     private MetadataStore metadataStore = new MetadataStore();
 
+    /**
+     * Number of threads used to run page totals queries concurrently with the data query.
+     * Zero runs page totals on the request thread before the data query.
+     */
+    private int pageTotalsThreads = 0;
+
     @Data
     public static class QueryCache {
         /**
@@ -65,6 +72,30 @@ public class AggregationStoreProperties {
          */
         @DurationUnit(ChronoUnit.MINUTES)
         private Duration expiration = Duration.ofMinutes(10L);
+
+        /**
+         * How long a table version may be reused before it is refreshed in the background.
+         * Zero disables table version caching, querying the version on every request.
+         */
+        @DurationUnit(ChronoUnit.SECONDS)
+        private Duration tableVersionStaleness = Duration.ZERO;
+
+        /**
+         * Limit on the number of rows in a cached query result. Larger results are not cached.
+         * Zero disables the limit.
+         */
+        private long maxResultRows = 0;
+
+        /**
+         * Limit on the estimated size of a cached query result. Larger results are not cached.
+         * Zero disables the limit.
+         */
+        private DataSize maxResultSize = DataSize.ofBytes(0);
+
+        /**
+         * Whether identical concurrent queries that miss the cache should share a single execution.
+         */
+        private boolean coalesceQueries = false;
     }
 
     private QueryCache queryCache = new QueryCache();
@@ -61,7 +61,10 @@ import com.yahoo.elide.datastores.aggregation.AggregationDataStore;
 import com.yahoo.elide.datastores.aggregation.DefaultQueryValidator;
 import com.yahoo.elide.datastores.aggregation.QueryEngine;
 import com.yahoo.elide.datastores.aggregation.cache.Cache;
+import com.yahoo.elide.datastores.aggregation.cache.CacheBudget;
 import com.yahoo.elide.datastores.aggregation.cache.CaffeineCache;
+import com.yahoo.elide.datastores.aggregation.cache.QueryCoalescer;
+import com.yahoo.elide.datastores.aggregation.cache.TableVersionCache;
 import com.yahoo.elide.datastores.aggregation.core.QueryLogger;
 import com.yahoo.elide.datastores.aggregation.core.Slf4jQueryLogger;
 import com.yahoo.elide.datastores.aggregation.metadata.MetaDataStore;
@@ -81,6 +84,9 @@ import com.yahoo.elide.graphql.GraphQLSettings.GraphQLSettingsBuilder;
 import com.yahoo.elide.graphql.GraphQLSettingsBuilderCustomizer;
 import com.yahoo.elide.graphql.GraphQLSettingsBuilderCustomizers;
 import com.yahoo.elide.graphql.QueryRunners;
+import com.yahoo.elide.graphql.persistedqueries.FilePersistedQueryStore;
+import com.yahoo.elide.graphql.persistedqueries.InMemoryPersistedQueryStore;
+import com.yahoo.elide.graphql.persistedqueries.PersistedQueryStore;
 import com.yahoo.elide.jsonapi.DefaultJsonApiErrorMapper;
 import com.yahoo.elide.jsonapi.DefaultJsonApiExceptionHandler;
 import com.yahoo.elide.jsonapi.JsonApi;
@@ -128,6 +134,7 @@ import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
@@ -159,6 +166,8 @@ import jakarta.persistence.EntityManagerFactory;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
@@ -168,6 +177,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TimeZone;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -873,12 +884,25 @@ public class ElideAutoConfiguration {
             return new DefaultGraphQLExceptionHandler(exceptionLogger, exceptionMappers, graphqlErrorMapper);
         }
 
+        @Bean
+        @ConditionalOnMissingBean
+        @ConditionalOnProperty(name = "elide.graphql.persisted-queries.enabled", havingValue = "true")
+        public PersistedQueryStore persistedQueryStore(ElideConfigProperties settings) {
+            GraphQLControllerProperties.PersistedQueries persistedQueries = settings.getGraphql().getPersistedQueries();
+            if (persistedQueries.getPath() != null) {
+                return new FilePersistedQueryStore(Path.of(persistedQueries.getPath()),
+                        persistedQueries.getMaximumSize());
+            }
+            return new InMemoryPersistedQueryStore(persistedQueries.getMaximumSize());
+        }
+
         @Bean
         @ConditionalOnMissingBean
         @Scope(SCOPE_PROTOTYPE)
         public GraphQLSettingsBuilder graphqlSettingsBuilder(ElideConfigProperties settings,
                 EntityDictionary entityDictionary,
                 GraphQLExceptionHandler graphqlExceptionHandler,
+                ObjectProvider<PersistedQueryStore> persistedQueryStore,
                 ObjectProvider<GraphQLSettingsBuilderCustomizer> customizerProviders) {
             return GraphQLSettingsBuilderCustomizers.buildGraphQLSettingsBuilder(entityDictionary,
                     builder -> {
@@ -886,6 +910,18 @@ public class ElideAutoConfiguration {
                                 .federation(federation -> federation
                                         .enabled(settings.getGraphql().getFederation().isEnabled())
                                         .version(settings.getGraphql().getFederation().getVersion().getValue()))
+                                .batchRelationships(settings.getGraphql().isBatchRelationships())
+                                .documentCacheSize(settings.getGraphql().getDocumentCacheSize())
+                                .persistedQueries(persistedQueries -> {
+                                    persistedQueries.store(persistedQueryStore.getIfAvailable())
+                                            .persistedOnly(settings.getGraphql().getPersistedQueries()
+                                                    .isPersistedOnly());
+                                    Boolean registerOnMiss = settings.getGraphql().getPersistedQueries()
+                                            .getRegisterOnMiss();
+                                    if (registerOnMiss != null) {
+                                        persistedQueries.registerOnMiss(registerOnMiss);
+                                    }
+                                })
                                 .graphqlExceptionHandler(graphqlExceptionHandler);
                         customizerProviders.orderedStream().forEach(customizer -> customizer.customize(builder));
                     });
@@ -920,7 +956,8 @@ public class ElideAutoConfiguration {
                 builder.path(settings.getJsonApi().getPath())
                         .joinFilterDialect(RSQLFilterDialect.builder().dictionary(entityDictionary).build())
                         .subqueryFilterDialect(RSQLFilterDialect.builder().dictionary(entityDictionary).build())
-                        .jsonApiMapper(jsonApiMapper).jsonApiExceptionHandler(jsonApiExceptionHandler);
+                        .jsonApiMapper(jsonApiMapper).jsonApiExceptionHandler(jsonApiExceptionHandler)
+                        .streamingGet(settings.getJsonApi().isStreamingGet());
                 if (settings.getJsonApi().getLinks().isEnabled()) {
                     String baseUrl = settings.getBaseUrl();
                     builder.links(links -> links.enabled(true));
@@ -1010,6 +1047,18 @@ public class ElideAutoConfiguration {
             };
         }
 
+        /**
+         * Creates the executor that runs page totals queries concurrently with the data query.
+         * @param settings Elide configuration settings.
+         * @return An executor with the configured number of threads.
+         */
+        @Bean(name = "pageTotalsExecutor", destroyMethod = "shutdown")
+        @ConditionalOnMissingBean(name = "pageTotalsExecutor")
+        @ConditionalOnExpression("${elide.aggregation-store.page-totals-threads:0} > 0")
+        public ExecutorService pageTotalsExecutor(ElideConfigProperties settings) {
+            return Executors.newFixedThreadPool(settings.getAggregationStore().getPageTotalsThreads());
+        }
+
         /**
          * Create a QueryEngine instance for aggregation data store to use.
          * @param defaultDataSource DataSource for JPA.
@@ -1017,6 +1066,7 @@ public class ElideAutoConfiguration {
          * @param settings Elide configuration settings.
          * @param dataSourceConfiguration DataSource Configuration
          * @param dbPasswordExtractor Password Extractor Implementation
+         * @param optionalPageTotalsExecutor Runs page totals queries concurrently with the data query.
          * @return An instance of a QueryEngine
          */
         @Bean
@@ -1028,7 +1078,10 @@ public class ElideAutoConfiguration {
                                             ClassScanner scanner,
                                             Injector injector,
                                             DataSourceConfiguration dataSourceConfiguration,
-                                            DBPasswordExtractor dbPasswordExtractor) {
+                                            DBPasswordExtractor dbPasswordExtractor,
+                                            @Qualifier("pageTotalsExecutor")
+                                            Optional<ExecutorService> optionalPageTotalsExecutor) {
+            ExecutorService pageTotalsExecutor = optionalPageTotalsExecutor.orElse(null);
 
             boolean enableMetaDataStore = settings.getAggregationStore().getMetadataStore().isEnabled();
             ConnectionDetails defaultConnectionDetails = new ConnectionDetails(defaultDataSource,
@@ -1059,10 +1112,12 @@ public class ElideAutoConfiguration {
                 return new SQLQueryEngine(metaDataStore, connectionDetailsLookup,
                         new HashSet<>(Arrays.asList(new AggregateBeforeJoinOptimizer(metaDataStore))),
                         new DefaultQueryPlanMerger(metaDataStore),
-                        new DefaultQueryValidator(metaDataStore.getMetadataDictionary()));
+                        new DefaultQueryValidator(metaDataStore.getMetadataDictionary()), pageTotalsExecutor);
             }
             MetaDataStore metaDataStore = new MetaDataStore(scanner, injector, enableMetaDataStore);
-            return new SQLQueryEngine(metaDataStore, unused -> defaultConnectionDetails);
+            return new SQLQueryEngine(metaDataStore, unused -> defaultConnectionDetails, new HashSet<>(),
+                    new DefaultQueryPlanMerger(metaDataStore),
+                    new DefaultQueryValidator(metaDataStore.getMetadataDictionary()), pageTotalsExecutor);
         }
 
         /**
@@ -1085,6 +1140,26 @@ public class ElideAutoConfiguration {
             return null;
         }
 
+        /**
+         * Creates the table version cache used by the query cache, or null if table versions are queried
+         * for every lookup.
+         * @param settings Elide configuration settings.
+         * @param optionalQueryEngine QueryEngine instance for aggregation data store.
+         * @param optionalCache Analytics query cache
+         * @return An instance of a table version cache, or null.
+         */
+        @Bean(destroyMethod = "close")
+        @ConditionalOnMissingBean
+        public TableVersionCache tableVersionCache(ElideConfigProperties settings,
+                Optional<QueryEngine> optionalQueryEngine, Optional<Cache> optionalCache) {
+            Duration tableVersionStaleness =
+                    settings.getAggregationStore().getQueryCache().getTableVersionStaleness();
+            if (optionalCache.isPresent() && optionalQueryEngine.isPresent() && !tableVersionStaleness.isZero()) {
+                return new TableVersionCache(optionalQueryEngine.get(), tableVersionStaleness);
+            }
+            return null;
+        }
+
         /**
          * Creates a querylogger to be used by {@link #dataStore} for aggregation.
          * @return The default Noop QueryLogger.
@@ -1095,6 +1170,19 @@ public class ElideAutoConfiguration {
             return new Slf4jQueryLogger();
         }
 
+        private static CacheBudget getCacheBudget(AggregationStoreProperties properties) {
+            CacheBudget.CacheBudgetBuilder builder = CacheBudget.builder();
+            long maxRows = properties.getQueryCache().getMaxResultRows();
+            long maxBytes = properties.getQueryCache().getMaxResultSize().toBytes();
+            if (maxRows > 0) {
+                builder.maxRows(maxRows);
+            }
+            if (maxBytes > 0) {
+                builder.maxBytes(maxBytes);
+            }
+            return builder.build();
+        }
+
         /**
          * Creates the aggregation data store.
          *
@@ -1103,13 +1191,15 @@ public class ElideAutoConfiguration {
          * @param optionalQueryEngine QueryEngine instance for aggregation data store.
          * @param optionalCache       Analytics query cache
          * @param optionalQueryLogger Analytics query logger
+         * @param optionalTableVersionCache Table version cache for the query cache
          * @return the customizer
          */
         @Bean
         @Order(AGGREGATION_DATASTORE_CUSTOMIZER_ORDER)
         public DataStoreBuilderCustomizer aggregationDataStoreBuilderCustomizer(ElideConfigProperties settings,
                 ClassScanner scanner, Injector injector, Optional<QueryEngine> optionalQueryEngine,
-                Optional<Cache> optionalCache, Optional<QueryLogger> optionalQueryLogger) {
+                Optional<Cache> optionalCache, Optional<QueryLogger> optionalQueryLogger,
+                Optional<TableVersionCache> optionalTableVersionCache) {
             return dataStoreBuilder -> {
                 if (isAggregationStoreEnabled(settings)) {
                     AggregationDataStore.AggregationDataStoreBuilder aggregationDataStoreBuilder = AggregationDataStore
@@ -1128,6 +1218,12 @@ public class ElideAutoConfiguration {
                         }
                     }
                     optionalCache.ifPresent(aggregationDataStoreBuilder::cache);
+                    aggregationDataStoreBuilder.cacheBudget(getCacheBudget(settings.getAggregationStore()));
+                    optionalTableVersionCache.ifPresent(aggregationDataStoreBuilder::tableVersionCache);
+                    if (optionalCache.isPresent()
+                            && settings.getAggregationStore().getQueryCache().isCoalesceQueries()) {
+                        aggregationDataStoreBuilder.queryCoalescer(new QueryCoalescer());
+                    }
                     optionalQueryLogger.ifPresent(aggregationDataStoreBuilder::queryLogger);
                     AggregationDataStore aggregationDataStore = aggregationDataStoreBuilder.build();
 
@@ -64,6 +64,36 @@ public class GraphQLControllerProperties extends ControllerProperties {
         private Version version = Version.FEDERATION_1_0;
     }
 
+    @Data
+    public static class PersistedQueries {
+        /**
+         * Turns on/off persisted queries.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Whether clients may register a query by sending its text with its hash after a miss. Defaults to true
+         * when the queries are only kept in memory and to false when a path is set.
+         */
+        private Boolean registerOnMiss;
+
+        /**
+         * Whether only the queries already in the store can run. Requests without a hash are rejected and no
+         * query is registered.
+         */
+        private boolean persistedOnly = false;
+
+        /**
+         * The directory of the persisted query files. The queries are only kept in memory if not set.
+         */
+        private String path;
+
+        /**
+         * The maximum number of persisted queries to keep in memory.
+         */
+        private int maximumSize = 10000;
+    }
+
     /**
      * Settings for subscriptions.
      */
@@ -71,4 +101,19 @@ public class GraphQLControllerProperties extends ControllerProperties {
     private SubscriptionProperties subscription = new SubscriptionProperties();
 
     private Federation federation = new Federation();
+
+    /**
+     * Whether to fetch a relationship of all the sibling nodes of a query level with a single data store call.
+     */
+    private boolean batchRelationships = false;
+
+    /**
+     * The maximum number of parsed query documents to cache. Zero disables the cache.
+     */
+    private int documentCacheSize = 1024;
+
+    /**
+     * Settings for persisted queries.
+     */
+    private PersistedQueries persistedQueries = new PersistedQueries();
 }
@@ -18,4 +18,10 @@ public class JpaStoreProperties {
      * and pagination in memory - or do N+1 queries.
      */
     private boolean delegateToInMemoryStore = true;
+
+    /**
+     * When fetching a subcollection from another multi-element collection, whether to fetch it for all the
+     * elements of the collection with a single query.
+     */
+    private boolean batchToManyLoads = false;
 }
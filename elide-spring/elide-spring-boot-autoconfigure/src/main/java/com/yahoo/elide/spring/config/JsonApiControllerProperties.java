@@ -24,4 +24,10 @@ public class JsonApiControllerProperties extends ControllerProperties {
     }
 
     private Links links = new Links();
+
+    /**
+     * Write the response of a collection GET while the collection is read instead of building it in memory first.
+     * Only the primary data is streamed - the included resources are still held in memory until they are written.
+     */
+    private boolean streamingGet = false;
 }
@@ -21,6 +21,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
@@ -31,9 +32,11 @@ import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -77,12 +80,14 @@ public class GraphqlController {
      * @param allRequestParams request parameters
      * @param graphQLDocument post data as json document
      * @param request http servlet request
+     * @param servletResponse http servlet response the result is written to
      * @return response
      */
     @PostMapping(value = {"/**", ""}, consumes = JSON_CONTENT_TYPE, produces = JSON_CONTENT_TYPE)
     public Callable<ResponseEntity<String>> post(@RequestHeader HttpHeaders requestHeaders,
                                                  @RequestParam MultiValueMap<String, String> allRequestParams,
-                                                 @RequestBody String graphQLDocument, HttpServletRequest request) {
+                                                 @RequestBody String graphQLDocument, HttpServletRequest request,
+                                                 HttpServletResponse servletResponse) {
         final User user = new HttpServletRequestUser(request);
         final Map<String, List<String>> requestHeadersCleaned = headerProcessor.process(requestHeaders);
         final String prefix = settings.getGraphql().getPath();
@@ -95,21 +100,80 @@ public class GraphqlController {
         return new Callable<ResponseEntity<String>>() {
             @Override
             public ResponseEntity<String> call() throws Exception {
-                ElideResponse<String> response;
+                ElideResponse<?> response;
 
                 if (runner == null) {
                     response = QueryRunner.handleRuntimeException(elide,
                             new InvalidApiVersionException("Invalid API Version"));
                 } else {
-                    response = runner.run(route.getBaseUrl(), graphQLDocument, user, UUID.randomUUID(),
+                    response = runner.execute(route.getBaseUrl(), graphQLDocument, user, UUID.randomUUID(),
                             requestHeadersCleaned);
                 }
 
-                return ResponseEntity.status(response.getStatus()).body(response.getBody());
+                return write(response, servletResponse);
             }
         };
     }
 
+    /**
+     * Entry point for GraphQL queries sent with GET.  Persisted queries are typically sent with GET so that they can
+     * be cached by HTTP caches.
+     *
+     * @param requestHeaders request headers
+     * @param allRequestParams the query, operationName, variables and extensions parameters
+     * @param request http servlet request
+     * @param servletResponse http servlet response the result is written to
+     * @return response
+     */
+    @GetMapping(value = {"/**", ""}, produces = JSON_CONTENT_TYPE)
+    public Callable<ResponseEntity<String>> get(@RequestHeader HttpHeaders requestHeaders,
+                                                @RequestParam MultiValueMap<String, String> allRequestParams,
+                                                HttpServletRequest request, HttpServletResponse servletResponse) {
+        final User user = new HttpServletRequestUser(request);
+        final Map<String, List<String>> requestHeadersCleaned = headerProcessor.process(requestHeaders);
+        final String prefix = settings.getGraphql().getPath();
+        final String baseUrl = getBaseUrl(prefix);
+        final String pathname = getPath(request, prefix);
+        Route route = routeResolver.resolve(JSON_CONTENT_TYPE, baseUrl, pathname, requestHeaders, allRequestParams);
+
+        final QueryRunner runner = runners.getRunner(route.getApiVersion());
+
+        return new Callable<ResponseEntity<String>>() {
+            @Override
+            public ResponseEntity<String> call() throws Exception {
+                ElideResponse<?> response;
+
+                if (runner == null) {
+                    response = QueryRunner.handleRuntimeException(elide,
+                            new InvalidApiVersionException("Invalid API Version"));
+                } else {
+                    response = runner.executeGet(route.getBaseUrl(), allRequestParams.getFirst("query"),
+                            allRequestParams.getFirst("operationName"), allRequestParams.getFirst("variables"),
+                            allRequestParams.getFirst("extensions"), user, UUID.randomUUID(), requestHeadersCleaned);
+                }
+
+                return write(response, servletResponse);
+            }
+        };
+    }
+
+    /**
+     * Bodies which are already serialized are returned as they are.  Results are serialized straight to the servlet
+     * output stream - without a content length, so the response is sent chunked.
+     */
+    private ResponseEntity<String> write(ElideResponse<?> response, HttpServletResponse servletResponse)
+            throws IOException {
+        Object body = response.getBody();
+        if (body == null || body instanceof String) {
+            return ResponseEntity.status(response.getStatus()).body((String) body);
+        }
+        servletResponse.setStatus(response.getStatus());
+        servletResponse.setContentType(JSON_CONTENT_TYPE);
+        QueryRunner.writeBody(elide.getObjectMapper(), body, servletResponse.getOutputStream());
+        servletResponse.flushBuffer();
+        return null;
+    }
+
     private String getPath(HttpServletRequest request, String prefix) {
         String pathname = (String) request
                 .getAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE);
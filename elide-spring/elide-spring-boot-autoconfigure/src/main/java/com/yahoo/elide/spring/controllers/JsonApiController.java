@@ -11,6 +11,7 @@ import com.yahoo.elide.core.request.route.Route;
 import com.yahoo.elide.core.request.route.RouteResolver;
 import com.yahoo.elide.core.security.User;
 import com.yahoo.elide.jsonapi.JsonApi;
+import com.yahoo.elide.jsonapi.JsonApiSettings;
 import com.yahoo.elide.spring.config.ElideConfigProperties;
 import com.yahoo.elide.spring.security.HttpServletRequestUser;
 import com.yahoo.elide.utils.HeaderProcessor;
@@ -32,6 +33,7 @@ import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.List;
@@ -52,6 +54,7 @@ public class JsonApiController {
     private final ElideConfigProperties settings;
     private final HeaderProcessor headerProcessor;
     private final RouteResolver routeResolver;
+    private final boolean streamingGet;
 
     public JsonApiController(JsonApi jsonApi, ElideConfigProperties settings,
             RouteResolver routeResolver) {
@@ -61,12 +64,14 @@ public class JsonApiController {
         this.elide = jsonApi.getElide();
         this.headerProcessor = elide.getElideSettings().getHeaderProcessor();
         this.routeResolver = routeResolver;
+        this.streamingGet = elide.getSettings(JsonApiSettings.class).isStreamingGet();
     }
 
     @GetMapping(value = "/**", produces = JsonApi.MEDIA_TYPE)
     public Callable<ResponseEntity<String>> elideGet(@RequestHeader HttpHeaders requestHeaders,
                                                      @RequestParam MultiValueMap<String, String> allRequestParams,
-                                                     HttpServletRequest request) {
+                                                     HttpServletRequest request,
+                                                     HttpServletResponse servletResponse) {
         final Map<String, List<String>> requestHeadersCleaned = headerProcessor.process(requestHeaders);
         final String prefix = settings.getJsonApi().getPath();
         final String baseUrl = getBaseUrl(prefix);
@@ -78,6 +83,18 @@ public class JsonApiController {
         return new Callable<ResponseEntity<String>>() {
             @Override
             public ResponseEntity<String> call() throws Exception {
+                if (streamingGet) {
+                    // The body is written without a content length, so it is sent chunked.
+                    ElideResponse<JsonApi.StreamingBody> response = jsonApi.getStreaming(route, user,
+                            UUID.randomUUID());
+                    try (JsonApi.StreamingBody body = response.getBody()) {
+                        servletResponse.setStatus(response.getStatus());
+                        servletResponse.setContentType(JsonApi.MEDIA_TYPE);
+                        body.accept(servletResponse.getOutputStream());
+                        servletResponse.flushBuffer();
+                    }
+                    return null;
+                }
                 ElideResponse<String> response = jsonApi.get(route, user, UUID.randomUUID());
                 return ResponseEntity.status(response.getStatus()).body(response.getBody());
             }
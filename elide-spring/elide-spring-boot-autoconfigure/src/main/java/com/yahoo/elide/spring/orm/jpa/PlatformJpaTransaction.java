@@ -9,6 +9,7 @@ import com.yahoo.elide.core.RequestScope;
 import com.yahoo.elide.datastores.jpa.SupplierEntityManager;
 import com.yahoo.elide.datastores.jpa.transaction.AbstractJpaTransaction;
 import com.yahoo.elide.datastores.jpql.porting.QueryLogger;
+import com.yahoo.elide.datastores.jpql.query.JacksonCursorEncoder;
 
 import org.springframework.orm.jpa.EntityManagerHolder;
 import org.springframework.transaction.PlatformTransactionManager;
@@ -40,7 +41,15 @@ public class PlatformJpaTransaction extends AbstractJpaTransaction {
     public PlatformJpaTransaction(PlatformTransactionManager transactionManager, TransactionDefinition definition,
             EntityManagerFactory entityManagerFactory, EntityManager em, Consumer<EntityManager> jpaTransactionCancel,
             QueryLogger logger, boolean delegateToInMemoryStore, boolean isScrollEnabled) {
-        super(em, jpaTransactionCancel, logger, delegateToInMemoryStore, isScrollEnabled);
+        this(transactionManager, definition, entityManagerFactory, em, jpaTransactionCancel, logger,
+                delegateToInMemoryStore, isScrollEnabled, false);
+    }
+
+    public PlatformJpaTransaction(PlatformTransactionManager transactionManager, TransactionDefinition definition,
+            EntityManagerFactory entityManagerFactory, EntityManager em, Consumer<EntityManager> jpaTransactionCancel,
+            QueryLogger logger, boolean delegateToInMemoryStore, boolean isScrollEnabled, boolean batchToManyLoads) {
+        super(em, jpaTransactionCancel, logger, delegateToInMemoryStore, isScrollEnabled, new JacksonCursorEncoder(),
+                batchToManyLoads);
         this.transactionManager = transactionManager;
         this.definition = definition;
         this.entityManagerFactory = entityManagerFactory;
@@ -28,6 +28,8 @@ public class PlatformJpaTransactionSupplier implements JpaTransactionSupplier {
 
     private final boolean delegateToInMemoryStore;
 
+    private final boolean batchToManyLoads;
+
     private final PlatformTransactionManager transactionManager;
 
     private final TransactionDefinition transactionDefinition;
@@ -39,8 +41,15 @@ public class PlatformJpaTransactionSupplier implements JpaTransactionSupplier {
     public PlatformJpaTransactionSupplier(TransactionDefinition transactionDefinition,
             PlatformTransactionManager transactionManager,
             EntityManagerFactory entityManagerFactory, boolean delegateToInMemoryStore) {
+        this(transactionDefinition, transactionManager, entityManagerFactory, delegateToInMemoryStore, false);
+    }
+
+    public PlatformJpaTransactionSupplier(TransactionDefinition transactionDefinition,
+            PlatformTransactionManager transactionManager,
+            EntityManagerFactory entityManagerFactory, boolean delegateToInMemoryStore, boolean batchToManyLoads) {
         this.transactionDefinition = transactionDefinition;
         this.delegateToInMemoryStore = delegateToInMemoryStore;
+        this.batchToManyLoads = batchToManyLoads;
         this.transactionManager = transactionManager;
         this.entityManagerFactory = entityManagerFactory;
 
@@ -50,6 +59,6 @@ public class PlatformJpaTransactionSupplier implements JpaTransactionSupplier {
     public JpaTransaction get(EntityManager entityManager) {
         return new PlatformJpaTransaction(this.transactionManager,
                 this.transactionDefinition, this.entityManagerFactory, entityManager, this.txCancel, DEFAULT_LOGGER,
-                this.delegateToInMemoryStore, true);
+                this.delegateToInMemoryStore, true, this.batchToManyLoads);
     }
 }
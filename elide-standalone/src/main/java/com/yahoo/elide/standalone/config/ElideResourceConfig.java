@@ -49,6 +49,8 @@ import org.glassfish.hk2.api.ServiceLocator;
 import org.glassfish.hk2.api.TypeLiteral;
 import org.glassfish.jersey.internal.inject.AbstractBinder;
 import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.server.spi.Container;
+import org.glassfish.jersey.server.spi.ContainerLifecycleListener;
 import graphql.execution.DataFetcherExceptionHandler;
 
 import jakarta.inject.Inject;
@@ -58,11 +60,13 @@ import jakarta.ws.rs.core.Context;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 
@@ -76,6 +80,9 @@ public class ElideResourceConfig extends ResourceConfig {
     private final ElideStandaloneSettings settings;
     private final ServiceLocator injector;
 
+    // Resources created while binding that must be released when the container shuts down.
+    private final List<Closeable> closeables = new CopyOnWriteArrayList<>();
+
     public static final String ELIDE_STANDALONE_SETTINGS_ATTR = "elideStandaloneSettings";
     public static final String ASYNC_EXECUTOR_ATTR = "asyncExecutor";
     public static final String ASYNC_UPDATER_ATTR = "asyncUpdater";
@@ -132,6 +139,9 @@ public class ElideResourceConfig extends ResourceConfig {
                     throw new IllegalStateException(
                             "Aggregation Datastore is enabled but aggregationDataStore is null");
                 }
+                if (aggregationDataStore.getTableVersionCache() != null) {
+                    closeables.add(aggregationDataStore.getTableVersionCache());
+                }
                 dataStore = settings.getDataStore(metaDataStore, aggregationDataStore, entityManagerFactory, inject);
 
             } else {
@@ -298,6 +308,29 @@ public class ElideResourceConfig extends ResourceConfig {
             }
         });
 
+        register(new ContainerLifecycleListener() {
+            @Override
+            public void onStartup(Container container) {
+                // Do nothing
+            }
+
+            @Override
+            public void onReload(Container container) {
+                // Do nothing
+            }
+
+            @Override
+            public void onShutdown(Container container) {
+                closeables.forEach(closeable -> {
+                    try {
+                        closeable.close();
+                    } catch (IOException e) {
+                        log.error("Unable to close {}", closeable, e);
+                    }
+                });
+            }
+        });
+
         registerFilters(settings.getFilters());
 
         additionalConfiguration(settings.getApplicationConfigurator());
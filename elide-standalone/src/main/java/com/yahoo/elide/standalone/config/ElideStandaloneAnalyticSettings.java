@@ -12,6 +12,7 @@ import org.apache.commons.lang3.StringUtils;
 
 import java.io.File;
 import java.time.Duration;
+import java.util.concurrent.Executor;
 
 /**
  * Interface for configuring the Analytic configuration of Standalone Application.
@@ -99,4 +100,33 @@ public interface ElideStandaloneAnalyticSettings {
     default Duration getQueryCacheExpiration() {
         return Duration.ofMinutes(10L);
     }
+
+    /**
+     * Returns how long a table version may be reused before it is refreshed in the background.
+     * Zero disables table version caching, querying the version on every request.
+     *
+     * @return Default: 0
+     */
+    default Duration getQueryCacheTableVersionStaleness() {
+        return Duration.ZERO;
+    }
+
+    /**
+     * Enable sharing a single execution between identical concurrent queries that miss the query cache.
+     *
+     * @return Default: False
+     */
+    default boolean enableQueryCacheCoalescing() {
+        return false;
+    }
+
+    /**
+     * Returns the executor that runs page totals queries concurrently with the data query.  The application
+     * owns the executor and is responsible for shutting it down.
+     *
+     * @return Default: null, which runs page totals on the request thread before the data query.
+     */
+    default Executor getPageTotalsExecutor() {
+        return null;
+    }
 }
@@ -38,7 +38,10 @@ import com.yahoo.elide.datastores.aggregation.AggregationDataStore;
 import com.yahoo.elide.datastores.aggregation.DefaultQueryValidator;
 import com.yahoo.elide.datastores.aggregation.QueryEngine;
 import com.yahoo.elide.datastores.aggregation.cache.Cache;
+import com.yahoo.elide.datastores.aggregation.cache.CacheBudget;
 import com.yahoo.elide.datastores.aggregation.cache.CaffeineCache;
+import com.yahoo.elide.datastores.aggregation.cache.QueryCoalescer;
+import com.yahoo.elide.datastores.aggregation.cache.TableVersionCache;
 import com.yahoo.elide.datastores.aggregation.core.Slf4jQueryLogger;
 import com.yahoo.elide.datastores.aggregation.metadata.MetaDataStore;
 import com.yahoo.elide.datastores.aggregation.query.DefaultQueryPlanMerger;
@@ -90,6 +93,7 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -551,6 +555,15 @@ public interface ElideStandaloneSettings {
                 : null;
     }
 
+    /**
+     * Get the limits on the size of results stored in the query cache.
+     *
+     * @return Default: {@code CacheBudget.UNLIMITED}
+     */
+    default CacheBudget getQueryCacheBudget() {
+        return CacheBudget.UNLIMITED;
+    }
+
     /**
      * Gets the dynamic configuration for models, security roles, and database connection.
      * @param scanner Class scanner
@@ -640,7 +653,17 @@ public interface ElideStandaloneSettings {
         if (getAnalyticProperties().enableDynamicModelConfig()) {
             aggregationDataStoreBuilder.dynamicCompiledClasses(queryEngine.getMetaDataStore().getDynamicTypes());
         }
-        aggregationDataStoreBuilder.cache(getQueryCache());
+        Cache queryCache = getQueryCache();
+        aggregationDataStoreBuilder.cache(queryCache);
+        aggregationDataStoreBuilder.cacheBudget(getQueryCacheBudget());
+
+        Duration tableVersionStaleness = getAnalyticProperties().getQueryCacheTableVersionStaleness();
+        if (queryCache != null && !tableVersionStaleness.isZero()) {
+            aggregationDataStoreBuilder.tableVersionCache(new TableVersionCache(queryEngine, tableVersionStaleness));
+        }
+        if (queryCache != null && getAnalyticProperties().enableQueryCacheCoalescing()) {
+            aggregationDataStoreBuilder.queryCoalescer(new QueryCoalescer());
+        }
         return aggregationDataStoreBuilder.build();
     }
 
@@ -742,9 +765,13 @@ public interface ElideStandaloneSettings {
             return new SQLQueryEngine(metaDataStore, connectionDetailsLookup,
                     new HashSet<>(Arrays.asList(new AggregateBeforeJoinOptimizer(metaDataStore))),
                     new DefaultQueryPlanMerger(metaDataStore),
-                    new DefaultQueryValidator(metaDataStore.getMetadataDictionary()));
+                    new DefaultQueryValidator(metaDataStore.getMetadataDictionary()),
+                    getAnalyticProperties().getPageTotalsExecutor());
         }
-        return new SQLQueryEngine(metaDataStore, (unused) -> defaultConnectionDetails);
+        return new SQLQueryEngine(metaDataStore, (unused) -> defaultConnectionDetails, new HashSet<>(),
+                new DefaultQueryPlanMerger(metaDataStore),
+                new DefaultQueryValidator(metaDataStore.getMetadataDictionary()),
+                getAnalyticProperties().getPageTotalsExecutor());
     }
 
     /**